@@ -27,6 +27,12 @@ public class ExpiredPasswordIdentificationConstants {
     public static final String DATE_EXPIRED_AFTER = "expiredAfter";
     public static final String DATE_EXCLUDE_AFTER = "excludeAfter";
     public static final String DATE_FORMAT_REGEX = "^\\d{4}-\\d{2}-\\d{2}$";
+    public static final String PARAM_LIMIT = "limit";
+    public static final String PARAM_AFTER = "after";
+    public static final String USER_ID = "userId";
+    public static final String USERNAME = "username";
+    public static final String USER_STORE_DOMAIN = "userStoreDomain";
+    public static final String PASSWORD_EXPIRED_USERS_REPORT_OPERATION_TYPE = "PASSWORD_EXPIRED_USERS_REPORT";
 
     /**
      * Enums for error messages.
@@ -48,11 +54,29 @@ public class ExpiredPasswordIdentificationConstants {
         PASSWORD_EXPIRY_FEATURE_NOT_ENABLED("60004",
                 "The password expiry feature is not enabled.",
                 "The password expiry feature needs to be enabled to retrieve the password expired users."),
+        ERROR_INVALID_LIMIT("60005",
+                "Invalid limit value provided.",
+                "The limit must be a positive integer and is required when the after cursor is provided."),
+        ERROR_INVALID_CURSOR("60006",
+                "Invalid cursor provided.",
+                "The value provided for after parameter is not a valid cursor."),
+        ERROR_PASSWORD_EXPIRED_USERS_REPORT_NOT_FOUND("60007",
+                "Password expired users report is not found.",
+                "A completed password expired users report is not found for the operation: %s."),
 
         // Server errors 650xx.
         ERROR_RETRIEVING_PASSWORD_EXPIRED_USERS("65001",
                 "Error while retrieving password expired users.",
-                "Error while retrieving password expired users for organization: %s.");
+                "Error while retrieving password expired users for organization: %s."),
+        ERROR_SUBMITTING_PASSWORD_EXPIRED_USERS_REPORT("65002",
+                "Error while submitting the password expired users report.",
+                "Error while submitting the password expired users report for organization: %s."),
+        ERROR_RETRIEVING_PASSWORD_EXPIRED_USERS_REPORT("65003",
+                "Error while retrieving the password expired users report.",
+                "Error while retrieving the password expired users report of the operation: %s."),
+        ERROR_TOO_MANY_REPORT_JOBS("65004",
+                "Too many report jobs.",
+                "Too many report jobs are waiting to be run. Retry the request later.");
 
         private final String code;
         private final String message;
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.api.expired.password.identification.v1;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.factories.PasswordExpiredUsersApiServiceFactory;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.model.Error;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.model.PasswordExpiredUser;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.model.ReportJob;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.model.Unauthorized;
 
 import javax.validation.Valid;
@@ -46,7 +47,7 @@ public class PasswordExpiredUsersApi  {
     @GET
     
     
-    @Produces({ "application/json" })
+    @Produces({ "application/json", "application/x-ndjson", "text/csv" })
     @ApiOperation(value = "", notes = "Get password expired users list for a specified period.<br>    <b>Scope(Permission) required:</b> `internal_password_expired_user_view` ", response = PasswordExpiredUser.class, responseContainer = "List", tags={ "Get password expired users" })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Password expired users returned successfully", response = PasswordExpiredUser.class, responseContainer = "List"),
@@ -55,9 +56,46 @@ public class PasswordExpiredUsersApi  {
         @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response getPasswordExpiredUsers(    @Valid @NotNull(message = "Property  cannot be null.") @ApiParam(value = "The date after which passwords will expire.",required=true)  @QueryParam("expiredAfter") String expiredAfter,     @Valid@ApiParam(value = "The date after which should be excluded.")  @QueryParam("excludeAfter") String excludeAfter) {
+    public Response getPasswordExpiredUsers(    @Valid @NotNull(message = "Property  cannot be null.") @ApiParam(value = "The date after which passwords will expire.",required=true)  @QueryParam("expiredAfter") String expiredAfter,     @Valid@ApiParam(value = "The date after which should be excluded.")  @QueryParam("excludeAfter") String excludeAfter,     @Valid@ApiParam(value = "Maximum number of password expired users to be listed.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Cursor of the password expired user after which the users are listed.")  @QueryParam("after") String after,     @Valid @ApiParam(value = "Media type of the listing." , allowableValues="application/json, application/x-ndjson, text/csv", defaultValue="application/json")@HeaderParam("Accept") String accept) {
+
+        return delegate.getPasswordExpiredUsers(expiredAfter,  excludeAfter,  limit,  after,  accept );
+    }
+
+    @Valid
+    @POST
+    @Path("/reports")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "", notes = "Submit a report job of the password expired users for a specified period. The report is built in the background and its progress is tracked as an asynchronous operation.<br>    <b>Scope(Permission) required:</b> `internal_password_expired_user_view` ", response = ReportJob.class, tags={ "Get password expired users" })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 202, message = "Report job submitted successfully", response = ReportJob.class),
+        @ApiResponse(code = 400, message = "Invalid Input Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Unauthorized.class),
+        @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class),
+        @ApiResponse(code = 503, message = "Service Unavailable", response = Error.class)
+    })
+    public Response submitPasswordExpiredUsersReport(    @Valid @NotNull(message = "Property  cannot be null.") @ApiParam(value = "The date after which passwords will expire.",required=true)  @QueryParam("expiredAfter") String expiredAfter,     @Valid@ApiParam(value = "The date after which should be excluded.")  @QueryParam("excludeAfter") String excludeAfter) {
+
+        return delegate.submitPasswordExpiredUsersReport(expiredAfter,  excludeAfter );
+    }
+
+    @Valid
+    @GET
+    @Path("/reports/{operationId}")
+    
+    @Produces({ "application/x-ndjson" })
+    @ApiOperation(value = "", notes = "Get the password expired users of a completed report job.<br>    <b>Scope(Permission) required:</b> `internal_password_expired_user_view` ", response = PasswordExpiredUser.class, responseContainer = "List", tags={ "Get password expired users" })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Password expired users of the report returned successfully", response = PasswordExpiredUser.class, responseContainer = "List"),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Unauthorized.class),
+        @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
+        @ApiResponse(code = 404, message = "Not Found", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
+    })
+    public Response getPasswordExpiredUsersReport(@ApiParam(value = "Id of the asynchronous operation of the report job.",required=true) @PathParam("operationId") String operationId) {
 
-        return delegate.getPasswordExpiredUsers(expiredAfter,  excludeAfter );
+        return delegate.getPasswordExpiredUsersReport(operationId );
     }
 
 }
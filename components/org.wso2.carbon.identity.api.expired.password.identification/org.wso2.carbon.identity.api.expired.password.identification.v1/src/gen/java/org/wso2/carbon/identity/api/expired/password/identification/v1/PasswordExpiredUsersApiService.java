@@ -26,11 +26,16 @@ import java.io.InputStream;
 import java.util.List;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.model.Error;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.model.PasswordExpiredUser;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.model.ReportJob;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.model.Unauthorized;
 import javax.ws.rs.core.Response;
 
 
 public interface PasswordExpiredUsersApiService {
 
-      public Response getPasswordExpiredUsers(String expiredAfter, String excludeAfter);
+      public Response getPasswordExpiredUsers(String expiredAfter, String excludeAfter, Integer limit, String after, String accept);
+
+      public Response submitPasswordExpiredUsersReport(String expiredAfter, String excludeAfter);
+
+      public Response getPasswordExpiredUsersReport(String operationId);
 }
@@ -22,10 +22,15 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.ErrorMessage;
-import org.wso2.carbon.identity.api.expired.password.identification.v1.model.PasswordExpiredUser;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.AsyncReportJobManager;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.SortedReportPageSource;
+import org.wso2.carbon.identity.api.server.common.KeysetCursor;
+import org.wso2.carbon.identity.api.server.common.KeysetPage;
+import org.wso2.carbon.identity.api.server.common.RecordsStreamingOutput;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.application.authentication.framework.exception.PostAuthenticationFailedException;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtException;
 import org.wso2.carbon.identity.password.expiry.exceptions.ExpiredPasswordIdentificationClientException;
 import org.wso2.carbon.identity.password.expiry.exceptions.ExpiredPasswordIdentificationException;
 import org.wso2.carbon.identity.password.expiry.exceptions.ExpiredPasswordIdentificationServerException;
@@ -33,18 +38,27 @@ import org.wso2.carbon.identity.password.expiry.models.PasswordExpiredUserModel;
 import org.wso2.carbon.identity.password.expiry.services.ExpiredPasswordIdentificationService;
 import org.wso2.carbon.identity.password.expiry.util.PasswordPolicyUtils;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.regex.Pattern;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_EXCLUDE_AFTER;
 import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_EXPIRED_AFTER;
 import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_FORMAT_REGEX;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.PASSWORD_EXPIRED_USERS_REPORT_OPERATION_TYPE;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.USERNAME;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.USER_ID;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.USER_STORE_DOMAIN;
 
 /**
  * Calls internal osgi services to perform password expired user identification management related operations.
@@ -53,6 +67,12 @@ public class PasswordExpiredUsersManagementApiService {
 
     private final ExpiredPasswordIdentificationService expiredPasswordIdentificationService;
     private static final Log LOG = LogFactory.getLog(PasswordExpiredUsersManagementApiService.class);
+    private static final String[] PASSWORD_EXPIRED_USER_FIELDS = {USER_ID, USERNAME, USER_STORE_DOMAIN};
+    private static final Comparator<PasswordExpiredUserModel> PASSWORD_EXPIRED_USER_ORDER =
+            Comparator.comparing(PasswordExpiredUsersManagementApiService::getUserStoreDomain)
+                    .thenComparing(PasswordExpiredUsersManagementApiService::getUsername);
+    private static final AsyncReportJobManager PASSWORD_EXPIRED_USERS_REPORT_JOBS =
+            new AsyncReportJobManager(PASSWORD_EXPIRED_USERS_REPORT_OPERATION_TYPE);
 
     public PasswordExpiredUsersManagementApiService(
             ExpiredPasswordIdentificationService expiredPasswordIdentificationService) {
@@ -61,34 +81,182 @@ public class PasswordExpiredUsersManagementApiService {
     }
 
     /**
-     * Get password expired users.
+     * Export password expired users. The password expired users are written to the response as they are iterated,
+     * without building the response models of all the password expired users in memory. When the limit is provided,
+     * the password expired users are listed in the order of their user store domain and username, from the user
+     * after the given cursor, so a large listing can be swept incrementally.
+     *
+     * @param expiredAfter The date after which passwords will expire.
+     * @param excludeAfter The date after which should be excluded.
+     * @param tenantDomain Tenant domain.
+     * @param limit        Maximum number of password expired users to be listed, or null to list all the users.
+     * @param after        Cursor of the password expired user after which the users are listed.
+     * @param format       Format of the listing.
+     * @return Password expired users to be written to the response.
+     */
+    public RecordsStreamingOutput<PasswordExpiredUserModel> exportPasswordExpiredUsers(
+            String expiredAfter, String excludeAfter, String tenantDomain, Integer limit, String after,
+            RecordsStreamingOutput.Format format) {
+
+        try {
+            KeysetCursor cursor = getCursor(limit, after);
+            List<PasswordExpiredUserModel> passwordExpiredUsers =
+                    getPasswordExpiredUsers(expiredAfter, excludeAfter, tenantDomain);
+            if (limit == null) {
+                return new RecordsStreamingOutput<>(passwordExpiredUsers, format, PASSWORD_EXPIRED_USER_FIELDS,
+                        PasswordExpiredUsersManagementApiService::buildRow);
+            }
+
+            List<PasswordExpiredUserModel> selectedUsers = KeysetPage.selectFirst(passwordExpiredUsers,
+                    passwordExpiredUser -> cursor == null || compareToCursor(passwordExpiredUser, cursor) > 0,
+                    PASSWORD_EXPIRED_USER_ORDER, (int) Math.min((long) limit + 1, Integer.MAX_VALUE));
+            KeysetPage<PasswordExpiredUserModel> page = KeysetPage.of(selectedUsers, limit, after, null);
+            List<PasswordExpiredUserModel> pageUsers = page.getItems();
+            RecordsStreamingOutput<PasswordExpiredUserModel> output = new RecordsStreamingOutput<>(pageUsers, format,
+                    PASSWORD_EXPIRED_USER_FIELDS, PasswordExpiredUsersManagementApiService::buildRow);
+            if (page.hasNext()) {
+                PasswordExpiredUserModel lastUser = pageUsers.get(pageUsers.size() - 1);
+                output.setNextCursor(KeysetCursor.encode(getUserStoreDomain(lastUser), getUsername(lastUser)));
+            }
+            return output;
+        } catch (ExpiredPasswordIdentificationException e) {
+            throw handleExpiredPasswordIdentificationException(e,
+                    ErrorMessage.ERROR_RETRIEVING_PASSWORD_EXPIRED_USERS, tenantDomain);
+        }
+    }
+
+    /**
+     * Submit a report job of the password expired users. The password expired users are spooled in pages in the
+     * order of their user store domain and username, and the job is resumed from the last spooled page when the
+     * same report is submitted again after the job is interrupted.
      *
      * @param expiredAfter The date after which passwords will expire.
      * @param excludeAfter The date after which should be excluded.
-     * @param tenantDomain  Tenant domain.
-     * @return  List of password expired users.
+     * @param tenantDomain Tenant domain.
+     * @return Id of the asynchronous operation of the report job.
      */
-    public List<PasswordExpiredUser> getPasswordExpiredUsers(
-            String expiredAfter, String excludeAfter, String tenantDomain) {
+    public String submitPasswordExpiredUsersReport(String expiredAfter, String excludeAfter, String tenantDomain) {
 
-        List<PasswordExpiredUserModel> passwordExpiredUsers = null;
         try {
+            // Validate the parameters before the job is submitted, so an invalid request is not reported as a job.
             validateDates(expiredAfter, excludeAfter);
             validatePasswordExpiryFeatureEnabled(tenantDomain);
-            LocalDateTime expiredAfterDate = convertToDateObject(expiredAfter, DATE_EXPIRED_AFTER);
-            LocalDateTime excludeAfterDate = convertToDateObject(excludeAfter, DATE_EXCLUDE_AFTER);
-            if (excludeAfterDate == null) {
-                passwordExpiredUsers = expiredPasswordIdentificationService
-                        .getPasswordExpiredUsersFromSpecificDate(expiredAfterDate, tenantDomain);
-            } else {
-                passwordExpiredUsers = expiredPasswordIdentificationService
-                        .getPasswordExpiredUsersBetweenSpecificDates(expiredAfterDate, excludeAfterDate, tenantDomain);
-            }
-            return buildResponse(passwordExpiredUsers);
+            convertToDateObject(expiredAfter, DATE_EXPIRED_AFTER);
+            convertToDateObject(excludeAfter, DATE_EXCLUDE_AFTER);
+
+            String jobKey = DATE_EXPIRED_AFTER + "=" + expiredAfter + "&" + DATE_EXCLUDE_AFTER + "=" +
+                    StringUtils.defaultString(excludeAfter);
+            return PASSWORD_EXPIRED_USERS_REPORT_JOBS.submitJob(jobKey, new SortedReportPageSource<>(
+                    () -> getPasswordExpiredUsers(expiredAfter, excludeAfter, tenantDomain),
+                    PASSWORD_EXPIRED_USER_ORDER,
+                    passwordExpiredUser -> KeysetCursor.encode(getUserStoreDomain(passwordExpiredUser),
+                            getUsername(passwordExpiredUser)),
+                    (passwordExpiredUser, cursor) -> compareToCursor(passwordExpiredUser, KeysetCursor.decode(cursor)),
+                    PASSWORD_EXPIRED_USER_FIELDS, PasswordExpiredUsersManagementApiService::buildRow));
         } catch (ExpiredPasswordIdentificationException e) {
             throw handleExpiredPasswordIdentificationException(e,
                     ErrorMessage.ERROR_RETRIEVING_PASSWORD_EXPIRED_USERS, tenantDomain);
+        } catch (RejectedExecutionException e) {
+            ErrorMessage error = ErrorMessage.ERROR_TOO_MANY_REPORT_JOBS;
+            throw new APIError(Response.Status.SERVICE_UNAVAILABLE,
+                    getErrorBuilder(error, null).build(LOG, error.getDescription()));
+        } catch (AsyncOperationStatusMgtException | IOException e) {
+            ErrorMessage error = ErrorMessage.ERROR_SUBMITTING_PASSWORD_EXPIRED_USERS_REPORT;
+            throw new APIError(Response.Status.INTERNAL_SERVER_ERROR,
+                    getErrorBuilder(error, tenantDomain).build(LOG, e, includeData(error, tenantDomain)));
+        }
+    }
+
+    /**
+     * Get the completed report of the password expired users, as newline delimited JSON.
+     *
+     * @param operationId Id of the asynchronous operation of the report job.
+     * @return Password expired users of the report to be written to the response.
+     */
+    public StreamingOutput getPasswordExpiredUsersReport(String operationId) {
+
+        Path report;
+        try {
+            report = PASSWORD_EXPIRED_USERS_REPORT_JOBS.getCompletedReport(operationId);
+        } catch (IOException e) {
+            ErrorMessage error = ErrorMessage.ERROR_RETRIEVING_PASSWORD_EXPIRED_USERS_REPORT;
+            throw new APIError(Response.Status.INTERNAL_SERVER_ERROR,
+                    getErrorBuilder(error, operationId).build(LOG, e, includeData(error, operationId)));
+        }
+        if (report == null) {
+            ErrorMessage error = ErrorMessage.ERROR_PASSWORD_EXPIRED_USERS_REPORT_NOT_FOUND;
+            throw new APIError(Response.Status.NOT_FOUND,
+                    getErrorBuilder(error, operationId).build(LOG, includeData(error, operationId)));
         }
+        return outputStream -> Files.copy(report, outputStream);
+    }
+
+    /**
+     * Get password expired users.
+     *
+     * @param expiredAfter The date after which passwords will expire.
+     * @param excludeAfter The date after which should be excluded.
+     * @param tenantDomain Tenant domain.
+     * @return List of password expired users.
+     * @throws ExpiredPasswordIdentificationException If an error occurs while retrieving password expired users.
+     */
+    private List<PasswordExpiredUserModel> getPasswordExpiredUsers(String expiredAfter, String excludeAfter,
+                                                                   String tenantDomain)
+            throws ExpiredPasswordIdentificationException {
+
+        validateDates(expiredAfter, excludeAfter);
+        validatePasswordExpiryFeatureEnabled(tenantDomain);
+        LocalDateTime expiredAfterDate = convertToDateObject(expiredAfter, DATE_EXPIRED_AFTER);
+        LocalDateTime excludeAfterDate = convertToDateObject(excludeAfter, DATE_EXCLUDE_AFTER);
+        if (excludeAfterDate == null) {
+            return expiredPasswordIdentificationService
+                    .getPasswordExpiredUsersFromSpecificDate(expiredAfterDate, tenantDomain);
+        }
+        return expiredPasswordIdentificationService
+                .getPasswordExpiredUsersBetweenSpecificDates(expiredAfterDate, excludeAfterDate, tenantDomain);
+    }
+
+    /**
+     * Validate the pagination parameters and decode the cursor.
+     *
+     * @param limit Maximum number of password expired users to be listed.
+     * @param after Cursor of the password expired user after which the users are listed.
+     * @return Decoded cursor, or null if the cursor is not provided.
+     * @throws ExpiredPasswordIdentificationClientException If the limit or the cursor is invalid.
+     */
+    private KeysetCursor getCursor(Integer limit, String after) throws ExpiredPasswordIdentificationClientException {
+
+        if ((limit != null && limit <= 0) || (limit == null && StringUtils.isNotBlank(after))) {
+            ErrorMessage error = ErrorMessage.ERROR_INVALID_LIMIT;
+            throw new ExpiredPasswordIdentificationClientException(error.getCode(), error.getMessage(),
+                    error.getDescription());
+        }
+        if (StringUtils.isBlank(after)) {
+            return null;
+        }
+        try {
+            return KeysetCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            ErrorMessage error = ErrorMessage.ERROR_INVALID_CURSOR;
+            throw new ExpiredPasswordIdentificationClientException(error.getCode(), error.getMessage(),
+                    error.getDescription());
+        }
+    }
+
+    private static int compareToCursor(PasswordExpiredUserModel passwordExpiredUser, KeysetCursor cursor) {
+
+        int result = getUserStoreDomain(passwordExpiredUser).compareTo(cursor.getSortKey());
+        return result != 0 ? result : getUsername(passwordExpiredUser).compareTo(cursor.getId());
+    }
+
+    private static String getUserStoreDomain(PasswordExpiredUserModel passwordExpiredUser) {
+
+        return StringUtils.defaultString(passwordExpiredUser.getUserStoreDomain());
+    }
+
+    private static String getUsername(PasswordExpiredUserModel passwordExpiredUser) {
+
+        return StringUtils.defaultString(passwordExpiredUser.getUsername());
     }
 
     /**
@@ -150,22 +318,15 @@ public class PasswordExpiredUsersManagementApiService {
     }
 
     /**
-     * Build the password expired users list.
+     * Build the row of a password expired user in the listing.
      *
-     * @param passwordExpiredUserModels List of password expired users.
-     * @return List of password expired users.
+     * @param passwordExpiredUserModel Password expired user.
+     * @return Values of the fields of the user, in the order of {@link #PASSWORD_EXPIRED_USER_FIELDS}.
      */
-    private List<PasswordExpiredUser> buildResponse(List<PasswordExpiredUserModel> passwordExpiredUserModels) {
-
-        List<PasswordExpiredUser> passwordExpiredUsers = new ArrayList<>();
-        for (PasswordExpiredUserModel passwordExpiredUserModel : passwordExpiredUserModels) {
-            PasswordExpiredUser passwordExpiredUser = new PasswordExpiredUser();
-            passwordExpiredUser.setUsername(passwordExpiredUserModel.getUsername());
-            passwordExpiredUser.setUserStoreDomain(passwordExpiredUserModel.getUserStoreDomain());
-            passwordExpiredUser.setUserId(passwordExpiredUserModel.getUserId());
-            passwordExpiredUsers.add(passwordExpiredUser);
-        }
-        return passwordExpiredUsers;
+    private static String[] buildRow(PasswordExpiredUserModel passwordExpiredUserModel) {
+
+        return new String[]{passwordExpiredUserModel.getUserId(), passwordExpiredUserModel.getUsername(),
+                passwordExpiredUserModel.getUserStoreDomain()};
     }
 
     /**
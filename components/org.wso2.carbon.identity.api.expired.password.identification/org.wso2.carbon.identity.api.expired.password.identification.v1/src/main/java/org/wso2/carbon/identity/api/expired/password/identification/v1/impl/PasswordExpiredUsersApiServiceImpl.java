@@ -22,9 +22,21 @@ import org.wso2.carbon.identity.api.expired.password.identification.common.Conte
 import org.wso2.carbon.identity.api.expired.password.identification.v1.PasswordExpiredUsersApiService;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.core.PasswordExpiredUsersManagementApiService;
 import org.wso2.carbon.identity.api.expired.password.identification.v1.factories.PasswordExpiredUsersManagementApiServiceFactory;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.model.ReportJob;
+import org.wso2.carbon.identity.api.server.common.RecordsStreamingOutput;
+import org.wso2.carbon.identity.password.expiry.models.PasswordExpiredUserModel;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_EXCLUDE_AFTER;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.DATE_EXPIRED_AFTER;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.PARAM_AFTER;
+import static org.wso2.carbon.identity.api.expired.password.identification.common.util.ExpiredPasswordIdentificationConstants.PARAM_LIMIT;
+
 /**
  * Implementation of the password expired User retrieval API Service.
  */
@@ -43,10 +55,39 @@ public class PasswordExpiredUsersApiServiceImpl implements PasswordExpiredUsersA
     }
 
     @Override
-    public Response getPasswordExpiredUsers(String expiredAfter, String excludeAfter) {
+    public Response getPasswordExpiredUsers(String expiredAfter, String excludeAfter, Integer limit, String after,
+                                            String accept) {
+
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        RecordsStreamingOutput<PasswordExpiredUserModel> passwordExpiredUsers =
+                passwordExpiredUsersManagementApiService.exportPasswordExpiredUsers(expiredAfter, excludeAfter,
+                        tenantDomain, limit, after, RecordsStreamingOutput.Format.fromAcceptHeader(accept));
+        Response.ResponseBuilder responseBuilder = Response.ok(passwordExpiredUsers,
+                passwordExpiredUsers.getFormat().getMediaType());
+        if (passwordExpiredUsers.getNextCursor() != null) {
+            Map<String, String> queryParams = new LinkedHashMap<>();
+            queryParams.put(DATE_EXPIRED_AFTER, expiredAfter);
+            queryParams.put(DATE_EXCLUDE_AFTER, excludeAfter);
+            queryParams.put(PARAM_LIMIT, String.valueOf(limit));
+            responseBuilder.header(HttpHeaders.LINK,
+                    passwordExpiredUsers.buildNextPageLink(queryParams, PARAM_AFTER));
+        }
+        return responseBuilder.build();
+    }
+
+    @Override
+    public Response submitPasswordExpiredUsersReport(String expiredAfter, String excludeAfter) {
 
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
-        return Response.ok().entity(passwordExpiredUsersManagementApiService.getPasswordExpiredUsers(
-                expiredAfter, excludeAfter, tenantDomain)).build();
+        String operationId = passwordExpiredUsersManagementApiService.submitPasswordExpiredUsersReport(expiredAfter,
+                excludeAfter, tenantDomain);
+        return Response.accepted().entity(new ReportJob().operationId(operationId)).build();
+    }
+
+    @Override
+    public Response getPasswordExpiredUsersReport(String operationId) {
+
+        return Response.ok(passwordExpiredUsersManagementApiService.getPasswordExpiredUsersReport(operationId),
+                RecordsStreamingOutput.Format.NDJSON.getMediaType()).build();
     }
 }
@@ -31,6 +31,13 @@ public class IdleAccountIdentificationConstants {
     public static final String IS_DISABLED = "isDisabled";
     public static final String TRUE_VALUE = "true";
     public static final String FALSE_VALUE = "false";
+    public static final String PARAM_FILTER = "filter";
+    public static final String PARAM_LIMIT = "limit";
+    public static final String PARAM_AFTER = "after";
+    public static final String USER_ID = "userId";
+    public static final String USERNAME = "username";
+    public static final String USER_STORE_DOMAIN = "userStoreDomain";
+    public static final String INACTIVE_USERS_REPORT_OPERATION_TYPE = "INACTIVE_USERS_REPORT";
 
     /**
      * Enums for error messages.
@@ -58,10 +65,34 @@ public class IdleAccountIdentificationConstants {
                 "Invalid filter value provided.",
                 "The filter value provided is invalid"),
 
+        ERROR_INVALID_LIMIT("60006",
+                "Invalid limit value provided.",
+                "The limit must be a positive integer and is required when the after cursor is provided."),
+
+        ERROR_INVALID_CURSOR("60007",
+                "Invalid cursor provided.",
+                "The value provided for after parameter is not a valid cursor."),
+
+        ERROR_INACTIVE_USERS_REPORT_NOT_FOUND("60008",
+                "Inactive users report is not found.",
+                "A completed inactive users report is not found for the operation: %s."),
+
         // Server errors 650xx.
         ERROR_RETRIEVING_INACTIVE_USERS("65001",
                 "Error while retrieving inactive users.",
-                "Error while retrieving inactive users for organization: %s.");
+                "Error while retrieving inactive users for organization: %s."),
+
+        ERROR_SUBMITTING_INACTIVE_USERS_REPORT("65002",
+                "Error while submitting the inactive users report.",
+                "Error while submitting the inactive users report for organization: %s."),
+
+        ERROR_RETRIEVING_INACTIVE_USERS_REPORT("65003",
+                "Error while retrieving the inactive users report.",
+                "Error while retrieving the inactive users report of the operation: %s."),
+
+        ERROR_TOO_MANY_REPORT_JOBS("65004",
+                "Too many report jobs.",
+                "Too many report jobs are waiting to be run. Retry the request later.");
 
         private final String code;
         private final String message;
@@ -21,13 +21,13 @@ package org.wso2.carbon.identity.api.idle.account.identification.v1;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.factories.InactiveUsersApiServiceFactory;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.model.Error;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.model.InactiveUser;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.model.ReportJob;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.model.Unauthorized;
 
 import javax.validation.Valid;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Response;
 import io.swagger.annotations.*;
-import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationClientException;
 
 @Path("/inactive-users")
 @Api(description = "The inactive-users API")
@@ -45,7 +45,7 @@ public class InactiveUsersApi  {
     @GET
 
 
-    @Produces({ "application/json" })
+    @Produces({ "application/json", "application/x-ndjson", "text/csv" })
     @ApiOperation(value = "", notes = "Get inactive users list for a specified period.", response = InactiveUser.class, responseContainer = "List", tags={ "Get inactive users" })
     @ApiResponses(value = {
             @ApiResponse(code = 200, message = "Inactive users returned successfully", response = InactiveUser.class, responseContainer = "List"),
@@ -57,9 +57,52 @@ public class InactiveUsersApi  {
     public Response getInactiveUsers(
             @Valid @ApiParam(value = "Latest active date of login.") @QueryParam("inactiveAfter") String inactiveAfter,
             @Valid @ApiParam(value = "Date to exclude the oldest inactive users.") @QueryParam("excludeBefore") String excludeBefore,
-            @Valid @ApiParam(value = "Filter inactive users by account state disabled.") @QueryParam("filter") String filter)
-            throws IdleAccountIdentificationClientException {
+            @Valid @ApiParam(value = "Filter inactive users by account state disabled.") @QueryParam("filter") String filter,
+            @Valid @ApiParam(value = "Maximum number of inactive users to be listed.") @QueryParam("limit") Integer limit,
+            @Valid @ApiParam(value = "Cursor of the inactive user after which the users are listed.") @QueryParam("after") String after,
+            @Valid @ApiParam(value = "Media type of the listing.", allowableValues = "application/json, application/x-ndjson, text/csv", defaultValue = "application/json") @HeaderParam("Accept") String accept) {
+
+        return delegate.getInactiveUsers(inactiveAfter, excludeBefore, filter, limit, after, accept);
+    }
+
+    @Valid
+    @POST
+    @Path("/reports")
+
+    @Produces({ "application/json" })
+    @ApiOperation(value = "", notes = "Submit a report job of the inactive users for a specified period. The report is built in the background and its progress is tracked as an asynchronous operation.", response = ReportJob.class, tags={ "Get inactive users" })
+    @ApiResponses(value = {
+            @ApiResponse(code = 202, message = "Report job submitted successfully", response = ReportJob.class),
+            @ApiResponse(code = 400, message = "Invalid Input Request", response = Error.class),
+            @ApiResponse(code = 401, message = "Unauthorized", response = Unauthorized.class),
+            @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
+            @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class),
+            @ApiResponse(code = 503, message = "Service Unavailable", response = Error.class)
+    })
+    public Response submitInactiveUsersReport(
+            @Valid @ApiParam(value = "Latest active date of login.") @QueryParam("inactiveAfter") String inactiveAfter,
+            @Valid @ApiParam(value = "Date to exclude the oldest inactive users.") @QueryParam("excludeBefore") String excludeBefore,
+            @Valid @ApiParam(value = "Filter inactive users by account state disabled.") @QueryParam("filter") String filter) {
+
+        return delegate.submitInactiveUsersReport(inactiveAfter, excludeBefore, filter);
+    }
+
+    @Valid
+    @GET
+    @Path("/reports/{operationId}")
+
+    @Produces({ "application/x-ndjson" })
+    @ApiOperation(value = "", notes = "Get the inactive users of a completed report job.", response = InactiveUser.class, responseContainer = "List", tags={ "Get inactive users" })
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Inactive users of the report returned successfully", response = InactiveUser.class, responseContainer = "List"),
+            @ApiResponse(code = 401, message = "Unauthorized", response = Unauthorized.class),
+            @ApiResponse(code = 403, message = "Resource Forbidden", response = Void.class),
+            @ApiResponse(code = 404, message = "Not Found", response = Error.class),
+            @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
+    })
+    public Response getInactiveUsersReport(
+            @ApiParam(value = "Id of the asynchronous operation of the report job.", required = true) @PathParam("operationId") String operationId) {
 
-        return delegate.getInactiveUsers(inactiveAfter, excludeBefore, filter);
+        return delegate.getInactiveUsersReport(operationId);
     }
 }
@@ -26,8 +26,8 @@ import java.io.InputStream;
 import java.util.List;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.model.Error;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.model.InactiveUser;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.model.ReportJob;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.model.Unauthorized;
-import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationClientException;
 
 import javax.ws.rs.core.Response;
 
@@ -41,9 +41,29 @@ public interface InactiveUsersApiService {
      * @param inactiveAfter The date after which the users are considered as inactive.
      * @param excludeBefore The date before which the users are considered as inactive. (optional)
      * @param filter Filter inactive users based isDisabled attribute. (optional)
+     * @param limit Maximum number of inactive users to be listed. (optional)
+     * @param after Cursor of the inactive user after which the users are listed. (optional)
+     * @param accept Media type of the listing. (optional)
      * @return InactiveUser
-     * @throws IdleAccountIdentificationClientException If an error occurs while retrieving inactive users.
      */
-     Response getInactiveUsers(String inactiveAfter, String excludeBefore, String filter)
-            throws IdleAccountIdentificationClientException;
+     Response getInactiveUsers(String inactiveAfter, String excludeBefore, String filter, Integer limit,
+                               String after, String accept);
+
+    /**
+     * Submit a report job of the inactive users for a specified period.
+     *
+     * @param inactiveAfter The date after which the users are considered as inactive.
+     * @param excludeBefore The date before which the users are considered as inactive. (optional)
+     * @param filter Filter inactive users based isDisabled attribute. (optional)
+     * @return ReportJob
+     */
+     Response submitInactiveUsersReport(String inactiveAfter, String excludeBefore, String filter);
+
+    /**
+     * Get the inactive users of a completed report job.
+     *
+     * @param operationId Id of the asynchronous operation of the report job.
+     * @return InactiveUser
+     */
+     Response getInactiveUsersReport(String operationId);
 }
@@ -23,13 +23,18 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.idle.account.identification.common.IdleAccountIdentificationServiceHolder;
 import org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants;
-import org.wso2.carbon.identity.api.idle.account.identification.v1.model.InactiveUser;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.AsyncReportJobManager;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.SortedReportPageSource;
+import org.wso2.carbon.identity.api.server.common.KeysetCursor;
+import org.wso2.carbon.identity.api.server.common.KeysetPage;
+import org.wso2.carbon.identity.api.server.common.RecordsStreamingOutput;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.core.model.ExpressionNode;
 import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
 import org.wso2.carbon.identity.core.model.Node;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtException;
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationClientException;
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationException;
 import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationServerException;
@@ -37,22 +42,32 @@ import org.wso2.carbon.identity.idle.account.identification.models.InactiveUserM
 import org.wso2.carbon.identity.idle.account.identification.services.IdleAccountIdentificationService;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.regex.Pattern;
 
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_EXCLUDE_BEFORE;
 import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_FORMAT_REGEX;
 import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_INACTIVE_AFTER;
 import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.ErrorMessage;
 import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.FALSE_VALUE;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.INACTIVE_USERS_REPORT_OPERATION_TYPE;
 import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.IS_DISABLED;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.PARAM_FILTER;
 import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.TRUE_VALUE;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.USERNAME;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.USER_ID;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.USER_STORE_DOMAIN;
 
 /**
  * Calls internal osgi services to perform idle account identification management related operations.
@@ -61,6 +76,12 @@ public class InactiveUsersManagementApiService {
 
     private final IdleAccountIdentificationService idleAccountIdentificationService;
     private static final Log LOG = LogFactory.getLog(InactiveUsersManagementApiService.class);
+    private static final String[] INACTIVE_USER_FIELDS = {USER_ID, USERNAME, USER_STORE_DOMAIN};
+    private static final Comparator<InactiveUserModel> INACTIVE_USER_ORDER =
+            Comparator.comparing(InactiveUsersManagementApiService::getUserStoreDomain)
+                    .thenComparing(InactiveUsersManagementApiService::getUsername);
+    private static final AsyncReportJobManager INACTIVE_USERS_REPORT_JOBS =
+            new AsyncReportJobManager(INACTIVE_USERS_REPORT_OPERATION_TYPE);
 
     public InactiveUsersManagementApiService(IdleAccountIdentificationService idleAccountIdentificationService) {
 
@@ -68,69 +89,195 @@ public class InactiveUsersManagementApiService {
     }
 
     /**
-     * Get inactive users.
+     * Export inactive users. The inactive users are written to the response as they are iterated, without building
+     * the response models of all the inactive users in memory. When the limit is provided, the inactive users are
+     * listed in the order of their user store domain and username, from the user after the given cursor, so a large
+     * listing can be swept incrementally.
      *
      * @param inactiveAfter Latest active date of login.
      * @param excludeBefore Date to exclude the oldest inactive users.
      * @param tenantDomain  Tenant domain.
-     * @return  List of inactive users.
+     * @param filter        Filter of the inactive users by the account state.
+     * @param limit         Maximum number of inactive users to be listed, or null to list all the inactive users.
+     * @param after         Cursor of the inactive user after which the users are listed.
+     * @param format        Format of the listing.
+     * @return Inactive users to be written to the response.
      */
-    public List<InactiveUser> getInactiveUsers(String inactiveAfter, String excludeBefore, String tenantDomain) {
+    public RecordsStreamingOutput<InactiveUserModel> exportInactiveUsers(String inactiveAfter, String excludeBefore,
+                                                                         String tenantDomain, String filter,
+                                                                         Integer limit, String after,
+                                                                         RecordsStreamingOutput.Format format) {
 
         try {
-            return getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain, null);
+            KeysetCursor cursor = getCursor(limit, after);
+            List<InactiveUserModel> inactiveUsers =
+                    getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain, filter);
+            if (limit == null) {
+                return new RecordsStreamingOutput<>(inactiveUsers, format, INACTIVE_USER_FIELDS,
+                        InactiveUsersManagementApiService::buildRow);
+            }
+
+            List<InactiveUserModel> selectedUsers = KeysetPage.selectFirst(inactiveUsers,
+                    inactiveUser -> cursor == null || compareToCursor(inactiveUser, cursor) > 0, INACTIVE_USER_ORDER,
+                    (int) Math.min((long) limit + 1, Integer.MAX_VALUE));
+            KeysetPage<InactiveUserModel> page = KeysetPage.of(selectedUsers, limit, after, null);
+            List<InactiveUserModel> pageUsers = page.getItems();
+            RecordsStreamingOutput<InactiveUserModel> output = new RecordsStreamingOutput<>(pageUsers, format,
+                    INACTIVE_USER_FIELDS, InactiveUsersManagementApiService::buildRow);
+            if (page.hasNext()) {
+                InactiveUserModel lastUser = pageUsers.get(pageUsers.size() - 1);
+                output.setNextCursor(KeysetCursor.encode(getUserStoreDomain(lastUser), getUsername(lastUser)));
+            }
+            return output;
         } catch (IdleAccountIdentificationException e) {
             throw handleIdleAccIdentificationException(e, ErrorMessage.ERROR_RETRIEVING_INACTIVE_USERS, tenantDomain);
         }
     }
 
     /**
-     * Get inactive users.
+     * Submit a report job of the inactive users. The inactive users are spooled in pages in the order of their user
+     * store domain and username, and the job is resumed from the last spooled page when the same report is submitted
+     * again after the job is interrupted.
      *
      * @param inactiveAfter Latest active date of login.
      * @param excludeBefore Date to exclude the oldest inactive users.
      * @param tenantDomain  Tenant domain.
-     * @return List of inactive users.
-     * @throws IdleAccountIdentificationClientException If an error occurs while retrieving inactive users.
+     * @param filter        Filter of the inactive users by the account state.
+     * @return Id of the asynchronous operation of the report job.
      */
-    public List<InactiveUser> getInactiveUsers(String inactiveAfter, String excludeBefore, String tenantDomain,
-                                               String filter) throws IdleAccountIdentificationClientException {
+    public String submitInactiveUsersReport(String inactiveAfter, String excludeBefore, String tenantDomain,
+                                            String filter) {
 
-        List<InactiveUserModel> inactiveUsers = null;
         try {
+            // Validate the parameters before the job is submitted, so an invalid request is not reported as a job.
             validateDates(inactiveAfter, excludeBefore);
-            LocalDateTime inactiveAfterDate = convertToDateObject(inactiveAfter, DATE_INACTIVE_AFTER);
-            LocalDateTime excludeBeforeDate = convertToDateObject(excludeBefore, DATE_EXCLUDE_BEFORE);
+            validateDatesCombination(convertToDateObject(inactiveAfter, DATE_INACTIVE_AFTER),
+                    convertToDateObject(excludeBefore, DATE_EXCLUDE_BEFORE));
+            if (StringUtils.isNotBlank(filter)) {
+                validateExpressionNodes(getExpressionNodes(filter));
+            }
 
-            validateDatesCombination(inactiveAfterDate, excludeBeforeDate);
+            String jobKey = DATE_INACTIVE_AFTER + "=" + inactiveAfter + "&" + DATE_EXCLUDE_BEFORE + "=" +
+                    StringUtils.defaultString(excludeBefore) + "&" + PARAM_FILTER + "=" +
+                    StringUtils.defaultString(filter);
+            return INACTIVE_USERS_REPORT_JOBS.submitJob(jobKey, new SortedReportPageSource<>(
+                    () -> getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain, filter), INACTIVE_USER_ORDER,
+                    inactiveUser -> KeysetCursor.encode(getUserStoreDomain(inactiveUser), getUsername(inactiveUser)),
+                    (inactiveUser, cursor) -> compareToCursor(inactiveUser, KeysetCursor.decode(cursor)),
+                    INACTIVE_USER_FIELDS, InactiveUsersManagementApiService::buildRow));
+        } catch (IdleAccountIdentificationException e) {
+            throw handleIdleAccIdentificationException(e, ErrorMessage.ERROR_RETRIEVING_INACTIVE_USERS, tenantDomain);
+        } catch (RejectedExecutionException e) {
+            ErrorMessage error = ErrorMessage.ERROR_TOO_MANY_REPORT_JOBS;
+            throw new APIError(Response.Status.SERVICE_UNAVAILABLE,
+                    getErrorBuilder(error, null).build(LOG, error.getDescription()));
+        } catch (AsyncOperationStatusMgtException | IOException e) {
+            ErrorMessage error = ErrorMessage.ERROR_SUBMITTING_INACTIVE_USERS_REPORT;
+            throw new APIError(Response.Status.INTERNAL_SERVER_ERROR,
+                    getErrorBuilder(error, tenantDomain).build(LOG, e, includeData(error, tenantDomain)));
+        }
+    }
 
-            if (filter == null) {
-                if (excludeBeforeDate == null) {
-                    inactiveUsers = idleAccountIdentificationService
-                            .getInactiveUsersFromSpecificDate(inactiveAfterDate, tenantDomain);
-                } else {
-                    inactiveUsers =
-                            idleAccountIdentificationService.getLimitedInactiveUsersFromSpecificDate(inactiveAfterDate,
-                                    excludeBeforeDate, tenantDomain);
-                }
-                return buildResponse(inactiveUsers);
-            }
+    /**
+     * Get the completed report of the inactive users, as newline delimited JSON.
+     *
+     * @param operationId Id of the asynchronous operation of the report job.
+     * @return Inactive users of the report to be written to the response.
+     */
+    public StreamingOutput getInactiveUsersReport(String operationId) {
+
+        Path report;
+        try {
+            report = INACTIVE_USERS_REPORT_JOBS.getCompletedReport(operationId);
+        } catch (IOException e) {
+            ErrorMessage error = ErrorMessage.ERROR_RETRIEVING_INACTIVE_USERS_REPORT;
+            throw new APIError(Response.Status.INTERNAL_SERVER_ERROR,
+                    getErrorBuilder(error, operationId).build(LOG, e, includeData(error, operationId)));
+        }
+        if (report == null) {
+            ErrorMessage error = ErrorMessage.ERROR_INACTIVE_USERS_REPORT_NOT_FOUND;
+            throw new APIError(Response.Status.NOT_FOUND,
+                    getErrorBuilder(error, operationId).build(LOG, includeData(error, operationId)));
+        }
+        return outputStream -> Files.copy(report, outputStream);
+    }
+
+    /**
+     * Get inactive users.
+     *
+     * @param inactiveAfter Latest active date of login.
+     * @param excludeBefore Date to exclude the oldest inactive users.
+     * @param tenantDomain  Tenant domain.
+     * @param filter        Filter of the inactive users by the account state.
+     * @return List of inactive users.
+     * @throws IdleAccountIdentificationException If an error occurs while retrieving inactive users.
+     */
+    private List<InactiveUserModel> getInactiveUsers(String inactiveAfter, String excludeBefore, String tenantDomain,
+                                                     String filter) throws IdleAccountIdentificationException {
 
+        validateDates(inactiveAfter, excludeBefore);
+        LocalDateTime inactiveAfterDate = convertToDateObject(inactiveAfter, DATE_INACTIVE_AFTER);
+        LocalDateTime excludeBeforeDate = convertToDateObject(excludeBefore, DATE_EXCLUDE_BEFORE);
+
+        validateDatesCombination(inactiveAfterDate, excludeBeforeDate);
+
+        if (StringUtils.isNotBlank(filter)) {
             List<ExpressionNode> expressionNodes = getExpressionNodes(filter);
             if (validateExpressionNodes(expressionNodes)) {
                 boolean isDisabled = Boolean.parseBoolean(expressionNodes.get(0).getValue());
-
-                inactiveUsers = IdleAccountIdentificationServiceHolder.getIdleAccountIdentificationService()
+                return IdleAccountIdentificationServiceHolder.getIdleAccountIdentificationService()
                         .filterInactiveUsersIfDisabled(inactiveAfterDate, excludeBeforeDate, tenantDomain,
                                 isDisabled);
-
-                return buildResponse(inactiveUsers);
             }
-            return getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain);
+        }
+        if (excludeBeforeDate == null) {
+            return idleAccountIdentificationService.getInactiveUsersFromSpecificDate(inactiveAfterDate, tenantDomain);
+        }
+        return idleAccountIdentificationService.getLimitedInactiveUsersFromSpecificDate(inactiveAfterDate,
+                excludeBeforeDate, tenantDomain);
+    }
 
-        } catch (IdleAccountIdentificationException e) {
-            throw handleIdleAccIdentificationException(e, ErrorMessage.ERROR_RETRIEVING_INACTIVE_USERS, tenantDomain);
+    /**
+     * Validate the pagination parameters and decode the cursor.
+     *
+     * @param limit Maximum number of inactive users to be listed.
+     * @param after Cursor of the inactive user after which the users are listed.
+     * @return Decoded cursor, or null if the cursor is not provided.
+     * @throws IdleAccountIdentificationClientException If the limit or the cursor is invalid.
+     */
+    private KeysetCursor getCursor(Integer limit, String after) throws IdleAccountIdentificationClientException {
+
+        if ((limit != null && limit <= 0) || (limit == null && StringUtils.isNotBlank(after))) {
+            ErrorMessage error = ErrorMessage.ERROR_INVALID_LIMIT;
+            throw new IdleAccountIdentificationClientException(error.getCode(), error.getMessage(),
+                    error.getDescription());
+        }
+        if (StringUtils.isBlank(after)) {
+            return null;
         }
+        try {
+            return KeysetCursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            ErrorMessage error = ErrorMessage.ERROR_INVALID_CURSOR;
+            throw new IdleAccountIdentificationClientException(error.getCode(), error.getMessage(),
+                    error.getDescription());
+        }
+    }
+
+    private static int compareToCursor(InactiveUserModel inactiveUser, KeysetCursor cursor) {
+
+        int result = getUserStoreDomain(inactiveUser).compareTo(cursor.getSortKey());
+        return result != 0 ? result : getUsername(inactiveUser).compareTo(cursor.getId());
+    }
+
+    private static String getUserStoreDomain(InactiveUserModel inactiveUser) {
+
+        return StringUtils.defaultString(inactiveUser.getUserStoreDomain());
+    }
+
+    private static String getUsername(InactiveUserModel inactiveUser) {
+
+        return StringUtils.defaultString(inactiveUser.getUsername());
     }
 
     /**
@@ -199,22 +346,15 @@ public class InactiveUsersManagementApiService {
     }
 
     /**
-     * Build the InactiveUser list.
+     * Build the row of an inactive user in the listing.
      *
-     * @param inactiveUserModels List of inactive users.
-     * @return List of inactive users.
+     * @param inactiveUserModel Inactive user.
+     * @return Values of the fields of the inactive user, in the order of {@link #INACTIVE_USER_FIELDS}.
      */
-    private List<InactiveUser> buildResponse(List<InactiveUserModel> inactiveUserModels) {
-
-        List<InactiveUser> inactiveUserList = new ArrayList<>();
-        for (InactiveUserModel inactiveUserModel : inactiveUserModels) {
-            InactiveUser inactiveUser = new InactiveUser();
-            inactiveUser.setUsername(inactiveUserModel.getUsername());
-            inactiveUser.setUserStoreDomain(inactiveUserModel.getUserStoreDomain());
-            inactiveUser.setUserId(inactiveUserModel.getUserId());
-            inactiveUserList.add(inactiveUser);
-        }
-        return inactiveUserList;
+    private static String[] buildRow(InactiveUserModel inactiveUserModel) {
+
+        return new String[]{inactiveUserModel.getUserId(), inactiveUserModel.getUsername(),
+                inactiveUserModel.getUserStoreDomain()};
     }
 
     /**
@@ -22,10 +22,22 @@ import org.wso2.carbon.identity.api.idle.account.identification.common.ContextLo
 import org.wso2.carbon.identity.api.idle.account.identification.v1.InactiveUsersApiService;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.core.InactiveUsersManagementApiService;
 import org.wso2.carbon.identity.api.idle.account.identification.v1.factories.InactiveUsersManagementApiServiceFactory;
-import org.wso2.carbon.identity.idle.account.identification.exception.IdleAccountIdentificationClientException;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.model.ReportJob;
+import org.wso2.carbon.identity.api.server.common.RecordsStreamingOutput;
+import org.wso2.carbon.identity.idle.account.identification.models.InactiveUserModel;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_EXCLUDE_BEFORE;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.DATE_INACTIVE_AFTER;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.PARAM_AFTER;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.PARAM_FILTER;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.PARAM_LIMIT;
+
 /**
  * Implementation of the Inactive Users API Service.
  */
@@ -45,22 +57,43 @@ public class InactiveUsersApiServiceImpl implements InactiveUsersApiService {
     @Override
     public Response getInactiveUsers(String inactiveAfter, String excludeBefore) {
 
+        return getInactiveUsers(inactiveAfter, excludeBefore, null, null, null, null);
+    }
+
+    @Override
+    public Response getInactiveUsers(String inactiveAfter, String excludeBefore, String filter, Integer limit,
+                                     String after, String accept) {
+
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
-        return Response.ok().entity(inactiveUsersManagementApiService
-                .getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain)).build();
+        RecordsStreamingOutput<InactiveUserModel> inactiveUsers = inactiveUsersManagementApiService
+                .exportInactiveUsers(inactiveAfter, excludeBefore, tenantDomain, filter, limit, after,
+                        RecordsStreamingOutput.Format.fromAcceptHeader(accept));
+        Response.ResponseBuilder responseBuilder = Response.ok(inactiveUsers,
+                inactiveUsers.getFormat().getMediaType());
+        if (inactiveUsers.getNextCursor() != null) {
+            Map<String, String> queryParams = new LinkedHashMap<>();
+            queryParams.put(DATE_INACTIVE_AFTER, inactiveAfter);
+            queryParams.put(DATE_EXCLUDE_BEFORE, excludeBefore);
+            queryParams.put(PARAM_FILTER, filter);
+            queryParams.put(PARAM_LIMIT, String.valueOf(limit));
+            responseBuilder.header(HttpHeaders.LINK, inactiveUsers.buildNextPageLink(queryParams, PARAM_AFTER));
+        }
+        return responseBuilder.build();
     }
 
     @Override
-    public Response getInactiveUsers(String inactiveAfter, String excludeBefore, String filter)
-            throws IdleAccountIdentificationClientException {
+    public Response submitInactiveUsersReport(String inactiveAfter, String excludeBefore, String filter) {
 
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        String operationId = inactiveUsersManagementApiService.submitInactiveUsersReport(inactiveAfter,
+                excludeBefore, tenantDomain, filter);
+        return Response.accepted().entity(new ReportJob().operationId(operationId)).build();
+    }
 
-        if (filter != null) {
-            return Response.ok().entity(
-                    inactiveUsersManagementApiService.getInactiveUsers(inactiveAfter, excludeBefore, tenantDomain,
-                            filter)).build();
-        }
-        return getInactiveUsers(inactiveAfter, excludeBefore);
+    @Override
+    public Response getInactiveUsersReport(String operationId) {
+
+        return Response.ok(inactiveUsersManagementApiService.getInactiveUsersReport(operationId),
+                RecordsStreamingOutput.Format.NDJSON.getMediaType()).build();
     }
 }
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.idle.account.identification.v1.core;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.AsyncOperationStatusMgtServiceHolder;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.AsyncReportJobManager;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.ReportPageSource;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.service.AsyncOperationStatusMgtService;
+import org.wso2.carbon.identity.idle.account.identification.services.IdleAccountIdentificationService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.Response;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import static org.wso2.carbon.identity.api.idle.account.identification.common.util.IdleAccountIdentificationConstants.ErrorMessage.ERROR_TOO_MANY_REPORT_JOBS;
+
+/**
+ * Test class for InactiveUsersManagementApiService.
+ */
+public class InactiveUsersManagementApiServiceTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String SPOOL_DIRECTORY = "AsyncReportJob.SpoolDirectory";
+    // Pool size and queue size of the report job executor.
+    private static final int REPORT_JOB_POOL_SIZE = 2;
+    private static final int REPORT_JOB_QUEUE_SIZE = 8;
+    private static final long JOB_TIMEOUT_MILLIS = 10000L;
+
+    private Path spoolRoot;
+    private AsyncOperationStatusMgtService statusService;
+    private IdleAccountIdentificationService idleAccountIdentificationService;
+    private InactiveUsersManagementApiService inactiveUsersManagementApiService;
+    private MockedStatic<IdentityUtil> identityUtil;
+    private MockedStatic<AsyncOperationStatusMgtServiceHolder> statusServiceHolder;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        mockCarbonContext();
+        spoolRoot = Files.createTempDirectory("async-reports");
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.getProperty(SPOOL_DIRECTORY)).thenReturn(spoolRoot.toString());
+
+        statusService = mock(AsyncOperationStatusMgtService.class);
+        when(statusService.registerOperationStatus(any(OperationInitDTO.class), anyBoolean()))
+                .thenAnswer(invocation -> UUID.randomUUID().toString());
+        statusServiceHolder = mockStatic(AsyncOperationStatusMgtServiceHolder.class);
+        statusServiceHolder.when(AsyncOperationStatusMgtServiceHolder::getAsyncOperationStatusMgtService)
+                .thenReturn(statusService);
+
+        idleAccountIdentificationService = mock(IdleAccountIdentificationService.class);
+        inactiveUsersManagementApiService = new InactiveUsersManagementApiService(idleAccountIdentificationService);
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+
+        identityUtil.close();
+        statusServiceHolder.close();
+        try (Stream<Path> paths = Files.walk(spoolRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testReportIsUnavailableWhenReportJobQueueIsFull() throws Exception {
+
+        // The report jobs of all the types share an executor, so it is filled by the jobs of another type.
+        AsyncReportJobManager blockingReportJobs = new AsyncReportJobManager("TEST_REPORT_" + UUID.randomUUID());
+        CountDownLatch runningJobs = new CountDownLatch(REPORT_JOB_POOL_SIZE);
+        CountDownLatch jobRelease = new CountDownLatch(1);
+        List<String> operationIds = new ArrayList<>();
+        try {
+            // The threads are occupied first, so that a thread completing a job of an earlier test is not counted.
+            for (int i = 0; i < REPORT_JOB_POOL_SIZE; i++) {
+                operationIds.add(blockingReportJobs.submitJob("blocking-" + i,
+                        new BlockingPageSource(runningJobs, jobRelease)));
+            }
+            assertTrue(runningJobs.await(JOB_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            for (int i = REPORT_JOB_POOL_SIZE; i < REPORT_JOB_POOL_SIZE + REPORT_JOB_QUEUE_SIZE; i++) {
+                operationIds.add(blockingReportJobs.submitJob("blocking-" + i,
+                        new BlockingPageSource(runningJobs, jobRelease)));
+            }
+
+            APIError error = expectThrows(APIError.class, () -> inactiveUsersManagementApiService
+                    .submitInactiveUsersReport("2024-01-01", null, TENANT_DOMAIN, null));
+            assertEquals(error.getStatus(), Response.Status.SERVICE_UNAVAILABLE);
+            assertEquals(error.getCode(), ERROR_TOO_MANY_REPORT_JOBS.getCode());
+            verify(statusService).updateOperationStatus(anyString(), eq(OperationStatus.FAILED));
+            verifyNoInteractions(idleAccountIdentificationService);
+        } finally {
+            jobRelease.countDown();
+        }
+        for (String operationId : operationIds) {
+            verify(statusService, timeout(JOB_TIMEOUT_MILLIS)).updateOperationStatus(operationId,
+                    OperationStatus.SUCCESS);
+        }
+    }
+
+    private void mockCarbonContext() {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes").toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome,
+                "repository/conf").toString());
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(TENANT_DOMAIN);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(-1234);
+    }
+
+    /**
+     * Page source of an empty report, which waits for a latch before the first page is returned.
+     */
+    private static class BlockingPageSource implements ReportPageSource<String> {
+
+        private final CountDownLatch runningJobs;
+        private final CountDownLatch jobRelease;
+
+        BlockingPageSource(CountDownLatch runningJobs, CountDownLatch jobRelease) {
+
+            this.runningJobs = runningJobs;
+            this.jobRelease = jobRelease;
+        }
+
+        @Override
+        public List<String> getPage(String after, int limit) throws Exception {
+
+            runningJobs.countDown();
+            if (!jobRelease.await(1, TimeUnit.MINUTES)) {
+                throw new IllegalStateException("The blocking job is not released.");
+            }
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String getCursor(String record) {
+
+            return record;
+        }
+
+        @Override
+        public String[] getFields() {
+
+            return new String[]{"userName"};
+        }
+
+        @Override
+        public String[] getRow(String record) {
+
+            return new String[]{record};
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.api.server.action.management.v1.factories;
 import org.wso2.carbon.identity.action.management.api.service.ActionManagementService;
 import org.wso2.carbon.identity.api.server.action.management.common.ActionManagementServiceHolder;
 import org.wso2.carbon.identity.api.server.action.management.v1.core.ServerActionManagementService;
+import org.wso2.carbon.identity.api.server.action.management.v1.util.ActionDeserializer;
 
 /**
  * Factory class for Action Management Service.
@@ -37,6 +38,7 @@ public class ActionManagementServiceFactory {
         }
 
         SERVICE = new ServerActionManagementService(actionManagementService);
+        ActionDeserializer.prewarm();
     }
 
     /**
@@ -19,7 +19,7 @@
 package org.wso2.carbon.identity.api.server.action.management.v1.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.wso2.carbon.identity.action.management.api.model.Action;
 import org.wso2.carbon.identity.api.server.action.management.v1.ActionModel;
 import org.wso2.carbon.identity.api.server.action.management.v1.ActionUpdateModel;
@@ -28,6 +28,7 @@ import org.wso2.carbon.identity.api.server.action.management.v1.PreUpdatePasswor
 import org.wso2.carbon.identity.api.server.action.management.v1.PreUpdateProfileActionModel;
 import org.wso2.carbon.identity.api.server.action.management.v1.PreUpdateProfileActionUpdateModel;
 import org.wso2.carbon.identity.api.server.action.management.v1.constants.ActionMgtEndpointConstants;
+import org.wso2.carbon.identity.api.server.common.SerializerRegistry;
 
 import java.util.Set;
 
@@ -35,14 +36,44 @@ import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validation;
 import javax.validation.Validator;
-import javax.validation.ValidatorFactory;
 import javax.ws.rs.core.Response;
 
 /**
  * Utility class for action deserialization.
+ * The validator and the object readers of the action models are thread safe and shared across requests, as
+ * bootstrapping the validator and resolving the deserializers of a model are costly.
  */
 public class ActionDeserializer {
 
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private static final ObjectReader ACTION_MODEL_READER =
+            SerializerRegistry.getObjectReader(ActionModel.class);
+    private static final ObjectReader PRE_UPDATE_PASSWORD_ACTION_MODEL_READER =
+            SerializerRegistry.getObjectReader(PreUpdatePasswordActionModel.class);
+    private static final ObjectReader PRE_UPDATE_PROFILE_ACTION_MODEL_READER =
+            SerializerRegistry.getObjectReader(PreUpdateProfileActionModel.class);
+    private static final ObjectReader ACTION_UPDATE_MODEL_READER =
+            SerializerRegistry.getObjectReader(ActionUpdateModel.class);
+    private static final ObjectReader PRE_UPDATE_PASSWORD_ACTION_UPDATE_MODEL_READER =
+            SerializerRegistry.getObjectReader(PreUpdatePasswordActionUpdateModel.class);
+    private static final ObjectReader PRE_UPDATE_PROFILE_ACTION_UPDATE_MODEL_READER =
+            SerializerRegistry.getObjectReader(PreUpdateProfileActionUpdateModel.class);
+
+    private static final Class<?>[] MODEL_CLASSES = {ActionModel.class, PreUpdatePasswordActionModel.class,
+            PreUpdateProfileActionModel.class, ActionUpdateModel.class, PreUpdatePasswordActionUpdateModel.class,
+            PreUpdateProfileActionUpdateModel.class};
+
+    /**
+     * Build the validation metadata of all the action models, so that the first requests do not pay for it.
+     */
+    public static void prewarm() {
+
+        for (Class<?> modelClass : MODEL_CLASSES) {
+            VALIDATOR.getConstraintsForClass(modelClass);
+        }
+    }
+
     /**
      * Deserialize the action model.
      *
@@ -54,23 +85,22 @@ public class ActionDeserializer {
 
         ActionModel actionModel = null;
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
             switch (actionType) {
                 case PRE_ISSUE_ACCESS_TOKEN:
-                    actionModel = objectMapper.readValue(jsonBody, ActionModel.class);
+                    actionModel = ACTION_MODEL_READER.readValue(jsonBody);
                     // Validate the object
                     validateActionModel(actionModel, ActionModel.class);
                     break;
                 case PRE_UPDATE_PASSWORD:
-                    PreUpdatePasswordActionModel preUpdatePasswordActionModel = objectMapper.readValue(jsonBody,
-                            PreUpdatePasswordActionModel.class);
+                    PreUpdatePasswordActionModel preUpdatePasswordActionModel =
+                            PRE_UPDATE_PASSWORD_ACTION_MODEL_READER.readValue(jsonBody);
                     // Validate the object
                     validateActionModel(preUpdatePasswordActionModel, PreUpdatePasswordActionModel.class);
                     actionModel = preUpdatePasswordActionModel;
                     break;
                 case PRE_UPDATE_PROFILE:
-                    PreUpdateProfileActionModel preUpdateProfileActionModel = objectMapper.readValue(jsonBody,
-                            PreUpdateProfileActionModel.class);
+                    PreUpdateProfileActionModel preUpdateProfileActionModel =
+                            PRE_UPDATE_PROFILE_ACTION_MODEL_READER.readValue(jsonBody);
                     validateActionModel(preUpdateProfileActionModel, PreUpdateProfileActionModel.class);
                     actionModel = preUpdateProfileActionModel;
                     break;
@@ -96,23 +126,22 @@ public class ActionDeserializer {
 
         ActionUpdateModel actionUpdateModel = null;
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
             switch (actionType) {
                 case PRE_ISSUE_ACCESS_TOKEN:
-                    actionUpdateModel = objectMapper.readValue(jsonBody, ActionUpdateModel.class);
+                    actionUpdateModel = ACTION_UPDATE_MODEL_READER.readValue(jsonBody);
                     // Validate the object
                     validateActionModel(actionUpdateModel, ActionUpdateModel.class);
                     break;
                 case PRE_UPDATE_PASSWORD:
                     PreUpdatePasswordActionUpdateModel preUpdatePasswordActionUpdateModel =
-                            objectMapper.readValue(jsonBody, PreUpdatePasswordActionUpdateModel.class);
+                            PRE_UPDATE_PASSWORD_ACTION_UPDATE_MODEL_READER.readValue(jsonBody);
                     // Validate the object
                     validateActionModel(preUpdatePasswordActionUpdateModel, PreUpdatePasswordActionUpdateModel.class);
                     actionUpdateModel = preUpdatePasswordActionUpdateModel;
                     break;
                 case PRE_UPDATE_PROFILE:
                     PreUpdateProfileActionUpdateModel preUpdateProfileActionUpdateModel =
-                            objectMapper.readValue(jsonBody, PreUpdateProfileActionUpdateModel.class);
+                            PRE_UPDATE_PROFILE_ACTION_UPDATE_MODEL_READER.readValue(jsonBody);
                     validateActionModel(preUpdateProfileActionUpdateModel, PreUpdateProfileActionUpdateModel.class);
                     actionUpdateModel = preUpdateProfileActionUpdateModel;
                     break;
@@ -136,9 +165,7 @@ public class ActionDeserializer {
      */
     private static <T> void validateActionModel(T actionModel, Class<T> modelClass) {
 
-        ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
-        Validator validator = factory.getValidator();
-        Set<ConstraintViolation<T>> violations = validator.validate(actionModel);
+        Set<ConstraintViolation<T>> violations = VALIDATOR.validate(actionModel);
 
         if (!violations.isEmpty()) {
             throw new ConstraintViolationException(violations);
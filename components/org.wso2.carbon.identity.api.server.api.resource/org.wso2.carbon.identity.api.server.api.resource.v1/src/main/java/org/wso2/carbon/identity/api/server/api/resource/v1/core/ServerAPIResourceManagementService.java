@@ -41,6 +41,8 @@ import org.wso2.carbon.identity.api.server.api.resource.v1.constants.APIResource
 import org.wso2.carbon.identity.api.server.api.resource.v1.constants.APIResourceMgtEndpointConstants.ErrorMessage;
 import org.wso2.carbon.identity.api.server.api.resource.v1.util.APIResourceMgtEndpointUtil;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.KeysetCursor;
+import org.wso2.carbon.identity.api.server.common.KeysetPage;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.application.common.model.APIResource;
 import org.wso2.carbon.identity.application.common.model.APIResourceProperty;
@@ -51,8 +53,6 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -139,59 +139,38 @@ public class ServerAPIResourceManagementService {
 
             APIResourceSearchResult apiResourceSearchResult;
             if (CollectionUtils.isNotEmpty(requestedAttributeList)) {
-                apiResourceSearchResult = apiResourceManager.getAPIResourcesWithRequiredAttributes(before,
-                        after, limit + 1, filter, paginationSortOrder,
-                                CarbonContext.getThreadLocalCarbonContext().getTenantDomain(), requestedAttributeList);
+                apiResourceSearchResult = apiResourceManager.getAPIResourcesWithRequiredAttributes(
+                        KeysetCursor.toValueCursor(before), KeysetCursor.toValueCursor(after), limit + 1, filter,
+                        paginationSortOrder, CarbonContext.getThreadLocalCarbonContext().getTenantDomain(),
+                        requestedAttributeList);
             } else {
-                apiResourceSearchResult = apiResourceManager.getAPIResources(before,
-                        after, limit + 1, filter, paginationSortOrder,
+                apiResourceSearchResult = apiResourceManager.getAPIResources(KeysetCursor.toValueCursor(before),
+                        KeysetCursor.toValueCursor(after), limit + 1, filter, paginationSortOrder,
                                 CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
             }
-            List<APIResource> apiResources = apiResourceSearchResult.getAPIResources();
-
-            if (CollectionUtils.isNotEmpty(apiResources)) {
-                boolean hasMoreItems = apiResources.size() > limit;
-                boolean needsReverse = StringUtils.isNotBlank(before);
-                boolean isFirstPage = (StringUtils.isBlank(before) && StringUtils.isBlank(after)) ||
-                        (StringUtils.isNotBlank(before) && !hasMoreItems);
-                boolean isLastPage = !hasMoreItems && (StringUtils.isNotBlank(after) || StringUtils.isBlank(before));
-
-                String url = "?limit=" + limit;
-
-                if (StringUtils.isNotBlank(filter)) {
-                    try {
-                        url += "&filter=" + URLEncoder.encode(filter, StandardCharsets.UTF_8.name());
-                    } catch (UnsupportedEncodingException e) {
-                        LOG.error("Server encountered an error while building pagination URL for the response.", e);
-                    }
-                }
-
-                if (hasMoreItems) {
-                    apiResources.remove(apiResources.size() - 1);
-                }
-                if (needsReverse) {
-                    Collections.reverse(apiResources);
-                }
-                if (!isFirstPage) {
-                    String encodedString = Base64.getEncoder().encodeToString(apiResources.get(0).getCursorKey()
-                            .toString().getBytes(StandardCharsets.UTF_8));
-                    apiResourceListResponse.addLinksItem(buildPaginationLink(url + "&before=" + encodedString,
-                            "previous"));
-                }
-                if (!isLastPage) {
-                    String encodedString = Base64.getEncoder().encodeToString(apiResources.get(apiResources.size() - 1)
-                            .getCursorKey().toString().getBytes(StandardCharsets.UTF_8));
-                    apiResourceListResponse.addLinksItem(buildPaginationLink(url + "&after=" + encodedString, "next"));
-                }
-            }
-            if (apiResources == null || apiResources.isEmpty()) {
+            KeysetPage<APIResource> page = KeysetPage.of(apiResourceSearchResult.getAPIResources(), limit, after,
+                    before);
+            if (page.isEmpty()) {
                 apiResourceListResponse.setTotalResults(0);
                 apiResourceListResponse.setApiResources(new ArrayList<>());
                 return apiResourceListResponse;
             }
+
+            String url = "?limit=" + limit;
+            if (StringUtils.isNotBlank(filter)) {
+                try {
+                    url += "&filter=" + URLEncoder.encode(filter, StandardCharsets.UTF_8.name());
+                } catch (UnsupportedEncodingException e) {
+                    LOG.error("Server encountered an error while building pagination URL for the response.", e);
+                }
+            }
+            for (PaginationLink link : page.buildLinks(url,
+                    apiResource -> KeysetCursor.encode(String.valueOf(apiResource.getCursorKey()), apiResource.getId()),
+                    this::buildPaginationLink)) {
+                apiResourceListResponse.addLinksItem(link);
+            }
             apiResourceListResponse.setTotalResults(apiResourceSearchResult.getTotalCount());
-            apiResourceListResponse.setApiResources(apiResourceSearchResult.getAPIResources().stream()
-                    .map(this::buildAPIResourceListItem).collect(Collectors.toList()));
+            apiResourceListResponse.setApiResources(page.map(this::buildAPIResourceListItem));
         } catch (APIResourceMgtException e) {
             throw APIResourceMgtEndpointUtil.handleAPIResourceMgtException(e);
         }
@@ -86,6 +86,8 @@ public class ApplicationManagementConstants {
     public static final String CODE_TOKEN = "code token";
     public static final String CODE_IDTOKEN = "code id_token";
     public static final String CODE_IDTOKEN_TOKEN = "code id_token token";
+    public static final String APPLICATION_METADATA_CACHE_TIMEOUT = "ApplicationMgt.MetadataCacheTimeout";
+    public static final long DEFAULT_APPLICATION_METADATA_CACHE_TIMEOUT = 300;
 
     // LoginFlow AI Constants.
     public static final String CLAIM_URI_KEY = "claimURI";
@@ -18,11 +18,11 @@
 
 package org.wso2.carbon.identity.api.server.application.management.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
@@ -85,7 +85,11 @@ import org.wso2.carbon.identity.api.server.application.management.v1.core.functi
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template.TemplateToApplicationTemplate;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template.TemplateToApplicationTemplateListItem;
 import org.wso2.carbon.identity.api.server.application.management.v1.factories.ServerApplicationMetadataServiceFactory;
+import org.wso2.carbon.identity.api.server.common.BoundedImportInputStream;
+import org.wso2.carbon.identity.api.server.common.ContextAwareExecutor;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.SerializerPool;
+import org.wso2.carbon.identity.api.server.common.SerializerRegistry;
 import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants;
@@ -106,7 +110,6 @@ import org.wso2.carbon.identity.application.common.model.InboundConfigurationPro
 import org.wso2.carbon.identity.application.common.model.LocalAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.model.Scope;
 import org.wso2.carbon.identity.application.common.model.ServiceProvider;
-import org.wso2.carbon.identity.application.common.model.SpFileContent;
 import org.wso2.carbon.identity.application.common.model.User;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationManagementUtil;
@@ -151,8 +154,9 @@ import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -162,9 +166,15 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -172,10 +182,9 @@ import java.util.stream.Stream;
 
 import javax.activation.MimeType;
 import javax.activation.MimeTypeParseException;
-import javax.xml.bind.JAXBContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ADVANCED_CONFIGURATIONS;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_BASED_OUTBOUND_PROVISIONING_ENABLED;
@@ -243,6 +252,13 @@ public class ServerApplicationManagementService {
     private static final List<String> SUPPORTED_REQUIRED_ATTRIBUTES = new ArrayList<>();
     private static final int DEFAULT_OFFSET = 0;
 
+    // Application list hydration related constants.
+    private static final int APPLICATION_HYDRATION_POOL_SIZE = 10;
+    private static final int APPLICATION_HYDRATION_QUEUE_SIZE = 500;
+    private static final long APPLICATION_HYDRATION_TIMEOUT_MILLIS = 60000L;
+    private static final ContextAwareExecutor APPLICATION_HYDRATION_EXECUTOR = new ContextAwareExecutor(
+            "ApplicationListHydration", APPLICATION_HYDRATION_POOL_SIZE, APPLICATION_HYDRATION_QUEUE_SIZE);
+
     // WS-Trust related constants.
     private static final String WS_TRUST_TEMPLATE_ID = "061a3de4-8c08-4878-84a6-24245f11bf0e";
     private static final String STS_TEMPLATE_NOT_FOUND_MESSAGE = "Request template with id: %s could " +
@@ -257,6 +273,22 @@ public class ServerApplicationManagementService {
     private static final String[] VALID_MEDIA_TYPES_JSON = {"application/json", "text/json"};
     private static final Class<?>[] INBOUND_CONFIG_PROTOCOLS = new Class<?>[]{ServiceProvider.class,
             SAMLSSOServiceProviderDTO.class, OAuthAppDO.class};
+    private static final Marshaller.Listener INBOUND_CONFIG_MARSHALLER_LISTENER = new Marshaller.Listener() {
+        @Override
+        public void beforeMarshal(Object source) {
+            if (source instanceof InboundAuthenticationConfig) {
+                InboundAuthenticationConfig config = (InboundAuthenticationConfig) source;
+                for (InboundAuthenticationRequestConfig requestConfig
+                        : config.getInboundAuthenticationRequestConfigs()) {
+                    requestConfig.setInboundConfiguration(null);
+                }
+            }
+        }
+    };
+    private static final SerializerPool<Yaml> SP_YAML_DUMPERS = new SerializerPool<>(
+            ServerApplicationManagementService::buildServiceProviderYamlDumper);
+    private static final SerializerPool<Yaml> SP_YAML_LOADERS = new SerializerPool<>(
+            ServerApplicationManagementService::buildServiceProviderYamlLoader);
 
     static {
         SUPPORTED_FILTER_ATTRIBUTES.add(NAME);
@@ -404,12 +436,54 @@ public class ServerApplicationManagementService {
                                                               List<String> requestedAttributeList)
             throws IdentityApplicationManagementException {
 
-        List<ServiceProvider> serviceProviderList = new ArrayList<>();
+        if (filteredAppList.length <= 1) {
+            List<ServiceProvider> serviceProviderList = new ArrayList<>(filteredAppList.length);
+            for (ApplicationBasicInfo applicationBasicInfo : filteredAppList) {
+                serviceProviderList.add(applicationManagementService.getApplicationWithRequiredAttributes(
+                        applicationBasicInfo.getApplicationId(), requestedAttributeList));
+            }
+            return serviceProviderList;
+        }
+
+        /*
+        The backend resolves the required attributes one application at a time. Hydrate the whole page in one
+        stage by fanning the lookups out on a bounded executor, fetching each distinct application only once.
+        */
+        Map<String, Future<ServiceProvider>> lookups = new LinkedHashMap<>();
         for (ApplicationBasicInfo applicationBasicInfo : filteredAppList) {
-            ServiceProvider serviceProvider = applicationManagementService
-                    .getApplicationWithRequiredAttributes(applicationBasicInfo.getApplicationId(),
-                            requestedAttributeList);
-            serviceProviderList.add(serviceProvider);
+            String applicationId = applicationBasicInfo.getApplicationId();
+            if (!lookups.containsKey(applicationId)) {
+                lookups.put(applicationId, APPLICATION_HYDRATION_EXECUTOR.submit(() -> applicationManagementService
+                        .getApplicationWithRequiredAttributes(applicationId, requestedAttributeList)));
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(APPLICATION_HYDRATION_TIMEOUT_MILLIS);
+        List<ServiceProvider> serviceProviderList = new ArrayList<>(filteredAppList.length);
+        boolean completed = false;
+        try {
+            for (ApplicationBasicInfo applicationBasicInfo : filteredAppList) {
+                serviceProviderList.add(lookups.get(applicationBasicInfo.getApplicationId())
+                        .get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+            }
+            completed = true;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IdentityApplicationManagementException) {
+                throw (IdentityApplicationManagementException) e.getCause();
+            }
+            throw new IdentityApplicationManagementException("Error while resolving the required attributes of " +
+                    "the applications.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdentityApplicationManagementException("Timed out while resolving the required attributes " +
+                    "of the applications.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdentityApplicationManagementException("Interrupted while resolving the required attributes " +
+                    "of the applications.", e);
+        } finally {
+            if (!completed) {
+                lookups.values().forEach(lookup -> lookup.cancel(true));
+            }
         }
         return serviceProviderList;
     }
@@ -521,7 +595,7 @@ public class ServerApplicationManagementService {
      * @param applicationId ID of the application to be exported.
      * @param exportSecrets If True, all hashed or encrypted secrets will also be exported.
      * @param fileType      The format of the exported string.
-     * @return string of the application in the given format.
+     * @return Resource which streams the application in the given format when written.
      */
     public TransferResource exportApplicationAsFile(String applicationId, Boolean exportSecrets, String fileType) {
 
@@ -560,16 +634,19 @@ public class ServerApplicationManagementService {
         }
 
         StringBuilder fileNameSB = new StringBuilder(serviceProvider.getApplicationName());
-        String fileContent;
+        StreamingOutput fileContent;
 
+        // The file content is serialized straight to the response when the resource stream is written. The status
+        // and the headers are committed by then, so serialization errors are thrown as IOExceptions which make the
+        // container abort the response, instead of silently ending a truncated file.
         if (Arrays.asList(VALID_MEDIA_TYPES_XML).contains(fileType)) {
-            fileContent = parseXmlFromServiceProvider(serviceProvider);
+            fileContent = outputStream -> writeXmlFromServiceProvider(serviceProvider, outputStream);
             fileNameSB.append(XML_FILE_EXTENSION);
         } else if (Arrays.asList(VALID_MEDIA_TYPES_YAML).contains(fileType)) {
-            fileContent = parseYamlFromServiceProvider(serviceProvider);
+            fileContent = outputStream -> writeYamlFromServiceProvider(serviceProvider, outputStream);
             fileNameSB.append(YML_FILE_EXTENSION);
         } else if (Arrays.asList(VALID_MEDIA_TYPES_JSON).contains(fileType)) {
-            fileContent = parseJsonFromServiceProvider(serviceProvider);
+            fileContent = outputStream -> writeJsonFromServiceProvider(serviceProvider, outputStream);
             fileNameSB.append(JSON_FILE_EXTENSION);
         } else {
             throw Utils.buildServerError("Unsupported media type: " + fileType + "."
@@ -580,7 +657,15 @@ public class ServerApplicationManagementService {
         try {
             return new TransferResource(
                     fileNameSB.toString(),
-                    fileContent.getBytes(StandardCharsets.UTF_8),
+                    outputStream -> {
+                        CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+                        fileContent.write(countingOutputStream);
+                        countingOutputStream.flush();
+                        if (log.isDebugEnabled()) {
+                            log.debug("Streamed " + countingOutputStream.getByteCount() + " bytes of the " +
+                                    "exported file of application: " + serviceProvider.getApplicationName());
+                        }
+                    },
                     new MimeType("application/octet-stream")
             );
         } catch (MimeTypeParseException e) {
@@ -588,34 +673,33 @@ public class ServerApplicationManagementService {
         }
     }
 
-    private String parseXmlFromServiceProvider(ServiceProvider serviceProvider) {
+    private void writeXmlFromServiceProvider(ServiceProvider serviceProvider, OutputStream outputStream)
+            throws IOException {
 
-        JAXBContext jaxbContext;
         try {
-            jaxbContext = JAXBContext.newInstance(INBOUND_CONFIG_PROTOCOLS);
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshaller.setListener(new Marshaller.Listener() {
-                @Override
-                public void beforeMarshal(Object source) {
-                    if (source instanceof InboundAuthenticationConfig) {
-                        InboundAuthenticationConfig config = (InboundAuthenticationConfig) source;
-                        for (InboundAuthenticationRequestConfig requestConfig
-                                : config.getInboundAuthenticationRequestConfigs()) {
-                            requestConfig.setInboundConfiguration(null);
-                        }
-                    }
-                }
-            });
-            StringWriter stringWriter = new StringWriter();
-            marshaller.marshal(serviceProvider, stringWriter);
-            return stringWriter.toString();
+            SerializerRegistry.marshal(serviceProvider, INBOUND_CONFIG_MARSHALLER_LISTENER, outputStream,
+                    INBOUND_CONFIG_PROTOCOLS);
         } catch (JAXBException e) {
-            throw Utils.buildServerError("Error exporting application from XML file.", e);
+            throw buildExportStreamError(serviceProvider, "XML", e);
         }
     }
 
-    private String parseYamlFromServiceProvider(ServiceProvider serviceProvider) {
+    private void writeYamlFromServiceProvider(ServiceProvider serviceProvider, OutputStream outputStream)
+            throws IOException {
+
+        Yaml yaml = SP_YAML_DUMPERS.borrow();
+        try {
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            yaml.dump(serviceProvider, writer);
+            writer.flush();
+        } catch (YAMLException e) {
+            throw buildExportStreamError(serviceProvider, "YAML", e);
+        } finally {
+            SP_YAML_DUMPERS.release(yaml);
+        }
+    }
+
+    private static Yaml buildServiceProviderYamlDumper() {
 
         Constructor constructor = new Constructor(new LoaderOptions());
         CustomRepresenter representer = new CustomRepresenter(new DumperOptions());
@@ -625,26 +709,43 @@ public class ServerApplicationManagementService {
             description.addPropertyParameters("type", protocol);
             constructor.addTypeDescription(description);
         }
+        return new Yaml(constructor, representer);
+    }
 
-        Yaml yaml = new Yaml(constructor, representer);
-        try {
-            return yaml.dump(serviceProvider);
-        } catch (YAMLException e) {
-            throw Utils.buildServerError("Error exporting application from YAML file.", e);
-        }
+    private static Yaml buildServiceProviderYamlLoader() {
+
+        // Add trusted tags included in the SP YAML file.
+        List<String> trustedTagList = new ArrayList<>();
+        trustedTagList.add(ServiceProvider.class.getName());
+        trustedTagList.add(OAuthAppDO.class.getName());
+        trustedTagList.add(SAMLSSOServiceProviderDTO.class.getName());
+
+        LoaderOptions loaderOptions = new LoaderOptions();
+        TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
+        loaderOptions.setTagInspector(tagInspector);
+        return new Yaml(new Constructor(ServiceProvider.class, loaderOptions));
     }
 
-    private String parseJsonFromServiceProvider(ServiceProvider serviceProvider) {
+    private void writeJsonFromServiceProvider(ServiceProvider serviceProvider, OutputStream outputStream)
+            throws IOException {
 
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
-        objectMapper.registerSubtypes(INBOUND_CONFIG_PROTOCOLS);
         try {
-            return objectMapper.writeValueAsString(serviceProvider);
+            SerializerRegistry.getObjectWriter(INBOUND_CONFIG_PROTOCOLS)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValue(outputStream, serviceProvider);
         } catch (JsonProcessingException e) {
-            throw Utils.buildServerError("Error exporting application from JSON file.", e);
+            throw buildExportStreamError(serviceProvider, "JSON", e);
         }
     }
 
+    private IOException buildExportStreamError(ServiceProvider serviceProvider, String fileType, Exception e) {
+
+        String message = "Error exporting application: " + serviceProvider.getApplicationName() + " as a " +
+                fileType + " file. The response is aborted.";
+        log.error(message, e);
+        return new IOException(message, e);
+    }
+
     /**
      * Create a new application by importing an XML configuration file.
      *
@@ -672,13 +773,13 @@ public class ServerApplicationManagementService {
     private String doImportApplication(InputStream fileInputStream, Attachment fileDetail, boolean isAppUpdate) {
 
         try {
-            SpFileContent spFileContent = buildSpFileContent(fileInputStream, fileDetail);
-
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
             String username = ContextLoader.getUsernameFromContext();
+            String fileName = fileDetail.getDataHandler().getName();
             String fileType = fileDetail.getDataHandler().getContentType();
 
-            ServiceProvider serviceProvider = parseSP(spFileContent, fileType, tenantDomain);
+            ServiceProvider serviceProvider = parseSP(new BoundedImportInputStream(fileInputStream), fileName,
+                    fileType, tenantDomain);
 
             ImportResponse importResponse = applicationManagementService.importSPApplication(serviceProvider,
                     tenantDomain, username, isAppUpdate);
@@ -689,37 +790,48 @@ public class ServerApplicationManagementService {
                 return importResponse.getApplicationResourceId();
             }
         } catch (IOException e) {
+            throwIfImportLimitExceeded(e);
             throw Utils.buildServerError("Error importing application from file.", e);
         } catch (IdentityApplicationManagementException e) {
+            throwIfImportLimitExceeded(e);
             throw handleIdentityApplicationManagementException(e, "Error importing application from file.");
         } finally {
             IOUtils.closeQuietly(fileInputStream);
         }
     }
 
-    private ServiceProvider parseSP(SpFileContent spFileContent, String fileType, String tenantDomain)
-            throws IdentityApplicationManagementException {
+    private void throwIfImportLimitExceeded(Exception e) {
+
+        BoundedImportInputStream.ImportLimitExceededException limitExceeded =
+                BoundedImportInputStream.getImportLimitExceeded(e);
+        if (limitExceeded != null) {
+            throw buildBadRequestError(limitExceeded.getMessage());
+        }
+    }
+
+    private ServiceProvider parseSP(BoundedImportInputStream fileInputStream, String fileName, String fileType,
+                                    String tenantDomain) throws IdentityApplicationManagementException, IOException {
 
         if (log.isDebugEnabled()) {
-            log.debug("Parsing service provider from file: " + spFileContent.getFileName() + " of type: " + fileType);
+            log.debug("Parsing service provider from file: " + fileName + " of type: " + fileType);
         }
 
-        if (StringUtils.isEmpty(spFileContent.getContent())) {
+        if (fileInputStream.isEmpty()) {
             throw new IdentityApplicationManagementException(String.format(
                     "Empty Service Provider configuration file " + " %s uploaded by tenant: %s",
-                    spFileContent.getFileName(), tenantDomain));
+                    fileName, tenantDomain));
         }
 
         if (containsValidMediaType(fileType, VALID_MEDIA_TYPES_XML)) {
-            return parseServiceProviderFromXml(spFileContent, tenantDomain);
+            return parseServiceProviderFromXml(fileInputStream, fileName, tenantDomain);
         } else if (containsValidMediaType(fileType, VALID_MEDIA_TYPES_YAML)) {
-            return parseServiceProviderFromYaml(spFileContent, tenantDomain);
+            return parseServiceProviderFromYaml(fileInputStream, fileName, tenantDomain);
         } else if (containsValidMediaType(fileType, VALID_MEDIA_TYPES_JSON)) {
-            return parseServiceProviderFromJson(spFileContent, tenantDomain);
+            return parseServiceProviderFromJson(fileInputStream, fileName, tenantDomain);
         } else {
-            log.warn("Unsupported file type " + fileType + " for file " + spFileContent.getFileName() + " . " +
+            log.warn("Unsupported file type " + fileType + " for file " + fileName + " . " +
                     "Defaulting to XML parsing");
-            return parseServiceProviderFromXml(spFileContent, tenantDomain);
+            return parseServiceProviderFromXml(fileInputStream, fileName, tenantDomain);
         }
     }
 
@@ -733,61 +845,47 @@ public class ServerApplicationManagementService {
         return false;
     }
 
-    private ServiceProvider parseServiceProviderFromXml(SpFileContent spFileContent, String tenantDomain)
+    private ServiceProvider parseServiceProviderFromXml(InputStream fileInputStream, String fileName,
+                                                        String tenantDomain)
             throws IdentityApplicationManagementException {
 
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(INBOUND_CONFIG_PROTOCOLS);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (ServiceProvider) unmarshaller.unmarshal(new StringReader(spFileContent.getContent()));
+            return (ServiceProvider) SerializerRegistry.unmarshal(fileInputStream, INBOUND_CONFIG_PROTOCOLS);
         } catch (JAXBException e) {
             throw new IdentityApplicationManagementException(String.format("Error in reading XML Service Provider " +
-                    "configuration file %s uploaded by tenant: %s", spFileContent.getFileName(), tenantDomain), e);
+                    "configuration file %s uploaded by tenant: %s", fileName, tenantDomain), e);
         }
     }
 
-    private ServiceProvider parseServiceProviderFromYaml(SpFileContent spFileContent, String tenantDomain)
+    private ServiceProvider parseServiceProviderFromYaml(InputStream fileInputStream, String fileName,
+                                                         String tenantDomain)
             throws IdentityApplicationManagementException {
 
+        Yaml yaml = SP_YAML_LOADERS.borrow();
         try {
-            // Add trusted tags included in the SP YAML file.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(ServiceProvider.class.getName());
-            trustedTagList.add(OAuthAppDO.class.getName());
-            trustedTagList.add(SAMLSSOServiceProviderDTO.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(ServiceProvider.class, loaderOptions));
-            return yaml.loadAs(spFileContent.getContent(), ServiceProvider.class);
+            ServiceProvider serviceProvider = yaml.loadAs(fileInputStream, ServiceProvider.class);
+            return serviceProvider;
         } catch (YAMLException e) {
             throw new IdentityApplicationManagementException(String.format("Error in reading YAML Service Provider " +
-                    "configuration file %s uploaded by tenant: %s", spFileContent.getFileName(), tenantDomain), e);
+                    "configuration file %s uploaded by tenant: %s", fileName, tenantDomain), e);
+        } finally {
+            SP_YAML_LOADERS.release(yaml);
         }
     }
 
-    private ServiceProvider parseServiceProviderFromJson(SpFileContent spFileContent, String tenantDomain)
-            throws IdentityApplicationManagementException {
+    private ServiceProvider parseServiceProviderFromJson(InputStream fileInputStream, String fileName,
+                                                         String tenantDomain)
+            throws IdentityApplicationManagementException, IOException {
 
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            objectMapper.registerSubtypes(INBOUND_CONFIG_PROTOCOLS);
-            return objectMapper.readValue(spFileContent.getContent(), ServiceProvider.class);
+            return SerializerRegistry.getObjectReader(ServiceProvider.class, INBOUND_CONFIG_PROTOCOLS)
+                    .readValue(fileInputStream);
         } catch (JsonProcessingException e) {
             throw new IdentityApplicationManagementException(String.format("Error in reading JSON Service Provider " +
-                    "configuration file %s uploaded by tenant: %s", spFileContent.getFileName(), tenantDomain), e);
+                    "configuration file %s uploaded by tenant: %s", fileName, tenantDomain), e);
         }
     }
 
-    private SpFileContent buildSpFileContent(InputStream fileInputStream, Attachment fileDetail) throws IOException {
-
-        SpFileContent spFileContent = new SpFileContent();
-        spFileContent.setContent(IOUtils.toString(fileInputStream, StandardCharsets.UTF_8.name()));
-        spFileContent.setFileName(fileDetail.getDataHandler().getName());
-        return spFileContent;
-    }
-
     private APIError handleErrorResponse(ImportResponse importResponse) {
 
         String errorCode = importResponse.getErrorCode() != null ?
@@ -1778,7 +1876,7 @@ public class ServerApplicationManagementService {
     private ServiceProvider cloneApplication(String applicationId) {
 
         ServiceProvider originalSp = getServiceProvider(applicationId);
-        return Utils.deepCopyApplication(originalSp);
+        return Utils.copyApplicationForUpdate(originalSp);
     }
 
     private ServiceProvider getServiceProvider(String applicationId) {
@@ -1808,6 +1906,8 @@ public class ServerApplicationManagementService {
                                                               List<String> requiredAttributes) {
 
         List<ApplicationListItem> applicationListItems = new ArrayList<>();
+        ApplicationInfoWithRequiredPropsToApiModel applicationListItemBuilder =
+                new ApplicationInfoWithRequiredPropsToApiModel();
         for (ServiceProvider serviceProvider : serviceProviderList) {
             ApplicationResponseModel applicationResponseModel =
                     new ServiceProviderToApiModel().apply(serviceProvider);
@@ -1834,7 +1934,7 @@ public class ServerApplicationManagementService {
             if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(APPLICATION_ENABLED))) {
                 applicationResponseModel.applicationEnabled(null);
             }
-            applicationListItems.add(new ApplicationInfoWithRequiredPropsToApiModel().apply(applicationResponseModel));
+            applicationListItems.add(applicationListItemBuilder.apply(applicationResponseModel));
         }
         return applicationListItems;
     }
@@ -37,6 +37,10 @@ import org.wso2.carbon.identity.api.server.application.management.v1.OIDCMetaDat
 import org.wso2.carbon.identity.api.server.application.management.v1.SAMLMetaData;
 import org.wso2.carbon.identity.api.server.application.management.v1.WSTrustMetaData;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.TenantTtlCache;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.VersionedEntity;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.application.mgt.AbstractInboundAuthenticatorConfig;
@@ -56,13 +60,20 @@ import org.wso2.carbon.security.sts.service.STSAdminServiceInterface;
 import java.net.URLDecoder;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.APPLICATION_METADATA_CACHE_TIMEOUT;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.DEFAULT_APPLICATION_METADATA_CACHE_TIMEOUT;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.DEFAULT_CERTIFICATE_ALIAS;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.DEFAULT_NAME_ID_FORMAT;
 import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ErrorMessage.ERROR_RETRIEVING_SAML_METADATA;
@@ -71,13 +82,28 @@ import static org.wso2.carbon.identity.api.server.application.management.common.
 
 /**
  * Calls internal osgi services to get required application metadata.
+ * <p>
+ * The metadata only changes when the server configuration or the deployed connectors change, so it is built once
+ * and served from a cache along with its entity tag. Tenant specific metadata is cached per tenant. The cached
+ * metadata is rebuilt when the configured timeout elapses, and the inbound protocol metadata is also rebuilt as soon
+ * as a custom inbound protocol connector is deployed or undeployed.
  */
 public class ServerApplicationMetadataService {
 
+    private static final String INBOUND_PROTOCOLS_CACHE_KEY = "inbound-protocols";
+    private static final String CUSTOM_INBOUND_PROTOCOLS_CACHE_KEY = "custom-inbound-protocols";
+    private static final String OIDC_METADATA_CACHE_KEY = "oidc";
+    private static final String SAML_METADATA_CACHE_KEY = "saml:";
+    private static final String WS_TRUST_METADATA_CACHE_KEY = "ws-trust:";
+    private static final String ADAPTIVE_AUTH_TEMPLATES_CACHE_KEY = "adaptive-auth-templates";
+    private static final int MAX_CACHED_METADATA = 1000;
+
     private final ApplicationManagementService applicationManagementService;
     private final SAMLSSOConfigServiceImpl samlSSOConfigService;
     private final OAuthAdminServiceImpl oAuthAdminService;
     private final STSAdminServiceInterface sTSAdminServiceInterface;
+    private final TenantTtlCache<CachedMetadata> metadataCache =
+            new TenantTtlCache<>(getMetadataCacheTimeoutMillis(), MAX_CACHED_METADATA);
 
     public ServerApplicationMetadataService(ApplicationManagementService applicationManagementService,
                                             SAMLSSOConfigServiceImpl samlSSOConfigService,
@@ -90,9 +116,38 @@ public class ServerApplicationMetadataService {
         this.sTSAdminServiceInterface = sTSAdminServiceInterface;
     }
 
+    /**
+     * Invalidate the metadata derived from the keystore of a tenant, which holds the certificate aliases of the
+     * primary keystore. The metadata is invalidated when the keystore is changed through the keystore API, and
+     * otherwise expires with the metadata cache.
+     *
+     * @param tenantDomain Tenant domain of the changed keystore.
+     */
+    public void invalidateKeyStoreMetadata(String tenantDomain) {
+
+        metadataCache.invalidate(SAML_METADATA_CACHE_KEY + tenantDomain);
+        metadataCache.invalidate(WS_TRUST_METADATA_CACHE_KEY + tenantDomain);
+    }
+
 
     private static final Log LOG = LogFactory.getLog(ServerApplicationMetadataService.class);
 
+    /**
+     * Build the metadata which is common to all the tenants, so that the first requests are served from the cache.
+     */
+    public void prewarm() {
+
+        try {
+            getVersionedInboundProtocols(false);
+            getVersionedInboundProtocols(true);
+            getVersionedOIDCMetadata();
+            getVersionedAdaptiveAuthTemplates();
+        } catch (RuntimeException e) {
+            // The metadata will be built again by the first request.
+            LOG.warn("Error while building the application metadata.", e);
+        }
+    }
+
     /**
      * Return a list of all available inbound protocols. If the customOnly parameter set to True, will return only the
      * custom protocols.
@@ -102,12 +157,31 @@ public class ServerApplicationMetadataService {
      */
     public List<AuthProtocolMetadata> getInboundProtocols(Boolean customOnly) {
 
-        List<AuthProtocolMetadata> authProtocolMetadataList = new ArrayList<>();
+        return getVersionedInboundProtocols(customOnly).getEntity();
+    }
 
-        // Add custom inbound protocols
+    /**
+     * Return the list of inbound protocols along with its entity tag.
+     *
+     * @param customOnly Set to True to get only custom protocols. Default value: False.
+     * @return The versioned list of inbound protocols. The list must not be modified.
+     */
+    public VersionedEntity<List<AuthProtocolMetadata>> getVersionedInboundProtocols(Boolean customOnly) {
+
+        boolean custom = customOnly != null && customOnly;
         Map<String, AbstractInboundAuthenticatorConfig> allCustomAuthenticators = applicationManagementService
                 .getAllInboundAuthenticatorConfig();
+        // The deployed custom inbound protocol connectors are the version of the cached list.
+        return getCachedMetadata(custom ? CUSTOM_INBOUND_PROTOCOLS_CACHE_KEY : INBOUND_PROTOCOLS_CACHE_KEY,
+                allCustomAuthenticators.keySet(), () -> buildInboundProtocols(allCustomAuthenticators, custom));
+    }
 
+    private List<AuthProtocolMetadata> buildInboundProtocols(
+            Map<String, AbstractInboundAuthenticatorConfig> allCustomAuthenticators, boolean customOnly) {
+
+        List<AuthProtocolMetadata> authProtocolMetadataList = new ArrayList<>();
+
+        // Add custom inbound protocols
         for (Map.Entry<String, AbstractInboundAuthenticatorConfig> entry : allCustomAuthenticators
                 .entrySet()) {
             AuthProtocolMetadata protocol = new AuthProtocolMetadata()
@@ -116,7 +190,7 @@ public class ServerApplicationMetadataService {
             authProtocolMetadataList.add(protocol);
         }
 
-        if (customOnly == null || !customOnly) {
+        if (!customOnly) {
             // Add default inbound protocols. WS-Federation (Passive) is not added because it doesn't have metadata,
             authProtocolMetadataList.add(new AuthProtocolMetadata().name("saml")
                     .displayName("SAML2 Web SSO Configuration"));
@@ -126,7 +200,7 @@ public class ServerApplicationMetadataService {
                     .displayName("WS-Trust Security Token Service Configuration"));
         }
 
-        return authProtocolMetadataList;
+        return Collections.unmodifiableList(authProtocolMetadataList);
     }
 
     /**
@@ -136,17 +210,36 @@ public class ServerApplicationMetadataService {
      */
     public SAMLMetaData getSAMLMetadata() {
 
-        SAMLMetaData samlMetaData = new SAMLMetaData();
-        samlMetaData.setDefaultNameIdFormat(DEFAULT_NAME_ID_FORMAT);
+        return getVersionedSAMLMetadata().getEntity();
+    }
+
+    /**
+     * Return the SAML metadata of the tenant along with its entity tag.
+     *
+     * @return Versioned SAMLMetaData object. The object must not be modified.
+     */
+    public VersionedEntity<SAMLMetaData> getVersionedSAMLMetadata() {
 
+        return getCachedMetadata(SAML_METADATA_CACHE_KEY + ContextLoader.getTenantDomainFromContext(), null,
+                this::buildSAMLMetadata);
+    }
+
+    private SAMLMetaData buildSAMLMetadata() {
+
+        List<String> certificateAliases;
         try {
-            samlMetaData.setCertificateAlias(new MetadataProperty()
-                    .defaultValue(DEFAULT_CERTIFICATE_ALIAS)
-                    .options(Arrays.asList(samlSSOConfigService.getCertAliasOfPrimaryKeyStore())));
+            certificateAliases = Arrays.asList(samlSSOConfigService.getCertAliasOfPrimaryKeyStore());
         } catch (IdentityException e) {
             throw handleException(e);
         }
 
+        SAMLMetaData samlMetaData = new SAMLMetaData();
+        samlMetaData.setDefaultNameIdFormat(DEFAULT_NAME_ID_FORMAT);
+
+        samlMetaData.setCertificateAlias(new MetadataProperty()
+                .defaultValue(DEFAULT_CERTIFICATE_ALIAS)
+                .options(certificateAliases));
+
         samlMetaData.setResponseSigningAlgorithm(new MetadataProperty()
                 .defaultValue(samlSSOConfigService.getSigningAlgorithmUriByConfig())
                 .options(Arrays.asList(samlSSOConfigService.getSigningAlgorithmUris())));
@@ -173,6 +266,21 @@ public class ServerApplicationMetadataService {
      */
     public OIDCMetaData getOIDCMetadata() {
 
+        return getVersionedOIDCMetadata().getEntity();
+    }
+
+    /**
+     * Return the OAuth/OIDC metadata along with its entity tag.
+     *
+     * @return Versioned OIDCMetadata object. The object must not be modified.
+     */
+    public VersionedEntity<OIDCMetaData> getVersionedOIDCMetadata() {
+
+        return getCachedMetadata(OIDC_METADATA_CACHE_KEY, null, this::buildOIDCMetadata);
+    }
+
+    private OIDCMetaData buildOIDCMetadata() {
+
         OIDCMetaData oidcMetaData = new OIDCMetaData();
 
         List<ClientAuthenticationMethod> supportedClientAuthMethods = new ArrayList<>();
@@ -308,13 +416,35 @@ public class ServerApplicationMetadataService {
      */
     public WSTrustMetaData getWSTrustMetadata() {
 
+        return getVersionedWSTrustMetadata().getEntity();
+    }
+
+    /**
+     * Return the WS Trust metadata of the tenant along with its entity tag.
+     *
+     * @return Versioned WSTrustMetadata object. The object must not be modified.
+     */
+    public VersionedEntity<WSTrustMetaData> getVersionedWSTrustMetadata() {
+
+        return getCachedMetadata(WS_TRUST_METADATA_CACHE_KEY + ContextLoader.getTenantDomainFromContext(), null,
+                this::buildWSTrustMetadata);
+    }
+
+    private WSTrustMetaData buildWSTrustMetadata() {
+
         WSTrustMetaData wsTrustMetaData = new WSTrustMetaData();
+        wsTrustMetaData.setCertificateAlias(new MetadataProperty()
+                .defaultValue(null)
+                .options(getWSTrustCertificateAliases()));
+        return wsTrustMetaData;
+    }
+
+    private List<String> getWSTrustCertificateAliases() {
+
         try {
             // Check if WS-Trust is deployed.
             if (sTSAdminServiceInterface != null) {
-                wsTrustMetaData.setCertificateAlias(new MetadataProperty()
-                        .defaultValue(null)
-                        .options(Arrays.asList(sTSAdminServiceInterface.getCertAliasOfPrimaryKeyStore())));
+                return Arrays.asList(sTSAdminServiceInterface.getCertAliasOfPrimaryKeyStore());
             } else {
                 throw new SecurityConfigException(ERROR_WS_TRUST_METADATA_SERVICE_NOT_FOUND.getDescription());
             }
@@ -326,7 +456,6 @@ public class ServerApplicationMetadataService {
                 throw handleException(e);
             }
         }
-        return wsTrustMetaData;
     }
 
     /**
@@ -400,9 +529,60 @@ public class ServerApplicationMetadataService {
 
     public AdaptiveAuthTemplates getAdaptiveAuthTemplates() {
 
-        AdaptiveAuthTemplates adaptiveAuthTemplates = new AdaptiveAuthTemplates();
-        adaptiveAuthTemplates.setTemplatesJSON(applicationManagementService.getAuthenticationTemplatesJSON());
-        return adaptiveAuthTemplates;
+        return getVersionedAdaptiveAuthTemplates().getEntity();
+    }
+
+    /**
+     * Return the adaptive authentication templates along with their entity tag.
+     *
+     * @return Versioned AdaptiveAuthTemplates object. The object must not be modified.
+     */
+    public VersionedEntity<AdaptiveAuthTemplates> getVersionedAdaptiveAuthTemplates() {
+
+        return getCachedMetadata(ADAPTIVE_AUTH_TEMPLATES_CACHE_KEY, null, () -> {
+            AdaptiveAuthTemplates adaptiveAuthTemplates = new AdaptiveAuthTemplates();
+            adaptiveAuthTemplates.setTemplatesJSON(applicationManagementService.getAuthenticationTemplatesJSON());
+            return adaptiveAuthTemplates;
+        });
+    }
+
+    /**
+     * Get the cached metadata of the given key, building it if it is not cached, has expired or was built for a
+     * different version of its source.
+     *
+     * @param cacheKey        Cache key of the metadata.
+     * @param version         Version of the source the metadata is built from. Null if the metadata is only rebuilt
+     *                        on expiry.
+     * @param metadataBuilder Builder of the metadata.
+     * @param <T>             Type of the metadata.
+     * @return Versioned metadata.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> VersionedEntity<T> getCachedMetadata(String cacheKey, Object version, Supplier<T> metadataBuilder) {
+
+        CachedMetadata cachedMetadata = metadataCache.getIfPresent(cacheKey);
+        if (cachedMetadata == null || !Objects.equals(cachedMetadata.version, version)) {
+            // Concurrent requests may build the metadata more than once, but only the last one is retained.
+            VersionedEntity<T> versionedMetadata = new VersionedEntity<>(metadataBuilder.get());
+            cachedMetadata = new CachedMetadata(versionedMetadata, copyVersion(version));
+            metadataCache.put(cacheKey, cachedMetadata);
+        }
+        return (VersionedEntity<T>) cachedMetadata.versionedMetadata;
+    }
+
+    private static Object copyVersion(Object version) {
+
+        // Live key sets of the source maps are copied, so that the cached version does not follow the source.
+        if (version instanceof Set) {
+            return new HashSet<>((Set<?>) version);
+        }
+        return version;
+    }
+
+    private static long getMetadataCacheTimeoutMillis() {
+
+        return TimeUnit.SECONDS.toMillis(Util.getPositiveLongProperty(APPLICATION_METADATA_CACHE_TIMEOUT,
+                DEFAULT_APPLICATION_METADATA_CACHE_TIMEOUT));
     }
 
     /**
@@ -459,4 +639,19 @@ public class ServerApplicationMetadataService {
         }
         return supportedClientAuthMethods;
     }
+
+    /**
+     * Metadata cached along with the version of its source.
+     */
+    private static class CachedMetadata {
+
+        private final VersionedEntity<?> versionedMetadata;
+        private final Object version;
+
+        CachedMetadata(VersionedEntity<?> versionedMetadata, Object version) {
+
+            this.versionedMetadata = versionedMetadata;
+            this.version = version;
+        }
+    }
 }
@@ -18,19 +18,24 @@
 
 package org.wso2.carbon.identity.api.server.application.management.v1.core;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 
 import javax.activation.MimeType;
+import javax.ws.rs.core.StreamingOutput;
 
 /**
  * The TransferResource class represents a resource to be transferred,
- * including its name, type, and byte array data.
+ * including its name, type, and either its byte array data or a stream writing the data on demand.
  */
 public class TransferResource {
 
     private String resourceName;
     private MimeType resourceType;
     private byte[] resource;
+    private StreamingOutput resourceStream;
 
     public TransferResource(String resourceName, byte[] resource, MimeType resourceType) {
 
@@ -39,6 +44,13 @@ public class TransferResource {
         this.resourceType = resourceType;
     }
 
+    public TransferResource(String resourceName, StreamingOutput resourceStream, MimeType resourceType) {
+
+        this.resourceName = resourceName;
+        this.resourceStream = resourceStream;
+        this.resourceType = resourceType;
+    }
+
     public String getResourceName() {
 
         return resourceName;
@@ -51,12 +63,36 @@ public class TransferResource {
 
     public byte[] getResource() {
 
+        if (resourceStream != null) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try {
+                resourceStream.write(outputStream);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error while writing the resource: " + resourceName, e);
+            }
+            return outputStream.toByteArray();
+        }
         return resource != null ? Arrays.copyOf(resource, resource.length) : new byte[0];
     }
 
     public void setResource(byte[] resource) {
 
         this.resource = resource != null ? Arrays.copyOf(resource, resource.length) : new byte[0];
+        this.resourceStream = null;
+    }
+
+    /**
+     * Get the resource as a stream which writes the data directly to the response, without holding a copy of it.
+     *
+     * @return Streaming output of the resource.
+     */
+    public StreamingOutput getResourceStream() {
+
+        if (resourceStream != null) {
+            return resourceStream;
+        }
+        byte[] content = resource != null ? resource : new byte[0];
+        return outputStream -> outputStream.write(content);
     }
 
     public MimeType getResourceType() {
@@ -20,6 +20,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementServiceHolder;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationListItem;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ServiceProviderCopier;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
@@ -27,11 +28,6 @@ import org.wso2.carbon.identity.application.common.model.ServiceProvider;
 import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
 import org.wso2.carbon.identity.application.mgt.ApplicationMgtUtil;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -78,23 +74,9 @@ public class Utils {
         return object != null ? Stream.of(object) : Stream.empty();
     }
 
-    public static ServiceProvider deepCopyApplication(ServiceProvider application) {
+    public static ServiceProvider copyApplicationForUpdate(ServiceProvider application) {
 
-        ObjectOutputStream objOutPutStream;
-        ObjectInputStream objInputStream;
-        ServiceProvider newObject;
-        try {
-            ByteArrayOutputStream byteArrayOutPutStream = new ByteArrayOutputStream();
-            objOutPutStream = new ObjectOutputStream(byteArrayOutPutStream);
-            objOutPutStream.writeObject(application);
-
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(byteArrayOutPutStream.toByteArray());
-            objInputStream = new ObjectInputStream(byteArrayInputStream);
-            newObject = (ServiceProvider) objInputStream.readObject();
-        } catch (ClassNotFoundException | IOException e) {
-            throw buildServerError("Error deep cloning application object.", e);
-        }
-        return newObject;
+        return ServiceProviderCopier.copyForUpdate(application);
     }
 
     public static APIError buildBadRequestError(String errorCode, String description) {
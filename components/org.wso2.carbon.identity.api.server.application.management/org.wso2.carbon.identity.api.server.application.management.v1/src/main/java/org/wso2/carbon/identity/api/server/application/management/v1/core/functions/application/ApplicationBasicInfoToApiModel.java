@@ -22,6 +22,7 @@ import org.wso2.carbon.identity.api.server.application.management.v1.Application
 import org.wso2.carbon.identity.api.server.application.management.v1.core.ServerApplicationManagementService;
 import org.wso2.carbon.identity.api.server.common.Constants;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
 import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
 import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
@@ -42,6 +43,8 @@ public class ApplicationBasicInfoToApiModel implements Function<ApplicationBasic
     private static final Set<String> systemApplications =
             ApplicationManagementServiceHolder.getApplicationManagementService().getSystemApplications();
 
+    private ResourceLinkBuilder applicationLinkBuilder;
+
     @Override
     public ApplicationListItem apply(ApplicationBasicInfo applicationBasicInfo) {
 
@@ -60,8 +63,12 @@ public class ApplicationBasicInfoToApiModel implements Function<ApplicationBasic
 
     private String getApplicationLocation(String resourceId) {
 
-        return ContextLoader.buildURIForBody(
-                Constants.V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT + "/" + resourceId).toString();
+        // The base path of the links is resolved once for all the applications converted by this instance.
+        if (applicationLinkBuilder == null) {
+            applicationLinkBuilder = new ResourceLinkBuilder(
+                    Constants.V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT);
+        }
+        return applicationLinkBuilder.build(resourceId);
     }
 
     private ApplicationListItem.AccessEnum getAccess(String applicationName) {
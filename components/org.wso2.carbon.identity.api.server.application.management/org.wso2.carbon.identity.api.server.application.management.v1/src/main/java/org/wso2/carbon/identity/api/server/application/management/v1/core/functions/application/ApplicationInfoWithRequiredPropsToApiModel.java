@@ -21,7 +21,7 @@ import org.wso2.carbon.identity.api.server.application.management.v1.Application
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationResponseModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.AssociatedRolesConfig;
 import org.wso2.carbon.identity.api.server.common.Constants;
-import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
 
 import java.util.List;
 import java.util.function.Function;
@@ -42,6 +42,8 @@ import static org.wso2.carbon.identity.base.IdentityConstants.SKIP_LOGOUT_CONSEN
 public class ApplicationInfoWithRequiredPropsToApiModel implements Function<ApplicationResponseModel,
         ApplicationListItem> {
 
+    private ResourceLinkBuilder applicationLinkBuilder;
+
     @Override
     public ApplicationListItem apply(ApplicationResponseModel applicationResponseModel) {
 
@@ -107,7 +109,11 @@ public class ApplicationInfoWithRequiredPropsToApiModel implements Function<Appl
 
     private String getApplicationLocation(String resourceId) {
 
-        return ContextLoader.buildURIForBody(
-                Constants.V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT + "/" + resourceId).toString();
+        // The base path of the links is resolved once for all the applications converted by this instance.
+        if (applicationLinkBuilder == null) {
+            applicationLinkBuilder = new ResourceLinkBuilder(
+                    Constants.V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT);
+        }
+        return applicationLinkBuilder.build(resourceId);
     }
 }
@@ -22,7 +22,7 @@ import org.apache.commons.lang.StringUtils;
 import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants;
 import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationTemplatesListItem;
 import org.wso2.carbon.identity.api.server.common.Constants;
-import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
 import org.wso2.carbon.identity.template.mgt.model.Template;
 
 import java.util.Arrays;
@@ -38,6 +38,8 @@ import static org.wso2.carbon.identity.api.server.application.management.common.
  */
 public class TemplateToApplicationTemplateListItem implements Function<Template, ApplicationTemplatesListItem> {
 
+    private ResourceLinkBuilder templateLinkBuilder;
+
     @Override
     public ApplicationTemplatesListItem apply(Template template) {
 
@@ -78,8 +80,11 @@ public class TemplateToApplicationTemplateListItem implements Function<Template,
 
     private String getApplicationTemplateLocation(String templateId) {
 
-        return ContextLoader.buildURIForBody(
-                Constants.V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT +
-                        APPLICATION_TEMPLATE_MANAGEMENT_PATH_COMPONENT + "/" + templateId).toString();
+        // The base path of the links is resolved once for all the templates converted by this instance.
+        if (templateLinkBuilder == null) {
+            templateLinkBuilder = new ResourceLinkBuilder(Constants.V1_API_PATH_COMPONENT +
+                    APPLICATION_MANAGEMENT_PATH_COMPONENT + APPLICATION_TEMPLATE_MANAGEMENT_PATH_COMPONENT);
+        }
+        return templateLinkBuilder.build(templateId);
     }
 }
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.api.server.application.management.v1.factories;
 
 import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementServiceHolder;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.ServerApplicationMetadataService;
+import org.wso2.carbon.identity.api.server.common.KeyStoreChangeNotifier;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.identity.oauth.OAuthAdminServiceImpl;
 import org.wso2.carbon.identity.sso.saml.SAMLSSOConfigServiceImpl;
@@ -55,6 +56,8 @@ public class ServerApplicationMetadataServiceFactory {
 
         SERVICE = new ServerApplicationMetadataService(applicationManagementService, samlSSOConfigService,
                 oAuthAdminService, sTSAdminServiceInterface);
+        SERVICE.prewarm();
+        KeyStoreChangeNotifier.addListener(SERVICE::invalidateKeyStoreMetadata);
     }
 
     /**
@@ -299,7 +299,7 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
                 .header("Cache-Control", "no-cache, no-store, must-revalidate")
                 .header("Pragma", "no-cache")
                 .header("Expires", "0")
-                .entity(transferResource.getResource())
+                .entity(transferResource.getResourceStream())
                 .build();
     }
 
@@ -441,7 +441,7 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
     @Override
     public Response getInboundProtocols(Boolean customOnly) {
 
-        return Response.ok().entity(applicationMetadataService.getInboundProtocols(customOnly)).build();
+        return applicationMetadataService.getVersionedInboundProtocols(customOnly).buildResponse();
     }
 
     @Override
@@ -453,25 +453,25 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
     @Override
     public Response getOIDCMetadata() {
 
-        return Response.ok().entity(applicationMetadataService.getOIDCMetadata()).build();
+        return applicationMetadataService.getVersionedOIDCMetadata().buildResponse();
     }
 
     @Override
     public Response getSAMLMetadata() {
 
-        return Response.ok().entity(applicationMetadataService.getSAMLMetadata()).build();
+        return applicationMetadataService.getVersionedSAMLMetadata().buildResponse();
     }
 
     @Override
     public Response getWSTrustMetadata() {
 
-        return Response.ok().entity(applicationMetadataService.getWSTrustMetadata()).build();
+        return applicationMetadataService.getVersionedWSTrustMetadata().buildResponse();
     }
 
     @Override
     public Response getAdaptiveAuthTemplates() {
 
-        return Response.ok().entity(applicationMetadataService.getAdaptiveAuthTemplates()).build();
+        return applicationMetadataService.getVersionedAdaptiveAuthTemplates().buildResponse();
     }
 
     @Override
@@ -0,0 +1,538 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.ContextAwareExecutor;
+import org.wso2.carbon.identity.api.server.common.RecordsStreamingOutput;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtException;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.service.AsyncOperationStatusMgtService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Runs report jobs as asynchronous operations.
+ * <p>
+ * A report job scans its source in pages on a bounded background executor and appends each page to a spool file of
+ * the tenant. After a page is spooled, the cursor of its last record and the length of the spool file are saved in a
+ * checkpoint file, and the page is reported as a unit operation of the asynchronous operation. When an interrupted or
+ * failed job is submitted again with the same parameters, the spool file is truncated to the checkpoint and the scan
+ * is resumed from the checkpoint cursor, under the same operation.
+ * <p>
+ * The spool files are kept in a directory of the local file system of the node, which is only accessible to the
+ * owner of the server process. So a report is node-local: it can only be downloaded from the node which ran its job,
+ * and in a cluster the requests of a report job should be routed to the same node.
+ */
+public class AsyncReportJobManager {
+
+    private static final Log LOG = LogFactory.getLog(AsyncReportJobManager.class);
+
+    private static final int REPORT_JOB_POOL_SIZE = 2;
+    private static final int REPORT_JOB_QUEUE_SIZE = 8;
+    private static final int REPORT_PAGE_SIZE = 1000;
+    private static final String REPORT_RETENTION_PERIOD = "AsyncReportJob.RetentionPeriod";
+    private static final long DEFAULT_REPORT_RETENTION_PERIOD_HOURS = 24;
+    private static final String SPOOL_DIRECTORY = "AsyncReportJob.SpoolDirectory";
+    private static final String CARBON_HOME = "carbon.home";
+    private static final String DEFAULT_SPOOL_DIRECTORY = "repository/data/async-reports";
+    private static final Set<PosixFilePermission> SPOOL_DIRECTORY_PERMISSIONS =
+            PosixFilePermissions.fromString("rwx------");
+    private static final int JOB_LOCK_STRIPES = 64;
+    private static final String SPOOL_FILE_EXTENSION = ".ndjson";
+    private static final String CHECKPOINT_FILE_EXTENSION = ".checkpoint";
+    private static final String SUBJECT_TYPE_TENANT = "TENANT";
+    private static final String PAGE_SPOOLED_MESSAGE = "Page %d with %d records is spooled. %d records are spooled.";
+    private static final Pattern OPERATION_ID_PATTERN = Pattern.compile("^[A-Za-z0-9-]+$");
+
+    private static final ContextAwareExecutor REPORT_JOB_EXECUTOR = new ContextAwareExecutor("AsyncReportJob",
+            REPORT_JOB_POOL_SIZE, REPORT_JOB_QUEUE_SIZE, false);
+    // Operation ids of the running jobs, keyed by the tenant domain, the operation type and the job key.
+    private static final Map<String, String> RUNNING_JOBS = new ConcurrentHashMap<>();
+    // Operation ids of the jobs which are not completed, keyed like the running jobs, so that a job to be resumed is
+    // found without reading the checkpoint files. The checkpoint files of a tenant are read once to build the index.
+    private static final Map<String, String> RESUMABLE_JOBS = new ConcurrentHashMap<>();
+    private static final Set<Path> INDEXED_SPOOL_DIRECTORIES = ConcurrentHashMap.newKeySet();
+    // Locks of the job keys. The locks are striped, so that the jobs with different keys are mostly submitted in
+    // parallel while the number of locks is bounded.
+    private static final Object[] JOB_LOCKS = new Object[JOB_LOCK_STRIPES];
+
+    static {
+        for (int i = 0; i < JOB_LOCK_STRIPES; i++) {
+            JOB_LOCKS[i] = new Object();
+        }
+    }
+
+    private final String operationType;
+
+    /**
+     * Create a manager of the report jobs of a type.
+     *
+     * @param operationType Type of the asynchronous operations of the report jobs. Ex: INACTIVE_USERS_REPORT
+     */
+    public AsyncReportJobManager(String operationType) {
+
+        this.operationType = operationType;
+    }
+
+    /**
+     * Submit a report job of the current tenant. If a job with the same key is running, its operation id is
+     * returned. If a job with the same key was interrupted or failed, it is resumed from its last checkpoint.
+     *
+     * @param jobKey Parameters of the report, which identify the job to be resumed.
+     * @param source Source of the records of the report.
+     * @param <T>    Type of the records.
+     * @return Id of the asynchronous operation of the job.
+     * @throws AsyncOperationStatusMgtException If the asynchronous operation cannot be registered.
+     * @throws IOException                      If the spool directory cannot be accessed.
+     * @throws RejectedExecutionException       If too many report jobs are waiting to be run.
+     */
+    public <T> String submitJob(String jobKey, ReportPageSource<T> source)
+            throws AsyncOperationStatusMgtException, IOException {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String tenantDomain = carbonContext.getTenantDomain();
+        String runningJobKey = getRunningJobKey(tenantDomain, operationType, jobKey);
+        String runningOperationId = RUNNING_JOBS.get(runningJobKey);
+        if (runningOperationId != null) {
+            return runningOperationId;
+        }
+
+        // The service is resolved on the request thread and used by the job, which runs on a thread of the executor.
+        AsyncOperationStatusMgtService statusService = getAsyncOperationStatusMgtService();
+        Path spoolDirectory = getSpoolDirectory(tenantDomain);
+        createSpoolDirectory(spoolDirectory);
+        indexResumableJobs(spoolDirectory, tenantDomain, statusService);
+        deleteExpiredReports(spoolDirectory);
+        synchronized (getJobLock(runningJobKey)) {
+            runningOperationId = RUNNING_JOBS.get(runningJobKey);
+            if (runningOperationId != null) {
+                return runningOperationId;
+            }
+
+            Checkpoint checkpoint = findResumableCheckpoint(spoolDirectory, runningJobKey);
+            if (checkpoint == null) {
+                String operationId = statusService.registerOperationStatus(
+                        new OperationInitDTO(Util.getCorrelation(), operationType, SUBJECT_TYPE_TENANT, tenantDomain,
+                                carbonContext.getOrganizationId(), carbonContext.getUserId(), jobKey), false);
+                checkpoint = new Checkpoint(spoolDirectory, operationId, operationType, jobKey,
+                        carbonContext.getOrganizationId());
+                checkpoint.store();
+                RESUMABLE_JOBS.put(runningJobKey, operationId);
+            } else {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Resuming the report job of operation: " + checkpoint.operationId + " after " +
+                            checkpoint.records + " spooled records.");
+                }
+                statusService.updateOperationStatus(checkpoint.operationId, OperationStatus.IN_PROGRESS);
+            }
+
+            Checkpoint jobCheckpoint = checkpoint;
+            RUNNING_JOBS.put(runningJobKey, jobCheckpoint.operationId);
+            try {
+                REPORT_JOB_EXECUTOR.submit(() -> {
+                    runJob(jobCheckpoint, source, runningJobKey, statusService);
+                    return null;
+                });
+            } catch (RejectedExecutionException e) {
+                RUNNING_JOBS.remove(runningJobKey);
+                // The checkpoint is kept, so the job is resumed when it is submitted again.
+                updateOperationStatus(statusService, jobCheckpoint.operationId, OperationStatus.FAILED);
+                throw e;
+            }
+            return jobCheckpoint.operationId;
+        }
+    }
+
+    /**
+     * Get the spool file of a completed report job of the current tenant.
+     *
+     * @param operationId Id of the asynchronous operation of the job.
+     * @return Spool file holding the records of the report as newline delimited JSON, or null if there is no
+     * completed report job of this type with the given operation id on this node.
+     * @throws IOException If the checkpoint of the job cannot be read.
+     */
+    public Path getCompletedReport(String operationId) throws IOException {
+
+        if (operationId == null || !OPERATION_ID_PATTERN.matcher(operationId).matches()) {
+            return null;
+        }
+        Path spoolDirectory =
+                getSpoolDirectory(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+        Path checkpointFile = spoolDirectory.resolve(operationId + CHECKPOINT_FILE_EXTENSION);
+        if (!Files.exists(checkpointFile)) {
+            return null;
+        }
+        Checkpoint checkpoint = Checkpoint.load(checkpointFile);
+        if (!operationType.equals(checkpoint.operationType) || !checkpoint.completed) {
+            return null;
+        }
+        return checkpoint.getSpoolFile();
+    }
+
+    private <T> void runJob(Checkpoint checkpoint, ReportPageSource<T> source, String runningJobKey,
+                            AsyncOperationStatusMgtService statusService) {
+
+        try (FileChannel spool = FileChannel.open(checkpoint.getSpoolFile(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            // Records spooled after the checkpoint are spooled again from the checkpoint cursor.
+            spool.truncate(checkpoint.spoolLength);
+            spool.position(checkpoint.spoolLength);
+            OutputStream spoolStream = Channels.newOutputStream(spool);
+            while (!Thread.currentThread().isInterrupted()) {
+                List<T> page = source.getPage(checkpoint.cursor, REPORT_PAGE_SIZE);
+                if (!page.isEmpty()) {
+                    new RecordsStreamingOutput<>(page, RecordsStreamingOutput.Format.NDJSON, source.getFields(),
+                            source::getRow).write(spoolStream);
+                    spool.force(false);
+                    checkpoint.advance(source.getCursor(page.get(page.size() - 1)), spool.position(), page.size());
+                    checkpoint.store();
+                    registerUnitOperation(statusService, checkpoint, OperationStatus.SUCCESS,
+                            String.format(PAGE_SPOOLED_MESSAGE, checkpoint.pages, page.size(), checkpoint.records));
+                }
+                if (page.size() < REPORT_PAGE_SIZE) {
+                    checkpoint.completed = true;
+                    checkpoint.store();
+                    RESUMABLE_JOBS.remove(runningJobKey, checkpoint.operationId);
+                    updateOperationStatus(statusService, checkpoint.operationId, OperationStatus.SUCCESS);
+                    return;
+                }
+            }
+            LOG.warn("The report job of operation: " + checkpoint.operationId + " is interrupted after " +
+                    checkpoint.records + " spooled records. The job is resumed when it is submitted again.");
+            stopJob(statusService, checkpoint, "The report job is interrupted.");
+        } catch (Exception e) {
+            LOG.error("Error while running the report job of operation: " + checkpoint.operationId + ". The job is " +
+                    "resumed from the last spooled page when it is submitted again.", e);
+            stopJob(statusService, checkpoint, e.getMessage());
+        } finally {
+            RUNNING_JOBS.remove(runningJobKey, checkpoint.operationId);
+        }
+    }
+
+    private void stopJob(AsyncOperationStatusMgtService statusService, Checkpoint checkpoint, String statusMessage) {
+
+        registerUnitOperation(statusService, checkpoint, OperationStatus.FAILED, statusMessage);
+        updateOperationStatus(statusService, checkpoint.operationId, getStoppedStatus(checkpoint));
+    }
+
+    private static OperationStatus getStoppedStatus(Checkpoint checkpoint) {
+
+        return checkpoint.pages > 0 ? OperationStatus.PARTIALLY_COMPLETED : OperationStatus.FAILED;
+    }
+
+    private static Checkpoint findResumableCheckpoint(Path spoolDirectory, String runningJobKey) throws IOException {
+
+        String operationId = RESUMABLE_JOBS.get(runningJobKey);
+        if (operationId == null) {
+            return null;
+        }
+        try {
+            return Checkpoint.load(spoolDirectory.resolve(operationId + CHECKPOINT_FILE_EXTENSION));
+        } catch (NoSuchFileException e) {
+            RESUMABLE_JOBS.remove(runningJobKey, operationId);
+            return null;
+        }
+    }
+
+    /**
+     * Add the jobs of the tenant which are not completed to the index of the resumable jobs, when the spool directory
+     * of the tenant is accessed for the first time after the server is started. These jobs were stopped along with
+     * the server, so they are marked as failed or partially completed instead of being left in progress.
+     */
+    private static void indexResumableJobs(Path spoolDirectory, String tenantDomain,
+                                           AsyncOperationStatusMgtService statusService) throws IOException {
+
+        if (INDEXED_SPOOL_DIRECTORIES.contains(spoolDirectory)) {
+            return;
+        }
+        synchronized (getJobLock(tenantDomain)) {
+            if (INDEXED_SPOOL_DIRECTORIES.contains(spoolDirectory)) {
+                return;
+            }
+            try (DirectoryStream<Path> checkpointFiles =
+                         Files.newDirectoryStream(spoolDirectory, "*" + CHECKPOINT_FILE_EXTENSION)) {
+                for (Path checkpointFile : checkpointFiles) {
+                    Checkpoint checkpoint = Checkpoint.load(checkpointFile);
+                    if (!checkpoint.completed) {
+                        RESUMABLE_JOBS.putIfAbsent(getRunningJobKey(tenantDomain, checkpoint.operationType,
+                                checkpoint.jobKey), checkpoint.operationId);
+                        updateOperationStatus(statusService, checkpoint.operationId, getStoppedStatus(checkpoint));
+                    }
+                }
+            }
+            INDEXED_SPOOL_DIRECTORIES.add(spoolDirectory);
+        }
+    }
+
+    private static void deleteExpiredReports(Path spoolDirectory) throws IOException {
+
+        long expiryTime = System.currentTimeMillis() - getReportRetentionPeriod();
+        try (DirectoryStream<Path> checkpointFiles =
+                     Files.newDirectoryStream(spoolDirectory, "*" + CHECKPOINT_FILE_EXTENSION)) {
+            for (Path checkpointFile : checkpointFiles) {
+                if (Files.getLastModifiedTime(checkpointFile).toMillis() >= expiryTime) {
+                    continue;
+                }
+                String fileName = checkpointFile.getFileName().toString();
+                String operationId = fileName.substring(0, fileName.length() - CHECKPOINT_FILE_EXTENSION.length());
+                String resumableJobKey = getResumableJobKey(operationId);
+                if (resumableJobKey == null) {
+                    deleteReport(spoolDirectory, operationId);
+                    continue;
+                }
+                // The job is not deleted while it is being resumed.
+                synchronized (getJobLock(resumableJobKey)) {
+                    if (!RUNNING_JOBS.containsValue(operationId)) {
+                        deleteReport(spoolDirectory, operationId);
+                        RESUMABLE_JOBS.remove(resumableJobKey, operationId);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void deleteReport(Path spoolDirectory, String operationId) throws IOException {
+
+        Files.deleteIfExists(spoolDirectory.resolve(operationId + SPOOL_FILE_EXTENSION));
+        Files.deleteIfExists(spoolDirectory.resolve(operationId + CHECKPOINT_FILE_EXTENSION));
+    }
+
+    private static String getResumableJobKey(String operationId) {
+
+        for (Map.Entry<String, String> resumableJob : RESUMABLE_JOBS.entrySet()) {
+            if (resumableJob.getValue().equals(operationId)) {
+                return resumableJob.getKey();
+            }
+        }
+        return null;
+    }
+
+    private void registerUnitOperation(AsyncOperationStatusMgtService statusService, Checkpoint checkpoint,
+                                       OperationStatus status, String statusMessage) {
+
+        try {
+            statusService.registerBatchOfUnitOperations(Collections.singletonList(
+                    new UnitOperationInitDTO(checkpoint.operationId, checkpoint.cursor, checkpoint.residentOrgId,
+                            status, statusMessage)));
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error while reporting the progress of the report job of operation: " +
+                    checkpoint.operationId, e);
+        }
+    }
+
+    private static void updateOperationStatus(AsyncOperationStatusMgtService statusService, String operationId,
+                                              OperationStatus status) {
+
+        try {
+            statusService.updateOperationStatus(operationId, status);
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error while updating the status of the report job of operation: " + operationId, e);
+        }
+    }
+
+    private static String getRunningJobKey(String tenantDomain, String operationType, String jobKey) {
+
+        return tenantDomain + ":" + operationType + ":" + jobKey;
+    }
+
+    private static Object getJobLock(String key) {
+
+        return JOB_LOCKS[(key.hashCode() & Integer.MAX_VALUE) % JOB_LOCK_STRIPES];
+    }
+
+    /**
+     * Get the spool directory of the tenant, under the configured spool directory. The spool directory is under the
+     * carbon home by default.
+     */
+    private static Path getSpoolDirectory(String tenantDomain) {
+
+        String spoolDirectory = IdentityUtil.getProperty(SPOOL_DIRECTORY);
+        if (StringUtils.isBlank(spoolDirectory)) {
+            return Paths.get(System.getProperty(CARBON_HOME, "."), DEFAULT_SPOOL_DIRECTORY, tenantDomain);
+        }
+        return Paths.get(spoolDirectory.trim(), tenantDomain);
+    }
+
+    /**
+     * Create the spool directory of the tenant, which is only accessible to the owner of the server process when the
+     * file system supports POSIX permissions.
+     */
+    private static void createSpoolDirectory(Path spoolDirectory) throws IOException {
+
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createDirectories(spoolDirectory);
+            return;
+        }
+        Files.createDirectories(spoolDirectory,
+                PosixFilePermissions.asFileAttribute(SPOOL_DIRECTORY_PERMISSIONS));
+        // The parent directory holds the spool directories of all the tenants.
+        for (Path directory : new Path[]{spoolDirectory.getParent(), spoolDirectory}) {
+            if (!SPOOL_DIRECTORY_PERMISSIONS.equals(Files.getPosixFilePermissions(directory))) {
+                Files.setPosixFilePermissions(directory, SPOOL_DIRECTORY_PERMISSIONS);
+            }
+        }
+    }
+
+    private static long getReportRetentionPeriod() {
+
+        return TimeUnit.HOURS.toMillis(Util.getPositiveLongProperty(REPORT_RETENTION_PERIOD,
+                DEFAULT_REPORT_RETENTION_PERIOD_HOURS));
+    }
+
+    private static AsyncOperationStatusMgtService getAsyncOperationStatusMgtService() {
+
+        return AsyncOperationStatusMgtServiceHolder.getAsyncOperationStatusMgtService();
+    }
+
+    /**
+     * Progress of a report job, saved along with its spool file.
+     */
+    private static class Checkpoint {
+
+        private static final String OPERATION_ID = "operationId";
+        private static final String OPERATION_TYPE = "operationType";
+        private static final String JOB_KEY = "jobKey";
+        private static final String RESIDENT_ORG_ID = "residentOrgId";
+        private static final String CURSOR = "cursor";
+        private static final String SPOOL_LENGTH = "spoolLength";
+        private static final String RECORDS = "records";
+        private static final String PAGES = "pages";
+        private static final String COMPLETED = "completed";
+
+        private final Path spoolDirectory;
+        private final String operationId;
+        private final String operationType;
+        private final String jobKey;
+        private final String residentOrgId;
+        private String cursor;
+        private long spoolLength;
+        private long records;
+        private int pages;
+        private boolean completed;
+
+        Checkpoint(Path spoolDirectory, String operationId, String operationType, String jobKey,
+                   String residentOrgId) {
+
+            this.spoolDirectory = spoolDirectory;
+            this.operationId = operationId;
+            this.operationType = operationType;
+            this.jobKey = jobKey;
+            this.residentOrgId = residentOrgId;
+        }
+
+        static Checkpoint load(Path checkpointFile) throws IOException {
+
+            Properties properties = new Properties();
+            try (InputStream inputStream = Files.newInputStream(checkpointFile)) {
+                properties.load(inputStream);
+            }
+            Checkpoint checkpoint = new Checkpoint(checkpointFile.getParent(), properties.getProperty(OPERATION_ID),
+                    properties.getProperty(OPERATION_TYPE), properties.getProperty(JOB_KEY),
+                    properties.getProperty(RESIDENT_ORG_ID));
+            checkpoint.cursor = properties.getProperty(CURSOR);
+            try {
+                checkpoint.spoolLength = Long.parseLong(properties.getProperty(SPOOL_LENGTH, "0"));
+                checkpoint.records = Long.parseLong(properties.getProperty(RECORDS, "0"));
+                checkpoint.pages = Integer.parseInt(properties.getProperty(PAGES, "0"));
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid report job checkpoint: " + checkpointFile, e);
+            }
+            checkpoint.completed = Boolean.parseBoolean(properties.getProperty(COMPLETED));
+            return checkpoint;
+        }
+
+        void advance(String cursor, long spoolLength, int pageRecords) {
+
+            this.cursor = cursor;
+            this.spoolLength = spoolLength;
+            this.records += pageRecords;
+            this.pages++;
+        }
+
+        /**
+         * Save the checkpoint. The checkpoint file is replaced atomically, so an interrupted job never leaves a
+         * partially written checkpoint.
+         */
+        void store() throws IOException {
+
+            Properties properties = new Properties();
+            properties.setProperty(OPERATION_ID, operationId);
+            properties.setProperty(OPERATION_TYPE, operationType);
+            properties.setProperty(JOB_KEY, jobKey);
+            if (residentOrgId != null) {
+                properties.setProperty(RESIDENT_ORG_ID, residentOrgId);
+            }
+            if (cursor != null) {
+                properties.setProperty(CURSOR, cursor);
+            }
+            properties.setProperty(SPOOL_LENGTH, String.valueOf(spoolLength));
+            properties.setProperty(RECORDS, String.valueOf(records));
+            properties.setProperty(PAGES, String.valueOf(pages));
+            properties.setProperty(COMPLETED, String.valueOf(completed));
+
+            Path checkpointFile = spoolDirectory.resolve(operationId + CHECKPOINT_FILE_EXTENSION);
+            Path temporaryFile = Files.createTempFile(spoolDirectory, operationId, CHECKPOINT_FILE_EXTENSION + ".tmp");
+            try {
+                try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+                    properties.store(outputStream, null);
+                }
+                Files.move(temporaryFile, checkpointFile, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporaryFile);
+            }
+        }
+
+        Path getSpoolFile() {
+
+            return spoolDirectory.resolve(operationId + SPOOL_FILE_EXTENSION);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common;
+
+import java.util.List;
+
+/**
+ * Source of the records of a report job. The records are scanned in pages, each page starting after the cursor of
+ * the last record of the previous page, so an interrupted scan can be resumed from the last spooled page.
+ *
+ * @param <T> Type of the records.
+ */
+public interface ReportPageSource<T> {
+
+    /**
+     * Get a page of the records.
+     *
+     * @param after Cursor of the record after which the page starts, or null for the first page.
+     * @param limit Maximum number of records in the page.
+     * @return Records of the page. A page with less records than the limit is the last page.
+     * @throws Exception If an error occurs while retrieving the records.
+     */
+    List<T> getPage(String after, int limit) throws Exception;
+
+    /**
+     * Get the cursor of a record.
+     *
+     * @param record Record.
+     * @return Cursor pointing to the record.
+     */
+    String getCursor(T record);
+
+    /**
+     * Get the names of the fields of a record in the report.
+     *
+     * @return Names of the fields.
+     */
+    String[] getFields();
+
+    /**
+     * Get the values of the fields of a record, in the order of the field names.
+     *
+     * @param record Record.
+     * @return Values of the fields.
+     */
+    String[] getRow(T record);
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Report source for the services which retrieve all the records of a report at once. The records are retrieved on
+ * the first page, and only the records after the cursor of the first page are kept and sorted, so a resumed job does
+ * not hold the records which are already spooled. Each page is removed from the source once it is returned, so the
+ * pages are expected to be requested in order, each one after the last record of the previous page.
+ *
+ * @param <T> Type of the records.
+ */
+public class SortedReportPageSource<T> implements ReportPageSource<T> {
+
+    private final Callable<List<T>> scan;
+    private final Comparator<? super T> order;
+    private final Function<? super T, String> cursorEncoder;
+    private final ToIntBiFunction<? super T, String> cursorComparator;
+    private final String[] fields;
+    private final Function<? super T, String[]> rowMapper;
+    // Records which are not returned yet, in the reverse order, so that each page is removed from the end.
+    private List<T> remainingRecords;
+
+    /**
+     * Create a report source of the records retrieved by the given scan.
+     *
+     * @param scan             Retrieves all the records of the report.
+     * @param order            Order of the records in the report.
+     * @param cursorEncoder    Builds the cursor of a record.
+     * @param cursorComparator Compares a record with a cursor, in the order of the records.
+     * @param fields           Names of the fields of a record.
+     * @param rowMapper        Maps a record to the values of its fields.
+     */
+    public SortedReportPageSource(Callable<List<T>> scan, Comparator<? super T> order,
+                                  Function<? super T, String> cursorEncoder,
+                                  ToIntBiFunction<? super T, String> cursorComparator, String[] fields,
+                                  Function<? super T, String[]> rowMapper) {
+
+        this.scan = scan;
+        this.order = order;
+        this.cursorEncoder = cursorEncoder;
+        this.cursorComparator = cursorComparator;
+        this.fields = fields.clone();
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    public List<T> getPage(String after, int limit) throws Exception {
+
+        if (remainingRecords == null) {
+            List<T> scannedRecords = scan.call();
+            remainingRecords = new ArrayList<>(scannedRecords.size());
+            for (T record : scannedRecords) {
+                if (isAfter(record, after)) {
+                    remainingRecords.add(record);
+                }
+            }
+            remainingRecords.sort(order.reversed());
+        }
+        int size = remainingRecords.size();
+        while (size > 0 && !isAfter(remainingRecords.get(size - 1), after)) {
+            remainingRecords.remove(--size);
+        }
+
+        List<T> pageRecords = remainingRecords.subList((int) Math.max(0L, (long) size - limit), size);
+        List<T> page = new ArrayList<>(pageRecords);
+        Collections.reverse(page);
+        pageRecords.clear();
+        return page;
+    }
+
+    @Override
+    public String getCursor(T record) {
+
+        return cursorEncoder.apply(record);
+    }
+
+    @Override
+    public String[] getFields() {
+
+        return fields.clone();
+    }
+
+    @Override
+    public String[] getRow(T record) {
+
+        return rowMapper.apply(record);
+    }
+
+    private boolean isAfter(T record, String cursor) {
+
+        return cursor == null || cursorComparator.applyAsInt(record, cursor) > 0;
+    }
+}
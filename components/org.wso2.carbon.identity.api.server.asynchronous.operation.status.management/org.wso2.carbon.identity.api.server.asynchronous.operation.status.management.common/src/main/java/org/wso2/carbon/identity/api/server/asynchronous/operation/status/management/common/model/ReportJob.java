@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.Objects;
+
+import javax.validation.constraints.NotNull;
+
+/**
+ * Response of a submitted report job, shared by the APIs which run their reports through the
+ * {@link org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.AsyncReportJobManager}.
+ * The ReportJob schema of those APIs maps to this class, instead of a model generated for each API.
+ */
+@ApiModel(description = "Report job submitted as an asynchronous operation.")
+public class ReportJob {
+
+    private String operationId;
+
+    /**
+     * Id of the asynchronous operation of the report job.
+     **/
+    public ReportJob operationId(String operationId) {
+
+        this.operationId = operationId;
+        return this;
+    }
+
+    @ApiModelProperty(example = "8f9d7b4e-3c0a-4b1e-9f5d-2a6c1e7b3d40", required = true,
+            value = "Id of the asynchronous operation of the report job.")
+    @JsonProperty("operationId")
+    @NotNull(message = "Property operationId cannot be null.")
+    public String getOperationId() {
+
+        return operationId;
+    }
+
+    public void setOperationId(String operationId) {
+
+        this.operationId = operationId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReportJob reportJob = (ReportJob) o;
+        return Objects.equals(this.operationId, reportJob.operationId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(operationId);
+    }
+
+    @Override
+    public String toString() {
+
+        return "class ReportJob {\n    operationId: " + operationId + "\n}";
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.service.AsyncOperationStatusMgtService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+/**
+ * Test class for AsyncReportJobManager.
+ */
+public class AsyncReportJobManagerTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String SPOOL_DIRECTORY = "AsyncReportJob.SpoolDirectory";
+    private static final String[] FIELDS = {"userName"};
+    private static final int REPORT_PAGE_SIZE = 1000;
+    // Pool size and queue size of the report job executor.
+    private static final int REPORT_JOB_CAPACITY = 2 + 8;
+    private static final long JOB_TIMEOUT_MILLIS = 10000L;
+
+    private final List<String> registeredOperationIds = Collections.synchronizedList(new ArrayList<>());
+    private Path spoolRoot;
+    private AsyncOperationStatusMgtService statusService;
+    private AsyncReportJobManager reportJobManager;
+    private MockedStatic<IdentityUtil> identityUtil;
+    private MockedStatic<AsyncOperationStatusMgtServiceHolder> statusServiceHolder;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        mockCarbonContext();
+        registeredOperationIds.clear();
+        spoolRoot = Files.createTempDirectory("async-reports");
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.getProperty(SPOOL_DIRECTORY)).thenReturn(spoolRoot.toString());
+
+        statusService = mock(AsyncOperationStatusMgtService.class);
+        when(statusService.registerOperationStatus(any(OperationInitDTO.class), anyBoolean()))
+                .thenAnswer(invocation -> {
+                    String operationId = UUID.randomUUID().toString();
+                    registeredOperationIds.add(operationId);
+                    return operationId;
+                });
+        statusServiceHolder = mockStatic(AsyncOperationStatusMgtServiceHolder.class);
+        statusServiceHolder.when(AsyncOperationStatusMgtServiceHolder::getAsyncOperationStatusMgtService)
+                .thenReturn(statusService);
+
+        // The running and resumable jobs are held statically, so each test runs the jobs of its own type.
+        reportJobManager = new AsyncReportJobManager("TEST_REPORT_" + UUID.randomUUID());
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+
+        identityUtil.close();
+        statusServiceHolder.close();
+        try (Stream<Path> paths = Files.walk(spoolRoot)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testRecordsAreSpooledInCursorOrderAcrossPages() throws Exception {
+
+        List<String> userNames = buildUserNames(2500);
+        String operationId = reportJobManager.submitJob("inactiveAfter=2024-01-01",
+                buildSource(shuffle(userNames)));
+        verify(statusService, timeout(JOB_TIMEOUT_MILLIS)).updateOperationStatus(operationId,
+                OperationStatus.SUCCESS);
+
+        assertEquals(readReport(operationId), buildReportLines(userNames));
+        // A unit operation is reported for each spooled page.
+        verify(statusService, times(3)).registerBatchOfUnitOperations(anyList());
+    }
+
+    @Test
+    public void testJobIsResumedAfterTruncatedSpool() throws Exception {
+
+        List<String> userNames = buildUserNames(2500);
+        String jobKey = "inactiveAfter=2024-01-01&excludeBefore=2023-01-01";
+        SortedReportPageSource<String> records = buildSource(shuffle(userNames));
+        String operationId = reportJobManager.submitJob(jobKey, new RecordingPageSource(records, 1));
+        verify(statusService, timeout(JOB_TIMEOUT_MILLIS)).updateOperationStatus(operationId,
+                OperationStatus.PARTIALLY_COMPLETED);
+        assertNull(reportJobManager.getCompletedReport(operationId));
+
+        // A partially written page, as left by a job stopped while writing to the spool.
+        Path spoolFile = spoolRoot.resolve(TENANT_DOMAIN).resolve(operationId + ".ndjson");
+        Files.write(spoolFile, "{\"userName\":\"user-0".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        RecordingPageSource resumedRecords = new RecordingPageSource(buildSource(shuffle(userNames)), -1);
+        resubmitStoppedJob(jobKey, resumedRecords, operationId);
+        verify(statusService, timeout(JOB_TIMEOUT_MILLIS)).updateOperationStatus(operationId,
+                OperationStatus.SUCCESS);
+
+        assertEquals(resumedRecords.cursors.get(0), userNames.get(REPORT_PAGE_SIZE - 1));
+        assertEquals(readReport(operationId), buildReportLines(userNames));
+        verify(statusService, times(1)).registerOperationStatus(any(OperationInitDTO.class), anyBoolean());
+    }
+
+    @Test
+    public void testJobIsRejectedWhenQueueIsFull() throws Exception {
+
+        CountDownLatch jobRelease = new CountDownLatch(1);
+        List<String> operationIds = new ArrayList<>();
+        try {
+            operationIds.addAll(fillReportJobExecutor(jobRelease));
+
+            String jobKey = "inactiveAfter=2024-01-01&rejected";
+            expectThrows(RejectedExecutionException.class,
+                    () -> reportJobManager.submitJob(jobKey, buildSource(buildUserNames(10))));
+            String rejectedOperationId = registeredOperationIds.get(registeredOperationIds.size() - 1);
+            assertEquals(registeredOperationIds.size(), REPORT_JOB_CAPACITY + 1);
+            verify(statusService).updateOperationStatus(rejectedOperationId, OperationStatus.FAILED);
+
+            jobRelease.countDown();
+            for (String operationId : operationIds) {
+                verify(statusService, timeout(JOB_TIMEOUT_MILLIS)).updateOperationStatus(operationId,
+                        OperationStatus.SUCCESS);
+            }
+
+            // The rejected job keeps its operation and is run when it is submitted again.
+            assertEquals(reportJobManager.submitJob(jobKey, buildSource(buildUserNames(10))), rejectedOperationId);
+            verify(statusService).updateOperationStatus(rejectedOperationId, OperationStatus.IN_PROGRESS);
+            verify(statusService, timeout(JOB_TIMEOUT_MILLIS)).updateOperationStatus(rejectedOperationId,
+                    OperationStatus.SUCCESS);
+            assertEquals(readReport(rejectedOperationId), buildReportLines(buildUserNames(10)));
+        } finally {
+            jobRelease.countDown();
+        }
+    }
+
+    /**
+     * Occupy the threads and the queue of the report job executor with jobs which wait for the given latch.
+     *
+     * @return Operation ids of the jobs.
+     */
+    private List<String> fillReportJobExecutor(CountDownLatch jobRelease) throws Exception {
+
+        // The threads are occupied first, so that a thread completing a job of an earlier test is not counted.
+        CountDownLatch runningJobs = new CountDownLatch(2);
+        List<String> operationIds = new ArrayList<>();
+        for (int i = 0; i < REPORT_JOB_CAPACITY; i++) {
+            operationIds.add(reportJobManager.submitJob("blocking-" + i,
+                    new BlockingPageSource(runningJobs, jobRelease)));
+            if (i == 1) {
+                assertTrue(runningJobs.await(JOB_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            }
+        }
+        return operationIds;
+    }
+
+    /**
+     * Submit a stopped job again. The job is removed from the running jobs after its status is updated, so it is
+     * submitted until it is resumed.
+     */
+    private void resubmitStoppedJob(String jobKey, ReportPageSource<String> source, String operationId)
+            throws Exception {
+
+        long deadline = System.currentTimeMillis() + JOB_TIMEOUT_MILLIS;
+        while (true) {
+            assertEquals(reportJobManager.submitJob(jobKey, source), operationId);
+            boolean resumed = Mockito.mockingDetails(statusService).getInvocations().stream()
+                    .anyMatch(invocation -> "updateOperationStatus".equals(invocation.getMethod().getName()) &&
+                            invocation.getArguments()[1] == OperationStatus.IN_PROGRESS);
+            if (resumed) {
+                return;
+            }
+            assertTrue(System.currentTimeMillis() < deadline, "The stopped job is not resumed.");
+            Thread.sleep(10);
+        }
+    }
+
+    private List<String> readReport(String operationId) throws IOException {
+
+        Path report = reportJobManager.getCompletedReport(operationId);
+        assertNotNull(report);
+        return Files.readAllLines(report, StandardCharsets.UTF_8);
+    }
+
+    private static SortedReportPageSource<String> buildSource(List<String> userNames) {
+
+        return new SortedReportPageSource<>(() -> userNames, Comparator.naturalOrder(), userName -> userName,
+                String::compareTo, FIELDS, userName -> new String[]{userName});
+    }
+
+    private static List<String> buildUserNames(int count) {
+
+        List<String> userNames = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            userNames.add(String.format("user-%05d", i));
+        }
+        return userNames;
+    }
+
+    private static List<String> shuffle(List<String> userNames) {
+
+        List<String> shuffledUserNames = new ArrayList<>(userNames);
+        Collections.shuffle(shuffledUserNames, new Random(userNames.size()));
+        return shuffledUserNames;
+    }
+
+    private static List<String> buildReportLines(List<String> userNames) {
+
+        List<String> lines = new ArrayList<>(userNames.size());
+        for (String userName : userNames) {
+            lines.add("{\"userName\":\"" + userName + "\"}");
+        }
+        return lines;
+    }
+
+    private void mockCarbonContext() {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes").toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome,
+                "repository/conf").toString());
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(TENANT_DOMAIN);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(-1234);
+    }
+
+    /**
+     * Page source which records the requested cursors, and fails after the given number of pages.
+     */
+    private static class RecordingPageSource implements ReportPageSource<String> {
+
+        private final ReportPageSource<String> source;
+        private final int failAfterPages;
+        private final List<String> cursors = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingPageSource(ReportPageSource<String> source, int failAfterPages) {
+
+            this.source = source;
+            this.failAfterPages = failAfterPages;
+        }
+
+        @Override
+        public List<String> getPage(String after, int limit) throws Exception {
+
+            if (cursors.size() == failAfterPages) {
+                throw new IOException("The user store is not reachable.");
+            }
+            cursors.add(after);
+            return source.getPage(after, limit);
+        }
+
+        @Override
+        public String getCursor(String record) {
+
+            return source.getCursor(record);
+        }
+
+        @Override
+        public String[] getFields() {
+
+            return source.getFields();
+        }
+
+        @Override
+        public String[] getRow(String record) {
+
+            return source.getRow(record);
+        }
+    }
+
+    /**
+     * Page source of an empty report, which waits for a latch before the first page is returned.
+     */
+    private static class BlockingPageSource implements ReportPageSource<String> {
+
+        private final CountDownLatch runningJobs;
+        private final CountDownLatch jobRelease;
+
+        BlockingPageSource(CountDownLatch runningJobs, CountDownLatch jobRelease) {
+
+            this.runningJobs = runningJobs;
+            this.jobRelease = jobRelease;
+        }
+
+        @Override
+        public List<String> getPage(String after, int limit) throws Exception {
+
+            runningJobs.countDown();
+            if (!jobRelease.await(1, TimeUnit.MINUTES)) {
+                throw new IllegalStateException("The blocking job is not released.");
+            }
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String getCursor(String record) {
+
+            return record;
+        }
+
+        @Override
+        public String[] getFields() {
+
+            return FIELDS.clone();
+        }
+
+        @Override
+        public String[] getRow(String record) {
+
+            return new String[]{record};
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for SortedReportPageSource.
+ */
+public class SortedReportPageSourceTest {
+
+    private static final String[] FIELDS = {"userStoreDomain", "userName"};
+
+    @Test
+    public void testPagesAreReturnedInCursorOrder() throws Exception {
+
+        List<String[]> users = buildUsers();
+        AtomicInteger scans = new AtomicInteger();
+        SortedReportPageSource<String[]> source = buildSource(users, scans);
+
+        List<String> cursors = new ArrayList<>();
+        String after = null;
+        List<String[]> page;
+        do {
+            page = source.getPage(after, 7);
+            assertTrue(page.size() <= 7);
+            for (String[] user : page) {
+                cursors.add(source.getCursor(user));
+            }
+            if (!page.isEmpty()) {
+                after = source.getCursor(page.get(page.size() - 1));
+            }
+        } while (page.size() == 7);
+
+        assertEquals(cursors, buildSortedCursors(users, null));
+        // The records are scanned once, on the first page.
+        assertEquals(scans.get(), 1);
+    }
+
+    @Test
+    public void testFirstPageStartsAfterCursor() throws Exception {
+
+        List<String[]> users = buildUsers();
+        String after = "PRIMARY/user-05";
+        SortedReportPageSource<String[]> source = buildSource(users, new AtomicInteger());
+
+        List<String> cursors = new ArrayList<>();
+        for (String[] user : source.getPage(after, users.size())) {
+            cursors.add(source.getCursor(user));
+        }
+
+        assertEquals(cursors, buildSortedCursors(users, after));
+        assertTrue(source.getPage(cursors.get(cursors.size() - 1), users.size()).isEmpty());
+    }
+
+    @Test
+    public void testFieldsAreNotShared() {
+
+        SortedReportPageSource<String[]> source = buildSource(buildUsers(), new AtomicInteger());
+        source.getFields()[0] = "userId";
+
+        assertEquals(source.getFields(), FIELDS);
+    }
+
+    /**
+     * Build the users of two user store domains, each with the same user names, in a random order.
+     */
+    private static List<String[]> buildUsers() {
+
+        List<String[]> users = new ArrayList<>();
+        for (String userStoreDomain : new String[]{"PRIMARY", "SECONDARY"}) {
+            for (int i = 0; i < 20; i++) {
+                users.add(new String[]{userStoreDomain, String.format("user-%02d", i)});
+            }
+        }
+        Collections.shuffle(users, new Random(users.size()));
+        return users;
+    }
+
+    private static SortedReportPageSource<String[]> buildSource(List<String[]> users, AtomicInteger scans) {
+
+        return new SortedReportPageSource<>(() -> {
+            scans.incrementAndGet();
+            return new ArrayList<>(users);
+        }, (user, otherUser) -> getCursor(user).compareTo(getCursor(otherUser)),
+                SortedReportPageSourceTest::getCursor, (user, cursor) -> getCursor(user).compareTo(cursor), FIELDS,
+                user -> user);
+    }
+
+    private static List<String> buildSortedCursors(List<String[]> users, String after) {
+
+        List<String> cursors = new ArrayList<>();
+        for (String[] user : users) {
+            String cursor = getCursor(user);
+            if (after == null || cursor.compareTo(after) > 0) {
+                cursors.add(cursor);
+            }
+        }
+        Collections.sort(cursors);
+        return cursors;
+    }
+
+    private static String getCursor(String[] user) {
+
+        return user[0] + "/" + user[1];
+    }
+}
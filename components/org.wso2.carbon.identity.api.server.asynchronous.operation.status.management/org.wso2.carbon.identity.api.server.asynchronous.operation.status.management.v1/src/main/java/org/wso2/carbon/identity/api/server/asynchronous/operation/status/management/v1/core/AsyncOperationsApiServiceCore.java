@@ -18,7 +18,6 @@
 
 package org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.core;
 
-import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -31,6 +30,8 @@ import org.wso2.carbon.identity.api.server.asynchronous.operation.status.managem
 import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.model.UnitOperation;
 import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.model.UnitOperations;
 import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.util.AsyncOperationStatusEndpointUtil;
+import org.wso2.carbon.identity.api.server.common.KeysetCursor;
+import org.wso2.carbon.identity.api.server.common.KeysetPage;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtClientException;
 import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtException;
@@ -43,9 +44,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Base64;
-import java.util.Collections;
 import java.util.List;
 
 import javax.ws.rs.core.Response;
@@ -54,11 +52,7 @@ import static org.wso2.carbon.identity.api.server.asynchronous.operation.status.
 import static org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.constants.AsyncOperationStatusMgtEndpointConstants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_LIMIT_PARAMETER;
 import static org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.constants.AsyncOperationStatusMgtEndpointConstants.FILTER_PARAM;
 import static org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.constants.AsyncOperationStatusMgtEndpointConstants.LIMIT_PARAM;
-import static org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.constants.AsyncOperationStatusMgtEndpointConstants.NEXT;
-import static org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.constants.AsyncOperationStatusMgtEndpointConstants.PAGINATION_AFTER;
-import static org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.constants.AsyncOperationStatusMgtEndpointConstants.PAGINATION_BEFORE;
 import static org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.constants.AsyncOperationStatusMgtEndpointConstants.PATH_SEPARATOR;
-import static org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.constants.AsyncOperationStatusMgtEndpointConstants.PREVIOUS;
 import static org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.constants.AsyncOperationStatusMgtEndpointConstants.UNIT_OPERATIONS;
 import static org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.util.AsyncOperationStatusEndpointUtil.buildAsyncStatusMgtClientException;
 import static org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.v1.util.AsyncOperationStatusEndpointUtil.buildURIForPagination;
@@ -83,7 +77,8 @@ public class AsyncOperationsApiServiceCore {
         try {
             limit = validateLimit(limit);
             List<OperationResponseDTO> records =
-                    asyncOperationStatusMgtService.getOperations(tenantDomain, after, before, limit + 1, filter);
+                    asyncOperationStatusMgtService.getOperations(tenantDomain, KeysetCursor.toValueCursor(after),
+                            KeysetCursor.toValueCursor(before), limit + 1, filter);
             return Response.ok().entity(getOperationsResponse(limit, after, before, filter, records)).build();
         } catch (AsyncOperationStatusMgtException e) {
             throw AsyncOperationStatusEndpointUtil.handleAsyncOperationStatusMgtException(e);
@@ -126,8 +121,8 @@ public class AsyncOperationsApiServiceCore {
         try {
             limit = validateLimit(limit);
             List<UnitOperationResponseDTO> records =
-                    asyncOperationStatusMgtService.getUnitOperationStatusRecords(operationId, tenantDomain, after,
-                            before, limit + 1, filter);
+                    asyncOperationStatusMgtService.getUnitOperationStatusRecords(operationId, tenantDomain,
+                            KeysetCursor.toValueCursor(after), KeysetCursor.toValueCursor(before), limit + 1, filter);
             return Response.ok().entity(
                     getUnitOperationsResponse(limit, after, before, filter, records, operationId)).build();
         } catch (AsyncOperationStatusMgtException e) {
@@ -166,54 +161,36 @@ public class AsyncOperationsApiServiceCore {
             throws AsyncOperationStatusMgtServerException {
 
         Operations response = new Operations();
-        if (CollectionUtils.isNotEmpty(operationsDTO)) {
-            boolean hasMoreItems = operationsDTO.size() > limit;
-            boolean needsReverse = StringUtils.isNotBlank(before);
-            boolean isFirstPage = (StringUtils.isBlank(before) && StringUtils.isBlank(after)) ||
-                    (StringUtils.isNotBlank(before) && !hasMoreItems);
-            boolean isLastPage = !hasMoreItems && (StringUtils.isNotBlank(after) || StringUtils.isBlank(before));
-
-            String url = "?" + LIMIT_PARAM + "=" + limit;
-            if (StringUtils.isNotBlank(filter)) {
-                try {
-                    url += "&" + FILTER_PARAM + "=" + URLEncoder.encode(filter, StandardCharsets.UTF_8.name());
-                } catch (UnsupportedEncodingException e) {
-                    throw new AsyncOperationStatusMgtServerException("Error");
-                }
+        KeysetPage<OperationResponseDTO> page = KeysetPage.of(operationsDTO, limit, after, before);
+        if (!page.isEmpty()) {
+            String url = buildURIForPagination(buildPaginationQuery(limit, filter), PATH_SEPARATOR);
+            for (Link link : page.buildLinks(url,
+                    dto -> KeysetCursor.encode(String.valueOf(dto.getCursorKey()), dto.getOperationId()),
+                    this::createLink)) {
+                response.addLinksItem(link);
             }
+            response.setOperations(page.map(this::getOperationResponse));
+        }
+        return response;
+    }
 
-            if (hasMoreItems) {
-                operationsDTO.remove(operationsDTO.size() - 1);
-            }
-            if (needsReverse) {
-                Collections.reverse(operationsDTO);
-            }
-            String resourcePath = PATH_SEPARATOR;
-            if (!isFirstPage) {
-                response.addLinksItem(createLink(operationsDTO.get(0).getCursorKey(), PAGINATION_BEFORE, PREVIOUS,
-                        resourcePath, url));
-            }
-            if (!isLastPage) {
-                response.addLinksItem(createLink(operationsDTO.get(operationsDTO.size() - 1).getCursorKey(),
-                        PAGINATION_AFTER, NEXT, resourcePath, url));
-            }
+    private String buildPaginationQuery(Integer limit, String filter) throws AsyncOperationStatusMgtServerException {
 
-            List<Operation> operations = new ArrayList<>();
-            for (OperationResponseDTO dto : operationsDTO) {
-                operations.add(getOperationResponse(dto));
+        String url = "?" + LIMIT_PARAM + "=" + limit;
+        if (StringUtils.isNotBlank(filter)) {
+            try {
+                url += "&" + FILTER_PARAM + "=" + URLEncoder.encode(filter, StandardCharsets.UTF_8.name());
+            } catch (UnsupportedEncodingException e) {
+                throw new AsyncOperationStatusMgtServerException("Error");
             }
-            response.setOperations(operations);
         }
-        return response;
+        return url;
     }
 
-    private Link createLink(Integer cursor, String paginationOrder, String rel, String resourcePath, String url) {
+    private Link createLink(String href, String rel) {
 
-        String encodedString = Base64.getEncoder().encodeToString(cursor.toString().getBytes(StandardCharsets.UTF_8));
         Link link = new Link();
-        link.setHref(URI.create(
-                buildURIForPagination(url, resourcePath) + "&" + paginationOrder + "="
-                        + encodedString));
+        link.setHref(URI.create(href));
         link.setRel(rel);
         return link;
     }
@@ -246,43 +223,16 @@ public class AsyncOperationsApiServiceCore {
             throws AsyncOperationStatusMgtServerException {
 
         UnitOperations response = new UnitOperations();
-        if (limit != 0 && CollectionUtils.isNotEmpty(unitOperations)) {
-            boolean hasMoreItems = unitOperations.size() > limit;
-            boolean needsReverse = StringUtils.isNotBlank(before);
-            boolean isFirstPage = (StringUtils.isBlank(before) && StringUtils.isBlank(after)) ||
-                    (StringUtils.isNotBlank(before) && !hasMoreItems);
-            boolean isLastPage = !hasMoreItems && (StringUtils.isNotBlank(after) || StringUtils.isBlank(before));
-
-            String url = "?" + LIMIT_PARAM + "=" + limit;
-            if (StringUtils.isNotBlank(filter)) {
-                try {
-                    url += "&" + FILTER_PARAM + "=" + URLEncoder.encode(filter, StandardCharsets.UTF_8.name());
-                } catch (UnsupportedEncodingException e) {
-                    throw new AsyncOperationStatusMgtServerException("Error");
-                }
-            }
-
-            if (hasMoreItems) {
-                unitOperations.remove(unitOperations.size() - 1);
-            }
-            if (needsReverse) {
-                Collections.reverse(unitOperations);
-            }
+        KeysetPage<UnitOperationResponseDTO> page = KeysetPage.of(unitOperations, limit, after, before);
+        if (!page.isEmpty()) {
             String resourcePath = PATH_SEPARATOR + operationId + PATH_SEPARATOR + "unit-operations";
-            if (!isFirstPage) {
-                response.addLinksItem(createLink(unitOperations.get(0).getCursorKey(), PAGINATION_BEFORE, PREVIOUS,
-                        resourcePath, url));
-            }
-            if (!isLastPage) {
-                response.addLinksItem(createLink(unitOperations.get(unitOperations.size() - 1).getCursorKey(),
-                        PAGINATION_AFTER, NEXT, resourcePath, url));
-            }
-
-            List<UnitOperation> unitOperationList = new ArrayList<>();
-            for (UnitOperationResponseDTO dto : unitOperations) {
-                unitOperationList.add(getUnitOperationResponse(dto));
+            String url = buildURIForPagination(buildPaginationQuery(limit, filter), resourcePath);
+            for (Link link : page.buildLinks(url,
+                    dto -> KeysetCursor.encode(String.valueOf(dto.getCursorKey()), dto.getUnitOperationId()),
+                    this::createLink)) {
+                response.addLinksItem(link);
             }
-            response.setUnitOperations(unitOperationList);
+            response.setUnitOperations(page.map(this::getUnitOperationResponse));
         }
         return response;
     }
@@ -34,6 +34,8 @@ public class Constants {
     public static final String PAGE_LINK_REL_PREVIOUS = "previous";
     public static final String PAGINATION_WITH_FILTER_LINK_FORMAT = "?offset=%d&limit=%d&filter=%s";
     public static final String PAGINATION_LINK_FORMAT = "?offset=%d&limit=%d";
+    public static final String AUTHENTICATOR_CATALOGUE_CACHE_TIMEOUT = "Authenticators.CatalogueCacheTimeout";
+    public static final long DEFAULT_AUTHENTICATOR_CATALOGUE_CACHE_TIMEOUT = 30;
 
     /**
      * Supported filter attributes.
@@ -71,6 +73,8 @@ public class Constants {
                 "Filter needs to be in the format <attribute>+<operation>+<value>. Eg: tag+eq+2FA"),
         ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE("60002", "Unsupported filter attribute.",
                 "The filter attribute '%s' is not supported."),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETER("60003", "Invalid pagination parameters.",
+                "Limit and offset should not be negative."),
 
         ERROR_CODE_ERROR_LISTING_AUTHENTICATORS("65001", "Unable to list the existing authenticators.",
                 "Server encountered an error while listing the authenticators."),
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.authenticators.v1.core;
+
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.authenticators.common.Constants;
+import org.wso2.carbon.identity.api.server.authenticators.v1.model.Authenticator;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
+
+/**
+ * Catalogue of the local, request path and identity provider authenticators of a tenant.
+ * <p>
+ * The catalogue is built once with all the authenticators of the tenant, so listing, filtering and paginating the
+ * authenticators is done in memory without going through the identity providers of the tenant again. The
+ * authenticators are kept without their links, which are built for each request as they depend on the context of
+ * the request. The catalogue must not be modified after it is built.
+ */
+class AuthenticatorCatalogue {
+
+    private static final String IDENTITY_PROVIDER_PATH_COMPONENT = "/identity-providers";
+    private static final String LOCAL_AUTHENTICATOR_PATH_COMPONENT = "/configs/authenticators";
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final List<String> tags;
+
+    AuthenticatorCatalogue(List<String> tags) {
+
+        this.tags = Collections.unmodifiableList(new ArrayList<>(tags));
+    }
+
+    /**
+     * Add an authenticator to the end of the catalogue.
+     *
+     * @param authenticator Authenticator without its link.
+     * @param filterName    Name matched against the name filter. Local authenticators are filtered by their display
+     *                      name and identity providers by their name.
+     * @param filterTags    Tags matched against the tag filter.
+     */
+    void add(Authenticator authenticator, String filterName, List<String> filterTags) {
+
+        entries.add(new Entry(authenticator, filterName, filterTags));
+    }
+
+    /**
+     * Get a page of the authenticators which match the given filter.
+     *
+     * @param filterName          Authenticator name passed in the filter, or null if not filtered by name.
+     * @param filterNameOperation Filter operation of the authenticator name.
+     * @param filterTags          Tags passed in the filter. An authenticator matches if it has any of the tags.
+     * @param offset              Number of matching authenticators to be skipped.
+     * @param limit               Maximum number of authenticators to be returned.
+     * @return Matching authenticators of the page.
+     */
+    List<Authenticator> getAuthenticators(String filterName, String filterNameOperation, List<String> filterTags,
+                                          int offset, int limit) {
+
+        Set<String> filterTagSet = new HashSet<>();
+        if (filterTags != null) {
+            for (String filterTag : filterTags) {
+                filterTagSet.add(filterTag.toLowerCase(Locale.ENGLISH));
+            }
+        }
+        ResourceLinkBuilder identityProviderLinkBuilder = null;
+        ResourceLinkBuilder localAuthenticatorLinkBuilder = null;
+        List<Authenticator> authenticators = new ArrayList<>();
+        int skippedAuthenticators = 0;
+        for (Entry entry : entries) {
+            if (authenticators.size() >= limit) {
+                break;
+            }
+            if (!entry.matches(filterName, filterNameOperation, filterTagSet)) {
+                continue;
+            }
+            if (skippedAuthenticators < offset) {
+                skippedAuthenticators++;
+                continue;
+            }
+
+            ResourceLinkBuilder linkBuilder;
+            if (Authenticator.TypeEnum.FEDERATED.equals(entry.authenticator.getType())) {
+                if (identityProviderLinkBuilder == null) {
+                    identityProviderLinkBuilder = new ResourceLinkBuilder(V1_API_PATH_COMPONENT +
+                            IDENTITY_PROVIDER_PATH_COMPONENT);
+                }
+                linkBuilder = identityProviderLinkBuilder;
+            } else {
+                if (localAuthenticatorLinkBuilder == null) {
+                    localAuthenticatorLinkBuilder = new ResourceLinkBuilder(V1_API_PATH_COMPONENT +
+                            LOCAL_AUTHENTICATOR_PATH_COMPONENT);
+                }
+                linkBuilder = localAuthenticatorLinkBuilder;
+            }
+            authenticators.add(copy(entry.authenticator).self(linkBuilder.build(entry.authenticator.getId())));
+        }
+        return authenticators;
+    }
+
+    /**
+     * Get the distinct tags of the authenticators of the tenant.
+     *
+     * @return Tags of the authenticators.
+     */
+    List<String> getTags() {
+
+        return new ArrayList<>(tags);
+    }
+
+    private static Authenticator copy(Authenticator authenticator) {
+
+        return new Authenticator()
+                .id(authenticator.getId())
+                .name(authenticator.getName())
+                .displayName(authenticator.getDisplayName())
+                .isEnabled(authenticator.getIsEnabled())
+                .definedBy(authenticator.getDefinedBy())
+                .type(authenticator.getType())
+                .image(authenticator.getImage())
+                .description(authenticator.getDescription())
+                .tags(authenticator.getTags() == null ? null : new ArrayList<>(authenticator.getTags()));
+    }
+
+    /**
+     * Authenticator of the catalogue along with the attributes it is filtered by.
+     */
+    private static class Entry {
+
+        private final Authenticator authenticator;
+        private final String filterName;
+        private final Set<String> filterTags = new HashSet<>();
+
+        Entry(Authenticator authenticator, String filterName, List<String> filterTags) {
+
+            this.authenticator = authenticator;
+            this.filterName = filterName;
+            if (filterTags != null) {
+                for (String filterTag : filterTags) {
+                    if (filterTag != null) {
+                        this.filterTags.add(filterTag.toLowerCase(Locale.ENGLISH));
+                    }
+                }
+            }
+        }
+
+        boolean matches(String name, String nameOperation, Set<String> tags) {
+
+            if (StringUtils.isNotBlank(name)) {
+                boolean nameMatched = StringUtils.equalsIgnoreCase(nameOperation, Constants.FilterOperations.SW) ?
+                        StringUtils.startsWithIgnoreCase(filterName, name) :
+                        StringUtils.equalsIgnoreCase(nameOperation, Constants.FilterOperations.EQ) &&
+                                StringUtils.equalsIgnoreCase(filterName, name);
+                if (!nameMatched) {
+                    return false;
+                }
+            }
+            return tags.isEmpty() || CollectionUtils.containsAny(filterTags, tags);
+        }
+    }
+}
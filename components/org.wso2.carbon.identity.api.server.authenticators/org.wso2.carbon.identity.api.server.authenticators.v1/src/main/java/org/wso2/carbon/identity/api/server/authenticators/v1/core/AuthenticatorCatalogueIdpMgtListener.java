@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.authenticators.v1.core;
+
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
+import org.wso2.carbon.idp.mgt.listener.AbstractIdentityProviderMgtListener;
+
+import java.util.function.Consumer;
+
+/**
+ * Identity provider management listener which invalidates the authenticator catalogue of a tenant when an identity
+ * provider of the tenant is added, updated or deleted, so that the federated authenticators are listed without
+ * waiting for the catalogue to expire.
+ */
+public class AuthenticatorCatalogueIdpMgtListener extends AbstractIdentityProviderMgtListener {
+
+    private static final int DEFAULT_ORDER_ID = 250;
+
+    private final Consumer<String> catalogueInvalidator;
+
+    /**
+     * Create the listener.
+     *
+     * @param catalogueInvalidator Function invalidating the authenticator catalogue of a tenant domain.
+     */
+    public AuthenticatorCatalogueIdpMgtListener(Consumer<String> catalogueInvalidator) {
+
+        this.catalogueInvalidator = catalogueInvalidator;
+    }
+
+    @Override
+    public int getDefaultOrderId() {
+
+        return DEFAULT_ORDER_ID;
+    }
+
+    @Override
+    public boolean doPostAddIdP(IdentityProvider identityProvider, String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        catalogueInvalidator.accept(tenantDomain);
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateIdP(String oldIdPName, IdentityProvider identityProvider, String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        catalogueInvalidator.accept(tenantDomain);
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateIdPByResourceId(String resourceId, IdentityProvider oldIdentityProvider,
+                                               IdentityProvider newIdentityProvider, String tenantDomain)
+            throws IdentityProviderManagementException {
+
+        catalogueInvalidator.accept(tenantDomain);
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteIdP(String idPName, String tenantDomain) throws IdentityProviderManagementException {
+
+        catalogueInvalidator.accept(tenantDomain);
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteIdPByResourceId(String resourceId, IdentityProvider identityProvider,
+                                               String tenantDomain) throws IdentityProviderManagementException {
+
+        catalogueInvalidator.accept(tenantDomain);
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteIdPs(String tenantDomain) throws IdentityProviderManagementException {
+
+        catalogueInvalidator.accept(tenantDomain);
+        return true;
+    }
+}
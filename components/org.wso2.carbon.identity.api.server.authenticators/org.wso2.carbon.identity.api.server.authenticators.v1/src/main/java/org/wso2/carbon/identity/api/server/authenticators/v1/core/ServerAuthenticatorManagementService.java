@@ -34,6 +34,9 @@ import org.wso2.carbon.identity.api.server.authenticators.v1.model.NameFilter;
 import org.wso2.carbon.identity.api.server.authenticators.v1.model.UserDefinedLocalAuthenticatorCreation;
 import org.wso2.carbon.identity.api.server.authenticators.v1.model.UserDefinedLocalAuthenticatorUpdate;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
+import org.wso2.carbon.identity.api.server.common.TenantTtlCache;
+import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.application.common.ApplicationAuthenticatorService;
@@ -70,7 +73,10 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
@@ -89,6 +95,9 @@ public class ServerAuthenticatorManagementService {
     private final IdpManager idpManager;
     private final ApplicationAuthenticatorService applicationAuthenticatorService;
     private static final Log log = LogFactory.getLog(ServerAuthenticatorManagementService.class);
+    private static final int MAX_CACHED_CATALOGUES = 1000;
+    private final TenantTtlCache<AuthenticatorCatalogue> authenticatorCatalogues =
+            new TenantTtlCache<>(getCatalogueCacheTimeoutMillis(), MAX_CACHED_CATALOGUES);
 
     public ServerAuthenticatorManagementService(ApplicationManagementService applicationManagementService,
                                                 IdpManager idpManager,
@@ -103,71 +112,36 @@ public class ServerAuthenticatorManagementService {
      * Retrieves the list of available authenticators.
      *
      * @param filter The filter string.
-     * @param limit  The items per page. **Not supported at the moment.**
-     * @param offset The offset to be used with the limit parameter. **Not supported at the moment.**
+     * @param limit  The items per page. Capped at the maximum items per page.
+     * @param offset The number of matching authenticators to be skipped.
      * @return The list of authenticators
      */
     public List<Authenticator> getAuthenticators(String filter, Integer limit, Integer offset) {
 
-        handleNotImplementedCapabilities(limit, offset);
+        if ((limit != null && limit < 0) || (offset != null && offset < 0)) {
+            throw buildClientError(Constants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETER, null);
+        }
 
-        try {
-            String filterAuthenticatorName = null;
-            String filterOperationForName = null;
-            ArrayList<String> filterTagsList = null;
-            int maximumItemPerPage = IdentityUtil.getMaximumItemPerPage();
-            if (StringUtils.isNotBlank(filter)) {
-                List<ExpressionNode> expressionNodes = getExpressionNodesForAuthenticator(filter);
-                if (CollectionUtils.isNotEmpty(expressionNodes)) {
-                    NameFilter nameFilter = getFilterAuthenticatorNameAndOperation(expressionNodes);
-                    if (nameFilter != null) {
-                        filterAuthenticatorName = nameFilter.getName();
-                        filterOperationForName = nameFilter.getOperation();
-                    }
-                    filterTagsList = getFilterTagsList(expressionNodes);
+        String filterAuthenticatorName = null;
+        String filterOperationForName = null;
+        ArrayList<String> filterTagsList = null;
+        int maximumItemPerPage = IdentityUtil.getMaximumItemPerPage();
+        if (StringUtils.isNotBlank(filter)) {
+            List<ExpressionNode> expressionNodes = getExpressionNodesForAuthenticator(filter);
+            if (CollectionUtils.isNotEmpty(expressionNodes)) {
+                NameFilter nameFilter = getFilterAuthenticatorNameAndOperation(expressionNodes);
+                if (nameFilter != null) {
+                    filterAuthenticatorName = nameFilter.getName();
+                    filterOperationForName = nameFilter.getOperation();
                 }
+                filterTagsList = getFilterTagsList(expressionNodes);
             }
-
-            LocalAuthenticatorConfig[] localAuthenticatorConfigs = applicationManagementService
-                    .getAllLocalAuthenticators(ContextLoader.getTenantDomainFromContext());
-            int localAuthenticatorsCount = localAuthenticatorConfigs.length;
-            RequestPathAuthenticatorConfig[] requestPathAuthenticatorConfigs = new RequestPathAuthenticatorConfig[0];
-
-            /* If there is no filter string available in the request, the request path authenticators are required to
-            be fetched only if the  no. of local authenticators retrieved are less than the maximum items per page
-            count as the no. of items returned in the response will be capped at the maximum items per page count. */
-            if (StringUtils.isNotBlank(filter) || (StringUtils.isBlank(filter) && localAuthenticatorsCount <
-                    maximumItemPerPage)) {
-                requestPathAuthenticatorConfigs = applicationManagementService
-                        .getAllRequestPathAuthenticators(ContextLoader.getTenantDomainFromContext());
-            }
-
-            List<String> requestedAttributeList = new ArrayList<>();
-            requestedAttributeList.add(Constants.FEDERATED_AUTHENTICATORS);
-
-            int idPCountToBeRetrieved = maximumItemPerPage - (localAuthenticatorsCount +
-                    requestPathAuthenticatorConfigs.length);
-            List<IdentityProvider> identityProviders = null;
-
-            /* If there is no filter string available in the request, the identity providers are required to
-            be fetched only if the total of local authenticators and request path authenticators retrieved above is
-            less than the maximum items per page count as the no. of items returned in the response will be capped
-            at the maximum items per page count. */
-            if (idPCountToBeRetrieved > 0 && StringUtils.isBlank(filter)) {
-                IdpSearchResult idpSearchResult = idpManager.getIdPs(idPCountToBeRetrieved, null, null,
-                        null, null, ContextLoader.getTenantDomainFromContext(), requestedAttributeList);
-                identityProviders = idpSearchResult.getIdPs();
-            }
-
-            return buildAuthenticatorsListResponse(filter, requestedAttributeList, filterAuthenticatorName,
-                    filterOperationForName, filterTagsList, localAuthenticatorConfigs, requestPathAuthenticatorConfigs,
-                    identityProviders);
-        } catch (IdentityApplicationManagementException e) {
-            throw handleApplicationMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_AUTHENTICATORS,
-                    null);
-        } catch (IdentityProviderManagementException e) {
-            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
         }
+
+        // The items returned in the response are capped at the maximum items per page count.
+        int pageSize = limit == null ? maximumItemPerPage : Math.min(limit, maximumItemPerPage);
+        return getAuthenticatorCatalogue().getAuthenticators(filterAuthenticatorName, filterOperationForName,
+                filterTagsList, offset == null ? 0 : offset, pageSize);
     }
 
     /**
@@ -177,21 +151,26 @@ public class ServerAuthenticatorManagementService {
      */
     public List<String> getTags() {
 
-        try {
-            LocalAuthenticatorConfig[] localAuthenticatorConfigs = applicationManagementService
-                    .getAllLocalAuthenticators(ContextLoader.getTenantDomainFromContext());
+        return getAuthenticatorCatalogue().getTags();
+    }
 
-            RequestPathAuthenticatorConfig[] requestPathAuthenticatorConfigs = applicationManagementService
-                    .getAllRequestPathAuthenticators(ContextLoader.getTenantDomainFromContext());
+    /**
+     * Retrieves the authenticator catalogue of the tenant. The catalogue is cached per tenant until the configured
+     * cache timeout elapses, or until a user defined local authenticator of the tenant is changed through this
+     * service. Concurrent requests of a tenant share a single rebuild of an expired catalogue.
+     *
+     * @return The authenticator catalogue of the tenant.
+     */
+    private AuthenticatorCatalogue getAuthenticatorCatalogue() {
 
-            FederatedAuthenticatorConfig[] federatedAuthenticatorConfigs = idpManager
-                    .getAllFederatedAuthenticators(ContextLoader.getTenantDomainFromContext());
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        return authenticatorCatalogues.get(tenantDomain, () -> loadAuthenticatorCatalogue(tenantDomain));
+    }
 
-            List<UserDefinedLocalAuthenticatorConfig> userDefinedLocalAuthConfigs = applicationAuthenticatorService
-                    .getAllUserDefinedLocalAuthenticators(ContextLoader.getTenantDomainFromContext());
+    private AuthenticatorCatalogue loadAuthenticatorCatalogue(String tenantDomain) {
 
-            return buildTagsListResponse(localAuthenticatorConfigs, requestPathAuthenticatorConfigs,
-                    federatedAuthenticatorConfigs, userDefinedLocalAuthConfigs);
+        try {
+            return buildAuthenticatorCatalogue(tenantDomain);
         } catch (IdentityApplicationManagementException e) {
             throw handleApplicationMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_AUTHENTICATORS,
                     null);
@@ -202,6 +181,82 @@ public class ServerAuthenticatorManagementService {
         }
     }
 
+    private AuthenticatorCatalogue buildAuthenticatorCatalogue(String tenantDomain)
+            throws IdentityApplicationManagementException, IdentityProviderManagementException,
+            AuthenticatorMgtException {
+
+        LocalAuthenticatorConfig[] localAuthenticatorConfigs = applicationManagementService
+                .getAllLocalAuthenticators(tenantDomain);
+        RequestPathAuthenticatorConfig[] requestPathAuthenticatorConfigs = applicationManagementService
+                .getAllRequestPathAuthenticators(tenantDomain);
+        FederatedAuthenticatorConfig[] federatedAuthenticatorConfigs = idpManager
+                .getAllFederatedAuthenticators(tenantDomain);
+        List<UserDefinedLocalAuthenticatorConfig> userDefinedLocalAuthConfigs = applicationAuthenticatorService
+                .getAllUserDefinedLocalAuthenticators(tenantDomain);
+
+        AuthenticatorCatalogue authenticatorCatalogue = new AuthenticatorCatalogue(buildTagsListResponse(
+                localAuthenticatorConfigs, requestPathAuthenticatorConfigs, federatedAuthenticatorConfigs,
+                userDefinedLocalAuthConfigs));
+
+        // For local authenticators and request path authenticators, the 'displayName' is considered as the
+        // 'name' attribute during filtering.
+        List<LocalAuthenticatorConfig> localConfigs = new ArrayList<>();
+        if (localAuthenticatorConfigs != null) {
+            localConfigs.addAll(Arrays.asList(localAuthenticatorConfigs));
+        }
+        if (requestPathAuthenticatorConfigs != null) {
+            localConfigs.addAll(Arrays.asList(requestPathAuthenticatorConfigs));
+        }
+        for (LocalAuthenticatorConfig config : localConfigs) {
+            authenticatorCatalogue.add(addLocalAuthenticator(config), config.getDisplayName(),
+                    config.getTags() == null ? null : Arrays.asList(config.getTags()));
+        }
+
+        // Identity providers are listed page by page, resolving each federated authenticator only once.
+        List<String> requestedAttributeList = new ArrayList<>();
+        requestedAttributeList.add(Constants.FEDERATED_AUTHENTICATORS);
+        Map<String, String[]> federatedAuthenticatorTags = new HashMap<>();
+        Map<String, FederatedAuthenticatorConfig> federatedAuthConfigs = new HashMap<>();
+        int maximumItemPerPage = IdentityUtil.getMaximumItemPerPage();
+        int idpOffset = 0;
+        while (true) {
+            IdpSearchResult idpSearchResult = idpManager.getIdPs(maximumItemPerPage, idpOffset, null, null, null,
+                    tenantDomain, requestedAttributeList);
+            List<IdentityProvider> identityProviders = idpSearchResult.getIdPs();
+            if (CollectionUtils.isEmpty(identityProviders)) {
+                break;
+            }
+            for (IdentityProvider identityProvider : identityProviders) {
+                List<String> configTagsListDistinct = getDistinctTags(identityProvider, federatedAuthenticatorTags);
+                authenticatorCatalogue.add(buildIdpAuthenticator(identityProvider, configTagsListDistinct,
+                        federatedAuthConfigs), identityProvider.getIdentityProviderName(), configTagsListDistinct);
+            }
+            idpOffset += identityProviders.size();
+            if (idpOffset >= idpSearchResult.getTotalIDPCount()) {
+                break;
+            }
+        }
+        return authenticatorCatalogue;
+    }
+
+    /**
+     * Invalidate the authenticator catalogue of a tenant, so that it is built again when the authenticators are
+     * listed next.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidateAuthenticatorCatalogue(String tenantDomain) {
+
+        authenticatorCatalogues.invalidate(tenantDomain);
+    }
+
+    private static long getCatalogueCacheTimeoutMillis() {
+
+        return TimeUnit.SECONDS.toMillis(Util.getPositiveLongProperty(
+                Constants.AUTHENTICATOR_CATALOGUE_CACHE_TIMEOUT,
+                Constants.DEFAULT_AUTHENTICATOR_CATALOGUE_CACHE_TIMEOUT));
+    }
+
     public ConnectedApps getConnectedAppsOfLocalAuthenticator(String authenticatorId, Integer limit, Integer offset) {
 
         try {
@@ -228,6 +283,7 @@ public class ServerAuthenticatorManagementService {
                     .addUserDefinedLocalAuthenticator(
                             LocalAuthenticatorConfigBuilderFactory.build(config),
                             CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+            invalidateAuthenticatorCatalogue(CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
             return LocalAuthenticatorConfigBuilderFactory.build(createdConfig);
         } catch (AuthenticatorMgtException e) {
             throw handleAuthenticatorException(e);
@@ -244,6 +300,7 @@ public class ServerAuthenticatorManagementService {
         try {
             applicationAuthenticatorService.deleteUserDefinedLocalAuthenticator(base64URLDecode(authenticatorId),
                             CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+            invalidateAuthenticatorCatalogue(CarbonContext.getThreadLocalCarbonContext().getTenantDomain());
         } catch (AuthenticatorMgtException e) {
             throw handleAuthenticatorException(e);
         }
@@ -274,6 +331,7 @@ public class ServerAuthenticatorManagementService {
                     .updateUserDefinedLocalAuthenticator(
                             LocalAuthenticatorConfigBuilderFactory.build(config, existingAuthenticator),
                             tenantDomain);
+            invalidateAuthenticatorCatalogue(tenantDomain);
             return LocalAuthenticatorConfigBuilderFactory.build(updatedConfig);
         } catch (AuthenticatorMgtException e) {
             throw handleAuthenticatorException(e);
@@ -288,11 +346,12 @@ public class ServerAuthenticatorManagementService {
         }
         List<ConnectedApp> connectedAppList = new ArrayList<>();
         if (CollectionUtils.isNotEmpty(connectedAppsResult.getApps())) {
+            ResourceLinkBuilder applicationLinkBuilder = new ResourceLinkBuilder(V1_API_PATH_COMPONENT +
+                    "/applications");
             for (String appId : connectedAppsResult.getApps()) {
                 ConnectedApp listItem = new ConnectedApp();
                 listItem.setAppId(appId);
-                listItem.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                        "/applications/%s", appId)).toString());
+                listItem.setSelf(applicationLinkBuilder.build(appId));
                 connectedAppList.add(listItem);
             }
             connectedAppsResponse.setConnectedApps(connectedAppList);
@@ -359,108 +418,16 @@ public class ServerAuthenticatorManagementService {
         return calculateOffsetForPreviousLink(newOffset, limit, total);
     }
 
-    private List<Authenticator> buildAuthenticatorsListResponse(String filter, List<String> requestedAttributeList,
-                                                                String localAuthNames,
-                                                                String authenticatorNameFilterOperator,
-                                                                ArrayList<String> filterTagsList,
-                                                                LocalAuthenticatorConfig[] localAuthenticatorConfigs,
-                                                                RequestPathAuthenticatorConfig[]
-                                                                        requestPathAuthenticatorConfigs,
-                                                                List<IdentityProvider> identityProviders) {
-
-        int maximumItemsPerPage = IdentityUtil.getMaximumItemPerPage();
-
-        List<Authenticator> authenticators = new ArrayList<>();
-        if (localAuthenticatorConfigs != null) {
-            for (LocalAuthenticatorConfig config : localAuthenticatorConfigs) {
-                addLocalAuthenticator(config, authenticators, localAuthNames, authenticatorNameFilterOperator,
-                        filterTagsList, maximumItemsPerPage);
-            }
-        }
-
-        if ((authenticators.size() < maximumItemsPerPage) && requestPathAuthenticatorConfigs != null) {
-            for (RequestPathAuthenticatorConfig config : requestPathAuthenticatorConfigs) {
-                addLocalAuthenticator(config, authenticators, localAuthNames, authenticatorNameFilterOperator,
-                        filterTagsList, maximumItemsPerPage);
-            }
-        }
-
-        if (StringUtils.isBlank(filter)) {
-            if ((authenticators.size() < maximumItemsPerPage) && identityProviders != null) {
-                for (IdentityProvider identityProvider : identityProviders) {
-                    if (authenticators.size() < maximumItemsPerPage) {
-                        List<String> configTagsListDistinct = getDistinctTags(identityProvider);
-                        addIdp(identityProvider, authenticators, configTagsListDistinct);
-                    }
-                }
-            }
-        } else {
-            List<ExpressionNode> expressionNodesForIdp = getExpressionNodesForIdp(filter);
-            int idPCountToBeRetrieved = maximumItemsPerPage - authenticators.size();
-            IdpSearchResult idpSearchResult;
-            try {
-                idpSearchResult = idpManager.getIdPs(idPCountToBeRetrieved, null, null, null,
-                                ContextLoader.getTenantDomainFromContext(), requestedAttributeList,
-                                expressionNodesForIdp);
-                identityProviders = idpSearchResult.getIdPs();
-                if (identityProviders != null) {
-                    addIdPsToAuthenticatorList(maximumItemsPerPage, identityProviders, authenticators,
-                            filterTagsList);
-                    int limit = idpSearchResult.getLimit();
-                    int offSet = idpSearchResult.getOffSet();
-                    int totalIdpCount = idpSearchResult.getTotalIDPCount();
-                    while (authenticators.size() < maximumItemsPerPage && limit > 0 && offSet >= 0 &&
-                            totalIdpCount > (limit + offSet)) {
-                        identityProviders = new ArrayList<>();
-                        getFilteredIdPs(limit, offSet, requestedAttributeList, identityProviders,
-                                expressionNodesForIdp);
-                        addIdPsToAuthenticatorList(maximumItemsPerPage, identityProviders, authenticators,
-                                filterTagsList);
-                        offSet = offSet + limit;
-                    }
-                }
-            } catch (IdentityProviderManagementException e) {
-                throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
-            }
-        }
-        return authenticators;
-    }
-
-    private void addIdPsToAuthenticatorList(int maximumItemsPerPage, List<IdentityProvider> identityProviders,
-                                            List<Authenticator> authenticators, ArrayList<String> filterTagsList) {
-
-        for (IdentityProvider identityProvider : identityProviders) {
-            if (authenticators.size() < maximumItemsPerPage) {
-                List<String> configTagsListDistinct = getDistinctTags(identityProvider);
-                if (CollectionUtils.isNotEmpty(filterTagsList) &&
-                        CollectionUtils.isNotEmpty(configTagsListDistinct)) {
-                    boolean tagFound = false;
-                    for (String filterTag : filterTagsList) {
-                        if (tagFound) {
-                            break;
-                        }
-                        for (String configTag : configTagsListDistinct) {
-                            if (StringUtils.equalsIgnoreCase(configTag, filterTag)) {
-                                addIdp(identityProvider, authenticators, configTagsListDistinct);
-                                tagFound = true;
-                                break;
-                            }
-                        }
-                    }
-                } else if (CollectionUtils.isEmpty(filterTagsList)) {
-                    addIdp(identityProvider, authenticators, configTagsListDistinct);
-                }
-            }
-        }
-    }
-
     /**
      * Retrieves a distinct list of tags defined for the federated authenticators of an identity provider.
      *
-     * @param identityProvider The identity provider.
+     * @param identityProvider          The identity provider.
+     * @param federatedAuthenticatorTags Tags of the federated authenticators already resolved, keyed by the
+     *                                   authenticator name.
      * @return A distinct list of tags defined for the federated authenticators of an identity provider.
      */
-    private List<String> getDistinctTags(IdentityProvider identityProvider) {
+    private List<String> getDistinctTags(IdentityProvider identityProvider,
+                                         Map<String, String[]> federatedAuthenticatorTags) {
 
         ArrayList<String> tagsList = new ArrayList<>();
 
@@ -469,13 +436,13 @@ public class ServerAuthenticatorManagementService {
         if (fedAuthConfigs != null) {
             for (FederatedAuthenticatorConfig config : fedAuthConfigs) {
                 if (config.isEnabled()) {
-                    FederatedAuthenticatorConfig federatedAuthenticatorConfig = applicationAuthenticatorService
-                            .getFederatedAuthenticatorByName(config.getName());
-                    if (federatedAuthenticatorConfig != null) {
-                        String[] tags = federatedAuthenticatorConfig.getTags();
-                        if (ArrayUtils.isNotEmpty(tags)) {
-                            tagsList.addAll(Arrays.asList(tags));
-                        }
+                    String[] tags = federatedAuthenticatorTags.computeIfAbsent(config.getName(), name -> {
+                        FederatedAuthenticatorConfig federatedAuthenticatorConfig = applicationAuthenticatorService
+                                .getFederatedAuthenticatorByName(name);
+                        return federatedAuthenticatorConfig != null ? federatedAuthenticatorConfig.getTags() : null;
+                    });
+                    if (ArrayUtils.isNotEmpty(tags)) {
+                        tagsList.addAll(Arrays.asList(tags));
                     }
                 }
             }
@@ -485,14 +452,15 @@ public class ServerAuthenticatorManagementService {
     }
 
     /**
-     * Adds the identity provider to the list of authenticators.
+     * Builds the authenticator of the identity provider, without its link.
      *
      * @param identityProvider       The identity provider.
-     * @param authenticators         The list of authenticators.
      * @param configTagsListDistinct The distinct list of tags available for the identity provider.
+     * @param federatedAuthConfigs   Federated authenticator configurations already resolved, keyed by the name.
+     * @return The authenticator of the identity provider.
      */
-    private void addIdp(IdentityProvider identityProvider, List<Authenticator> authenticators,
-                        List<String> configTagsListDistinct) {
+    private Authenticator buildIdpAuthenticator(IdentityProvider identityProvider, List<String> configTagsListDistinct,
+                                                Map<String, FederatedAuthenticatorConfig> federatedAuthConfigs) {
 
         Authenticator authenticator = new Authenticator();
         authenticator.setId(identityProvider.getResourceId());
@@ -513,7 +481,9 @@ public class ServerAuthenticatorManagementService {
          authenticator and should always be classified as a SYSTEM type. Otherwise, it can be classified as either
          SYSTEM or USER, depending on the 'definedBy' type of the federated authenticator. */
         if (identityProvider.getFederatedAuthenticatorConfigs().length == 1) {
-            FederatedAuthenticatorConfig federatedAuthConfig = resolveFederatedAuthenticatorConfig(identityProvider);
+            FederatedAuthenticatorConfig federatedAuthConfig = federatedAuthConfigs.computeIfAbsent(
+                    identityProvider.getFederatedAuthenticatorConfigs()[0].getName(),
+                    name -> resolveFederatedAuthenticatorConfig(identityProvider));
             authenticator.definedBy(Authenticator.DefinedByEnum.valueOf(
                     String.valueOf(federatedAuthConfig.getDefinedByType())));
             if (federatedAuthConfig.getTags() != null) {
@@ -526,9 +496,7 @@ public class ServerAuthenticatorManagementService {
         if (CollectionUtils.isNotEmpty(configTagsListDistinct)) {
             authenticator.setTags(configTagsListDistinct);
         }
-        authenticators.add(authenticator);
-        authenticator.setSelf(ContextLoader.buildURIForBody(
-                String.format("/v1/identity-providers/%s", identityProvider.getResourceId())).toString());
+        return authenticator;
     }
 
     private FederatedAuthenticatorConfig resolveFederatedAuthenticatorConfig(IdentityProvider identityProvider) {
@@ -545,80 +513,6 @@ public class ServerAuthenticatorManagementService {
         }
     }
 
-    /**
-     * Adds the local authenticator to the list of authenticators.
-     *
-     * @param config                          The local authenticator configuration.
-     * @param authenticators                  The list of authenticators.
-     * @param filterAuthenticatorName         The authenticator name passed in the filter string.
-     * @param authenticatorNameFilterOperator The filter operator passed for the authenticator name in the filter
-     *                                        string.
-     * @param tagsList                        The list of tags available for the local authenticator.
-     * @param maximumItemsPerPage             The defined maximum items per page limit.
-     */
-    private void addLocalAuthenticator(LocalAuthenticatorConfig config, List<Authenticator> authenticators,
-                                       String filterAuthenticatorName, String authenticatorNameFilterOperator,
-                                       ArrayList<String> tagsList, int maximumItemsPerPage) {
-
-        if (authenticators.size() < maximumItemsPerPage) {
-
-            // For local authenticators and request path authenticators, the 'displayName' is considered as the
-            // 'name' attribute during filtering.
-            if (StringUtils.isNotBlank(filterAuthenticatorName) && CollectionUtils.isNotEmpty(tagsList) &&
-                    ((StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.SW) &&
-                            StringUtils.startsWithIgnoreCase(config.getDisplayName(), filterAuthenticatorName)) ||
-                            (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator,
-                                    Constants.FilterOperations.EQ) &&
-                                    StringUtils.equalsIgnoreCase(config.getDisplayName(), filterAuthenticatorName)))) {
-                filterTags(config, authenticators, tagsList);
-            } else if (StringUtils.isNotBlank(filterAuthenticatorName)) {
-                if (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.SW) &&
-                        StringUtils.startsWithIgnoreCase(config.getDisplayName(), filterAuthenticatorName)) {
-                    Authenticator authenticator = addLocalAuthenticator(config);
-                    authenticators.add(authenticator);
-                } else if (StringUtils.equalsIgnoreCase(authenticatorNameFilterOperator, Constants.FilterOperations.EQ)
-                        && StringUtils.equalsIgnoreCase(config.getDisplayName(), filterAuthenticatorName)) {
-                    Authenticator authenticator = addLocalAuthenticator(config);
-                    authenticators.add(authenticator);
-                }
-            } else if (CollectionUtils.isNotEmpty(tagsList)) {
-                filterTags(config, authenticators, tagsList);
-            } else {
-                Authenticator authenticator = addLocalAuthenticator(config);
-                authenticators.add(authenticator);
-            }
-        }
-    }
-
-    /**
-     * Adds local authenticator to the list of authenticators if it satisfies the given filter.
-     *
-     * @param config         The local authenticator configuration.
-     * @param authenticators The list of authenticators.
-     * @param filterTagsList The list of tags passed in the filter string.
-     */
-    private void filterTags(LocalAuthenticatorConfig config, List<Authenticator> authenticators,
-                            ArrayList<String> filterTagsList) {
-
-        boolean tagFound = false;
-        for (String filterTag : filterTagsList) {
-            if (tagFound) {
-                break;
-            }
-            String[] authenticatorConfigTags = config.getTags();
-            if (ArrayUtils.isNotEmpty(authenticatorConfigTags)) {
-                for (String tag : authenticatorConfigTags) {
-                    if (StringUtils.equalsIgnoreCase(tag, filterTag)) {
-                        Authenticator authenticator = addLocalAuthenticator(config);
-                        authenticators.add(authenticator);
-                        tagFound = true;
-                        break;
-                    }
-                }
-            }
-        }
-    }
-
     private Authenticator addLocalAuthenticator(LocalAuthenticatorConfig config) {
 
         Authenticator authenticator = new Authenticator();
@@ -640,8 +534,6 @@ public class ServerAuthenticatorManagementService {
         if (ArrayUtils.isNotEmpty(tags)) {
             authenticator.setTags(Arrays.asList(tags));
         }
-        authenticator.setSelf(ContextLoader.buildURIForBody
-                (String.format("/v1/configs/authenticators/%s", authenticatorId)).toString());
         return authenticator;
     }
 
@@ -848,57 +740,6 @@ public class ServerAuthenticatorManagementService {
         }
     }
 
-    private List<ExpressionNode> getExpressionNodesForIdp(String filter) {
-
-        // Filter example : name sw go and (tag eq 2fa or tag eq Social-Login)
-        List<ExpressionNode> expressionNodes = new ArrayList<>();
-        FilterTreeBuilder filterTreeBuilder;
-        try {
-            if (StringUtils.isNotBlank(filter)) {
-                filterTreeBuilder = new FilterTreeBuilder(filter);
-                Node rootNode = filterTreeBuilder.buildTree();
-                setExpressionNodeListForIdp(rootNode, expressionNodes);
-            }
-        } catch (IOException | IdentityException e) {
-            throw buildClientError(Constants.ErrorMessage.ERROR_CODE_INVALID_FILTER_FORMAT, null);
-
-        }
-        return expressionNodes;
-    }
-
-    /**
-     * Sets the expression nodes required for the retrieval of identity providers from the database.
-     *
-     * @param node       The node
-     * @param expression The list of expression nodes.
-     */
-    private void setExpressionNodeListForIdp(Node node, List<ExpressionNode> expression) {
-
-        if (node instanceof ExpressionNode) {
-            if (StringUtils.isNotBlank(((ExpressionNode) node).getAttributeValue())) {
-                if (StringUtils.equalsIgnoreCase(((ExpressionNode) node).getAttributeValue(),
-                        Constants.FilterAttributes.NAME)) {
-                    expression.add((ExpressionNode) node);
-                }
-            }
-        } else if (node instanceof OperationNode) {
-            setExpressionNodeListForIdp(node.getLeftNode(), expression);
-            setExpressionNodeListForIdp(node.getRightNode(), expression);
-        }
-    }
-
-    private void getFilteredIdPs(int limit, int offSet, List<String> requestedAttributeList,
-                                 List<IdentityProvider> identityProviders, List<ExpressionNode> expressionNodes) {
-
-        try {
-            IdpSearchResult idpSearchResult = idpManager.getIdPs(limit, (offSet + limit), null, null,
-                            ContextLoader.getTenantDomainFromContext(), requestedAttributeList, expressionNodes);
-            identityProviders.addAll(idpSearchResult.getIdPs());
-        } catch (IdentityProviderManagementException e) {
-            throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
-        }
-    }
-
     /**
      * The authenticator name and the filter operation for authenticator name passed in the filter string.
      *
@@ -1140,17 +981,4 @@ public class ServerAuthenticatorManagementService {
         Response.Status status = Response.Status.BAD_REQUEST;
         return new APIError(status, errorResponse);
     }
-
-    private void handleNotImplementedCapabilities(Integer limit, Integer offset) {
-
-        Constants.ErrorMessage errorEnum = null;
-        if (limit != null || offset != null) {
-            errorEnum = Constants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        }
-        if (errorEnum != null) {
-            ErrorResponse errorResponse = getErrorBuilder(errorEnum, null).build(log, errorEnum.getDescription());
-            Response.Status status = Response.Status.NOT_IMPLEMENTED;
-            throw new APIError(status, errorResponse);
-        }
-    }
 }
@@ -19,10 +19,13 @@
 package org.wso2.carbon.identity.api.server.authenticators.v1.factories;
 
 import org.wso2.carbon.identity.api.server.authenticators.common.AuthenticatorsServiceHolder;
+import org.wso2.carbon.identity.api.server.authenticators.v1.core.AuthenticatorCatalogueIdpMgtListener;
 import org.wso2.carbon.identity.api.server.authenticators.v1.core.ServerAuthenticatorManagementService;
+import org.wso2.carbon.identity.api.server.common.OSGiServiceRegistrar;
 import org.wso2.carbon.identity.application.common.ApplicationAuthenticatorService;
 import org.wso2.carbon.identity.application.mgt.ApplicationManagementService;
 import org.wso2.carbon.idp.mgt.IdpManager;
+import org.wso2.carbon.idp.mgt.listener.IdentityProviderMgtListener;
 
 /**
  * Factory class for ServerAuthenticatorManagementService.
@@ -48,6 +51,10 @@ public class ServerAuthenticatorManagementServiceFactory {
 
         SERVICE = new ServerAuthenticatorManagementService(applicationManagementService, idpManager,
                 applicationAuthenticatorService);
+        // Identity providers are also changed through the other APIs of the server, which are notified to the
+        // catalogue by the listener.
+        OSGiServiceRegistrar.register(IdentityProviderMgtListener.class,
+                new AuthenticatorCatalogueIdpMgtListener(SERVICE::invalidateAuthenticatorCatalogue));
     }
 
     /**
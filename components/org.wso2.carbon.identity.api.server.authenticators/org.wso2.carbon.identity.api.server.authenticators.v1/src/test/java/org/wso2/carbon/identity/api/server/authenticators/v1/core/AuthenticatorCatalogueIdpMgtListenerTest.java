@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.authenticators.v1.core;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.TenantTtlCache;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for AuthenticatorCatalogueIdpMgtListener.
+ */
+public class AuthenticatorCatalogueIdpMgtListenerTest {
+
+    private static final String TENANT_DOMAIN = "wso2.com";
+    private static final String OTHER_TENANT_DOMAIN = "carbon.super";
+    private static final String CATALOGUE = "catalogue";
+
+    private TenantTtlCache<String> catalogues;
+    private AuthenticatorCatalogueIdpMgtListener listener;
+
+    @BeforeMethod
+    public void setUp() {
+
+        catalogues = new TenantTtlCache<>(60000L, 10);
+        catalogues.put(TENANT_DOMAIN, CATALOGUE);
+        catalogues.put(OTHER_TENANT_DOMAIN, CATALOGUE);
+        listener = new AuthenticatorCatalogueIdpMgtListener(catalogues::invalidate);
+    }
+
+    @DataProvider(name = "identityProviderChanges")
+    public Object[][] identityProviderChanges() {
+
+        IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setIdentityProviderName("Google");
+        identityProvider.setResourceId("b9a3c3f4-6e1c-4b4d-9d4a-3f4f1d2a7c10");
+        return new Object[][]{
+                {"add", (IdentityProviderChange) tenantDomain ->
+                        listener.doPostAddIdP(identityProvider, tenantDomain)},
+                {"update", (IdentityProviderChange) tenantDomain ->
+                        listener.doPostUpdateIdP("Google", identityProvider, tenantDomain)},
+                {"update by resource id", (IdentityProviderChange) tenantDomain ->
+                        listener.doPostUpdateIdPByResourceId(identityProvider.getResourceId(), identityProvider,
+                                identityProvider, tenantDomain)},
+                {"delete", (IdentityProviderChange) tenantDomain ->
+                        listener.doPostDeleteIdP("Google", tenantDomain)},
+                {"delete by resource id", (IdentityProviderChange) tenantDomain ->
+                        listener.doPostDeleteIdPByResourceId(identityProvider.getResourceId(), identityProvider,
+                                tenantDomain)},
+                {"delete all", (IdentityProviderChange) tenantDomain -> listener.doPostDeleteIdPs(tenantDomain)}
+        };
+    }
+
+    @Test(dataProvider = "identityProviderChanges")
+    public void testCatalogueInvalidatedOnIdentityProviderChange(String change,
+                                                                 IdentityProviderChange identityProviderChange)
+            throws IdentityProviderManagementException {
+
+        assertTrue(identityProviderChange.apply(TENANT_DOMAIN), "Listener failed on " + change + ".");
+        assertNull(catalogues.getIfPresent(TENANT_DOMAIN), "Catalogue is not invalidated on " + change + ".");
+        assertEquals(catalogues.getIfPresent(OTHER_TENANT_DOMAIN), CATALOGUE,
+                "Catalogue of another tenant is invalidated on " + change + ".");
+    }
+
+    @Test
+    public void testCatalogueLoadedAfterInvalidation() throws IdentityProviderManagementException {
+
+        listener.doPostAddIdP(new IdentityProvider(), TENANT_DOMAIN);
+
+        assertEquals(catalogues.get(TENANT_DOMAIN, () -> "reloaded catalogue"), "reloaded catalogue");
+    }
+
+    /**
+     * Change of an identity provider of a tenant, notified to the listener.
+     */
+    private interface IdentityProviderChange {
+
+        boolean apply(String tenantDomain) throws IdentityProviderManagementException;
+    }
+}
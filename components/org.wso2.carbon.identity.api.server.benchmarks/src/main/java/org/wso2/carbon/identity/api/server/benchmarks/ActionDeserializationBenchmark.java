@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.action.management.api.model.Action;
+import org.wso2.carbon.identity.api.server.action.management.v1.ActionModel;
+import org.wso2.carbon.identity.api.server.action.management.v1.util.ActionDeserializer;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validation;
+
+/**
+ * Compares deserializing and validating an action creation payload with a new object mapper and validator factory
+ * per request, as ActionDeserializer did before, with its shared object readers and validator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ActionDeserializationBenchmark {
+
+    private static final String ACTION_PAYLOAD = "{\"name\":\"Access Token Pre Issue\","
+            + "\"description\":\"Adds custom claims to the access token.\","
+            + "\"endpoint\":{\"uri\":\"https://actions.example.com/pre-issue-access-token\","
+            + "\"authentication\":{\"type\":\"BASIC\",\"properties\":{\"username\":\"admin\","
+            + "\"password\":\"admin\"}}}}";
+
+    @Setup
+    public void setUp() {
+
+        ActionDeserializer.prewarm();
+    }
+
+    @Benchmark
+    public ActionModel perRequestMapperAndValidator() throws Exception {
+
+        ActionModel actionModel = new ObjectMapper().readValue(ACTION_PAYLOAD, ActionModel.class);
+        Set<ConstraintViolation<ActionModel>> violations =
+                Validation.buildDefaultValidatorFactory().getValidator().validate(actionModel);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return actionModel;
+    }
+
+    @Benchmark
+    public ActionModel sharedReaderAndValidator() {
+
+        return ActionDeserializer.deserializeActionModel(Action.ActionTypes.PRE_ISSUE_ACCESS_TOKEN, ACTION_PAYLOAD);
+    }
+}
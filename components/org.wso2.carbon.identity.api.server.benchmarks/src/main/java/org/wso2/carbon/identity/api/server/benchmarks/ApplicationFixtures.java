@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.InboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.InboundAuthenticationRequestConfig;
+import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
+
+/**
+ * Builds the application models used by the benchmarks. The sizes are close to those of an application with a
+ * couple of inbound protocols and a typical set of requested claims.
+ */
+public final class ApplicationFixtures {
+
+    private static final String[] INBOUND_AUTH_TYPES = {"oauth2", "samlsso", "passivests"};
+    private static final int INBOUND_PROPERTY_COUNT = 10;
+    private static final int CLAIM_MAPPING_COUNT = 20;
+    private static final int SP_PROPERTY_COUNT = 10;
+
+    private ApplicationFixtures() {
+
+    }
+
+    /**
+     * Build a service provider with inbound authentication configs, claim mappings and service provider properties.
+     *
+     * @param applicationId Numeric id of the application.
+     * @return Service provider.
+     */
+    public static ServiceProvider serviceProvider(int applicationId) {
+
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationID(applicationId);
+        serviceProvider.setApplicationResourceId("application-" + applicationId);
+        serviceProvider.setApplicationName("Application " + applicationId);
+        serviceProvider.setDescription("Benchmark application " + applicationId);
+
+        InboundAuthenticationRequestConfig[] requestConfigs =
+                new InboundAuthenticationRequestConfig[INBOUND_AUTH_TYPES.length];
+        for (int i = 0; i < INBOUND_AUTH_TYPES.length; i++) {
+            InboundAuthenticationRequestConfig requestConfig = new InboundAuthenticationRequestConfig();
+            requestConfig.setInboundAuthType(INBOUND_AUTH_TYPES[i]);
+            requestConfig.setInboundAuthKey(INBOUND_AUTH_TYPES[i] + "-key-" + applicationId);
+            requestConfig.setProperties(properties(INBOUND_AUTH_TYPES[i], INBOUND_PROPERTY_COUNT));
+            requestConfigs[i] = requestConfig;
+        }
+        InboundAuthenticationConfig inboundAuthenticationConfig = new InboundAuthenticationConfig();
+        inboundAuthenticationConfig.setInboundAuthenticationRequestConfigs(requestConfigs);
+        serviceProvider.setInboundAuthenticationConfig(inboundAuthenticationConfig);
+
+        LocalAndOutboundAuthenticationConfig authenticationConfig = new LocalAndOutboundAuthenticationConfig();
+        authenticationConfig.setAuthenticationType("default");
+        authenticationConfig.setUseTenantDomainInLocalSubjectIdentifier(true);
+        serviceProvider.setLocalAndOutBoundAuthenticationConfig(authenticationConfig);
+
+        ClaimMapping[] claimMappings = new ClaimMapping[CLAIM_MAPPING_COUNT];
+        for (int i = 0; i < CLAIM_MAPPING_COUNT; i++) {
+            claimMappings[i] = ClaimMapping.build("http://wso2.org/claims/claim" + i,
+                    "http://wso2.org/claims/claim" + i, null, i % 2 == 0);
+        }
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setLocalClaimDialect(true);
+        claimConfig.setClaimMappings(claimMappings);
+        serviceProvider.setClaimConfig(claimConfig);
+
+        ServiceProviderProperty[] spProperties = new ServiceProviderProperty[SP_PROPERTY_COUNT];
+        for (int i = 0; i < SP_PROPERTY_COUNT; i++) {
+            ServiceProviderProperty spProperty = new ServiceProviderProperty();
+            spProperty.setName("spProperty" + i);
+            spProperty.setDisplayName("SP property " + i);
+            spProperty.setValue("value" + i);
+            spProperties[i] = spProperty;
+        }
+        serviceProvider.setSpProperties(spProperties);
+        return serviceProvider;
+    }
+
+    /**
+     * Build the given number of name and value properties.
+     *
+     * @param prefix Prefix of the property names.
+     * @param count  Number of properties.
+     * @return Properties.
+     */
+    public static Property[] properties(String prefix, int count) {
+
+        Property[] properties = new Property[count];
+        for (int i = 0; i < count; i++) {
+            Property property = new Property();
+            property.setName(prefix + ".property" + i);
+            property.setValue("value" + i);
+            properties[i] = property;
+        }
+        return properties;
+    }
+}
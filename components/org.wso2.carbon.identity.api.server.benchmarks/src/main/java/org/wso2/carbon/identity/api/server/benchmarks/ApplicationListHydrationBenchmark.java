@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.common.ContextAwareExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares hydrating an application list page one row at a time with the bounded parallel stage of
+ * ServerApplicationManagementService. The backend lookup of the required attributes is replaced by a stand-in
+ * which waits for the given latency, and the executor is sized like the one of the service.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ApplicationListHydrationBenchmark {
+
+    private static final int POOL_SIZE = 10;
+    private static final int QUEUE_SIZE = 500;
+    private static final long TIMEOUT_MILLIS = 60000L;
+
+    @Param({"10", "30"})
+    private int pageSize;
+
+    @Param({"2"})
+    private long lookupLatencyMillis;
+
+    private ContextAwareExecutor executor;
+    private List<String> applicationIds;
+
+    @Setup
+    public void setUp() {
+
+        BenchmarkSupport.initCarbonContext();
+        executor = new ContextAwareExecutor("ApplicationListHydrationBenchmark", POOL_SIZE, QUEUE_SIZE);
+        applicationIds = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            applicationIds.add("application-" + i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        executor.shutdown(TIMEOUT_MILLIS);
+    }
+
+    @Benchmark
+    public List<String> sequentialLookups() {
+
+        List<String> applications = new ArrayList<>(applicationIds.size());
+        for (String applicationId : applicationIds) {
+            applications.add(lookup(applicationId));
+        }
+        return applications;
+    }
+
+    @Benchmark
+    public List<String> boundedParallelStage() throws Exception {
+
+        return hydrate();
+    }
+
+    /**
+     * Concurrent listings share the workers of the pool.
+     */
+    @Benchmark
+    @Threads(4)
+    public List<String> boundedParallelStageUnderConcurrentListings() throws Exception {
+
+        return hydrate();
+    }
+
+    private List<String> hydrate() throws Exception {
+
+        List<Callable<String>> lookups = new ArrayList<>(applicationIds.size());
+        for (String applicationId : applicationIds) {
+            lookups.add(() -> lookup(applicationId));
+        }
+        return executor.invokeAll(lookups, TIMEOUT_MILLIS);
+    }
+
+    private String lookup(String applicationId) {
+
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(lookupLatencyMillis));
+        return applicationId;
+    }
+}
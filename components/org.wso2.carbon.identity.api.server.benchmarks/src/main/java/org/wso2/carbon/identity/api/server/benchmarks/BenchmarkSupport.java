@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Sets up the parts of the carbon runtime which the benchmarked API code touches.
+ */
+public final class BenchmarkSupport {
+
+    private static final String CARBON_CONFIG_DIR = "repository/conf";
+    private static final String[] CARBON_CONFIG_FILES = {"carbon.xml", "identity/identity.xml"};
+
+    private static volatile boolean carbonHomeInitialized;
+
+    private BenchmarkSupport() {
+
+    }
+
+    /**
+     * Points the carbon home to a temporary directory holding the carbon.xml and identity.xml of the benchmarks and
+     * sets the super tenant in the carbon context of the calling thread.
+     */
+    public static void initCarbonContext() {
+
+        initCarbonHome();
+        PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                .setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    private static synchronized void initCarbonHome() {
+
+        if (carbonHomeInitialized) {
+            return;
+        }
+        try {
+            Path carbonHome = Files.createTempDirectory("carbon-home");
+            Path configDir = carbonHome.resolve(CARBON_CONFIG_DIR);
+            for (String configFile : CARBON_CONFIG_FILES) {
+                copyResource(CARBON_CONFIG_DIR + "/" + configFile, configDir.resolve(configFile));
+            }
+            System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome.toString());
+            System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, configDir.toString());
+            carbonHomeInitialized = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while creating the carbon home of the benchmarks.", e);
+        }
+    }
+
+    private static void copyResource(String resource, Path target) throws IOException {
+
+        Files.createDirectories(target.getParent());
+        try (InputStream inputStream = BenchmarkSupport.class.getClassLoader().getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("The benchmark resource: " + resource + " is missing.");
+            }
+            Files.copy(inputStream, target);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.core.ServerIdentityGovernanceService;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.ConnectorReq;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.MultipleConnectorsPatchReq;
+import org.wso2.carbon.identity.api.server.identity.governance.v1.model.PropertyReq;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.governance.IdentityGovernanceService;
+import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
+import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Patches several governance connectors of one category in a single request. The validation of the request used to
+ * fetch the connectors of the category and then each requested connector on its own before the single write; it
+ * now validates against one fetch of the category. Every call to the stand-in governance service waits for the
+ * configured latency, which stands for the registry read behind it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class GovernanceBatchPatchBenchmark {
+
+    private static final String CATEGORY = "Account Management";
+    private static final int CONNECTOR_PROPERTY_COUNT = 10;
+    private static final int PATCHED_PROPERTY_COUNT = 3;
+
+    @Param({"2", "8"})
+    private int connectorCount;
+
+    @Param({"200"})
+    private int lookupLatencyMicros;
+
+    private IdentityGovernanceService identityGovernanceService;
+    private ServerIdentityGovernanceService governanceService;
+    private String categoryId;
+    private MultipleConnectorsPatchReq patchRequest;
+
+    @Setup
+    public void setUp() {
+
+        BenchmarkSupport.initCarbonContext();
+        List<ConnectorConfig> connectors = new ArrayList<>();
+        Map<String, ConnectorConfig> connectorsByName = new HashMap<>();
+        List<ConnectorReq> connectorRequests = new ArrayList<>();
+        for (int i = 0; i < connectorCount; i++) {
+            ConnectorConfig connector = connector("connector" + i);
+            connectors.add(connector);
+            connectorsByName.put(connector.getName(), connector);
+
+            ConnectorReq connectorRequest = new ConnectorReq().id(encode(connector.getName()));
+            for (int j = 0; j < PATCHED_PROPERTY_COUNT; j++) {
+                connectorRequest.addPropertiesItem(new PropertyReq().name(connector.getName() + ".property" + j)
+                        .value("updated"));
+            }
+            connectorRequests.add(connectorRequest);
+        }
+        identityGovernanceService = (IdentityGovernanceService) Proxy.newProxyInstance(
+                IdentityGovernanceService.class.getClassLoader(), new Class<?>[]{IdentityGovernanceService.class},
+                (proxy, method, args) -> {
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(lookupLatencyMicros));
+                    switch (method.getName()) {
+                        case "getConnectorListWithConfigsByCategory":
+                            return connectors;
+                        case "getConnectorWithConfigs":
+                            return connectorsByName.get((String) args[1]);
+                        case "updateConfiguration":
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        governanceService = new ServerIdentityGovernanceService(identityGovernanceService);
+        categoryId = encode(CATEGORY);
+        patchRequest = new MultipleConnectorsPatchReq()
+                .operation(MultipleConnectorsPatchReq.OperationEnum.UPDATE)
+                .connectors(connectorRequests);
+    }
+
+    /**
+     * Validation as it was before the category lookup was shared: the category, then each connector, then the write.
+     *
+     * @return Configuration written.
+     * @throws Exception If the stand-in service fails.
+     */
+    @Benchmark
+    public Map<String, String> lookupPerConnector() throws Exception {
+
+        governanceService.getGovernanceConnectorCategory(categoryId);
+        Map<String, String> configurationDetails = new HashMap<>();
+        for (ConnectorReq connectorRequest : patchRequest.getConnectors()) {
+            governanceService.getGovernanceConnector(categoryId, connectorRequest.getId());
+            for (PropertyReq property : connectorRequest.getProperties()) {
+                configurationDetails.put(property.getName(), property.getValue());
+            }
+        }
+        identityGovernanceService.updateConfiguration(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME,
+                configurationDetails);
+        return configurationDetails;
+    }
+
+    @Benchmark
+    public void singleCategoryLookup() {
+
+        governanceService.updateGovernanceConnectorProperties(categoryId, patchRequest);
+    }
+
+    private static ConnectorConfig connector(String name) {
+
+        Property[] properties = new Property[CONNECTOR_PROPERTY_COUNT];
+        for (int i = 0; i < CONNECTOR_PROPERTY_COUNT; i++) {
+            Property property = new Property();
+            property.setName(name + ".property" + i);
+            property.setValue("value" + i);
+            property.setDisplayName("Property " + i);
+            properties[i] = property;
+        }
+        ConnectorConfig connector = new ConnectorConfig();
+        connector.setName(name);
+        connector.setFriendlyName(name);
+        connector.setCategory(CATEGORY);
+        connector.setProperties(properties);
+        return connector;
+    }
+
+    private static String encode(String value) {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.common.IdentityProviderCopier;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Gson round trip which cloned an identity provider before an update or an export with the branch
+ * copies of IdentityProviderCopier used by the same flows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IdentityProviderCopyBenchmark {
+
+    private IdentityProvider identityProvider;
+
+    @Setup
+    public void setUp() {
+
+        identityProvider = IdentityProviderFixtures.identityProvider("EnterpriseIdP");
+    }
+
+    @Benchmark
+    public IdentityProvider gsonRoundTrip() {
+
+        Gson gson = new Gson();
+        return gson.fromJson(gson.toJson(identityProvider), IdentityProvider.class);
+    }
+
+    /**
+     * Copy made by the identity provider patch flow.
+     */
+    @Benchmark
+    public IdentityProvider copyForUpdate() {
+
+        return IdentityProviderCopier.copyForUpdate(identityProvider, IdentityProviderCopier.Branch.IDP_PROPERTIES);
+    }
+
+    /**
+     * Copy made by the identity provider export flow, which masks secrets in place.
+     */
+    @Benchmark
+    public IdentityProvider copyForExport() {
+
+        return IdentityProviderCopier.copy(identityProvider, IdentityProviderCopier.Branch.FEDERATED_AUTHENTICATORS,
+                IdentityProviderCopier.Branch.PROVISIONING_CONNECTORS, IdentityProviderCopier.Branch.IDP_PROPERTIES);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorConfig;
+
+/**
+ * Builds the identity provider models used by the benchmarks. The identity provider has a few federated
+ * authenticators and provisioning connectors, as a typical enterprise connection does.
+ */
+public final class IdentityProviderFixtures {
+
+    private static final int AUTHENTICATOR_COUNT = 3;
+    private static final int AUTHENTICATOR_PROPERTY_COUNT = 15;
+    private static final int CONNECTOR_COUNT = 2;
+    private static final int CONNECTOR_PROPERTY_COUNT = 10;
+    private static final int CLAIM_MAPPING_COUNT = 20;
+    private static final int IDP_PROPERTY_COUNT = 20;
+
+    private IdentityProviderFixtures() {
+
+    }
+
+    /**
+     * Build an identity provider with federated authenticators, provisioning connectors, claim mappings and identity
+     * provider properties.
+     *
+     * @param name Name of the identity provider.
+     * @return Identity provider.
+     */
+    public static IdentityProvider identityProvider(String name) {
+
+        IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setResourceId(name + "-id");
+        identityProvider.setIdentityProviderName(name);
+        identityProvider.setEnable(true);
+
+        FederatedAuthenticatorConfig[] authenticatorConfigs = new FederatedAuthenticatorConfig[AUTHENTICATOR_COUNT];
+        for (int i = 0; i < AUTHENTICATOR_COUNT; i++) {
+            FederatedAuthenticatorConfig authenticatorConfig = new FederatedAuthenticatorConfig();
+            authenticatorConfig.setName("Authenticator" + i);
+            authenticatorConfig.setDisplayName("Authenticator " + i);
+            authenticatorConfig.setEnabled(true);
+            authenticatorConfig.setProperties(ApplicationFixtures.properties("authenticator" + i,
+                    AUTHENTICATOR_PROPERTY_COUNT));
+            authenticatorConfigs[i] = authenticatorConfig;
+        }
+        identityProvider.setFederatedAuthenticatorConfigs(authenticatorConfigs);
+        identityProvider.setDefaultAuthenticatorConfig(authenticatorConfigs[0]);
+
+        ProvisioningConnectorConfig[] connectorConfigs = new ProvisioningConnectorConfig[CONNECTOR_COUNT];
+        for (int i = 0; i < CONNECTOR_COUNT; i++) {
+            ProvisioningConnectorConfig connectorConfig = new ProvisioningConnectorConfig();
+            connectorConfig.setName("Connector" + i);
+            connectorConfig.setEnabled(true);
+            connectorConfig.setProvisioningProperties(ApplicationFixtures.properties("connector" + i,
+                    CONNECTOR_PROPERTY_COUNT));
+            connectorConfigs[i] = connectorConfig;
+        }
+        identityProvider.setProvisioningConnectorConfigs(connectorConfigs);
+        identityProvider.setDefaultProvisioningConnectorConfig(connectorConfigs[0]);
+
+        ClaimMapping[] claimMappings = new ClaimMapping[CLAIM_MAPPING_COUNT];
+        for (int i = 0; i < CLAIM_MAPPING_COUNT; i++) {
+            claimMappings[i] = ClaimMapping.build("http://wso2.org/claims/claim" + i, "claim" + i, null, false);
+        }
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setClaimMappings(claimMappings);
+        identityProvider.setClaimConfig(claimConfig);
+
+        IdentityProviderProperty[] idpProperties = new IdentityProviderProperty[IDP_PROPERTY_COUNT];
+        for (int i = 0; i < IDP_PROPERTY_COUNT; i++) {
+            IdentityProviderProperty idpProperty = new IdentityProviderProperty();
+            idpProperty.setName("idpProperty" + i);
+            idpProperty.setDisplayName("IdP property " + i);
+            idpProperty.setValue("value" + i);
+            idpProperties[i] = idpProperty;
+        }
+        identityProvider.setIdpProperties(idpProperties);
+        return identityProvider;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.common.KeysetCursor;
+import org.wso2.carbon.identity.api.server.common.KeysetPage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selects a deep page of records which are not stored in the order of the listing, as the cursor based listings do
+ * for the services which return all the records. An offset page has to select every record up to the end of the
+ * page, so the selection grows with the depth of the page. A keyset page selects only the records of the page after
+ * the cursor, whatever its depth. Both read all the records once, which is the floor of either listing here.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KeysetPaginationBenchmark {
+
+    // Records are pairs of a sort key and an id, ordered by the sort key and then by the id.
+    private static final Comparator<String[]> ORDER = Comparator.<String[], String>comparing(record -> record[0])
+            .thenComparing(record -> record[1]);
+    private static final String LISTING_URL = "https://localhost:9443/api/server/v1/records?limit=";
+    private static final int SORT_KEYS = 1000;
+
+    @Param({"100000"})
+    private int recordCount;
+
+    @Param({"0", "10000", "90000"})
+    private int pageStart;
+
+    @Param({"100"})
+    private int limit;
+
+    private List<String[]> records;
+    private String after;
+
+    @Setup
+    public void setUp() {
+
+        Random random = new Random(42);
+        records = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            records.add(new String[]{String.format("key%04d", random.nextInt(SORT_KEYS)), String.format("%08d", i)});
+        }
+        Collections.shuffle(records, random);
+        if (pageStart > 0) {
+            List<String[]> sortedRecords = new ArrayList<>(records);
+            sortedRecords.sort(ORDER);
+            String[] lastOfPreviousPage = sortedRecords.get(pageStart - 1);
+            after = KeysetCursor.encode(lastOfPreviousPage[0], lastOfPreviousPage[1]);
+        }
+    }
+
+    @Benchmark
+    public List<String[]> offsetPage() {
+
+        List<String[]> selectedRecords = KeysetPage.selectFirst(records, record -> true, ORDER,
+                pageStart + limit + 1);
+        int fromIndex = Math.min(pageStart, selectedRecords.size());
+        return selectedRecords.subList(fromIndex, Math.min(fromIndex + limit, selectedRecords.size()));
+    }
+
+    @Benchmark
+    public List<String> keysetPage() {
+
+        String[] cursor = null;
+        if (after != null) {
+            KeysetCursor keysetCursor = KeysetCursor.decode(after);
+            cursor = new String[]{keysetCursor.getSortKey(), keysetCursor.getId()};
+        }
+        String[] afterRecord = cursor;
+        KeysetPage<String[]> page = KeysetPage.of(KeysetPage.selectFirst(records,
+                record -> afterRecord == null || ORDER.compare(record, afterRecord) > 0, ORDER, limit + 1),
+                limit, after, null);
+        return page.buildLinks(LISTING_URL + limit, record -> KeysetCursor.encode(record[0], record[1]),
+                (href, rel) -> href);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building the self link of every item of a list response through the service URL builder, as the list
+ * APIs did before, with resolving the base path once per response through ResourceLinkBuilder. The service URL
+ * builder runs against the carbon.xml and identity.xml of the benchmark carbon home.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ResourceLinkBenchmark {
+
+    private static final String COLLECTION_ENDPOINT = "/v1/applications";
+
+    @Param({"15", "100"})
+    private int pageSize;
+
+    private List<String> resourceIds;
+
+    @Setup
+    public void setUp() {
+
+        BenchmarkSupport.initCarbonContext();
+        resourceIds = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            resourceIds.add("b7a3c1d2-0000-4000-8000-" + String.format("%012d", i));
+        }
+    }
+
+    @Benchmark
+    public List<String> serviceUrlPerItem() {
+
+        List<String> links = new ArrayList<>(resourceIds.size());
+        for (String resourceId : resourceIds) {
+            links.add(ContextLoader.buildURIForBody(COLLECTION_ENDPOINT + "/" + resourceId).toString());
+        }
+        return links;
+    }
+
+    @Benchmark
+    public List<String> basePathPerResponse() {
+
+        ResourceLinkBuilder linkBuilder = new ResourceLinkBuilder(COLLECTION_ENDPOINT);
+        List<String> links = new ArrayList<>(resourceIds.size());
+        for (String resourceId : resourceIds) {
+            links.add(linkBuilder.build(resourceId));
+        }
+        return links;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.common.SerializerRegistry;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+
+/**
+ * Compares building the JAXB context and the Jackson object mapper for every application import and export, as the
+ * API did before, with the shared serializers of SerializerRegistry. The JAXB benchmarks need a JAXB runtime, which
+ * JDK 8 provides.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SerializerRegistryBenchmark {
+
+    private ServiceProvider serviceProvider;
+    private String xmlContent;
+    private String jsonContent;
+
+    @Setup
+    public void setUp() throws Exception {
+
+        serviceProvider = ApplicationFixtures.serviceProvider(1);
+        xmlContent = SerializerRegistry.marshal(serviceProvider, null, ServiceProvider.class);
+        jsonContent = SerializerRegistry.getObjectWriter().writeValueAsString(serviceProvider);
+    }
+
+    @Benchmark
+    public String xmlExportWithNewContext() throws Exception {
+
+        Marshaller marshaller = JAXBContext.newInstance(ServiceProvider.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        StringWriter writer = new StringWriter();
+        marshaller.marshal(serviceProvider, writer);
+        return writer.toString();
+    }
+
+    @Benchmark
+    public String xmlExportWithRegistry() throws Exception {
+
+        return SerializerRegistry.marshal(serviceProvider, null, ServiceProvider.class);
+    }
+
+    @Benchmark
+    public Object xmlImportWithNewContext() throws Exception {
+
+        return JAXBContext.newInstance(ServiceProvider.class).createUnmarshaller()
+                .unmarshal(new StringReader(xmlContent));
+    }
+
+    @Benchmark
+    public Object xmlImportWithRegistry() throws Exception {
+
+        return SerializerRegistry.unmarshal(new StringReader(xmlContent), ServiceProvider.class);
+    }
+
+    @Benchmark
+    public String jsonExportWithNewMapper() throws Exception {
+
+        return new ObjectMapper(new JsonFactory()).writeValueAsString(serviceProvider);
+    }
+
+    @Benchmark
+    public String jsonExportWithRegistry() throws Exception {
+
+        return SerializerRegistry.getObjectWriter().writeValueAsString(serviceProvider);
+    }
+
+    @Benchmark
+    public ServiceProvider jsonImportWithNewMapper() throws Exception {
+
+        return new ObjectMapper().readValue(jsonContent, ServiceProvider.class);
+    }
+
+    @Benchmark
+    public ServiceProvider jsonImportWithRegistry() throws Exception {
+
+        return SerializerRegistry.getObjectReader(ServiceProvider.class).readValue(jsonContent);
+    }
+}
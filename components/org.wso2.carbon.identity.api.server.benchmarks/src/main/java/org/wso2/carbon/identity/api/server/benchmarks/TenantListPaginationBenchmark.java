@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.common.KeysetCursor;
+import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.core.ServerTenantManagementService;
+import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantsListResponse;
+import org.wso2.carbon.tenant.mgt.services.TenantMgtService;
+import org.wso2.carbon.user.core.tenant.Tenant;
+import org.wso2.carbon.user.core.tenant.TenantSearchResult;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lists a deep page of a synthetic population of tenants through ServerTenantManagementService. The offset listing
+ * is served by the tenant store, which reads and skips every tenant before the offset as a database offset query
+ * does. The cursor listing is cut from the tenant list snapshot with a binary search on the cursor. Loading the
+ * snapshot, which the cursor listing pays once per snapshot timeout, is measured on its own.
+ * <p>
+ * The stand-in tenant store holds the tenants in memory sorted by domain name, and ten tenants share each created
+ * date so the cursors have to break ties on the unique id.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TenantListPaginationBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int TENANTS_PER_CREATED_DATE = 10;
+    private static final long FIRST_CREATED_TIME = 1_600_000_000_000L;
+
+    @Param({"100000"})
+    private int tenantCount;
+
+    @Param({"0", "50000", "99900"})
+    private int pageStart;
+
+    private TenantMgtService tenantMgtService;
+    private ServerTenantManagementService tenantManagementService;
+    private String afterCursor;
+
+    @Setup
+    public void setUp() {
+
+        BenchmarkSupport.initCarbonContext();
+        List<Tenant> tenantsByCreatedDate = new ArrayList<>(tenantCount);
+        for (int i = 0; i < tenantCount; i++) {
+            tenantsByCreatedDate.add(tenant(i));
+        }
+        // The order of the cursor listing, in which the unique ids break the ties of the created dates.
+        tenantsByCreatedDate.sort(Comparator.comparing(Tenant::getCreatedDate)
+                .thenComparing(Tenant::getTenantUniqueID));
+        List<Tenant> tenantsByDomain = new ArrayList<>(tenantsByCreatedDate);
+        tenantsByDomain.sort(Comparator.comparing(Tenant::getDomain));
+
+        tenantMgtService = (TenantMgtService) Proxy.newProxyInstance(TenantMgtService.class.getClassLoader(),
+                new Class<?>[]{TenantMgtService.class}, (proxy, method, args) -> {
+                    if ("listTenants".equals(method.getName())) {
+                        return listTenants(tenantsByDomain, (Integer) args[0], (Integer) args[1]);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        tenantManagementService = new ServerTenantManagementService(tenantMgtService, null);
+        if (pageStart > 0) {
+            Tenant lastOfPreviousPage = tenantsByCreatedDate.get(pageStart - 1);
+            afterCursor = KeysetCursor.encode(String.valueOf(lastOfPreviousPage.getCreatedDate().getTime()),
+                    lastOfPreviousPage.getTenantUniqueID());
+        }
+        // Load the snapshot of the cursor listing before the measurement.
+        cursorPage();
+    }
+
+    @Benchmark
+    public TenantsListResponse offsetPage() {
+
+        return tenantManagementService.listTenants(PAGE_SIZE, pageStart, "ASC", "domainName", null, null, null,
+                null);
+    }
+
+    @Benchmark
+    public TenantsListResponse cursorPage() {
+
+        return tenantManagementService.listTenants(PAGE_SIZE, null, "ASC",
+                TenantManagementConstants.SORT_BY_CREATED_DATE, null, afterCursor, null, null);
+    }
+
+    /**
+     * Cursor listing by a service with no snapshot, which loads the snapshot from the tenant store in batches.
+     *
+     * @return First page of the tenants.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public TenantsListResponse snapshotLoad() {
+
+        return new ServerTenantManagementService(tenantMgtService, null).listTenants(PAGE_SIZE, null, "ASC",
+                TenantManagementConstants.SORT_BY_CREATED_DATE, null, null, null, null);
+    }
+
+    private static TenantSearchResult listTenants(List<Tenant> tenantsByDomain, int limit, int offset) {
+
+        int fromIndex = Math.min(offset, tenantsByDomain.size());
+        int toIndex = Math.min(fromIndex + limit, tenantsByDomain.size());
+        // Read the skipped tenants as well, as a database does for an offset query.
+        List<Tenant> scannedTenants = new ArrayList<>(tenantsByDomain.subList(0, toIndex));
+        TenantSearchResult tenantSearchResult = new TenantSearchResult();
+        tenantSearchResult.setTenantList(new ArrayList<>(scannedTenants.subList(fromIndex, toIndex)));
+        tenantSearchResult.setTotalTenantCount(tenantsByDomain.size());
+        tenantSearchResult.setLimit(limit);
+        tenantSearchResult.setOffSet(offset);
+        return tenantSearchResult;
+    }
+
+    private static Tenant tenant(int index) {
+
+        Tenant tenant = new Tenant();
+        tenant.setId(index + 1);
+        tenant.setTenantUniqueID(String.format("%08x-0000-4000-8000-%012d", Integer.reverse(index), index));
+        tenant.setDomain("tenant" + index + ".com");
+        tenant.setName("Tenant " + index);
+        tenant.setCreatedDate(new Date(FIRST_CREATED_TIME +
+                TimeUnit.SECONDS.toMillis(index / TENANTS_PER_CREATED_DATE)));
+        tenant.setActive(true);
+        tenant.setAdminName("admin");
+        tenant.setAdminUserId("admin-" + index);
+        return tenant;
+    }
+}
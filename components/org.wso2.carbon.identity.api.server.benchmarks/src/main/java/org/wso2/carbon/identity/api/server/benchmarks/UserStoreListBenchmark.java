@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.api.server.userstore.v1.core.ServerUserStoreService;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreListResponse;
+import org.wso2.carbon.identity.user.store.configuration.UserStoreConfigService;
+import org.wso2.carbon.identity.user.store.configuration.dto.PropertyDTO;
+import org.wso2.carbon.identity.user.store.configuration.dto.UserStoreDTO;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lists the user stores of a tenant with many secondary user stores through ServerUserStoreService. Listing the
+ * whole collection with the requested properties, which was the only option before the list was paginated on the
+ * server, is compared with fetching a page and a filtered page. The user store configuration service is replaced by
+ * a stand-in which returns the same user stores for every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UserStoreListBenchmark {
+
+    private static final String USER_STORE_CLASS = "org.wso2.carbon.user.core.jdbc.UniqueIDJDBCUserStoreManager";
+    private static final String REQUIRED_ATTRIBUTES = "ConnectionURL,userName,Disabled";
+    private static final int PROPERTY_COUNT = 40;
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"50", "500"})
+    private int userStoreCount;
+
+    private ServerUserStoreService userStoreService;
+
+    @Setup
+    public void setUp() {
+
+        BenchmarkSupport.initCarbonContext();
+        UserStoreDTO[] userStores = new UserStoreDTO[userStoreCount];
+        for (int i = 0; i < userStoreCount; i++) {
+            userStores[i] = userStore("SECONDARY-" + i);
+        }
+        UserStoreConfigService userStoreConfigService = (UserStoreConfigService) Proxy.newProxyInstance(
+                UserStoreConfigService.class.getClassLoader(), new Class<?>[]{UserStoreConfigService.class},
+                (proxy, method, args) -> {
+                    if ("getUserStores".equals(method.getName())) {
+                        return userStores;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        userStoreService = new ServerUserStoreService(userStoreConfigService, null, null);
+    }
+
+    @Benchmark
+    public List<UserStoreListResponse> wholeList() {
+
+        return userStoreService.getUserStoreList(null, null, null, null, REQUIRED_ATTRIBUTES);
+    }
+
+    @Benchmark
+    public List<UserStoreListResponse> firstPage() {
+
+        return userStoreService.getUserStoreList(PAGE_SIZE, 0, null, null, REQUIRED_ATTRIBUTES);
+    }
+
+    @Benchmark
+    public List<UserStoreListResponse> filteredPage() {
+
+        return userStoreService.getUserStoreList(PAGE_SIZE, 0, "name sw SECONDARY-4", null, REQUIRED_ATTRIBUTES);
+    }
+
+    private static UserStoreDTO userStore(String domainId) {
+
+        PropertyDTO[] properties = new PropertyDTO[PROPERTY_COUNT];
+        for (int i = 0; i < PROPERTY_COUNT; i++) {
+            PropertyDTO property = new PropertyDTO();
+            property.setName(i == 0 ? "ConnectionURL" : i == 1 ? "userName" : "Property" + i);
+            property.setValue("value" + i);
+            properties[i] = property;
+        }
+        UserStoreDTO userStore = new UserStoreDTO();
+        userStore.setDomainId(domainId);
+        userStore.setClassName(USER_STORE_CLASS);
+        userStore.setDescription("Secondary user store " + domainId);
+        userStore.setDisabled(false);
+        userStore.setProperties(properties);
+        return userStore;
+    }
+}
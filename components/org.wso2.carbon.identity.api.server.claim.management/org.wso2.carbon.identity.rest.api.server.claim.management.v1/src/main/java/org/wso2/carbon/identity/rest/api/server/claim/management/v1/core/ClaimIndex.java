@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.claim.management.v1.core;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the claim dialects and claims of a tenant, keyed by the dialect URI and the claim URI.
+ * <p>
+ * Each list is fetched from the claim metadata management service at most once, when it is first looked up, so a
+ * bulk operation resolving many claims does a single fetch per list instead of one per claim. The index is meant to
+ * be created for a single request and kept in sync by the caller through the {@code put} and {@code remove} methods
+ * when claims are added or removed during that request.
+ */
+class ClaimIndex {
+
+    private final ClaimMetadataManagementService claimMetadataManagementService;
+    private final String tenantDomain;
+
+    private Map<String, ClaimDialect> claimDialects;
+    private Map<String, LocalClaim> localClaims;
+    private final Map<String, Map<String, ExternalClaim>> externalClaims = new HashMap<>();
+
+    ClaimIndex(ClaimMetadataManagementService claimMetadataManagementService, String tenantDomain) {
+
+        this.claimMetadataManagementService = claimMetadataManagementService;
+        this.tenantDomain = tenantDomain;
+    }
+
+    /**
+     * Get a claim dialect of the tenant.
+     *
+     * @param dialectURI URI of the claim dialect.
+     * @return Claim dialect, or null if the tenant does not have a dialect with the given URI.
+     * @throws ClaimMetadataException If the claim dialects could not be retrieved.
+     */
+    ClaimDialect getClaimDialect(String dialectURI) throws ClaimMetadataException {
+
+        if (claimDialects == null) {
+            List<ClaimDialect> claimDialectList = claimMetadataManagementService.getClaimDialects(tenantDomain);
+            claimDialects = new LinkedHashMap<>();
+            for (ClaimDialect claimDialect : claimDialectList) {
+                claimDialects.putIfAbsent(claimDialect.getClaimDialectURI(), claimDialect);
+            }
+        }
+        return claimDialects.get(dialectURI);
+    }
+
+    /**
+     * Get a local claim of the tenant.
+     *
+     * @param claimURI URI of the local claim.
+     * @return Local claim, or null if the tenant does not have a local claim with the given URI.
+     * @throws ClaimMetadataException If the local claims could not be retrieved.
+     */
+    LocalClaim getLocalClaim(String claimURI) throws ClaimMetadataException {
+
+        return getLocalClaimMap().get(claimURI);
+    }
+
+    /**
+     * Get all the local claims of the tenant.
+     *
+     * @return Local claims, in the order returned by the claim metadata management service.
+     * @throws ClaimMetadataException If the local claims could not be retrieved.
+     */
+    Collection<LocalClaim> getLocalClaims() throws ClaimMetadataException {
+
+        return getLocalClaimMap().values();
+    }
+
+    /**
+     * Get an external claim of a claim dialect of the tenant.
+     *
+     * @param dialectURI URI of the external claim dialect.
+     * @param claimURI   URI of the external claim.
+     * @return External claim, or null if the dialect does not have an external claim with the given URI.
+     * @throws ClaimMetadataException If the external claims could not be retrieved.
+     */
+    ExternalClaim getExternalClaim(String dialectURI, String claimURI) throws ClaimMetadataException {
+
+        return getExternalClaimMap(dialectURI).get(claimURI);
+    }
+
+    /**
+     * Get all the external claims of a claim dialect of the tenant.
+     *
+     * @param dialectURI URI of the external claim dialect.
+     * @return External claims, in the order returned by the claim metadata management service.
+     * @throws ClaimMetadataException If the external claims could not be retrieved.
+     */
+    Collection<ExternalClaim> getExternalClaims(String dialectURI) throws ClaimMetadataException {
+
+        return getExternalClaimMap(dialectURI).values();
+    }
+
+    void putClaimDialect(ClaimDialect claimDialect) {
+
+        if (claimDialects != null) {
+            claimDialects.put(claimDialect.getClaimDialectURI(), claimDialect);
+        }
+    }
+
+    void removeClaimDialect(String dialectURI) {
+
+        if (claimDialects != null) {
+            claimDialects.remove(dialectURI);
+        }
+        externalClaims.remove(dialectURI);
+    }
+
+    void putLocalClaim(LocalClaim localClaim) {
+
+        if (localClaims != null) {
+            localClaims.put(localClaim.getClaimURI(), localClaim);
+        }
+    }
+
+    void removeLocalClaim(String claimURI) {
+
+        if (localClaims != null) {
+            localClaims.remove(claimURI);
+        }
+    }
+
+    void putExternalClaim(ExternalClaim externalClaim) {
+
+        Map<String, ExternalClaim> dialectClaims = externalClaims.get(externalClaim.getClaimDialectURI());
+        if (dialectClaims != null) {
+            dialectClaims.put(externalClaim.getClaimURI(), externalClaim);
+        }
+    }
+
+    void removeExternalClaim(String dialectURI, String claimURI) {
+
+        Map<String, ExternalClaim> dialectClaims = externalClaims.get(dialectURI);
+        if (dialectClaims != null) {
+            dialectClaims.remove(claimURI);
+        }
+    }
+
+    private Map<String, LocalClaim> getLocalClaimMap() throws ClaimMetadataException {
+
+        if (localClaims == null) {
+            List<LocalClaim> localClaimList = claimMetadataManagementService.getLocalClaims(tenantDomain);
+            localClaims = new LinkedHashMap<>();
+            for (LocalClaim localClaim : localClaimList) {
+                localClaims.putIfAbsent(localClaim.getClaimURI(), localClaim);
+            }
+        }
+        return localClaims;
+    }
+
+    private Map<String, ExternalClaim> getExternalClaimMap(String dialectURI) throws ClaimMetadataException {
+
+        Map<String, ExternalClaim> dialectClaims = externalClaims.get(dialectURI);
+        if (dialectClaims == null) {
+            List<ExternalClaim> externalClaimList =
+                    claimMetadataManagementService.getExternalClaims(dialectURI, tenantDomain);
+            dialectClaims = new LinkedHashMap<>();
+            if (externalClaimList != null) {
+                for (ExternalClaim externalClaim : externalClaimList) {
+                    dialectClaims.putIfAbsent(externalClaim.getClaimURI(), externalClaim);
+                }
+            }
+            externalClaims.put(dialectURI, dialectClaims);
+        }
+        return dialectClaims;
+    }
+}
@@ -16,9 +16,7 @@
 
 package org.wso2.carbon.identity.rest.api.server.claim.management.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.io.IOUtils;
@@ -31,8 +29,11 @@ import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.api.server.claim.management.common.Constant;
+import org.wso2.carbon.identity.api.server.common.BoundedImportInputStream;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.FileContent;
+import org.wso2.carbon.identity.api.server.common.SerializerPool;
+import org.wso2.carbon.identity.api.server.common.SerializerRegistry;
 import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
@@ -76,24 +77,22 @@ import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.claim.management.common.ClaimManagementDataHolder.getClaimMetadataManagementService;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.CMT_PATH_COMPONENT;
@@ -164,6 +163,10 @@ import static javax.ws.rs.core.Response.Status.NOT_FOUND;
 public class ServerClaimManagementService {
 
     private static final Log LOG = LogFactory.getLog(ServerClaimManagementService.class);
+    private static final SerializerPool<Yaml> CLAIM_DIALECT_YAML_DUMPERS =
+            new SerializerPool<>(ServerClaimManagementService::buildClaimDialectYamlDumper);
+    private static final SerializerPool<Yaml> CLAIM_DIALECT_YAML_LOADERS =
+            new SerializerPool<>(ServerClaimManagementService::buildClaimDialectYamlLoader);
     private static final String REL_CLAIMS = "claims";
     private static final String IDENTITY_CLAIM_URI = "http://wso2.org/claims/identity/";
     private static final String HIDDEN_CLAIMS_IDENTITY_CONFIG = "HiddenClaims.HiddenClaim";
@@ -266,15 +269,13 @@ public class ServerClaimManagementService {
     public ClaimDialectResDTO getClaimDialect(String dialectId) {
 
         try {
-            List<ClaimDialect> claimDialectList = claimMetadataManagementService.getClaimDialects(
-                    ContextLoader.getTenantDomainFromContext());
             String decodedDialectId;
             if (StringUtils.equals(dialectId, LOCAL_DIALECT_PATH)) {
                 decodedDialectId = LOCAL_DIALECT;
             } else {
                 decodedDialectId = base64DecodeId(dialectId);
             }
-            ClaimDialect claimDialect = extractDialectFromDialectList(decodedDialectId, claimDialectList);
+            ClaimDialect claimDialect = newClaimIndex().getClaimDialect(decodedDialectId);
 
             if (claimDialect == null) {
                 throw handleClaimManagementClientError(ERROR_CODE_DIALECT_NOT_FOUND, NOT_FOUND, dialectId);
@@ -407,10 +408,7 @@ public class ServerClaimManagementService {
     public LocalClaimResDTO getLocalClaim(String claimId) {
 
         try {
-            List<LocalClaim> localClaimList = claimMetadataManagementService.getLocalClaims(ContextLoader
-                    .getTenantDomainFromContext());
-
-            LocalClaim localClaim = extractLocalClaimFromClaimList(base64DecodeId(claimId), localClaimList);
+            LocalClaim localClaim = newClaimIndex().getLocalClaim(base64DecodeId(claimId));
 
             if (localClaim == null) {
                 throw handleClaimManagementClientError(ERROR_CODE_LOCAL_CLAIM_NOT_FOUND, NOT_FOUND, claimId);
@@ -556,6 +554,10 @@ public class ServerClaimManagementService {
             throws ClaimMetadataException {
 
         List<ClaimErrorDTO> errors = new ArrayList<>();
+        // All the claims of the file are diffed against a single fetch of the local claims.
+        ClaimIndex claimIndex = newClaimIndex();
+        Set<String> importedClaimURIs = new HashSet<>();
+        int unchangedClaimCount = 0;
 
         for (LocalClaimReqDTO localClaimReqDTO : localClaimReqDTOList) {
             try {
@@ -563,11 +565,15 @@ public class ServerClaimManagementService {
                     throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_EMPTY_LOCAL_CLAIM_URI,
                             BAD_REQUEST);
                 }
-                String claimId = getResourceId(localClaimReqDTO.getClaimURI());
-                if (isLocalClaimExist(claimId)) {
-                    updateLocalClaim(claimId, localClaimReqDTO);
-                } else {
+                importedClaimURIs.add(localClaimReqDTO.getClaimURI());
+                LocalClaim existingLocalClaim = claimIndex.getLocalClaim(localClaimReqDTO.getClaimURI());
+                if (existingLocalClaim == null) {
                     addLocalClaim(localClaimReqDTO);
+                    claimIndex.putLocalClaim(new LocalClaim(localClaimReqDTO.getClaimURI()));
+                } else if (isLocalClaimUnchanged(existingLocalClaim, localClaimReqDTO)) {
+                    unchangedClaimCount++;
+                } else {
+                    updateLocalClaim(getResourceId(localClaimReqDTO.getClaimURI()), localClaimReqDTO);
                 }
             } catch (APIError e) {
                 ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
@@ -575,8 +581,12 @@ public class ServerClaimManagementService {
                 errors.add(claimErrorDTO);
             }
         }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Skipped %d unchanged local claims out of %d claims in the file.",
+                    unchangedClaimCount, localClaimReqDTOList.size()));
+        }
         if (preserveClaims) {
-            deleteObsoleteLocalClaims(localClaimReqDTOList, errors);
+            deleteObsoleteLocalClaims(importedClaimURIs, errors, claimIndex);
         }
         if (!errors.isEmpty()) {
             throw handleClaimManagementBulkClientError(Constant.ErrorMessage.ERROR_CODE_UPDATING_LOCAL_CLAIMS,
@@ -584,19 +594,18 @@ public class ServerClaimManagementService {
         }
     }
 
-    private void deleteObsoleteLocalClaims(List<LocalClaimReqDTO> localClaimReqDTOList, List<ClaimErrorDTO> errors)
-            throws ClaimMetadataException {
+    private void deleteObsoleteLocalClaims(Set<String> importedClaimURIs, List<ClaimErrorDTO> errors,
+                                           ClaimIndex claimIndex) throws ClaimMetadataException {
 
-        List<String> claimsToDelete =  getLocalClaimResDTOs(claimMetadataManagementService
-                    .getLocalClaims(ContextLoader.getTenantDomainFromContext())).stream()
-                    .map(LocalClaimResDTO::getClaimURI)
-                    .filter(claimURI -> localClaimReqDTOList.stream()
-                            .noneMatch(reqDTO -> reqDTO.getClaimURI().equals(claimURI)))
-                    .collect(Collectors.toList());
+        List<String> claimsToDelete = claimIndex.getLocalClaims().stream()
+                .map(LocalClaim::getClaimURI)
+                .filter(claimURI -> !importedClaimURIs.contains(claimURI))
+                .collect(Collectors.toList());
 
         for (String claimURI : claimsToDelete) {
             try {
                 deleteLocalClaim(getResourceId(claimURI));
+                claimIndex.removeLocalClaim(claimURI);
             } catch (APIError e) {
                 ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
                 claimErrorDTO.setClaimURI(claimURI);
@@ -605,29 +614,76 @@ public class ServerClaimManagementService {
         }
     }
 
+    /**
+     * Check whether updating the existing local claim with the claim of the file would leave it as it is. The claim
+     * of the file is considered changed whenever it would not pass the update validations, so that the validation
+     * errors are still reported.
+     *
+     * @param existingLocalClaim Existing local claim.
+     * @param localClaimReqDTO   Local claim of the file.
+     * @return True if the local claim does not need to be updated.
+     */
+    private boolean isLocalClaimUnchanged(LocalClaim existingLocalClaim, LocalClaimReqDTO localClaimReqDTO) {
+
+        if (StringUtils.isBlank(localClaimReqDTO.getDisplayName())
+                || CollectionUtils.isEmpty(localClaimReqDTO.getAttributeMapping())) {
+            return false;
+        }
+        LocalClaim incomingLocalClaim = createLocalClaim(localClaimReqDTO);
+        return Objects.equals(existingLocalClaim.getClaimProperties(), incomingLocalClaim.getClaimProperties())
+                && Objects.equals(getAttributeMappingKeys(existingLocalClaim.getMappedAttributes()),
+                getAttributeMappingKeys(incomingLocalClaim.getMappedAttributes()));
+    }
+
+    private Set<String> getAttributeMappingKeys(List<AttributeMapping> attributeMappings) {
+
+        Set<String> attributeMappingKeys = new HashSet<>();
+        if (attributeMappings != null) {
+            for (AttributeMapping attributeMapping : attributeMappings) {
+                attributeMappingKeys.add(StringUtils.upperCase(attributeMapping.getUserStoreDomain()) + "/"
+                        + attributeMapping.getAttributeName());
+            }
+        }
+        return attributeMappingKeys;
+    }
+
     private void updateExternalClaims(String dialectId, List<ExternalClaimReqDTO> externalClaimReqDTOList,
                                       boolean preserveClaims) throws ClaimMetadataException {
 
+        List<ClaimErrorDTO> errors = new ArrayList<>();
+        // All the claims of the file are diffed against a single fetch of the dialects and the dialect claims.
+        ClaimIndex claimIndex = newClaimIndex();
+        String dialectURI = base64DecodeId(dialectId);
+        int unchangedClaimCount = 0;
+
+        /*
+         * Obsolete claims are removed first, so that the claims of the file can take over the local claim mappings
+         * of the removed claims, as they would when the dialect is recreated.
+         */
         if (preserveClaims) {
-            deleteClaimDialect(dialectId);
-            dialectId = addClaimDialect(base64DecodeId(dialectId));
-            importExternalClaims(dialectId, externalClaimReqDTOList);
-            return;
+            Set<String> importedClaimURIs = externalClaimReqDTOList.stream()
+                    .map(ExternalClaimReqDTO::getClaimURI)
+                    .filter(StringUtils::isNotBlank)
+                    .collect(Collectors.toSet());
+            deleteObsoleteExternalClaims(dialectId, importedClaimURIs, errors, claimIndex);
         }
 
-        List<ClaimErrorDTO> errors = new ArrayList<>();
-
         for (ExternalClaimReqDTO externalClaimReqDTO : externalClaimReqDTOList) {
             try {
                 if (StringUtils.isBlank(externalClaimReqDTO.getClaimURI())) {
                     throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_EMPTY_EXTERNAL_CLAIM_URI,
                             BAD_REQUEST);
                 }
-                String claimId = getResourceId(externalClaimReqDTO.getClaimURI());
-                if (isExternalClaimExist(dialectId, claimId)) {
-                    updateExternalClaim(dialectId, claimId, externalClaimReqDTO);
+                ExternalClaim existingExternalClaim =
+                        claimIndex.getExternalClaim(dialectURI, externalClaimReqDTO.getClaimURI());
+                if (existingExternalClaim == null) {
+                    addExternalClaim(dialectId, externalClaimReqDTO, claimIndex);
+                } else if (StringUtils.equals(existingExternalClaim.getMappedLocalClaim(),
+                        externalClaimReqDTO.getMappedLocalClaimURI())) {
+                    unchangedClaimCount++;
                 } else {
-                    addExternalClaim(dialectId, externalClaimReqDTO);
+                    updateExternalClaim(dialectId, getResourceId(externalClaimReqDTO.getClaimURI()),
+                            externalClaimReqDTO);
                 }
             } catch (APIError e) {
                 ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
@@ -635,12 +691,38 @@ public class ServerClaimManagementService {
                 errors.add(claimErrorDTO);
             }
         }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Skipped %d unchanged external claims out of %d claims in the file.",
+                    unchangedClaimCount, externalClaimReqDTOList.size()));
+        }
         if (!errors.isEmpty()) {
             throw handleClaimManagementBulkClientError(Constant.ErrorMessage.ERROR_CODE_UPDATING_EXTERNAL_CLAIMS,
                     BAD_REQUEST, errors, String.valueOf(errors.size()), String.valueOf(externalClaimReqDTOList.size()));
         }
     }
 
+    private void deleteObsoleteExternalClaims(String dialectId, Set<String> importedClaimURIs,
+                                              List<ClaimErrorDTO> errors, ClaimIndex claimIndex)
+            throws ClaimMetadataException {
+
+        String dialectURI = base64DecodeId(dialectId);
+        List<String> claimsToDelete = claimIndex.getExternalClaims(dialectURI).stream()
+                .map(ExternalClaim::getClaimURI)
+                .filter(claimURI -> !importedClaimURIs.contains(claimURI))
+                .collect(Collectors.toList());
+
+        for (String claimURI : claimsToDelete) {
+            try {
+                deleteExternalClaim(dialectId, getResourceId(claimURI));
+                claimIndex.removeExternalClaim(dialectURI, claimURI);
+            } catch (APIError e) {
+                ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
+                claimErrorDTO.setClaimURI(claimURI);
+                errors.add(claimErrorDTO);
+            }
+        }
+    }
+
     /**
      * Exports a claim dialect with related claims in the specified file type.
      *
@@ -719,12 +801,8 @@ public class ServerClaimManagementService {
         fileNameSB.append(XML_FILE_EXTENSION);
 
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(dialectConfiguration.getClass());
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            StringWriter writer = new StringWriter();
-            marshaller.marshal(dialectConfiguration, writer);
-            String xmlContent = writer.toString();
+            String xmlContent = SerializerRegistry.marshal(dialectConfiguration, null,
+                    ClaimDialectConfiguration.class);
             return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML, xmlContent);
         } catch (JAXBException e) {
             throw new ClaimMetadataException(String.format(
@@ -737,10 +815,9 @@ public class ServerClaimManagementService {
 
         StringBuilder fileNameSB = new StringBuilder(fileName);
         fileNameSB.append(JSON_FILE_EXTENSION);
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
         try {
             return new FileContent(fileNameSB.toString(), MEDIA_TYPE_JSON,
-                    objectMapper.writeValueAsString(dialectConfiguration));
+                    SerializerRegistry.getObjectWriter().writeValueAsString(dialectConfiguration));
         } catch (JsonProcessingException e) {
             throw new ClaimMetadataException(String.format(
                       Constant.ErrorMessage.ERROR_CODE_ERROR_PARSING_CLAIM_DIALECT.toString(), MEDIA_TYPE_JSON), e);
@@ -752,14 +829,16 @@ public class ServerClaimManagementService {
 
         StringBuilder fileNameSB = new StringBuilder(fileName);
         fileNameSB.append(YAML_FILE_EXTENSION);
-        DumperOptions options = new DumperOptions();
-        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
-        Yaml yaml = new Yaml(options);
+        Yaml yaml = CLAIM_DIALECT_YAML_DUMPERS.borrow();
         try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML, yaml.dump(dialectConfiguration));
+            FileContent fileContent = new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML,
+                    yaml.dump(dialectConfiguration));
+            return fileContent;
         } catch (YAMLException e) {
             throw new ClaimMetadataException(String.format(
                       Constant.ErrorMessage.ERROR_CODE_ERROR_PARSING_CLAIM_DIALECT.toString(), MEDIA_TYPE_YAML), e);
+        } finally {
+            CLAIM_DIALECT_YAML_DUMPERS.release(yaml);
         }
     }
 
@@ -772,14 +851,21 @@ public class ServerClaimManagementService {
      */
     public String addExternalClaim(String dialectId, ExternalClaimReqDTO externalClaimReqDTO) {
 
+        return addExternalClaim(dialectId, externalClaimReqDTO, newClaimIndex());
+    }
+
+    private String addExternalClaim(String dialectId, ExternalClaimReqDTO externalClaimReqDTO,
+                                    ClaimIndex claimIndex) {
+
         try {
             validateClaimModificationEligibility();
-            if (!isDialectExists(dialectId)) {
+            if (!isDialectExists(dialectId, claimIndex)) {
                 throw handleClaimManagementClientError(ERROR_CODE_INVALID_DIALECT_ID, NOT_FOUND, dialectId);
             }
 
-            claimMetadataManagementService.addExternalClaim(createExternalClaim(dialectId, externalClaimReqDTO),
-                    ContextLoader.getTenantDomainFromContext());
+            ExternalClaim externalClaim = createExternalClaim(dialectId, externalClaimReqDTO);
+            claimMetadataManagementService.addExternalClaim(externalClaim, ContextLoader.getTenantDomainFromContext());
+            claimIndex.putExternalClaim(externalClaim);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_ADDING_EXTERNAL_CLAIM,
                     externalClaimReqDTO.getClaimURI());
@@ -826,15 +912,14 @@ public class ServerClaimManagementService {
     public ExternalClaimResDTO getExternalClaim(String dialectId, String claimId) {
 
         try {
-            List<ExternalClaim> externalClaimList = claimMetadataManagementService.getExternalClaims(
-                    base64DecodeId(dialectId),
-                    ContextLoader.getTenantDomainFromContext());
+            ClaimIndex claimIndex = newClaimIndex();
+            String dialectURI = base64DecodeId(dialectId);
 
-            if (CollectionUtils.isEmpty(externalClaimList)) {
+            if (claimIndex.getExternalClaims(dialectURI).isEmpty()) {
                 throw handleClaimManagementClientError(ERROR_CODE_CLAIMS_NOT_FOUND_FOR_DIALECT, NOT_FOUND, dialectId);
             }
 
-            ExternalClaim externalClaim = extractExternalClaimFromClaimList(base64DecodeId(claimId), externalClaimList);
+            ExternalClaim externalClaim = claimIndex.getExternalClaim(dialectURI, base64DecodeId(claimId));
 
             if (externalClaim == null) {
                 throw handleClaimManagementClientError(ERROR_CODE_EXTERNAL_CLAIM_NOT_FOUND, NOT_FOUND, claimId,
@@ -864,10 +949,7 @@ public class ServerClaimManagementService {
         handleNotImplementedCapabilities(limit, offset, filter, sort);
 
         try {
-            List<ClaimDialect> claimDialectList = claimMetadataManagementService.getClaimDialects(ContextLoader
-                    .getTenantDomainFromContext());
-            String decodedDialectId = base64DecodeId(dialectId);
-            ClaimDialect claimDialect = extractDialectFromDialectList(decodedDialectId, claimDialectList);
+            ClaimDialect claimDialect = newClaimIndex().getClaimDialect(base64DecodeId(dialectId));
 
             if (claimDialect == null) {
                 throw handleClaimManagementClientError(ERROR_CODE_DIALECT_NOT_FOUND, NOT_FOUND, dialectId);
@@ -906,37 +988,9 @@ public class ServerClaimManagementService {
         getResourceId(externalClaimReqDTO.getClaimURI());
     }
 
-    private ClaimDialect extractDialectFromDialectList(String dialectURI, List<ClaimDialect> dialectList) {
+    private ClaimIndex newClaimIndex() {
 
-        for (ClaimDialect dialect : dialectList) {
-            if (StringUtils.equals(dialect.getClaimDialectURI(), dialectURI)) {
-                return dialect;
-            }
-        }
-
-        return null;
-    }
-
-    private ExternalClaim extractExternalClaimFromClaimList(String claimURI, List<ExternalClaim> claimList) {
-
-        for (ExternalClaim claim : claimList) {
-            if (StringUtils.equals(claim.getClaimURI(), claimURI)) {
-                return claim;
-            }
-        }
-
-        return null;
-    }
-
-    private LocalClaim extractLocalClaimFromClaimList(String claimURI, List<LocalClaim> claimList) {
-
-        for (LocalClaim claim : claimList) {
-            if (StringUtils.equals(claim.getClaimURI(), claimURI)) {
-                return claim;
-            }
-        }
-
-        return null;
+        return new ClaimIndex(claimMetadataManagementService, ContextLoader.getTenantDomainFromContext());
     }
 
     private ClaimDialect createClaimDialect(ClaimDialectReqDTO claimDialectReqDTO) {
@@ -1282,10 +1336,11 @@ public class ServerClaimManagementService {
     private void importExternalClaims(String dialectID, List<ExternalClaimReqDTO> externalClaimReqDTOList) {
 
         List<ClaimErrorDTO> errors = new ArrayList<>();
+        ClaimIndex claimIndex = newClaimIndex();
 
         for (ExternalClaimReqDTO externalClaimReqDTO : externalClaimReqDTOList) {
             try {
-                addExternalClaim(dialectID, externalClaimReqDTO);
+                addExternalClaim(dialectID, externalClaimReqDTO, claimIndex);
             } catch (APIError e) {
                 ClaimErrorDTO claimErrorDTO = new ClaimErrorDTO(e.getResponseEntity());
                 claimErrorDTO.setClaimURI(externalClaimReqDTO.getClaimURI());
@@ -1302,84 +1357,109 @@ public class ServerClaimManagementService {
             throws ClaimMetadataException {
 
         try {
-            FileContent claimDialectFileContent = new FileContent(fileDetail.getDataHandler().getName(),
-                    fileDetail.getDataHandler().getContentType(),
-                    IOUtils.toString(fileInputStream, StandardCharsets.UTF_8.name()));
-            return generateModelFromFile(claimDialectFileContent);
+            return generateModelFromFile(new BoundedImportInputStream(fileInputStream),
+                    fileDetail.getDataHandler().getName(), fileDetail.getDataHandler().getContentType());
         } catch (IOException | ClaimMetadataClientException e) {
+            BoundedImportInputStream.ImportLimitExceededException limitExceeded =
+                    BoundedImportInputStream.getImportLimitExceeded(e);
+            if (limitExceeded != null) {
+                ErrorResponse errorResponse = getErrorBuilder(Constant.ErrorMessage.ERROR_CODE_INVALID_INPUT_FILE)
+                        .build(LOG, limitExceeded.getMessage());
+                errorResponse.setDescription(limitExceeded.getMessage());
+                throw new APIError(BAD_REQUEST, errorResponse);
+            }
             throw new ClaimMetadataException(Constant.ErrorMessage.ERROR_CODE_INVALID_INPUT_FILE.toString(), e);
         } finally {
             IOUtils.closeQuietly(fileInputStream);
         }
     }
 
-    private ClaimDialectConfiguration generateModelFromFile(FileContent fileContent) throws ClaimMetadataException {
+    private ClaimDialectConfiguration generateModelFromFile(BoundedImportInputStream fileInputStream,
+                                                            String fileName, String fileType)
+            throws ClaimMetadataException, IOException {
 
         if (LOG.isDebugEnabled()) {
-            LOG.debug(String.format("Parsing Claim Dialect from file: %s of type: %s.", fileContent.getFileName(),
-                    fileContent.getFileType()));
+            LOG.debug(String.format("Parsing Claim Dialect from file: %s of type: %s.", fileName, fileType));
         }
-        if (StringUtils.isEmpty(fileContent.getContent())) {
+        if (fileInputStream.isEmpty()) {
             throw handleClaimManagementClientError(Constant.ErrorMessage.ERROR_CODE_MISSING_FILE_CONTENT, BAD_REQUEST,
-                    fileContent.getFileName());
+                    fileName);
         }
 
-        switch (Util.getMediaType(fileContent.getFileType())) {
+        switch (Util.getMediaType(fileType)) {
             case MEDIA_TYPE_XML:
-                return parseClaimDialectFromXml(fileContent);
+                return parseClaimDialectFromXml(fileInputStream);
             case MEDIA_TYPE_JSON:
-                return parseClaimDialectFromJson(fileContent);
+                return parseClaimDialectFromJson(fileInputStream);
             case MEDIA_TYPE_YAML:
-                return parseClaimDialectFromYaml(fileContent);
+                return parseClaimDialectFromYaml(fileInputStream);
             default:
                 LOG.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
-                        fileContent.getFileType(), fileContent.getFileName()));
-                return parseClaimDialectFromYaml(fileContent);
+                        fileType, fileName));
+                return parseClaimDialectFromYaml(fileInputStream);
         }
     }
 
-    private ClaimDialectConfiguration parseClaimDialectFromXml(FileContent fileContent) throws ClaimMetadataException {
+    private ClaimDialectConfiguration parseClaimDialectFromXml(InputStream fileInputStream)
+            throws ClaimMetadataException {
 
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(ClaimDialectConfiguration.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (ClaimDialectConfiguration) unmarshaller.unmarshal(new StringReader(fileContent.getContent()));
+            return (ClaimDialectConfiguration) SerializerRegistry.unmarshal(fileInputStream,
+                    ClaimDialectConfiguration.class);
         } catch (JAXBException e) {
             throw new ClaimMetadataException(String.format(
                       Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), MEDIA_TYPE_XML), e);
         }
     }
 
-    private ClaimDialectConfiguration parseClaimDialectFromJson(FileContent fileContent) throws ClaimMetadataException {
+    private ClaimDialectConfiguration parseClaimDialectFromJson(InputStream fileInputStream)
+            throws ClaimMetadataException, IOException {
 
         try {
-            return new ObjectMapper().readValue(fileContent.getContent(), ClaimDialectConfiguration.class);
+            return SerializerRegistry.getObjectReader(ClaimDialectConfiguration.class).readValue(fileInputStream);
         } catch (JsonProcessingException e) {
             throw new ClaimMetadataException(String.format(
                       Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), MEDIA_TYPE_JSON), e);
         }
     }
 
-    private ClaimDialectConfiguration parseClaimDialectFromYaml(FileContent fileContent) throws ClaimMetadataException {
+    private ClaimDialectConfiguration parseClaimDialectFromYaml(InputStream fileInputStream)
+            throws ClaimMetadataException {
 
+        Yaml yaml = CLAIM_DIALECT_YAML_LOADERS.borrow();
         try {
-            // Add trusted tags included in the Claims YAML files.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(ClaimDialectConfiguration.class.getName());
-            trustedTagList.add(ExternalClaimResDTO.class.getName());
-            trustedTagList.add(LocalClaimResDTO.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(ClaimDialectConfiguration.class, loaderOptions));
-            return yaml.loadAs(fileContent.getContent(), ClaimDialectConfiguration.class);
+            ClaimDialectConfiguration dialectConfiguration = yaml.loadAs(fileInputStream,
+                    ClaimDialectConfiguration.class);
+            return dialectConfiguration;
         } catch (YAMLException e) {
             throw new ClaimMetadataException(String.format(
                       Constant.ErrorMessage.ERROR_CODE_ERROR_READING_FILE_CONTENT.toString(), MEDIA_TYPE_YAML), e);
+        } finally {
+            CLAIM_DIALECT_YAML_LOADERS.release(yaml);
         }
     }
 
+    private static Yaml buildClaimDialectYamlDumper() {
+
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        return new Yaml(options);
+    }
+
+    private static Yaml buildClaimDialectYamlLoader() {
+
+        // Add trusted tags included in the Claims YAML files.
+        List<String> trustedTagList = new ArrayList<>();
+        trustedTagList.add(ClaimDialectConfiguration.class.getName());
+        trustedTagList.add(ExternalClaimResDTO.class.getName());
+        trustedTagList.add(LocalClaimResDTO.class.getName());
+
+        LoaderOptions loaderOptions = new LoaderOptions();
+        TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
+        loaderOptions.setTagInspector(tagInspector);
+        return new Yaml(new Constructor(ClaimDialectConfiguration.class, loaderOptions));
+    }
+
     private String base64EncodeId(String id) {
 
         return Base64.getUrlEncoder()
@@ -1418,32 +1498,9 @@ public class ServerClaimManagementService {
         return userStoreManager != null;
     }
 
-    private boolean isDialectExists(String dialectId) throws ClaimMetadataException {
-
-        List<ClaimDialect> claimDialectList =
-                claimMetadataManagementService.getClaimDialects(ContextLoader.getTenantDomainFromContext());
-        ClaimDialect claimDialect = extractDialectFromDialectList(base64DecodeId(dialectId), claimDialectList);
-
-        return claimDialect != null;
-    }
-
-    private boolean isLocalClaimExist(String claimId) throws ClaimMetadataException {
-
-        List<LocalClaim> localClaimList = claimMetadataManagementService.getLocalClaims(ContextLoader
-                .getTenantDomainFromContext());
-        LocalClaim localClaim = extractLocalClaimFromClaimList(base64DecodeId(claimId), localClaimList);
-
-        return localClaim != null;
-    }
-
-    private boolean isExternalClaimExist(String dialectId, String claimId) throws ClaimMetadataException {
-
-        List<ExternalClaim> externalClaimList = claimMetadataManagementService.getExternalClaims(
-                base64DecodeId(dialectId),
-                ContextLoader.getTenantDomainFromContext());
-        ExternalClaim externalClaim = extractExternalClaimFromClaimList(base64DecodeId(claimId), externalClaimList);
+    private boolean isDialectExists(String dialectId, ClaimIndex claimIndex) throws ClaimMetadataException {
 
-        return externalClaim != null;
+        return claimIndex.getClaimDialect(base64DecodeId(dialectId)) != null;
     }
 
     private APIError handleClaimManagementException(ClaimMetadataException e, Constant.ErrorMessage errorEnum,
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+
+import static org.wso2.carbon.identity.api.server.common.Constants.DEFAULT_IMPORT_FILE_MAX_SIZE;
+import static org.wso2.carbon.identity.api.server.common.Constants.DEFAULT_IMPORT_FILE_MAX_XML_ELEMENTS;
+import static org.wso2.carbon.identity.api.server.common.Constants.IMPORT_FILE_MAX_SIZE_PROPERTY;
+import static org.wso2.carbon.identity.api.server.common.Constants.IMPORT_FILE_MAX_XML_ELEMENTS_PROPERTY;
+
+/**
+ * Input stream of an uploaded resource file which fails as soon as more than the configured number of bytes are
+ * read from it. Import APIs parse directly from this stream so a file is never buffered in memory as a whole.
+ */
+public class BoundedImportInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private long bytesRead;
+
+    /**
+     * Wrap the given stream with the configured import file size limit.
+     *
+     * @param inputStream Stream of the uploaded file.
+     */
+    public BoundedImportInputStream(InputStream inputStream) {
+
+        this(inputStream, getMaxImportFileSize());
+    }
+
+    public BoundedImportInputStream(InputStream inputStream, long maxBytes) {
+
+        super(new PushbackInputStream(inputStream, 1));
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Check whether the stream has no content, without consuming any of it.
+     *
+     * @return True if the stream is empty.
+     * @throws IOException If the stream could not be read.
+     */
+    public boolean isEmpty() throws IOException {
+
+        int firstByte = in.read();
+        if (firstByte == -1) {
+            return true;
+        }
+        ((PushbackInputStream) in).unread(firstByte);
+        return false;
+    }
+
+    @Override
+    public int read() throws IOException {
+
+        int value = in.read();
+        if (value != -1) {
+            countBytes(1);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+
+        int count = in.read(buffer, offset, length);
+        if (count > 0) {
+            countBytes(count);
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long length) throws IOException {
+
+        long count = in.skip(length);
+        countBytes(count);
+        return count;
+    }
+
+    @Override
+    public boolean markSupported() {
+
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+
+        // Mark is not supported since the read bytes are counted only once.
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+
+        throw new IOException("Mark and reset are not supported by the import stream.");
+    }
+
+    private void countBytes(long count) throws ImportLimitExceededException {
+
+        bytesRead += count;
+        if (bytesRead > maxBytes) {
+            throw new ImportLimitExceededException("The imported file exceeds the maximum allowed size of " +
+                    maxBytes + " bytes.");
+        }
+    }
+
+    /**
+     * Get the maximum size of an imported file, in bytes.
+     *
+     * @return Maximum import file size.
+     */
+    public static long getMaxImportFileSize() {
+
+        return Util.getPositiveLongProperty(IMPORT_FILE_MAX_SIZE_PROPERTY, DEFAULT_IMPORT_FILE_MAX_SIZE);
+    }
+
+    /**
+     * Get the maximum number of XML elements of an imported file.
+     *
+     * @return Maximum number of XML elements.
+     */
+    public static int getMaxImportXmlElements() {
+
+        return (int) Math.min(Integer.MAX_VALUE, Util.getPositiveLongProperty(IMPORT_FILE_MAX_XML_ELEMENTS_PROPERTY,
+                DEFAULT_IMPORT_FILE_MAX_XML_ELEMENTS));
+    }
+
+    /**
+     * Find the import limit failure behind a failure to read an imported file. Parsers such as SnakeYAML and JAXB
+     * wrap the failures of the stream they read from, so the cause chain of the failure is searched.
+     *
+     * @param throwable Failure to read an imported file.
+     * @return Import limit failure, or null if the failure is not caused by an import limit.
+     */
+    public static ImportLimitExceededException getImportLimitExceeded(Throwable throwable) {
+
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ImportLimitExceededException) {
+                return (ImportLimitExceededException) cause;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Thrown when an imported file exceeds the configured limits.
+     */
+    public static class ImportLimitExceededException extends IOException {
+
+        private static final long serialVersionUID = -2474390521474637652L;
+
+        public ImportLimitExceededException(String message) {
+
+            super(message);
+        }
+    }
+}
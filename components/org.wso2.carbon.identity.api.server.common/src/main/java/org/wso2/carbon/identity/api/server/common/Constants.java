@@ -43,6 +43,10 @@ public class Constants {
     public static final String MEDIA_TYPE_YAML = "application/yaml";
     public static final String MEDIA_TYPE_UNSUPPORTED = "unsupported";
     public static final String MASKING_VALUE = "********";
+    public static final String IMPORT_FILE_MAX_SIZE_PROPERTY = "ResourceImport.MaxFileSize";
+    public static final String IMPORT_FILE_MAX_XML_ELEMENTS_PROPERTY = "ResourceImport.MaxXmlElements";
+    public static final long DEFAULT_IMPORT_FILE_MAX_SIZE = 10 * 1024 * 1024;
+    public static final int DEFAULT_IMPORT_FILE_MAX_XML_ELEMENTS = 100000;
     static final String[] VALID_MEDIA_TYPES_JSON = {MEDIA_TYPE_JSON, "text/json"};
     static final String[] VALID_MEDIA_TYPES_XML = {MEDIA_TYPE_XML, "text/xml"};
     static final String[] VALID_MEDIA_TYPES_YAML = {MEDIA_TYPE_YAML, "text/yaml", "application/x-yaml"};
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.osgi.framework.ServiceRegistration;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.core.ServerShutdownHandler;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded executor which runs the submitted tasks with the carbon context of the submitting thread.
+ * The tenant domain, tenant id, organization id, user and the identity thread local properties are captured when
+ * a task is submitted and restored in the worker thread, so the OSGi services invoked by the task behave exactly as
+ * they would on the request thread. When the pool and its queue are saturated the task is run on the caller thread,
+ * unless the executor is created to reject the task.
+ * <p>
+ * The executors are usually held in static fields of the API services. The webapp hosting the APIs can stop all of
+ * them with {@link #shutdownAll(long)} when it is undeployed. Otherwise they are stopped by a
+ * {@link ServerShutdownHandler}, which the server invokes during its shutdown. The handler is unregistered once the
+ * executors are shut down, so it does not keep the classes of the webapp alive.
+ */
+public class ContextAwareExecutor {
+
+    private static final Log LOG = LogFactory.getLog(ContextAwareExecutor.class);
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    private static final long SERVER_SHUTDOWN_TIMEOUT_MILLIS = 5000L;
+    private static final Set<ContextAwareExecutor> EXECUTORS = ConcurrentHashMap.newKeySet();
+
+    private static boolean shutdownHandlerRegistered;
+    private static ServiceRegistration<ServerShutdownHandler> shutdownHandlerRegistration;
+
+    private final String poolName;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Create a bounded context aware executor.
+     *
+     * @param poolName  Name prefix of the worker threads.
+     * @param poolSize  Maximum number of worker threads.
+     * @param queueSize Maximum number of tasks waiting for a worker thread.
+     */
+    public ContextAwareExecutor(String poolName, int poolSize, int queueSize) {
+
+        this(poolName, poolSize, queueSize, true);
+    }
+
+    /**
+     * Create a bounded context aware executor.
+     *
+     * @param poolName          Name prefix of the worker threads.
+     * @param poolSize          Maximum number of worker threads.
+     * @param queueSize         Maximum number of tasks waiting for a worker thread.
+     * @param runOnCallerIfFull Whether a task is run on the caller thread when the pool and its queue are saturated.
+     *                          Otherwise the task is rejected with a RejectedExecutionException, which suits
+     *                          background tasks that must not block the request thread.
+     */
+    public ContextAwareExecutor(String poolName, int poolSize, int queueSize, boolean runOnCallerIfFull) {
+
+        executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), new NamedThreadFactory(poolName),
+                runOnCallerIfFull ? new ThreadPoolExecutor.CallerRunsPolicy() : new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        this.poolName = poolName;
+        EXECUTORS.add(this);
+        registerShutdownHandler();
+    }
+
+    /**
+     * Submit a task to be run with the carbon context of the current thread.
+     *
+     * @param task Task to be run.
+     * @param <T>  Result type of the task.
+     * @return Future of the task.
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+
+        return executor.submit(new ContextAwareCallable<>(task));
+    }
+
+    /**
+     * Run the given tasks concurrently and wait for all of them to complete. Results are returned in the order of
+     * the tasks. If any task fails, the remaining tasks are cancelled and the failure is thrown.
+     *
+     * @param tasks         Tasks to be run.
+     * @param timeoutMillis Maximum time to wait for all the tasks, in milliseconds.
+     * @param <T>           Result type of the tasks.
+     * @return Results of the tasks.
+     * @throws ExecutionException If a task failed. The cause holds the exception thrown by the task.
+     * @throws TimeoutException   If the tasks did not complete within the given time.
+     * @throws InterruptedException If the waiting thread was interrupted.
+     */
+    public <T> List<T> invokeAll(List<? extends Callable<T>> tasks, long timeoutMillis)
+            throws ExecutionException, TimeoutException, InterruptedException {
+
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(submit(task));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<T> results = new ArrayList<>(tasks.size());
+        boolean completed = false;
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                for (Future<T> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Stop accepting tasks, interrupt the running tasks and wait for them to complete.
+     *
+     * @param timeoutMillis Maximum time to wait for the running tasks, in milliseconds.
+     * @return True if all the tasks completed within the given time.
+     */
+    public boolean shutdown(long timeoutMillis) {
+
+        EXECUTORS.remove(this);
+        executor.shutdownNow();
+        try {
+            return executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Shut down all the executors which are not shut down yet. Tasks which are still running after the given time
+     * are left to complete on their daemon threads.
+     *
+     * @param timeoutMillis Maximum time to wait for the running tasks of each executor, in milliseconds.
+     */
+    public static void shutdownAll(long timeoutMillis) {
+
+        unregisterShutdownHandler();
+        for (ContextAwareExecutor contextAwareExecutor : new ArrayList<>(EXECUTORS)) {
+            if (!contextAwareExecutor.shutdown(timeoutMillis)) {
+                LOG.warn("Tasks of the executor: " + contextAwareExecutor.poolName + " did not complete within " +
+                        timeoutMillis + " ms of the shutdown.");
+            }
+        }
+    }
+
+    private static synchronized void registerShutdownHandler() {
+
+        if (!shutdownHandlerRegistered) {
+            shutdownHandlerRegistration = OSGiServiceRegistrar.register(ServerShutdownHandler.class,
+                    new ExecutorShutdownHandler());
+            shutdownHandlerRegistered = true;
+        }
+    }
+
+    private static synchronized void unregisterShutdownHandler() {
+
+        OSGiServiceRegistrar.unregister(shutdownHandlerRegistration);
+        shutdownHandlerRegistration = null;
+        shutdownHandlerRegistered = false;
+    }
+
+    /**
+     * Shuts down the executors when the server shuts down.
+     */
+    private static class ExecutorShutdownHandler implements ServerShutdownHandler {
+
+        @Override
+        public void invoke() {
+
+            shutdownAll(SERVER_SHUTDOWN_TIMEOUT_MILLIS);
+        }
+    }
+
+    /**
+     * Callable which restores the carbon context captured at construction before delegating to the task.
+     *
+     * @param <T> Result type of the task.
+     */
+    private static class ContextAwareCallable<T> implements Callable<T> {
+
+        private final Callable<T> task;
+        private final Thread submitter;
+        private final String tenantDomain;
+        private final int tenantId;
+        private final String organizationId;
+        private final String username;
+        private final String userId;
+        private final Map<String, Object> threadLocalProperties;
+
+        ContextAwareCallable(Callable<T> task) {
+
+            PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+            this.task = task;
+            this.submitter = Thread.currentThread();
+            this.tenantDomain = carbonContext.getTenantDomain();
+            this.tenantId = carbonContext.getTenantId();
+            this.organizationId = carbonContext.getOrganizationId();
+            this.username = carbonContext.getUsername();
+            this.userId = carbonContext.getUserId();
+            this.threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
+        }
+
+        @Override
+        public T call() throws Exception {
+
+            // Tasks rejected to the caller already run with the right context.
+            if (Thread.currentThread() == submitter) {
+                return task.call();
+            }
+
+            PrivilegedCarbonContext.startTenantFlow();
+            try {
+                PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                carbonContext.setTenantDomain(tenantDomain);
+                carbonContext.setTenantId(tenantId);
+                carbonContext.setOrganizationId(organizationId);
+                carbonContext.setUsername(username);
+                carbonContext.setUserId(userId);
+                IdentityUtil.threadLocalProperties.get().putAll(threadLocalProperties);
+                return task.call();
+            } finally {
+                IdentityUtil.threadLocalProperties.remove();
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        }
+    }
+
+    /**
+     * Thread factory creating daemon threads with a common name prefix.
+     */
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String poolName;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        NamedThreadFactory(String poolName) {
+
+            this.poolName = poolName;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, poolName + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorConfig;
+import org.wso2.carbon.identity.application.common.model.UserDefinedFederatedAuthenticatorConfig;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates copies of identity providers to be modified without affecting the cached identity provider.
+ * <p>
+ * The root level attributes of the identity provider are always copied. Only the branches declared by the caller
+ * are copied, the remaining branches (certificates, claim mappings, role mappings, etc.) are shared with the
+ * source and must be replaced rather than modified in the copy.
+ */
+public class IdentityProviderCopier {
+
+    /**
+     * Branches of the identity provider which are processed in place by the identity provider update flow, and
+     * therefore always copied when a copy is created for an update.
+     */
+    private static final Set<Branch> UPDATE_FLOW_BRANCHES =
+            EnumSet.of(Branch.FEDERATED_AUTHENTICATORS, Branch.PROVISIONING_CONNECTORS);
+
+    private IdentityProviderCopier() {
+
+    }
+
+    /**
+     * Branches of an identity provider which can be copied.
+     */
+    public enum Branch {
+
+        FEDERATED_AUTHENTICATORS,
+        PROVISIONING_CONNECTORS,
+        CLAIM_CONFIG,
+        PERMISSION_AND_ROLE_CONFIG,
+        IDP_PROPERTIES
+    }
+
+    /**
+     * Create a copy of the identity provider which will be passed to the identity provider update flow.
+     *
+     * @param identityProvider Identity provider to be copied.
+     * @param modifiedBranches Branches which will be modified in place in the copy.
+     * @return Copy of the identity provider, or null if the given identity provider is null.
+     * @throws IllegalStateException If the identity provider could not be copied.
+     */
+    public static IdentityProvider copyForUpdate(IdentityProvider identityProvider, Branch... modifiedBranches) {
+
+        Set<Branch> branches = EnumSet.copyOf(UPDATE_FLOW_BRANCHES);
+        branches.addAll(Arrays.asList(modifiedBranches));
+        return copy(identityProvider, branches);
+    }
+
+    /**
+     * Create a copy of the identity provider which copies only the given branches.
+     *
+     * @param identityProvider Identity provider to be copied.
+     * @param modifiedBranches Branches which will be modified in place in the copy.
+     * @return Copy of the identity provider, or null if the given identity provider is null.
+     * @throws IllegalStateException If the identity provider could not be copied.
+     */
+    public static IdentityProvider copy(IdentityProvider identityProvider, Branch... modifiedBranches) {
+
+        Set<Branch> branches = EnumSet.noneOf(Branch.class);
+        branches.addAll(Arrays.asList(modifiedBranches));
+        return copy(identityProvider, branches);
+    }
+
+    private static IdentityProvider copy(IdentityProvider identityProvider, Set<Branch> modifiedBranches) {
+
+        if (identityProvider == null) {
+            return null;
+        }
+        IdentityProvider clonedIdentityProvider = copyRootAttributes(identityProvider);
+        if (modifiedBranches.contains(Branch.FEDERATED_AUTHENTICATORS)) {
+            // Keep the default config pointing to the copied array element.
+            Map<FederatedAuthenticatorConfig, FederatedAuthenticatorConfig> copies = new IdentityHashMap<>();
+            clonedIdentityProvider.setFederatedAuthenticatorConfigs(ModelCopier.copyArray(
+                    identityProvider.getFederatedAuthenticatorConfigs(),
+                    config -> copies.computeIfAbsent(config, IdentityProviderCopier::copy)));
+            FederatedAuthenticatorConfig defaultConfig = identityProvider.getDefaultAuthenticatorConfig();
+            clonedIdentityProvider.setDefaultAuthenticatorConfig(defaultConfig == null ? null :
+                    copies.computeIfAbsent(defaultConfig, IdentityProviderCopier::copy));
+        }
+        if (modifiedBranches.contains(Branch.PROVISIONING_CONNECTORS)) {
+            Map<ProvisioningConnectorConfig, ProvisioningConnectorConfig> copies = new IdentityHashMap<>();
+            clonedIdentityProvider.setProvisioningConnectorConfigs(ModelCopier.copyArray(
+                    identityProvider.getProvisioningConnectorConfigs(),
+                    config -> copies.computeIfAbsent(config, IdentityProviderCopier::copy)));
+            ProvisioningConnectorConfig defaultConfig = identityProvider.getDefaultProvisioningConnectorConfig();
+            clonedIdentityProvider.setDefaultProvisioningConnectorConfig(defaultConfig == null ? null :
+                    copies.computeIfAbsent(defaultConfig, IdentityProviderCopier::copy));
+        }
+        if (modifiedBranches.contains(Branch.CLAIM_CONFIG)) {
+            clonedIdentityProvider.setClaimConfig(ModelCopier.copy(identityProvider.getClaimConfig()));
+        }
+        if (modifiedBranches.contains(Branch.PERMISSION_AND_ROLE_CONFIG)) {
+            clonedIdentityProvider.setPermissionAndRoleConfig(
+                    ModelCopier.copy(identityProvider.getPermissionAndRoleConfig()));
+        }
+        if (modifiedBranches.contains(Branch.IDP_PROPERTIES)) {
+            clonedIdentityProvider.setIdpProperties(ModelCopier.copyArray(identityProvider.getIdpProperties(),
+                    IdentityProviderCopier::copy));
+        }
+        return clonedIdentityProvider;
+    }
+
+    private static IdentityProvider copyRootAttributes(IdentityProvider identityProvider) {
+
+        IdentityProvider copy = new IdentityProvider();
+        copy.setId(identityProvider.getId());
+        copy.setResourceId(identityProvider.getResourceId());
+        copy.setIdentityProviderName(identityProvider.getIdentityProviderName());
+        copy.setIdentityProviderDescription(identityProvider.getIdentityProviderDescription());
+        copy.setDisplayName(identityProvider.getDisplayName());
+        copy.setAlias(identityProvider.getAlias());
+        copy.setHomeRealmId(identityProvider.getHomeRealmId());
+        copy.setImageUrl(identityProvider.getImageUrl());
+        copy.setTemplateId(identityProvider.getTemplateId());
+        copy.setPrimary(identityProvider.isPrimary());
+        copy.setFederationHub(identityProvider.isFederationHub());
+        copy.setEnable(identityProvider.isEnable());
+        copy.setCertificateInfoArray(identityProvider.getCertificateInfoArray());
+        copy.setProvisioningRole(identityProvider.getProvisioningRole());
+        copy.setClaimConfig(identityProvider.getClaimConfig());
+        copy.setPermissionAndRoleConfig(identityProvider.getPermissionAndRoleConfig());
+        copy.setFederatedAuthenticatorConfigs(identityProvider.getFederatedAuthenticatorConfigs());
+        copy.setDefaultAuthenticatorConfig(identityProvider.getDefaultAuthenticatorConfig());
+        copy.setProvisioningConnectorConfigs(identityProvider.getProvisioningConnectorConfigs());
+        copy.setDefaultProvisioningConnectorConfig(identityProvider.getDefaultProvisioningConnectorConfig());
+        copy.setJustInTimeProvisioningConfig(identityProvider.getJustInTimeProvisioningConfig());
+        copy.setIdpProperties(identityProvider.getIdpProperties());
+        copy.setFederatedAssociationConfig(identityProvider.getFederatedAssociationConfig());
+        copy.setIdPGroupConfig(identityProvider.getIdPGroupConfig());
+        return copy;
+    }
+
+    private static FederatedAuthenticatorConfig copy(FederatedAuthenticatorConfig config) {
+
+        if (config == null) {
+            return null;
+        }
+        FederatedAuthenticatorConfig copy;
+        if (config instanceof UserDefinedFederatedAuthenticatorConfig) {
+            UserDefinedFederatedAuthenticatorConfig userDefinedCopy = new UserDefinedFederatedAuthenticatorConfig();
+            userDefinedCopy.setEndpointConfig(((UserDefinedFederatedAuthenticatorConfig) config).getEndpointConfig());
+            copy = userDefinedCopy;
+        } else if (config.getClass() == FederatedAuthenticatorConfig.class) {
+            copy = new FederatedAuthenticatorConfig();
+        } else {
+            throw new IllegalStateException("Cannot copy a federated authenticator config of type: " +
+                    config.getClass().getName());
+        }
+        copy.setName(config.getName());
+        copy.setDisplayName(config.getDisplayName());
+        copy.setEnabled(config.isEnabled());
+        copy.setDefinedByType(config.getDefinedByType());
+        copy.setTags(config.getTags());
+        copy.setProperties(ModelCopier.copy(config.getProperties()));
+        return copy;
+    }
+
+    private static ProvisioningConnectorConfig copy(ProvisioningConnectorConfig config) {
+
+        if (config == null) {
+            return null;
+        }
+        ProvisioningConnectorConfig copy = new ProvisioningConnectorConfig();
+        copy.setName(config.getName());
+        copy.setEnabled(config.isEnabled());
+        copy.setBlocking(config.isBlocking());
+        copy.setRulesEnabled(config.isRulesEnabled());
+        copy.setProvisioningProperties(ModelCopier.copy(config.getProvisioningProperties()));
+        return copy;
+    }
+
+    private static IdentityProviderProperty copy(IdentityProviderProperty property) {
+
+        if (property == null) {
+            return null;
+        }
+        IdentityProviderProperty copy = new IdentityProviderProperty();
+        copy.setName(property.getName());
+        copy.setDisplayName(property.getDisplayName());
+        copy.setValue(property.getValue());
+        return copy;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Notify the APIs which cache data derived from the keystore of a tenant, such as the certificate aliases of the
+ * application metadata, when the keystore of the tenant is changed through the keystore API.
+ */
+public class KeyStoreChangeNotifier {
+
+    private static final Log LOG = LogFactory.getLog(KeyStoreChangeNotifier.class);
+    private static final List<Consumer<String>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private KeyStoreChangeNotifier() {
+
+    }
+
+    /**
+     * Add a listener of the keystore changes.
+     *
+     * @param listener Listener accepting the tenant domain of the changed keystore.
+     */
+    public static void addListener(Consumer<String> listener) {
+
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Notify the listeners that the keystore of a tenant is changed. A failing listener does not fail the change.
+     *
+     * @param tenantDomain Tenant domain of the changed keystore.
+     */
+    public static void notifyKeyStoreChanged(String tenantDomain) {
+
+        for (Consumer<String> listener : LISTENERS) {
+            try {
+                listener.accept(tenantDomain);
+            } catch (RuntimeException e) {
+                LOG.warn("Error while notifying the keystore change of the tenant: " + tenantDomain, e);
+            }
+        }
+    }
+}
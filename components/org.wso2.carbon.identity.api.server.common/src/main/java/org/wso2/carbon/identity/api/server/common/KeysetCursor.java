@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor of the keyset pagination.
+ * <p>
+ * A composite cursor holds the sort key and the id of the record it points to, so the records which share the same
+ * sort key are neither skipped nor repeated across pages. The sort key is length prefixed, so any character can be
+ * used in the sort key and the id. Cursors which are decoded by the underlying services hold a single value, in the
+ * format the services expect.
+ */
+public class KeysetCursor {
+
+    private static final char LENGTH_SEPARATOR = ':';
+
+    private final String sortKey;
+    private final String id;
+
+    private KeysetCursor(String sortKey, String id) {
+
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    /**
+     * Encode a composite cursor.
+     *
+     * @param sortKey Sort key of the record.
+     * @param id      Id of the record, which breaks the ties between the records with the same sort key.
+     * @return URL safe cursor.
+     */
+    public static String encode(String sortKey, String id) {
+
+        String key = sortKey == null ? "" : sortKey;
+        String cursor = key.length() + String.valueOf(LENGTH_SEPARATOR) + key + (id == null ? "" : id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a composite cursor.
+     *
+     * @param cursor Cursor built with {@link #encode(String, String)}.
+     * @return Decoded cursor.
+     * @throws IllegalArgumentException If the cursor is invalid.
+     */
+    public static KeysetCursor decode(String cursor) {
+
+        if (cursor == null) {
+            throw new IllegalArgumentException("Cursor cannot be null.");
+        }
+        String decodedCursor;
+        int separatorIndex;
+        int sortKeyLength;
+        try {
+            decodedCursor = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            separatorIndex = decodedCursor.indexOf(LENGTH_SEPARATOR);
+            sortKeyLength = separatorIndex > 0 ? Integer.parseInt(decodedCursor.substring(0, separatorIndex)) : -1;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        int sortKeyEnd = separatorIndex + 1 + sortKeyLength;
+        if (sortKeyLength < 0 || sortKeyEnd > decodedCursor.length()) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return new KeysetCursor(decodedCursor.substring(separatorIndex + 1, sortKeyEnd),
+                decodedCursor.substring(sortKeyEnd));
+    }
+
+    /**
+     * Decode a composite cursor, if the cursor is a valid composite cursor.
+     *
+     * @param cursor Cursor, which may not be built with {@link #encode(String, String)}.
+     * @return Decoded cursor, or null if the cursor is not a valid composite cursor.
+     */
+    public static KeysetCursor decodeIfValid(String cursor) {
+
+        try {
+            return decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Translate a composite cursor to the single value cursor expected by the services which decode the cursors
+     * themselves. The single value cursor holds the sort key of the composite cursor. A cursor which is not a valid
+     * composite cursor, such as a cursor issued before the composite cursors, is returned as it is, to be validated
+     * by the service.
+     *
+     * @param cursor Cursor of a listing, or null.
+     * @return Single value cursor, or null if the cursor is null.
+     */
+    public static String toValueCursor(String cursor) {
+
+        KeysetCursor keysetCursor = cursor == null ? null : decodeIfValid(cursor);
+        return keysetCursor == null ? cursor : encodeValue(keysetCursor.getSortKey());
+    }
+
+    /**
+     * Encode a cursor holding a single value, as expected by the services which decode the cursors themselves.
+     *
+     * @param value Value of the cursor. Ex: created timestamp of the record.
+     * @return Base64 encoded cursor.
+     */
+    public static String encodeValue(Object value) {
+
+        return Base64.getEncoder().encodeToString(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getSortKey() {
+
+        return sortKey;
+    }
+
+    public String getId() {
+
+        return id;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Page of the keyset (cursor based) pagination, built from the records retrieved for a page.
+ * <p>
+ * The records of a page are retrieved with a limit of one more than the page size, so the extra record tells whether
+ * there are more records after the page. The records before a cursor are retrieved in the reverse order, starting
+ * from the cursor. The page presents the records in the order of the listing without copying or modifying the
+ * retrieved records, and builds the links to the previous and the next pages.
+ *
+ * @param <T> Type of the records.
+ */
+public class KeysetPage<T> {
+
+    public static final String PAGINATION_AFTER = "after";
+    public static final String PAGINATION_BEFORE = "before";
+    public static final String PAGE_LINK_REL_NEXT = "next";
+    public static final String PAGE_LINK_REL_PREVIOUS = "previous";
+
+    private static final int SELECTION_INITIAL_CAPACITY = 1024;
+
+    private final List<T> records;
+    private final int size;
+    private final boolean reversed;
+    private final boolean hasPrevious;
+    private final boolean hasNext;
+
+    private KeysetPage(List<T> records, int limit, String after, String before) {
+
+        this.records = records == null ? Collections.emptyList() : records;
+        boolean hasMoreItems = this.records.size() > limit;
+        this.size = Math.max(Math.min(this.records.size(), limit), 0);
+        this.reversed = StringUtils.isNotBlank(before);
+        boolean isFirstPage = (StringUtils.isBlank(before) && StringUtils.isBlank(after)) ||
+                (StringUtils.isNotBlank(before) && !hasMoreItems);
+        boolean isLastPage = !hasMoreItems && (StringUtils.isNotBlank(after) || StringUtils.isBlank(before));
+        this.hasPrevious = size > 0 && !isFirstPage;
+        this.hasNext = size > 0 && !isLastPage;
+    }
+
+    /**
+     * Build a page from the retrieved records.
+     *
+     * @param records Records retrieved with a limit of one more than the page size. The records must be in the
+     *                reverse order when they are retrieved before a cursor.
+     * @param limit   Page size.
+     * @param after   Cursor after which the records are retrieved, or null.
+     * @param before  Cursor before which the records are retrieved, or null.
+     * @param <T>     Type of the records.
+     * @return Page of the records.
+     */
+    public static <T> KeysetPage<T> of(List<T> records, int limit, String after, String before) {
+
+        return new KeysetPage<>(records, limit, after, before);
+    }
+
+    /**
+     * Select the first records in the given order, from records which are not retrieved in that order. Only the
+     * selected records are held in memory while the records are iterated, so a page can be selected from a large
+     * listing.
+     *
+     * @param records Records to select from.
+     * @param filter  Filter of the records which can be selected. Ex: the records after the cursor.
+     * @param order   Order of the listing.
+     * @param count   Number of records to select. Select one more than the page size to find whether there are
+     *                more records after the page.
+     * @param <T>     Type of the records.
+     * @return Selected records, in the order of the listing.
+     */
+    public static <T> List<T> selectFirst(Iterable<T> records, Predicate<? super T> filter,
+                                          Comparator<? super T> order, int count) {
+
+        if (count <= 0) {
+            return Collections.emptyList();
+        }
+        // The last selected record is at the head of the queue, to be replaced by a record which comes before it.
+        PriorityQueue<T> selectedRecords = new PriorityQueue<>(Math.min(count, SELECTION_INITIAL_CAPACITY),
+                (record, otherRecord) -> order.compare(otherRecord, record));
+        for (T record : records) {
+            if (!filter.test(record)) {
+                continue;
+            }
+            if (selectedRecords.size() < count) {
+                selectedRecords.add(record);
+            } else if (order.compare(record, selectedRecords.peek()) < 0) {
+                selectedRecords.poll();
+                selectedRecords.add(record);
+            }
+        }
+        List<T> firstRecords = new ArrayList<>(selectedRecords);
+        firstRecords.sort(order);
+        return firstRecords;
+    }
+
+    /**
+     * Get the records of the page, in the order of the listing. The returned list is a view of the retrieved
+     * records and cannot be modified.
+     *
+     * @return Records of the page.
+     */
+    public List<T> getItems() {
+
+        return new PageView();
+    }
+
+    /**
+     * Map the records of the page, in the order of the listing.
+     *
+     * @param mapper Function mapping a record.
+     * @param <R>    Type of the mapped records.
+     * @return Mapped records of the page.
+     */
+    public <R> List<R> map(Function<? super T, ? extends R> mapper) {
+
+        List<R> mappedRecords = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            mappedRecords.add(mapper.apply(get(index)));
+        }
+        return mappedRecords;
+    }
+
+    public boolean isEmpty() {
+
+        return size == 0;
+    }
+
+    public boolean hasPrevious() {
+
+        return hasPrevious;
+    }
+
+    public boolean hasNext() {
+
+        return hasNext;
+    }
+
+    /**
+     * Build the links to the previous and the next pages.
+     *
+     * @param pageUrl       URL of the listing with its query parameters, to which the cursor parameter is appended.
+     *                      Ex: https://localhost:9443/t/carbon.super/api/server/v1/organizations?limit=10
+     * @param cursorEncoder Function building the cursor of a record. The cursor is URL encoded in the links.
+     * @param linkFactory   Function building a link from its href and its relation.
+     * @param <L>           Type of the links.
+     * @return Links to the previous and the next pages.
+     */
+    public <L> List<L> buildLinks(String pageUrl, Function<? super T, String> cursorEncoder,
+                                  BiFunction<String, String, L> linkFactory) {
+
+        List<L> links = new ArrayList<>(2);
+        if (hasPrevious) {
+            links.add(linkFactory.apply(buildPageHref(pageUrl, PAGINATION_BEFORE, cursorEncoder.apply(get(0))),
+                    PAGE_LINK_REL_PREVIOUS));
+        }
+        if (hasNext) {
+            links.add(linkFactory.apply(buildPageHref(pageUrl, PAGINATION_AFTER,
+                    cursorEncoder.apply(get(size - 1))), PAGE_LINK_REL_NEXT));
+        }
+        return links;
+    }
+
+    private static String buildPageHref(String pageUrl, String cursorParam, String cursor) {
+
+        char separator = pageUrl.indexOf('?') < 0 ? '?' : '&';
+        try {
+            return pageUrl + separator + cursorParam + '=' + URLEncoder.encode(cursor, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            // UTF-8 is supported by every Java platform.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private T get(int index) {
+
+        return records.get(reversed ? size - 1 - index : index);
+    }
+
+    /**
+     * Read only view of the records of the page.
+     */
+    private class PageView extends AbstractList<T> implements RandomAccess {
+
+        @Override
+        public T get(int index) {
+
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return KeysetPage.this.get(index);
+        }
+
+        @Override
+        public int size() {
+
+            return size;
+        }
+    }
+}
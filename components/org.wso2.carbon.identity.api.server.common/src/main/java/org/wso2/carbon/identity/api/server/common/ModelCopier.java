@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.PermissionsAndRoleConfig;
+import org.wso2.carbon.identity.application.common.model.Property;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Copies of the model objects which are shared by identity providers and service providers.
+ * <p>
+ * Each copy carries over the attributes of the given object. Arrays held by the copied object are shared with the
+ * source unless stated otherwise, since the update flows replace those arrays rather than modifying them.
+ */
+final class ModelCopier {
+
+    private ModelCopier() {
+
+    }
+
+    /**
+     * Copy an array, copying each of its elements with the given copier.
+     *
+     * @param source        Array to be copied.
+     * @param elementCopier Copier of the array elements.
+     * @param <T>           Type of the array elements.
+     * @return Copy of the array, or null if the given array is null.
+     */
+    static <T> T[] copyArray(T[] source, UnaryOperator<T> elementCopier) {
+
+        if (source == null) {
+            return null;
+        }
+        T[] copy = source.clone();
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = elementCopier.apply(copy[i]);
+        }
+        return copy;
+    }
+
+    static Property copy(Property property) {
+
+        if (property == null) {
+            return null;
+        }
+        Property copy = new Property();
+        copy.setName(property.getName());
+        copy.setValue(property.getValue());
+        copy.setDisplayName(property.getDisplayName());
+        copy.setDescription(property.getDescription());
+        copy.setDefaultValue(property.getDefaultValue());
+        copy.setType(property.getType());
+        copy.setRegex(property.getRegex());
+        copy.setOptions(property.getOptions());
+        copy.setRequired(property.isRequired());
+        copy.setConfidential(property.isConfidential());
+        copy.setAdvanced(property.isAdvanced());
+        copy.setDisplayOrder(property.getDisplayOrder());
+        copy.setSubProperties(property.getSubProperties());
+        return copy;
+    }
+
+    static Property[] copy(Property[] properties) {
+
+        return copyArray(properties, ModelCopier::copy);
+    }
+
+    static ClaimConfig copy(ClaimConfig claimConfig) {
+
+        if (claimConfig == null) {
+            return null;
+        }
+        ClaimConfig copy = new ClaimConfig();
+        copy.setRoleClaimURI(claimConfig.getRoleClaimURI());
+        copy.setUserClaimURI(claimConfig.getUserClaimURI());
+        copy.setLocalClaimDialect(claimConfig.isLocalClaimDialect());
+        copy.setIdpClaims(claimConfig.getIdpClaims());
+        copy.setClaimMappings(claimConfig.getClaimMappings());
+        copy.setAlwaysSendMappedLocalSubjectId(claimConfig.isAlwaysSendMappedLocalSubjectId());
+        copy.setMappedLocalSubjectMandatory(claimConfig.isMappedLocalSubjectMandatory());
+        copy.setSpClaimDialects(claimConfig.getSpClaimDialects());
+        return copy;
+    }
+
+    static PermissionsAndRoleConfig copy(PermissionsAndRoleConfig permissionsAndRoleConfig) {
+
+        if (permissionsAndRoleConfig == null) {
+            return null;
+        }
+        PermissionsAndRoleConfig copy = new PermissionsAndRoleConfig();
+        copy.setPermissions(permissionsAndRoleConfig.getPermissions());
+        copy.setRoleMappings(permissionsAndRoleConfig.getRoleMappings());
+        copy.setIdpRoles(permissionsAndRoleConfig.getIdpRoles());
+        return copy;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.ServiceRegistration;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+
+/**
+ * Register the OSGi services provided by the APIs, such as the listeners of the identity services. The APIs are
+ * hosted in a webapp which is not an OSGi bundle, so the services are registered with the bundle context of the
+ * bundle providing the carbon context.
+ */
+public class OSGiServiceRegistrar {
+
+    private static final Log LOG = LogFactory.getLog(OSGiServiceRegistrar.class);
+
+    private OSGiServiceRegistrar() {
+
+    }
+
+    /**
+     * Register an OSGi service.
+     *
+     * @param serviceClass Class under which the service is registered.
+     * @param service      Service to be registered.
+     * @param <S>          Type of the service.
+     * @return Registration of the service, or null if the OSGi framework is not available.
+     */
+    public static <S> ServiceRegistration<S> register(Class<S> serviceClass, S service) {
+
+        Bundle bundle = FrameworkUtil.getBundle(PrivilegedCarbonContext.class);
+        BundleContext bundleContext = bundle == null ? null : bundle.getBundleContext();
+        if (bundleContext == null) {
+            LOG.warn("OSGi framework is not available to register the service: " + service.getClass().getName());
+            return null;
+        }
+        return bundleContext.registerService(serviceClass, service, null);
+    }
+
+    /**
+     * Unregister an OSGi service, if it is not unregistered yet.
+     *
+     * @param registration Registration of the service, or null.
+     */
+    public static void unregister(ServiceRegistration<?> registration) {
+
+        if (registration == null) {
+            return;
+        }
+        try {
+            registration.unregister();
+        } catch (IllegalStateException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("The service is already unregistered.", e);
+            }
+        }
+    }
+}
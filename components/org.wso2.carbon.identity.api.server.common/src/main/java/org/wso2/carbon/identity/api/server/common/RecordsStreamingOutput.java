@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.commons.lang.StringUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Writes a listing to the response as the records are iterated, without building the response models of all the
+ * records in memory.
+ * <p>
+ * The records are written as a JSON array, as newline delimited JSON or as CSV. The output is flushed after every
+ * {@value #FLUSH_INTERVAL} records, so the container sends the response in chunks while the listing is written.
+ *
+ * @param <T> Type of the records.
+ */
+public class RecordsStreamingOutput<T> implements StreamingOutput {
+
+    private static final int FLUSH_INTERVAL = 500;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    // Leading characters which make spreadsheet applications evaluate a CSV value as a formula.
+    private static final String CSV_FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Iterable<T> records;
+    private final Format format;
+    private final String[] fields;
+    private final Function<? super T, String[]> rowMapper;
+    private String nextCursor;
+
+    /**
+     * Create a streaming output of the records.
+     *
+     * @param records   Records to be written.
+     * @param format    Format of the output.
+     * @param fields    Names of the fields of a record, used as the JSON field names and the CSV header.
+     * @param rowMapper Function mapping a record to the values of its fields, in the order of the field names.
+     */
+    public RecordsStreamingOutput(Iterable<T> records, Format format, String[] fields,
+                                  Function<? super T, String[]> rowMapper) {
+
+        this.records = records;
+        this.format = format;
+        this.fields = fields.clone();
+        this.rowMapper = rowMapper;
+    }
+
+    public Format getFormat() {
+
+        return format;
+    }
+
+    /**
+     * Get the cursor of the records after the written records, when the written records are a page of a listing.
+     *
+     * @return Cursor of the next page, or null if there are no more records.
+     */
+    public String getNextCursor() {
+
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Build the value of the Link header pointing to the next page. The link is relative to the request URL, so only
+     * the query of the next page is built.
+     * Ex: {@code <?limit=100&after=NzpQUklNQVJZam9obg>; rel="next"}
+     *
+     * @param queryParams Query parameters of the listing, excluding the cursor. Parameters without a value are
+     *                    skipped.
+     * @param cursorParam Name of the query parameter of the cursor.
+     * @return Value of the Link header, or null if there are no more records.
+     */
+    public String buildNextPageLink(Map<String, String> queryParams, String cursorParam) {
+
+        if (nextCursor == null) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder("?");
+        for (Map.Entry<String, String> queryParam : queryParams.entrySet()) {
+            if (StringUtils.isNotBlank(queryParam.getValue())) {
+                query.append(queryParam.getKey()).append('=').append(urlEncode(queryParam.getValue())).append('&');
+            }
+        }
+        query.append(cursorParam).append('=').append(urlEncode(nextCursor));
+        return "<" + query + ">; rel=\"" + KeysetPage.PAGE_LINK_REL_NEXT + "\"";
+    }
+
+    @Override
+    public void write(OutputStream outputStream) throws IOException {
+
+        if (format == Format.CSV) {
+            writeCsv(outputStream);
+        } else {
+            writeJson(outputStream);
+        }
+    }
+
+    private void writeJson(OutputStream outputStream) throws IOException {
+
+        JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8);
+        // Keep the response stream open for the container to complete the response.
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        boolean isArray = format == Format.JSON;
+        if (isArray) {
+            generator.writeStartArray();
+        } else {
+            generator.setRootValueSeparator(null);
+        }
+        int count = 0;
+        for (T record : records) {
+            String[] values = rowMapper.apply(record);
+            generator.writeStartObject();
+            for (int index = 0; index < fields.length; index++) {
+                if (values[index] != null) {
+                    generator.writeStringField(fields[index], values[index]);
+                }
+            }
+            generator.writeEndObject();
+            if (!isArray) {
+                generator.writeRaw('\n');
+            }
+            if (++count % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        }
+        if (isArray) {
+            generator.writeEndArray();
+        }
+        generator.close();
+    }
+
+    private void writeCsv(OutputStream outputStream) throws IOException {
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeCsvRow(writer, fields);
+        int count = 0;
+        for (T record : records) {
+            writeCsvRow(writer, rowMapper.apply(record));
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private static String urlEncode(String value) {
+
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException("Error while encoding the query parameter: " + value, e);
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, String[] values) throws IOException {
+
+        for (int index = 0; index < values.length; index++) {
+            if (index > 0) {
+                writer.write(',');
+            }
+            writeCsvValue(writer, values[index]);
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+
+        if (value == null) {
+            return;
+        }
+        if (!value.isEmpty() && CSV_FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (StringUtils.containsNone(value, new char[]{',', '"', '\r', '\n'})) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    /**
+     * Formats of the streamed listings.
+     */
+    public enum Format {
+
+        JSON("application/json"),
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String mediaType;
+
+        Format(String mediaType) {
+
+            this.mediaType = mediaType;
+        }
+
+        public String getMediaType() {
+
+            return mediaType;
+        }
+
+        /**
+         * Resolve the format from the Accept header of the request. The supported media type with the highest quality
+         * value is used, and the first one in the header among media types of the same quality. Media types with a
+         * quality value of 0 are not acceptable. The listing is written as a JSON array if the header does not name
+         * an acceptable supported media type.
+         *
+         * @param accept Accept header of the request.
+         * @return Format of the listing.
+         */
+        public static Format fromAcceptHeader(String accept) {
+
+            if (StringUtils.isBlank(accept)) {
+                return JSON;
+            }
+            Format preferredFormat = JSON;
+            float preferredQuality = 0;
+            for (String mediaRange : accept.split(",")) {
+                String[] mediaRangeParts = mediaRange.split(";");
+                Format format = fromMediaType(mediaRangeParts[0].trim().toLowerCase(Locale.ENGLISH));
+                if (format == null) {
+                    continue;
+                }
+                float quality = getQuality(mediaRangeParts);
+                if (quality > preferredQuality) {
+                    preferredFormat = format;
+                    preferredQuality = quality;
+                }
+            }
+            return preferredFormat;
+        }
+
+        private static Format fromMediaType(String mediaType) {
+
+            for (Format format : values()) {
+                if (format.mediaType.equals(mediaType)) {
+                    return format;
+                }
+            }
+            return null;
+        }
+
+        private static float getQuality(String[] mediaRangeParts) {
+
+            for (int index = 1; index < mediaRangeParts.length; index++) {
+                String parameter = mediaRangeParts[index].trim();
+                if (parameter.length() > 2 && StringUtils.startsWithIgnoreCase(parameter, "q=")) {
+                    try {
+                        return Math.max(0, Math.min(1, Float.parseFloat(parameter.substring(2).trim())));
+                    } catch (NumberFormatException e) {
+                        // An invalid quality value is ignored, as the default quality applies.
+                        return 1;
+                    }
+                }
+            }
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import java.net.URI;
+
+/**
+ * Builds the links of the resources listed in a response body.
+ * <p>
+ * The tenant or organization qualified base path of the resource collection is resolved through
+ * {@link ContextLoader#buildURIForBody(String)} once, when the builder is created, and the links of the individual
+ * resources are built by appending their path segments to it. A builder is meant to be created for a single
+ * request and must not be shared between requests, as the base path depends on the context of the request.
+ */
+public class ResourceLinkBuilder {
+
+    private static final char PATH_SEPARATOR = '/';
+
+    private final String basePath;
+
+    /**
+     * Create a link builder for the resources of the given collection, which builds relative links.
+     *
+     * @param collectionEndpoint Relative endpoint path of the resource collection. Ex: /v1/identity-providers
+     */
+    public ResourceLinkBuilder(String collectionEndpoint) {
+
+        this(ContextLoader.buildURIForBody(collectionEndpoint));
+    }
+
+    private ResourceLinkBuilder(URI collectionURI) {
+
+        this.basePath = collectionURI.toString();
+    }
+
+    /**
+     * Create a link builder for the resources of the given collection, which builds fully qualified links
+     * as done by {@link ContextLoader#buildURIForHeader(String)}.
+     *
+     * @param collectionEndpoint Relative endpoint path of the resource collection. Ex: /v1/keystores/certs
+     * @return Link builder building fully qualified links.
+     */
+    public static ResourceLinkBuilder forAbsoluteLinks(String collectionEndpoint) {
+
+        return new ResourceLinkBuilder(ContextLoader.buildURIForHeader(collectionEndpoint));
+    }
+
+    /**
+     * Build the URI of a resource in the collection.
+     * Ex: /t/<tenant-domain>/api/server/v1/identity-providers/<idp-id>
+     *
+     * @param pathSegments Path segments of the resource relative to the collection.
+     * @return URI of the resource.
+     */
+    public URI buildURI(String... pathSegments) {
+
+        return URI.create(build(pathSegments));
+    }
+
+    /**
+     * Build the URL of a resource in the collection.
+     * Ex: /t/<tenant-domain>/api/server/v1/identity-providers/<idp-id>
+     *
+     * @param pathSegments Path segments of the resource relative to the collection.
+     * @return URL of the resource.
+     */
+    public String build(String... pathSegments) {
+
+        int length = basePath.length();
+        for (String pathSegment : pathSegments) {
+            length += String.valueOf(pathSegment).length() + 1;
+        }
+        StringBuilder link = new StringBuilder(length).append(basePath);
+        for (String pathSegment : pathSegments) {
+            link.append(PATH_SEPARATOR).append(pathSegment);
+        }
+        return link.toString();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of serializer instances which are expensive to build and are not thread safe, such as SnakeYAML
+ * loaders and dumpers. An instance is borrowed for a single serialization and released in a finally block once the
+ * serialization is over. A new instance is built when the pool is empty and surplus instances are discarded on
+ * release.
+ *
+ * @param <T> Type of the pooled serializer.
+ */
+public class SerializerPool<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Supplier<T> factory;
+    private final BlockingQueue<T> instances;
+
+    public SerializerPool(Supplier<T> factory) {
+
+        this(factory, DEFAULT_CAPACITY);
+    }
+
+    public SerializerPool(Supplier<T> factory, int capacity) {
+
+        this.factory = factory;
+        this.instances = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Borrow a serializer instance from the pool.
+     *
+     * @return Pooled instance or a newly built instance if the pool is empty.
+     */
+    public T borrow() {
+
+        T instance = instances.poll();
+        return instance != null ? instance : factory.get();
+    }
+
+    /**
+     * Return a serializer instance to the pool. Only instances which keep no state between serializations, such as
+     * SnakeYAML instances which build their parser or emitter for each call, are to be pooled.
+     *
+     * @param instance Instance to be returned.
+     */
+    public void release(T instance) {
+
+        instances.offer(instance);
+    }
+}
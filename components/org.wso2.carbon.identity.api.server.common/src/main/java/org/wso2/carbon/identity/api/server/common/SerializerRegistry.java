@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.UnmarshalException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+/**
+ * Registry of the serializers used by the resource import and export APIs.
+ * JAXB contexts and Jackson object mappers are built once per set of bound types and shared across requests.
+ * JAXB marshallers and unmarshallers, which are not thread safe, are pooled per context.
+ */
+public class SerializerRegistry {
+
+    private static final Log LOG = LogFactory.getLog(SerializerRegistry.class);
+    private static final int MARSHALLER_POOL_CAPACITY = 16;
+
+    private static final Map<List<Class<?>>, JAXBEntry> JAXB_ENTRIES = new ConcurrentHashMap<>();
+    private static final Map<List<Class<?>>, ObjectMapper> OBJECT_MAPPERS = new ConcurrentHashMap<>();
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+
+    private SerializerRegistry() {
+
+    }
+
+    /**
+     * Get the shared JAXB context bound to the given types.
+     *
+     * @param boundTypes Types to be bound to the context. The first type is the root type.
+     * @return Shared JAXB context.
+     * @throws JAXBException If the context could not be built.
+     */
+    public static JAXBContext getJAXBContext(Class<?>... boundTypes) throws JAXBException {
+
+        return getJAXBEntry(boundTypes).context;
+    }
+
+    /**
+     * Marshal the given object to a formatted XML string.
+     *
+     * @param source     Object to be marshalled.
+     * @param listener   Marshaller listener to be notified during marshalling. Can be null.
+     * @param boundTypes Types bound to the JAXB context.
+     * @return XML string of the object.
+     * @throws JAXBException If the object could not be marshalled.
+     */
+    public static String marshal(Object source, Marshaller.Listener listener, Class<?>... boundTypes)
+            throws JAXBException {
+
+        StringWriter writer = new StringWriter();
+        JAXBEntry entry = getJAXBEntry(boundTypes);
+        Marshaller marshaller = entry.borrowMarshaller();
+        marshaller.setListener(listener);
+        marshaller.marshal(source, writer);
+        entry.releaseMarshaller(marshaller);
+        return writer.toString();
+    }
+
+    /**
+     * Marshal the given object as formatted XML directly to the given output stream, without building an
+     * intermediate string. The stream is not closed.
+     *
+     * @param source       Object to be marshalled.
+     * @param listener     Marshaller listener to be notified during marshalling. Can be null.
+     * @param outputStream Stream to write the XML content to.
+     * @param boundTypes   Types bound to the JAXB context.
+     * @throws JAXBException If the object could not be marshalled.
+     */
+    public static void marshal(Object source, Marshaller.Listener listener, OutputStream outputStream,
+                               Class<?>... boundTypes) throws JAXBException {
+
+        JAXBEntry entry = getJAXBEntry(boundTypes);
+        Marshaller marshaller = entry.borrowMarshaller();
+        marshaller.setListener(listener);
+        marshaller.marshal(source, outputStream);
+        entry.releaseMarshaller(marshaller);
+    }
+
+    /**
+     * Unmarshal an object from the given XML reader.
+     *
+     * @param reader     Reader of the XML content.
+     * @param boundTypes Types bound to the JAXB context.
+     * @return Unmarshalled object.
+     * @throws JAXBException If the content could not be unmarshalled.
+     */
+    public static Object unmarshal(Reader reader, Class<?>... boundTypes) throws JAXBException {
+
+        JAXBEntry entry = getJAXBEntry(boundTypes);
+        Unmarshaller unmarshaller = entry.borrowUnmarshaller();
+        Object result = unmarshaller.unmarshal(reader);
+        entry.releaseUnmarshaller(unmarshaller);
+        return result;
+    }
+
+    /**
+     * Unmarshal an object by streaming the XML content of the given input stream. DTDs and external entities are
+     * not supported and unmarshalling fails as soon as the configured maximum number of XML elements is exceeded.
+     *
+     * @param inputStream Stream of the XML content.
+     * @param boundTypes  Types bound to the JAXB context.
+     * @return Unmarshalled object.
+     * @throws JAXBException If the content could not be unmarshalled or exceeds the element limit.
+     */
+    public static Object unmarshal(InputStream inputStream, Class<?>... boundTypes) throws JAXBException {
+
+        JAXBEntry entry = getJAXBEntry(boundTypes);
+        XMLStreamReader streamReader = null;
+        try {
+            streamReader = new ElementLimitingStreamReader(XML_INPUT_FACTORY.createXMLStreamReader(inputStream),
+                    BoundedImportInputStream.getMaxImportXmlElements());
+            Unmarshaller unmarshaller = entry.borrowUnmarshaller();
+            Object result = unmarshaller.unmarshal(streamReader);
+            entry.releaseUnmarshaller(unmarshaller);
+            return result;
+        } catch (XMLStreamException e) {
+            throw new UnmarshalException(e);
+        } finally {
+            if (streamReader != null) {
+                try {
+                    streamReader.close();
+                } catch (XMLStreamException e) {
+                    LOG.debug("Error while closing the XML stream reader.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get a shared object reader for the given type.
+     *
+     * @param valueType Type to be read.
+     * @param subtypes  Subtypes to be registered for polymorphic properties.
+     * @return Immutable object reader.
+     */
+    public static ObjectReader getObjectReader(Class<?> valueType, Class<?>... subtypes) {
+
+        return getObjectMapper(subtypes).readerFor(valueType);
+    }
+
+    /**
+     * Get a shared object writer.
+     *
+     * @param subtypes Subtypes to be registered for polymorphic properties.
+     * @return Immutable object writer.
+     */
+    public static ObjectWriter getObjectWriter(Class<?>... subtypes) {
+
+        return getObjectMapper(subtypes).writer();
+    }
+
+    private static XMLInputFactory createXMLInputFactory() {
+
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+
+    private static ObjectMapper getObjectMapper(Class<?>... subtypes) {
+
+        return OBJECT_MAPPERS.computeIfAbsent(Arrays.asList(subtypes), key -> {
+            ObjectMapper objectMapper = new ObjectMapper();
+            objectMapper.registerSubtypes(subtypes);
+            return objectMapper;
+        });
+    }
+
+    private static JAXBEntry getJAXBEntry(Class<?>... boundTypes) throws JAXBException {
+
+        List<Class<?>> key = Arrays.asList(boundTypes);
+        JAXBEntry entry = JAXB_ENTRIES.get(key);
+        if (entry == null) {
+            // Concurrent first requests may build the context twice, but only one of them is retained.
+            entry = new JAXBEntry(JAXBContext.newInstance(boundTypes));
+            JAXBEntry existingEntry = JAXB_ENTRIES.putIfAbsent(key, entry);
+            if (existingEntry != null) {
+                entry = existingEntry;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * JAXB context with its pooled marshallers and unmarshallers.
+     */
+    private static class JAXBEntry {
+
+        private final JAXBContext context;
+        private final BlockingQueue<Marshaller> marshallers = new ArrayBlockingQueue<>(MARSHALLER_POOL_CAPACITY);
+        private final BlockingQueue<Unmarshaller> unmarshallers =
+                new ArrayBlockingQueue<>(MARSHALLER_POOL_CAPACITY);
+
+        JAXBEntry(JAXBContext context) {
+
+            this.context = context;
+        }
+
+        Marshaller borrowMarshaller() throws JAXBException {
+
+            Marshaller marshaller = marshallers.poll();
+            if (marshaller == null) {
+                marshaller = context.createMarshaller();
+                marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            }
+            return marshaller;
+        }
+
+        void releaseMarshaller(Marshaller marshaller) {
+
+            marshaller.setListener(null);
+            marshallers.offer(marshaller);
+        }
+
+        Unmarshaller borrowUnmarshaller() throws JAXBException {
+
+            Unmarshaller unmarshaller = unmarshallers.poll();
+            return unmarshaller != null ? unmarshaller : context.createUnmarshaller();
+        }
+
+        void releaseUnmarshaller(Unmarshaller unmarshaller) {
+
+            unmarshaller.setListener(null);
+            unmarshallers.offer(unmarshaller);
+        }
+    }
+
+    /**
+     * XML stream reader which fails once the number of read elements exceeds the given limit.
+     */
+    private static class ElementLimitingStreamReader extends StreamReaderDelegate {
+
+        private final int maxElements;
+        private int elementCount;
+
+        ElementLimitingStreamReader(XMLStreamReader reader, int maxElements) {
+
+            super(reader);
+            this.maxElements = maxElements;
+        }
+
+        @Override
+        public int next() throws XMLStreamException {
+
+            return countElement(super.next());
+        }
+
+        @Override
+        public int nextTag() throws XMLStreamException {
+
+            return countElement(super.nextTag());
+        }
+
+        private int countElement(int event) throws XMLStreamException {
+
+            if (event == XMLStreamConstants.START_ELEMENT && ++elementCount > maxElements) {
+                throw new XMLStreamException("The imported file exceeds the maximum allowed number of " +
+                        maxElements + " XML elements.");
+            }
+            return event;
+        }
+    }
+}
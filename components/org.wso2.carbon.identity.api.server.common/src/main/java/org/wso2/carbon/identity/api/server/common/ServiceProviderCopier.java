@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.wso2.carbon.identity.application.common.model.InboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.InboundAuthenticationRequestConfig;
+import org.wso2.carbon.identity.application.common.model.InboundProvisioningConfig;
+import org.wso2.carbon.identity.application.common.model.LocalAndOutboundAuthenticationConfig;
+import org.wso2.carbon.identity.application.common.model.OutboundProvisioningConfig;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.common.model.ServiceProviderProperty;
+
+/**
+ * Creates copies of service providers to be modified without affecting the cached service provider.
+ * <p>
+ * The root level attributes of the service provider and the configs which the application update flow modifies in
+ * place (inbound authentication, local and outbound authentication, claim, role, provisioning configs and the
+ * service provider properties) are copied. The remaining sub-structures (authentication steps, claim mappings,
+ * request path authenticators, owner, etc.) are shared with the source and must be replaced rather than modified in
+ * the copy.
+ */
+public class ServiceProviderCopier {
+
+    private ServiceProviderCopier() {
+
+    }
+
+    /**
+     * Create a copy of the service provider which will be passed to the application update flow.
+     *
+     * @param serviceProvider Service provider to be copied.
+     * @return Copy of the service provider, or null if the given service provider is null.
+     */
+    public static ServiceProvider copyForUpdate(ServiceProvider serviceProvider) {
+
+        if (serviceProvider == null) {
+            return null;
+        }
+        ServiceProvider copy = new ServiceProvider();
+        copy.setApplicationID(serviceProvider.getApplicationID());
+        copy.setApplicationResourceId(serviceProvider.getApplicationResourceId());
+        copy.setApplicationName(serviceProvider.getApplicationName());
+        copy.setApplicationVersion(serviceProvider.getApplicationVersion());
+        copy.setDescription(serviceProvider.getDescription());
+        copy.setTemplateId(serviceProvider.getTemplateId());
+        copy.setTemplateVersion(serviceProvider.getTemplateVersion());
+        copy.setOwner(serviceProvider.getOwner());
+        copy.setCertificateContent(serviceProvider.getCertificateContent());
+        copy.setJwksUri(serviceProvider.getJwksUri());
+        copy.setImageUrl(serviceProvider.getImageUrl());
+        copy.setAccessUrl(serviceProvider.getAccessUrl());
+        copy.setSaasApp(serviceProvider.isSaasApp());
+        copy.setDiscoverable(serviceProvider.isDiscoverable());
+        copy.setDiscoverableGroups(serviceProvider.getDiscoverableGroups());
+        copy.setManagementApp(serviceProvider.isManagementApp());
+        copy.setB2BSelfServiceApp(serviceProvider.isB2BSelfServiceApp());
+        copy.setAPIBasedAuthenticationEnabled(serviceProvider.isAPIBasedAuthenticationEnabled());
+        copy.setApplicationEnabled(serviceProvider.isApplicationEnabled());
+        copy.setClientAttestationMetaData(serviceProvider.getClientAttestationMetaData());
+        copy.setTrustedAppMetadata(serviceProvider.getTrustedAppMetadata());
+        copy.setAssociatedRolesConfig(serviceProvider.getAssociatedRolesConfig());
+        copy.setRequestPathAuthenticatorConfigs(serviceProvider.getRequestPathAuthenticatorConfigs());
+
+        copy.setInboundAuthenticationConfig(copy(serviceProvider.getInboundAuthenticationConfig()));
+        copy.setLocalAndOutBoundAuthenticationConfig(copy(serviceProvider.getLocalAndOutBoundAuthenticationConfig()));
+        copy.setClaimConfig(ModelCopier.copy(serviceProvider.getClaimConfig()));
+        copy.setPermissionAndRoleConfig(ModelCopier.copy(serviceProvider.getPermissionAndRoleConfig()));
+        copy.setInboundProvisioningConfig(copy(serviceProvider.getInboundProvisioningConfig()));
+        copy.setOutboundProvisioningConfig(copy(serviceProvider.getOutboundProvisioningConfig()));
+        copy.setSpProperties(ModelCopier.copyArray(serviceProvider.getSpProperties(), ServiceProviderCopier::copy));
+        return copy;
+    }
+
+    private static InboundAuthenticationConfig copy(InboundAuthenticationConfig config) {
+
+        if (config == null) {
+            return null;
+        }
+        InboundAuthenticationConfig copy = new InboundAuthenticationConfig();
+        copy.setInboundAuthenticationRequestConfigs(ModelCopier.copyArray(
+                config.getInboundAuthenticationRequestConfigs(), ServiceProviderCopier::copy));
+        return copy;
+    }
+
+    private static InboundAuthenticationRequestConfig copy(InboundAuthenticationRequestConfig config) {
+
+        if (config == null) {
+            return null;
+        }
+        InboundAuthenticationRequestConfig copy = new InboundAuthenticationRequestConfig();
+        copy.setInboundAuthKey(config.getInboundAuthKey());
+        copy.setInboundAuthType(config.getInboundAuthType());
+        copy.setInboundConfigType(config.getInboundConfigType());
+        copy.setFriendlyName(config.getFriendlyName());
+        copy.setInboundConfiguration(config.getInboundConfiguration());
+        copy.setInboundConfigurationProtocol(config.getInboundConfigurationProtocol());
+        copy.setProperties(ModelCopier.copy(config.getProperties()));
+        return copy;
+    }
+
+    private static LocalAndOutboundAuthenticationConfig copy(LocalAndOutboundAuthenticationConfig config) {
+
+        if (config == null) {
+            return null;
+        }
+        LocalAndOutboundAuthenticationConfig copy = new LocalAndOutboundAuthenticationConfig();
+        copy.setAuthenticationType(config.getAuthenticationType());
+        copy.setAuthenticationSteps(config.getAuthenticationSteps());
+        copy.setAuthenticationStepForSubject(config.getAuthenticationStepForSubject());
+        copy.setAuthenticationStepForAttributes(config.getAuthenticationStepForAttributes());
+        copy.setAuthenticationScriptConfig(config.getAuthenticationScriptConfig());
+        copy.setSubjectClaimUri(config.getSubjectClaimUri());
+        copy.setAlwaysSendBackAuthenticatedListOfIdPs(config.isAlwaysSendBackAuthenticatedListOfIdPs());
+        copy.setUseTenantDomainInLocalSubjectIdentifier(config.isUseTenantDomainInLocalSubjectIdentifier());
+        copy.setUseUserstoreDomainInLocalSubjectIdentifier(config.isUseUserstoreDomainInLocalSubjectIdentifier());
+        copy.setUseUserstoreDomainInRoles(config.isUseUserstoreDomainInRoles());
+        copy.setEnableAuthorization(config.isEnableAuthorization());
+        copy.setSkipConsent(config.isSkipConsent());
+        copy.setSkipLogoutConsent(config.isSkipLogoutConsent());
+        copy.setUseExternalConsentPage(config.isUseExternalConsentPage());
+        return copy;
+    }
+
+    private static InboundProvisioningConfig copy(InboundProvisioningConfig config) {
+
+        if (config == null) {
+            return null;
+        }
+        InboundProvisioningConfig copy = new InboundProvisioningConfig();
+        copy.setProvisioningEnabled(config.isProvisioningEnabled());
+        copy.setProvisioningUserStore(config.getProvisioningUserStore());
+        copy.setDumbMode(config.isDumbMode());
+        return copy;
+    }
+
+    private static OutboundProvisioningConfig copy(OutboundProvisioningConfig config) {
+
+        if (config == null) {
+            return null;
+        }
+        OutboundProvisioningConfig copy = new OutboundProvisioningConfig();
+        copy.setProvisioningIdentityProviders(config.getProvisioningIdentityProviders());
+        copy.setProvisionByRoleList(config.getProvisionByRoleList());
+        return copy;
+    }
+
+    private static ServiceProviderProperty copy(ServiceProviderProperty property) {
+
+        if (property == null) {
+            return null;
+        }
+        ServiceProviderProperty copy = new ServiceProviderProperty();
+        copy.setName(property.getName());
+        copy.setDisplayName(property.getDisplayName());
+        copy.setValue(property.getValue());
+        return copy;
+    }
+}
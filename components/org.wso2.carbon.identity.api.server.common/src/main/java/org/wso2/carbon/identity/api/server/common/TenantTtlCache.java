@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Bounded in-memory cache of values which are built per tenant, such as the in-memory indexes of the APIs.
+ * <p>
+ * A value expires when the configured timeout elapses after it is loaded. Concurrent requests for a missing or an
+ * expired value wait for a single load instead of loading the value once each. When the cache is full, the expired
+ * values are evicted first and then the value which expires first.
+ *
+ * @param <V> Type of the cached values.
+ */
+public class TenantTtlCache<V> {
+
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final int maxEntries;
+
+    /**
+     * Create a cache.
+     *
+     * @param timeoutMillis Time in milliseconds a value is kept after it is loaded.
+     * @param maxEntries    Maximum number of values kept in the cache.
+     */
+    public TenantTtlCache(long timeoutMillis, int maxEntries) {
+
+        this.timeoutMillis = timeoutMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Get the cached value of the key, loading it if it is missing or expired. Only one request loads the value of a
+     * key at a time, while the other requests for the key wait for it. A failed load is retried by the next request.
+     *
+     * @param key    Key of the value, usually the tenant domain.
+     * @param loader Loader of the value.
+     * @param <E>    Type of the failure of the loader.
+     * @return Cached value of the key.
+     * @throws E If the value could not be loaded.
+     */
+    public <E extends Exception> V get(String key, Loader<V, E> loader) throws E {
+
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.isExpired()) {
+            if (entry == null) {
+                evictIfFull();
+            }
+            entry = entries.compute(key, (k, current) -> current == null || current.isExpired() ?
+                    new Entry<>() : current);
+        }
+        return entry.getValue(loader, timeoutMillis);
+    }
+
+    /**
+     * Get the cached value of the key, without loading it.
+     *
+     * @param key Key of the value.
+     * @return Cached value, or null if the value is missing, expired or still being loaded.
+     */
+    public V getIfPresent(String key) {
+
+        Entry<V> entry = entries.get(key);
+        return entry == null || entry.isExpired() ? null : entry.getLoadedValue();
+    }
+
+    /**
+     * Put a value which is already built to the cache, replacing the cached value of the key.
+     *
+     * @param key   Key of the value.
+     * @param value Value to be cached.
+     */
+    public void put(String key, V value) {
+
+        if (!entries.containsKey(key)) {
+            evictIfFull();
+        }
+        entries.put(key, new Entry<>(value, System.currentTimeMillis() + timeoutMillis));
+    }
+
+    /**
+     * Update the cached values in place, keeping their expiry time. A value is removed if the updater returns null.
+     * Values which are expired or still being loaded are removed, so that they are loaded again after the update.
+     *
+     * @param updater Function which builds the updated value from the key and the cached value.
+     */
+    public void updateAll(BiFunction<String, V, V> updater) {
+
+        for (String key : entries.keySet()) {
+            entries.computeIfPresent(key, (k, entry) -> {
+                V value = entry.isExpired() ? null : entry.getLoadedValue();
+                V updatedValue = value == null ? null : updater.apply(k, value);
+                return updatedValue == null ? null : new Entry<>(updatedValue, entry.getExpiryTime());
+            });
+        }
+    }
+
+    /**
+     * Remove the cached value of the key, so that the next request loads it again.
+     *
+     * @param key Key of the value.
+     */
+    public void invalidate(String key) {
+
+        entries.remove(key);
+    }
+
+    /**
+     * Remove all the cached values.
+     */
+    public void invalidateAll() {
+
+        entries.clear();
+    }
+
+    private void evictIfFull() {
+
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        entries.values().removeIf(Entry::isExpired);
+        if (entries.size() < maxEntries) {
+            return;
+        }
+
+        String firstExpiringKey = null;
+        long firstExpiryTime = Long.MAX_VALUE;
+        for (Map.Entry<String, Entry<V>> entry : entries.entrySet()) {
+            long expiryTime = entry.getValue().getExpiryTime();
+            if (expiryTime < firstExpiryTime) {
+                firstExpiringKey = entry.getKey();
+                firstExpiryTime = expiryTime;
+            }
+        }
+        if (firstExpiringKey != null) {
+            entries.remove(firstExpiringKey);
+        }
+    }
+
+    /**
+     * Loader of a cached value.
+     *
+     * @param <V> Type of the value.
+     * @param <E> Type of the failure of the loader.
+     */
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+
+        V load() throws E;
+    }
+
+    private static final class Entry<V> {
+
+        private V value;
+        private volatile boolean loaded;
+        private volatile long expiryTime = Long.MAX_VALUE;
+
+        Entry() {
+
+        }
+
+        Entry(V value, long expiryTime) {
+
+            this.value = value;
+            this.expiryTime = expiryTime;
+            this.loaded = true;
+        }
+
+        synchronized <E extends Exception> V getValue(Loader<V, E> loader, long timeoutMillis) throws E {
+
+            if (!loaded) {
+                value = loader.load();
+                expiryTime = System.currentTimeMillis() + timeoutMillis;
+                loaded = true;
+            }
+            return value;
+        }
+
+        V getLoadedValue() {
+
+            // The value is written before the volatile flag, so it is visible once the flag is set.
+            return loaded ? value : null;
+        }
+
+        long getExpiryTime() {
+
+            return expiryTime;
+        }
+
+        boolean isExpired() {
+
+            return loaded && System.currentTimeMillis() > expiryTime;
+        }
+    }
+}
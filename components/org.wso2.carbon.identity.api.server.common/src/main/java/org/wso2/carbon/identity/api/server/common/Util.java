@@ -17,7 +17,10 @@
 package org.wso2.carbon.identity.api.server.common;
 
 import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.slf4j.MDC;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
@@ -30,6 +33,7 @@ import java.util.UUID;
  */
 public class Util {
 
+    private static final Log LOG = LogFactory.getLog(Util.class);
     private static final String PAGE_LINK_REL_NEXT = "next";
     private static final String PAGE_LINK_REL_PREVIOUS = "previous";
     private static final String PAGINATION_LINK_FORMAT = Constants.V1_API_PATH_COMPONENT
@@ -213,6 +217,33 @@ public class Util {
         return Constants.MEDIA_TYPE_UNSUPPORTED;
     }
 
+    /**
+     * Get a positive number configured in the identity configuration, such as a cache timeout or a limit. The
+     * default value is used if the property is not configured, or is not a positive number.
+     *
+     * @param property     Name of the property.
+     * @param defaultValue Default value of the property.
+     * @return Configured value of the property, or the default value.
+     */
+    public static long getPositiveLongProperty(String property, long defaultValue) {
+
+        String value = IdentityUtil.getProperty(property);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            long configuredValue = Long.parseLong(value.trim());
+            if (configuredValue > 0) {
+                return configuredValue;
+            }
+        } catch (NumberFormatException e) {
+            // Falls through to the default value.
+        }
+        LOG.warn("Invalid value: " + value + " is configured for " + property + ". Using the default value: " +
+                defaultValue);
+        return defaultValue;
+    }
+
     private static boolean containsValidMediaType(String fileType, String[] supportedMediaTypes) {
 
         for (String supportedMediaType : supportedMediaTypes) {
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.cxf.jaxrs.impl.RequestImpl;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.PhaseInterceptorChain;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+
+/**
+ * Response entity along with a strong entity tag computed from its content.
+ * <p>
+ * The entity tag is computed once, when the versioned entity is created, so a versioned entity which is built once
+ * and shared across requests can answer conditional requests without serializing the entity again. The entity must
+ * not be modified after the versioned entity is created.
+ *
+ * @param <T> Type of the entity.
+ */
+public class VersionedEntity<T> {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final T entity;
+    private final EntityTag entityTag;
+
+    /**
+     * Create a versioned entity.
+     *
+     * @param entity Entity to be versioned.
+     * @throws IllegalStateException If the entity could not be serialized to compute its entity tag.
+     */
+    public VersionedEntity(T entity) {
+
+        this.entity = entity;
+        this.entityTag = new EntityTag(computeTag(entity));
+    }
+
+    public T getEntity() {
+
+        return entity;
+    }
+
+    public EntityTag getEntityTag() {
+
+        return entityTag;
+    }
+
+    /**
+     * Build the response of the current request. If the request is a conditional request whose If-None-Match
+     * header matches the entity tag, a 304 Not Modified response is built without the entity. Otherwise a 200 OK
+     * response is built with the entity. The entity tag is set on both responses.
+     *
+     * @return Response of the current request.
+     */
+    public Response buildResponse() {
+
+        Message message = PhaseInterceptorChain.getCurrentMessage();
+        if (message != null) {
+            Response.ResponseBuilder notModifiedResponse = new RequestImpl(message).evaluatePreconditions(entityTag);
+            if (notModifiedResponse != null) {
+                return notModifiedResponse.tag(entityTag).build();
+            }
+        }
+        return Response.ok().entity(entity).tag(entityTag).build();
+    }
+
+    private static String computeTag(Object entity) {
+
+        try {
+            byte[] content = SerializerRegistry.getObjectWriter().writeValueAsBytes(entity);
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Error while computing the entity tag of " +
+                    entity.getClass().getName(), e);
+        }
+    }
+}
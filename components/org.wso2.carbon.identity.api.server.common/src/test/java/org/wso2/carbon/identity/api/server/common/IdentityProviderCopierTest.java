@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.UserDefinedFederatedAuthenticatorConfig;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Test class for IdentityProviderCopier.
+ */
+public class IdentityProviderCopierTest {
+
+    @Test
+    public void testCopyCarriesAllAttributes() {
+
+        IdentityProvider identityProvider = buildIdentityProvider();
+
+        IdentityProvider copy = IdentityProviderCopier.copy(identityProvider, IdentityProviderCopier.Branch.values());
+        ModelFixtures.assertSameContent(copy, identityProvider);
+    }
+
+    @Test
+    public void testCopiedBranchesAreIndependent() {
+
+        IdentityProvider identityProvider = buildIdentityProvider();
+
+        IdentityProvider copy = IdentityProviderCopier.copy(identityProvider,
+                IdentityProviderCopier.Branch.FEDERATED_AUTHENTICATORS, IdentityProviderCopier.Branch.IDP_PROPERTIES);
+        copy.getFederatedAuthenticatorConfigs()[0].getProperties()[0].setValue("updated");
+        copy.getIdpProperties()[0].setValue("updated");
+
+        assertEquals(identityProvider.getFederatedAuthenticatorConfigs()[0].getProperties()[0].getValue(),
+                "value-value");
+        assertEquals(identityProvider.getIdpProperties()[0].getValue(), "value-value");
+        assertNotSame(copy.getFederatedAuthenticatorConfigs()[0],
+                identityProvider.getFederatedAuthenticatorConfigs()[0]);
+        // The default config of the copy is the copied array element.
+        assertSame(copy.getDefaultAuthenticatorConfig(), copy.getFederatedAuthenticatorConfigs()[0]);
+    }
+
+    @Test
+    public void testBranchesNotDeclaredAreShared() {
+
+        IdentityProvider identityProvider = buildIdentityProvider();
+
+        IdentityProvider copy = IdentityProviderCopier.copy(identityProvider);
+        assertNotSame(copy, identityProvider);
+        assertSame(copy.getFederatedAuthenticatorConfigs()[0], identityProvider.getFederatedAuthenticatorConfigs()[0]);
+        assertSame(copy.getIdpProperties()[0], identityProvider.getIdpProperties()[0]);
+        assertSame(copy.getClaimConfig(), identityProvider.getClaimConfig());
+    }
+
+    @Test
+    public void testCopyForUpdateCopiesUpdateFlowBranches() {
+
+        IdentityProvider identityProvider = buildIdentityProvider();
+
+        IdentityProvider copy = IdentityProviderCopier.copyForUpdate(identityProvider);
+        assertNotSame(copy.getFederatedAuthenticatorConfigs()[0],
+                identityProvider.getFederatedAuthenticatorConfigs()[0]);
+        assertNotSame(copy.getProvisioningConnectorConfigs()[0],
+                identityProvider.getProvisioningConnectorConfigs()[0]);
+        assertSame(copy.getDefaultProvisioningConnectorConfig(), copy.getProvisioningConnectorConfigs()[0]);
+        assertSame(copy.getIdpProperties()[0], identityProvider.getIdpProperties()[0]);
+    }
+
+    @Test
+    public void testCopyUserDefinedAuthenticator() {
+
+        IdentityProvider identityProvider = buildIdentityProvider();
+        UserDefinedFederatedAuthenticatorConfig authenticatorConfig =
+                ModelFixtures.populated(UserDefinedFederatedAuthenticatorConfig.class);
+        identityProvider.setFederatedAuthenticatorConfigs(new FederatedAuthenticatorConfig[]{authenticatorConfig});
+        identityProvider.setDefaultAuthenticatorConfig(authenticatorConfig);
+
+        IdentityProvider copy = IdentityProviderCopier.copyForUpdate(identityProvider);
+        ModelFixtures.assertSameContent(copy.getFederatedAuthenticatorConfigs()[0], authenticatorConfig);
+        assertNotSame(copy.getFederatedAuthenticatorConfigs()[0], authenticatorConfig);
+    }
+
+    @Test
+    public void testCopyNullIdentityProvider() {
+
+        assertNull(IdentityProviderCopier.copyForUpdate(null));
+    }
+
+    private IdentityProvider buildIdentityProvider() {
+
+        IdentityProvider identityProvider = ModelFixtures.populated(IdentityProvider.class);
+        identityProvider.setDefaultAuthenticatorConfig(identityProvider.getFederatedAuthenticatorConfigs()[0]);
+        identityProvider.setDefaultProvisioningConnectorConfig(identityProvider.getProvisioningConnectorConfigs()[0]);
+        return identityProvider;
+    }
+}
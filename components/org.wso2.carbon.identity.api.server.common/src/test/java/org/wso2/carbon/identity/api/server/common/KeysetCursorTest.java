@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for KeysetCursor.
+ */
+public class KeysetCursorTest {
+
+    @DataProvider(name = "cursorValues")
+    public Object[][] cursorValues() {
+
+        return new Object[][]{
+                {"admin", "4645709c-ea8c-4495-8590-e1fa0efe3de0"},
+                {"", "4645709c-ea8c-4495-8590-e1fa0efe3de0"},
+                {"admin", ""},
+                {"12:admin", "id"},
+                {"a:b:c", ":d:"},
+                {"sort key with spaces", "id with spaces"},
+                {"\u30e6\u30fc\u30b6\u30fc", "ID-\u00dc"},
+                {"+/=?&", "+/=?&"}
+        };
+    }
+
+    @Test(dataProvider = "cursorValues")
+    public void testEncodeAndDecode(String sortKey, String id) {
+
+        String cursor = KeysetCursor.encode(sortKey, id);
+        assertTrue(cursor.matches("[A-Za-z0-9_-]*"), "Cursor is not URL safe: " + cursor);
+
+        KeysetCursor decodedCursor = KeysetCursor.decode(cursor);
+        assertEquals(decodedCursor.getSortKey(), sortKey);
+        assertEquals(decodedCursor.getId(), id);
+    }
+
+    @Test
+    public void testEncodeNullValues() {
+
+        KeysetCursor decodedCursor = KeysetCursor.decode(KeysetCursor.encode(null, null));
+        assertEquals(decodedCursor.getSortKey(), "");
+        assertEquals(decodedCursor.getId(), "");
+    }
+
+    @Test
+    public void testDecodeCursorWithSurroundingWhitespace() {
+
+        KeysetCursor decodedCursor = KeysetCursor.decode(" " + KeysetCursor.encode("admin", "id") + "\n");
+        assertEquals(decodedCursor.getSortKey(), "admin");
+        assertEquals(decodedCursor.getId(), "id");
+    }
+
+    @DataProvider(name = "malformedCursors")
+    public Object[][] malformedCursors() {
+
+        return new Object[][]{
+                {null},
+                {"not a cursor!"},
+                {encode("admin")},
+                {encode(":admin")},
+                {encode("five:admin")},
+                {encode("-1:admin")},
+                {encode("10:admin")},
+                {encode("2147483648:admin")}
+        };
+    }
+
+    @Test(dataProvider = "malformedCursors", expectedExceptions = IllegalArgumentException.class)
+    public void testDecodeMalformedCursor(String cursor) {
+
+        KeysetCursor.decode(cursor);
+    }
+
+    @Test
+    public void testEncodeValue() {
+
+        String cursor = KeysetCursor.encodeValue(1700000000000L);
+        assertEquals(new String(Base64.getDecoder().decode(cursor), StandardCharsets.UTF_8), "1700000000000");
+    }
+
+    @Test(dataProvider = "malformedCursors")
+    public void testDecodeIfValidWithMalformedCursor(String cursor) {
+
+        assertNull(KeysetCursor.decodeIfValid(cursor));
+    }
+
+    @Test
+    public void testToValueCursor() {
+
+        String cursor = KeysetCursor.toValueCursor(KeysetCursor.encode("1700000000000", "42"));
+        assertEquals(cursor, KeysetCursor.encodeValue("1700000000000"));
+
+        // Cursors which are not composite cursors are validated by the services.
+        String valueCursor = KeysetCursor.encodeValue("2024-01-01 00:00:00.0");
+        assertEquals(KeysetCursor.toValueCursor(valueCursor), valueCursor);
+        assertNull(KeysetCursor.toValueCursor(null));
+    }
+
+    private static String encode(String decodedCursor) {
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(decodedCursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
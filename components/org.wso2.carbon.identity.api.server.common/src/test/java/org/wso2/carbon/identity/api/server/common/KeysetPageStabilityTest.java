@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Property tests of the page stability of the keyset pagination, when records are inserted while a client pages
+ * through a listing. A client follows the cursors of the page links, over records which are stored in no particular
+ * order and share their sort keys.
+ */
+public class KeysetPageStabilityTest {
+
+    // Records of the listing are pairs of a sort key and an id, ordered by the sort key and then by the id.
+    private static final Comparator<String[]> ORDER = Comparator.<String[], String>comparing(record -> record[0])
+            .thenComparing(record -> record[1]);
+    private static final String LISTING_URL = "https://localhost/list?limit=10";
+    private static final int SORT_KEYS = 50;
+    // Inserts are bounded, so that a listing with small pages does not fall behind the inserts.
+    private static final int MAX_INSERTED_RECORDS = 300;
+
+    @DataProvider(name = "seeds")
+    public Object[][] seeds() {
+
+        Object[][] seeds = new Object[20][];
+        for (int i = 0; i < seeds.length; i++) {
+            seeds[i] = new Object[]{1000L + i};
+        }
+        return seeds;
+    }
+
+    @Test(dataProvider = "seeds")
+    public void testForwardPagesWithInsertsBetweenPages(long seed) {
+
+        Random random = new Random(seed);
+        List<String[]> store = new ArrayList<>();
+        Set<String> initialIds = insertRecords(store, random, 500 + random.nextInt(500), "i", null).keySet();
+        int limit = 1 + random.nextInt(25);
+
+        // Records inserted after the cursor must be listed, and the records inserted before it must not be.
+        Map<String, Boolean> insertedIds = new HashMap<>();
+        List<String[]> listedRecords = new ArrayList<>();
+        String after = null;
+        do {
+            KeysetPage<String[]> page = getPageAfter(store, after, limit);
+            listedRecords.addAll(page.getItems());
+            after = getCursor(page, KeysetPage.PAGE_LINK_REL_NEXT);
+            if (after != null && insertedIds.size() < MAX_INSERTED_RECORDS) {
+                String[] cursor = toRecord(KeysetCursor.decode(after));
+                insertedIds.putAll(insertRecords(store, random, random.nextInt(10), "n" + listedRecords.size() + "-",
+                        cursor));
+            }
+        } while (after != null);
+
+        assertInOrder(listedRecords);
+        Set<String> listedIds = toIds(listedRecords);
+        assertTrue(listedIds.containsAll(initialIds), "A record which was not changed is skipped.");
+        for (Map.Entry<String, Boolean> insertedId : insertedIds.entrySet()) {
+            assertEquals(listedIds.contains(insertedId.getKey()), (boolean) insertedId.getValue(),
+                    "Inserted record " + insertedId.getKey() + " is not listed as per its position.");
+        }
+    }
+
+    @Test(dataProvider = "seeds")
+    public void testBackwardPagesWithInsertsBetweenPages(long seed) {
+
+        Random random = new Random(seed);
+        List<String[]> store = new ArrayList<>();
+        Set<String> initialIds = insertRecords(store, random, 500 + random.nextInt(500), "i", null).keySet();
+        int limit = 1 + random.nextInt(25);
+
+        // Start before a cursor after every record, as a client does from the previous link of the last page.
+        String before = KeysetCursor.encode("~", "");
+        Map<String, Boolean> insertedIds = new HashMap<>();
+        List<String[]> listedRecords = new ArrayList<>();
+        do {
+            KeysetPage<String[]> page = getPageBefore(store, before, limit);
+            listedRecords.addAll(0, page.getItems());
+            before = getCursor(page, KeysetPage.PAGE_LINK_REL_PREVIOUS);
+            if (before != null && insertedIds.size() < MAX_INSERTED_RECORDS) {
+                String[] cursor = toRecord(KeysetCursor.decode(before));
+                // Records inserted before the cursor are listed in the later pages of a backward listing.
+                Map<String, Boolean> inserted = insertRecords(store, random, random.nextInt(10),
+                        "n" + listedRecords.size() + "-", cursor);
+                inserted.replaceAll((id, isAfterCursor) -> !isAfterCursor);
+                insertedIds.putAll(inserted);
+            }
+        } while (before != null);
+
+        assertInOrder(listedRecords);
+        Set<String> listedIds = toIds(listedRecords);
+        assertTrue(listedIds.containsAll(initialIds), "A record which was not changed is skipped.");
+        for (Map.Entry<String, Boolean> insertedId : insertedIds.entrySet()) {
+            assertEquals(listedIds.contains(insertedId.getKey()), (boolean) insertedId.getValue(),
+                    "Inserted record " + insertedId.getKey() + " is not listed as per its position.");
+        }
+    }
+
+    @Test(dataProvider = "seeds", timeOut = 60000)
+    public void testForwardPagesWithConcurrentInserts(long seed) throws InterruptedException {
+
+        Random random = new Random(seed);
+        Map<String, String[]> store = new ConcurrentHashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            String[] record = {sortKey(random), "i" + i};
+            store.put(record[1], record);
+        }
+        Set<String> initialIds = new HashSet<>(store.keySet());
+        int limit = 1 + random.nextInt(25);
+
+        AtomicBoolean listing = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            Random writerRandom = new Random(seed);
+            for (int i = 0; i < MAX_INSERTED_RECORDS && listing.get(); i++) {
+                String[] record = {sortKey(writerRandom), "n" + i};
+                store.put(record[1], record);
+                Thread.yield();
+            }
+        });
+        writer.start();
+        List<String[]> listedRecords = new ArrayList<>();
+        try {
+            String after = null;
+            do {
+                KeysetPage<String[]> page = getPageAfter(store.values(), after, limit);
+                listedRecords.addAll(page.getItems());
+                after = getCursor(page, KeysetPage.PAGE_LINK_REL_NEXT);
+            } while (after != null);
+        } finally {
+            listing.set(false);
+            writer.join();
+        }
+
+        assertInOrder(listedRecords);
+        assertTrue(toIds(listedRecords).containsAll(initialIds), "A record which was not changed is skipped.");
+    }
+
+    private static KeysetPage<String[]> getPageAfter(Iterable<String[]> store, String after, int limit) {
+
+        Predicate<String[]> filter = record -> true;
+        if (after != null) {
+            String[] cursor = toRecord(KeysetCursor.decode(after));
+            filter = record -> ORDER.compare(record, cursor) > 0;
+        }
+        return KeysetPage.of(KeysetPage.selectFirst(store, filter, ORDER, limit + 1), limit, after, null);
+    }
+
+    private static KeysetPage<String[]> getPageBefore(Iterable<String[]> store, String before, int limit) {
+
+        String[] cursor = toRecord(KeysetCursor.decode(before));
+        return KeysetPage.of(KeysetPage.selectFirst(store, record -> ORDER.compare(record, cursor) < 0,
+                ORDER.reversed(), limit + 1), limit, null, before);
+    }
+
+    /**
+     * Get the cursor of a page link, as a client reads it from the link.
+     */
+    private static String getCursor(KeysetPage<String[]> page, String rel) {
+
+        String cursorParam = KeysetPage.PAGE_LINK_REL_NEXT.equals(rel) ? KeysetPage.PAGINATION_AFTER :
+                KeysetPage.PAGINATION_BEFORE;
+        for (String[] link : page.buildLinks(LISTING_URL, record -> KeysetCursor.encode(record[0], record[1]),
+                (href, linkRel) -> new String[]{href, linkRel})) {
+            if (rel.equals(link[1])) {
+                String href = link[0];
+                assertTrue(href.startsWith(LISTING_URL + "&" + cursorParam + "="));
+                try {
+                    return URLDecoder.decode(href.substring(href.indexOf('=', LISTING_URL.length()) + 1),
+                            StandardCharsets.UTF_8.name());
+                } catch (UnsupportedEncodingException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Insert records at random positions of the store. Half of the records share the sort key of the cursor, if one
+     * is given, so the ties of the cursor are covered.
+     *
+     * @return Whether each inserted record is after the cursor, keyed by the id of the record.
+     */
+    private static Map<String, Boolean> insertRecords(List<String[]> store, Random random, int count, String idPrefix,
+                                                      String[] cursor) {
+
+        Map<String, Boolean> insertedIds = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            String key = cursor != null && random.nextBoolean() ? cursor[0] : sortKey(random);
+            String[] record = {key, idPrefix + i};
+            store.add(random.nextInt(store.size() + 1), record);
+            insertedIds.put(record[1], cursor == null || ORDER.compare(record, cursor) > 0);
+        }
+        return insertedIds;
+    }
+
+    private static String sortKey(Random random) {
+
+        return String.format("k%02d", random.nextInt(SORT_KEYS));
+    }
+
+    private static String[] toRecord(KeysetCursor cursor) {
+
+        return new String[]{cursor.getSortKey(), cursor.getId()};
+    }
+
+    private static void assertInOrder(List<String[]> records) {
+
+        assertFalse(records.isEmpty());
+        for (int i = 1; i < records.size(); i++) {
+            assertTrue(ORDER.compare(records.get(i - 1), records.get(i)) < 0, "Records " + (i - 1) + " and " + i +
+                    " are repeated or out of order.");
+        }
+    }
+
+    private static Set<String> toIds(List<String[]> records) {
+
+        Set<String> ids = new HashSet<>();
+        for (String[] record : records) {
+            ids.add(record[1]);
+        }
+        return ids;
+    }
+}
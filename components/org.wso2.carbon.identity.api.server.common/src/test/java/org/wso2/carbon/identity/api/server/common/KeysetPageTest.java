@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Test class for KeysetPage.
+ */
+public class KeysetPageTest {
+
+    // Records of the listing are pairs of a sort key and an id, ordered by the sort key and then by the id.
+    private static final Comparator<String[]> ORDER = Comparator.<String[], String>comparing(record -> record[0])
+            .thenComparing(record -> record[1]);
+
+    @Test
+    public void testSelectFirstInOrder() {
+
+        List<Integer> records = Arrays.asList(42, 7, 19, 3, 88, 61, 3, 25, 11, 50);
+
+        List<Integer> selectedRecords = KeysetPage.selectFirst(records, record -> true, Comparator.naturalOrder(), 4);
+        assertEquals(selectedRecords, Arrays.asList(3, 3, 7, 11));
+
+        selectedRecords = KeysetPage.selectFirst(records, record -> true, Comparator.reverseOrder(), 3);
+        assertEquals(selectedRecords, Arrays.asList(88, 61, 50));
+    }
+
+    @Test
+    public void testSelectFirstWithFilter() {
+
+        List<Integer> records = Arrays.asList(42, 7, 19, 3, 88, 61, 25, 11, 50);
+
+        List<Integer> selectedRecords = KeysetPage.selectFirst(records, record -> record > 19,
+                Comparator.naturalOrder(), 3);
+        assertEquals(selectedRecords, Arrays.asList(25, 42, 50));
+    }
+
+    @Test
+    public void testSelectFirstBreaksTiesById() {
+
+        List<String[]> records = Arrays.asList(new String[]{"b", "2"}, new String[]{"a", "3"},
+                new String[]{"b", "1"}, new String[]{"a", "1"}, new String[]{"b", "3"}, new String[]{"a", "2"});
+
+        List<String[]> selectedRecords = KeysetPage.selectFirst(records, record -> true, ORDER, 4);
+        assertEquals(toIds(selectedRecords), Arrays.asList("a1", "a2", "a3", "b1"));
+
+        // The next page starts after the last record of the previous page, among the records with the same key.
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode("b", "1"));
+        selectedRecords = KeysetPage.selectFirst(records,
+                record -> ORDER.compare(record, new String[]{cursor.getSortKey(), cursor.getId()}) > 0, ORDER, 4);
+        assertEquals(toIds(selectedRecords), Arrays.asList("b2", "b3"));
+    }
+
+    @DataProvider(name = "selectionCounts")
+    public Object[][] selectionCounts() {
+
+        return new Object[][]{
+                {1, 1},
+                {4, 4},
+                {5, 5},
+                {6, 5},
+                {Integer.MAX_VALUE, 5}
+        };
+    }
+
+    @Test(dataProvider = "selectionCounts")
+    public void testSelectFirstSizeBounds(int count, int expectedSize) {
+
+        List<Integer> records = Arrays.asList(5, 1, 4, 2, 3);
+
+        List<Integer> selectedRecords = KeysetPage.selectFirst(records, record -> true, Comparator.naturalOrder(),
+                count);
+        assertEquals(selectedRecords, Arrays.asList(1, 2, 3, 4, 5).subList(0, expectedSize));
+    }
+
+    @Test
+    public void testSelectFirstFromNoRecords() {
+
+        assertTrue(KeysetPage.selectFirst(Collections.<Integer>emptyList(), record -> true,
+                Comparator.<Integer>naturalOrder(), 10).isEmpty());
+    }
+
+    @DataProvider(name = "nonPositiveCounts")
+    public Object[][] nonPositiveCounts() {
+
+        return new Object[][]{
+                {0},
+                {-1},
+                {Integer.MIN_VALUE}
+        };
+    }
+
+    @Test(dataProvider = "nonPositiveCounts")
+    public void testSelectFirstWithNonPositiveCount(int count) {
+
+        assertTrue(KeysetPage.selectFirst(Arrays.asList(3, 1, 2), record -> true, Comparator.<Integer>naturalOrder(),
+                count).isEmpty());
+    }
+
+    @Test
+    public void testFirstPage() {
+
+        KeysetPage<Integer> page = KeysetPage.of(Arrays.asList(1, 2, 3, 4), 3, null, null);
+
+        assertEquals(page.getItems(), Arrays.asList(1, 2, 3));
+        assertFalse(page.hasPrevious());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    public void testPageAfterCursor() {
+
+        KeysetPage<Integer> page = KeysetPage.of(Arrays.asList(4, 5, 6, 7), 3, "3", null);
+        assertEquals(page.getItems(), Arrays.asList(4, 5, 6));
+        assertTrue(page.hasPrevious());
+        assertTrue(page.hasNext());
+
+        page = KeysetPage.of(Arrays.asList(7, 8), 3, "6", null);
+        assertEquals(page.getItems(), Arrays.asList(7, 8));
+        assertTrue(page.hasPrevious());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    public void testPageBeforeCursor() {
+
+        // Records before a cursor are retrieved in the reverse order, and listed in the order of the listing.
+        KeysetPage<Integer> page = KeysetPage.of(Arrays.asList(6, 5, 4, 3), 3, null, "7");
+        assertEquals(page.getItems(), Arrays.asList(4, 5, 6));
+        assertEquals(page.map(String::valueOf), Arrays.asList("4", "5", "6"));
+        assertTrue(page.hasPrevious());
+        assertTrue(page.hasNext());
+
+        page = KeysetPage.of(Arrays.asList(3, 2, 1), 3, null, "4");
+        assertEquals(page.getItems(), Arrays.asList(1, 2, 3));
+        assertFalse(page.hasPrevious());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    public void testEmptyPage() {
+
+        KeysetPage<Integer> page = KeysetPage.of(null, 3, "3", null);
+
+        assertTrue(page.isEmpty());
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.hasPrevious());
+        assertFalse(page.hasNext());
+        assertTrue(page.buildLinks("https://localhost/list", String::valueOf, (href, rel) -> rel).isEmpty());
+    }
+
+    @Test
+    public void testBuildLinks() {
+
+        KeysetPage<Integer> page = KeysetPage.of(Arrays.asList(6, 5, 4, 3), 3, null, "7");
+
+        List<String> links = page.buildLinks("https://localhost/list?limit=3", record -> "key " + record + "+/=",
+                (href, rel) -> rel + " " + href);
+        assertEquals(links, Arrays.asList(
+                "previous https://localhost/list?limit=3&before=key+4%2B%2F%3D",
+                "next https://localhost/list?limit=3&after=key+6%2B%2F%3D"));
+
+        page = KeysetPage.of(Arrays.asList(1, 2, 3, 4), 3, null, null);
+        links = page.buildLinks("https://localhost/list", String::valueOf, (href, rel) -> rel + " " + href);
+        assertEquals(links, Collections.singletonList("next https://localhost/list?after=3"));
+    }
+
+    @Test
+    public void testPageItemsCannotBeModified() {
+
+        List<Integer> items = KeysetPage.of(Arrays.asList(1, 2, 3, 4), 3, null, null).getItems();
+
+        try {
+            items.set(0, 5);
+            fail("Items of a page should not be modifiable.");
+        } catch (UnsupportedOperationException e) {
+            assertEquals(items, Arrays.asList(1, 2, 3));
+        }
+    }
+
+    private static List<String> toIds(List<String[]> records) {
+
+        List<String> ids = new ArrayList<>(records.size());
+        for (String[] record : records) {
+            ids.add(record[0] + record[1]);
+        }
+        return ids;
+    }
+}
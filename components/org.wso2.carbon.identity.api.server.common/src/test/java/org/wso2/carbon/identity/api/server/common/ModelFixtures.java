@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.fail;
+
+/**
+ * Builds fully populated model objects and compares them field by field, so that the copier tests fail when a model
+ * class gains an attribute which the copiers do not carry over.
+ */
+final class ModelFixtures {
+
+    private static final String MODEL_PACKAGE = "org.wso2.carbon.identity.application.common.model";
+    private static final int MAX_DEPTH = 3;
+
+    private ModelFixtures() {
+
+    }
+
+    /**
+     * Create an instance of the given model class with every attribute set to a non default value.
+     *
+     * @param type Model class.
+     * @param <T>  Type of the model.
+     * @return Populated instance.
+     */
+    static <T> T populated(Class<T> type) {
+
+        T instance = newInstance(type);
+        assertNotNull(instance, "Cannot instantiate the model class: " + type.getName());
+        populate(instance, 0);
+        return instance;
+    }
+
+    /**
+     * Assert that the two objects hold the same values, comparing the model objects field by field.
+     *
+     * @param actual   Copied object.
+     * @param expected Source object.
+     */
+    static void assertSameContent(Object actual, Object expected) {
+
+        assertSameContent(actual, expected, expected == null ? "null" : expected.getClass().getSimpleName(), 0);
+    }
+
+    private static void assertSameContent(Object actual, Object expected, String path, int depth) {
+
+        if (expected == null || actual == null) {
+            assertEquals(actual, expected, path);
+            return;
+        }
+        assertEquals(actual.getClass(), expected.getClass(), path);
+        if (expected.getClass().isArray()) {
+            assertEquals(Array.getLength(actual), Array.getLength(expected), path + ".length");
+            for (int i = 0; i < Array.getLength(expected); i++) {
+                assertSameContent(Array.get(actual, i), Array.get(expected, i), path + "[" + i + "]", depth);
+            }
+            return;
+        }
+        if (!isModel(expected.getClass()) || depth > MAX_DEPTH) {
+            assertEquals(actual, expected, path);
+            return;
+        }
+        for (Field field : getFields(expected.getClass())) {
+            try {
+                assertSameContent(field.get(actual), field.get(expected), path + "." + field.getName(), depth + 1);
+            } catch (IllegalAccessException e) {
+                fail("Cannot read the field: " + path + "." + field.getName(), e);
+            }
+        }
+    }
+
+    private static void populate(Object instance, int depth) {
+
+        for (Field field : getFields(instance.getClass())) {
+            if (Modifier.isFinal(field.getModifiers())) {
+                continue;
+            }
+            Object value = sampleValue(field.getType(), field.getName(), depth);
+            if (value == null) {
+                continue;
+            }
+            try {
+                field.set(instance, value);
+            } catch (IllegalAccessException e) {
+                fail("Cannot set the field: " + field.getName(), e);
+            }
+        }
+    }
+
+    private static Object sampleValue(Class<?> type, String name, int depth) {
+
+        if (type == String.class) {
+            return name + "-value";
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (type == int.class || type == Integer.class) {
+            return 7;
+        }
+        if (type == long.class || type == Long.class) {
+            return 7L;
+        }
+        if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants[constants.length - 1];
+        }
+        if (type.isArray()) {
+            Object element = sampleValue(type.getComponentType(), name, depth);
+            if (element == null) {
+                return null;
+            }
+            Object array = Array.newInstance(type.getComponentType(), 1);
+            Array.set(array, 0, element);
+            return array;
+        }
+        if (isModel(type) && depth < MAX_DEPTH) {
+            Object instance = newInstance(type);
+            if (instance != null) {
+                populate(instance, depth + 1);
+            }
+            return instance;
+        }
+        return null;
+    }
+
+    private static <T> T newInstance(Class<T> type) {
+
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static boolean isModel(Class<?> type) {
+
+        return type.getName().startsWith(MODEL_PACKAGE);
+    }
+
+    private static List<Field> getFields(Class<?> type) {
+
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class;
+             current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.InboundAuthenticationRequestConfig;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Test class for ServiceProviderCopier.
+ */
+public class ServiceProviderCopierTest {
+
+    @Test
+    public void testCopyCarriesAllAttributes() {
+
+        ServiceProvider serviceProvider = ModelFixtures.populated(ServiceProvider.class);
+
+        ServiceProvider copy = ServiceProviderCopier.copyForUpdate(serviceProvider);
+        ModelFixtures.assertSameContent(copy, serviceProvider);
+    }
+
+    @Test
+    public void testUpdatedConfigsAreIndependent() {
+
+        ServiceProvider serviceProvider = ModelFixtures.populated(ServiceProvider.class);
+
+        ServiceProvider copy = ServiceProviderCopier.copyForUpdate(serviceProvider);
+        copy.getClaimConfig().setRoleClaimURI("updated");
+        copy.getPermissionAndRoleConfig().setIdpRoles(new String[0]);
+        copy.getLocalAndOutBoundAuthenticationConfig().setSubjectClaimUri("updated");
+        copy.getInboundProvisioningConfig().setProvisioningUserStore("updated");
+        copy.getOutboundProvisioningConfig().setProvisionByRoleList(new String[0]);
+        copy.getSpProperties()[0].setValue("updated");
+        copy.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs()[0].getProperties()[0]
+                .setValue("updated");
+        copy.getInboundAuthenticationConfig().setInboundAuthenticationRequestConfigs(
+                new InboundAuthenticationRequestConfig[0]);
+
+        assertEquals(serviceProvider.getClaimConfig().getRoleClaimURI(), "roleClaimURI-value");
+        assertEquals(serviceProvider.getPermissionAndRoleConfig().getIdpRoles().length, 1);
+        assertEquals(serviceProvider.getLocalAndOutBoundAuthenticationConfig().getSubjectClaimUri(),
+                "subjectClaimUri-value");
+        assertEquals(serviceProvider.getInboundProvisioningConfig().getProvisioningUserStore(),
+                "provisioningUserStore-value");
+        assertEquals(serviceProvider.getOutboundProvisioningConfig().getProvisionByRoleList().length, 1);
+        assertEquals(serviceProvider.getSpProperties()[0].getValue(), "value-value");
+        InboundAuthenticationRequestConfig[] inboundConfigs =
+                serviceProvider.getInboundAuthenticationConfig().getInboundAuthenticationRequestConfigs();
+        assertEquals(inboundConfigs.length, 1);
+        assertEquals(inboundConfigs[0].getProperties()[0].getValue(), "value-value");
+    }
+
+    @Test
+    public void testReplacedStructuresAreShared() {
+
+        ServiceProvider serviceProvider = ModelFixtures.populated(ServiceProvider.class);
+
+        ServiceProvider copy = ServiceProviderCopier.copyForUpdate(serviceProvider);
+        assertSame(copy.getOwner(), serviceProvider.getOwner());
+        assertSame(copy.getLocalAndOutBoundAuthenticationConfig().getAuthenticationSteps(),
+                serviceProvider.getLocalAndOutBoundAuthenticationConfig().getAuthenticationSteps());
+        assertSame(copy.getClaimConfig().getClaimMappings(), serviceProvider.getClaimConfig().getClaimMappings());
+    }
+
+    @Test
+    public void testCopyNullServiceProvider() {
+
+        assertNull(ServiceProviderCopier.copyForUpdate(null));
+    }
+}
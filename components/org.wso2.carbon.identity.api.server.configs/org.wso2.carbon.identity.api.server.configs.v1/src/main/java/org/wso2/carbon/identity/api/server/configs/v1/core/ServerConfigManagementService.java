@@ -18,8 +18,6 @@
 
 package org.wso2.carbon.identity.api.server.configs.v1.core;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.configuration.ConfigurationException;
@@ -30,6 +28,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.IdentityProviderCopier;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.configs.common.Constants;
@@ -1027,7 +1026,8 @@ public class ServerConfigManagementService {
     }
 
     /**
-     * Create a shallow copy of the input Identity Provider.
+     * Create a copy of the input Identity Provider to be updated. Only the IdP properties are modified in place,
+     * the remaining branches are copied as required by the update flow or shared with the input Identity Provider.
      *
      * @param idP Identity Provider.
      * @return Clone of IDP.
@@ -1035,10 +1035,8 @@ public class ServerConfigManagementService {
     private IdentityProvider createIdPClone(IdentityProvider idP) {
 
         try {
-            Gson gson = new Gson();
-            IdentityProvider clonedIdentityProvider = gson.fromJson(gson.toJson(idP), IdentityProvider.class);
-            return clonedIdentityProvider;
-        } catch (JsonSyntaxException e) {
+            return IdentityProviderCopier.copyForUpdate(idP, IdentityProviderCopier.Branch.IDP_PROPERTIES);
+        } catch (IllegalStateException e) {
             throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
                     .ERROR_CODE_ERROR_UPDATING_CONFIGS, null);
         }
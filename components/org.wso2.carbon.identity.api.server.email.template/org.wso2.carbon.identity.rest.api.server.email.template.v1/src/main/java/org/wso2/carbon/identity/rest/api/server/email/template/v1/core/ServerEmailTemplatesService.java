@@ -29,7 +29,7 @@ import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtException;
 import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtInternalException;
 import org.wso2.carbon.email.mgt.model.EmailTemplate;
 import org.wso2.carbon.email.mgt.util.I18nEmailUtil;
-import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.email.template.common.Constants;
@@ -402,9 +402,11 @@ public class ServerEmailTemplatesService {
                                                                     String templateTypeId) {
 
         List<SimpleEmailTemplate> simpleEmailTemplates = new ArrayList<>();
+        ResourceLinkBuilder templateTypeLinkBuilder = createTemplateTypeLinkBuilder();
         for (EmailTemplate internalTemplate : internalEmailTemplates) {
             SimpleEmailTemplate simpleEmailTemplate = new SimpleEmailTemplate();
-            String templateLocation = getTemplateLocation(templateTypeId, internalTemplate.getLocale());
+            String templateLocation = getTemplateLocation(templateTypeLinkBuilder, templateTypeId,
+                    internalTemplate.getLocale());
             simpleEmailTemplate.setId(internalTemplate.getLocale());
             simpleEmailTemplate.setSelf(templateLocation);
             simpleEmailTemplates.add(simpleEmailTemplate);
@@ -425,6 +427,7 @@ public class ServerEmailTemplatesService {
             List<String> requestedAttributeList) {
 
         Map<String, EmailTemplateTypeWithoutTemplates> templateTypeMap = new HashMap<>();
+        ResourceLinkBuilder templateTypeLinkBuilder = createTemplateTypeLinkBuilder();
         for (String templateType : emailTemplateTypes) {
 
             EmailTemplateTypeWithoutTemplates emailTemplateType = new EmailTemplateTypeWithoutTemplates();
@@ -434,7 +437,7 @@ public class ServerEmailTemplatesService {
             String templateTypeId = getEmailTemplateIdFromDisplayName(templateType);
             emailTemplateType.setId(templateTypeId);
             // Set location.
-            emailTemplateType.setSelf(getTemplateTypeLocation(templateTypeId));
+            emailTemplateType.setSelf(templateTypeLinkBuilder.build(templateTypeId));
 
             if (requestedAttributeList != null) {
                 emailTemplateType.setTemplates(new ArrayList<>());
@@ -551,16 +554,26 @@ public class ServerEmailTemplatesService {
         return base64URLEncode(templateTypeDisplayName);
     }
 
+    private ResourceLinkBuilder createTemplateTypeLinkBuilder() {
+
+        return new ResourceLinkBuilder(V1_API_PATH_COMPONENT + EMAIL_TEMPLATES_API_BASE_PATH +
+                EMAIL_TEMPLATE_TYPES_PATH);
+    }
+
     private String getTemplateTypeLocation(String templateTypeId) {
 
-        String location = V1_API_PATH_COMPONENT + EMAIL_TEMPLATES_API_BASE_PATH + EMAIL_TEMPLATE_TYPES_PATH +
-                PATH_SEPARATOR + templateTypeId;
-        return ContextLoader.buildURIForBody(location).toString();
+        return createTemplateTypeLinkBuilder().build(templateTypeId);
     }
 
     private String getTemplateLocation(String templateTypeId, String templateId) {
 
-        String templateLocation = getTemplateTypeLocation(templateTypeId);
+        return getTemplateLocation(createTemplateTypeLinkBuilder(), templateTypeId, templateId);
+    }
+
+    private String getTemplateLocation(ResourceLinkBuilder templateTypeLinkBuilder, String templateTypeId,
+                                       String templateId) {
+
+        String templateLocation = templateTypeLinkBuilder.build(templateTypeId);
         return templateLocation + EMAIL_TEMPLATES_PATH + PATH_SEPARATOR + templateId;
     }
 
@@ -28,7 +28,7 @@ import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtException;
 import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtInternalException;
 import org.wso2.carbon.email.mgt.model.EmailTemplate;
 import org.wso2.carbon.email.mgt.util.I18nEmailUtil;
-import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.email.template.common.Constants;
@@ -273,10 +273,11 @@ public class ApplicationEmailTemplatesService {
                                                                     String templateTypeId, String applicationUuid) {
 
         List<SimpleEmailTemplate> simpleEmailTemplates = new ArrayList<>();
+        String templateTypeLocation = getTemplateTypeLocation(templateTypeId);
         for (EmailTemplate internalTemplate : internalEmailTemplates) {
             SimpleEmailTemplate simpleEmailTemplate = new SimpleEmailTemplate();
-            String templateLocation = getTemplateLocation(
-                    templateTypeId, internalTemplate.getLocale(), applicationUuid);
+            String templateLocation = templateTypeLocation + APP_EMAIL_TEMPLATES_PATH + PATH_SEPARATOR
+                    + applicationUuid + PATH_SEPARATOR + internalTemplate.getLocale();
             simpleEmailTemplate.setLocale(internalTemplate.getLocale());
             simpleEmailTemplate.setSelf(templateLocation);
             simpleEmailTemplates.add(simpleEmailTemplate);
@@ -321,9 +322,8 @@ public class ApplicationEmailTemplatesService {
      */
     private String getTemplateTypeLocation(String templateTypeId) {
 
-        String location = V2_API_PATH_COMPONENT + EMAIL_TEMPLATES_API_BASE_PATH + EMAIL_TEMPLATE_TYPES_PATH +
-                PATH_SEPARATOR + templateTypeId;
-        return ContextLoader.buildURIForBody(location).toString();
+        return new ResourceLinkBuilder(V2_API_PATH_COMPONENT + EMAIL_TEMPLATES_API_BASE_PATH +
+                EMAIL_TEMPLATE_TYPES_PATH).build(templateTypeId);
     }
 
     /**
@@ -28,7 +28,7 @@ import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtException;
 import org.wso2.carbon.email.mgt.exceptions.I18nEmailMgtInternalException;
 import org.wso2.carbon.email.mgt.model.EmailTemplate;
 import org.wso2.carbon.email.mgt.util.I18nEmailUtil;
-import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.email.template.common.Constants;
@@ -83,6 +83,7 @@ public class ServerEmailTemplatesService {
                     .getAvailableTemplateTypes(getTenantDomainFromContext());
 
             List<EmailTemplateTypeWithID> templateList = new ArrayList<>();
+            ResourceLinkBuilder templateTypeLinkBuilder = createTemplateTypeLinkBuilder();
             for (String templateType : availableTemplateTypes) {
 
                 EmailTemplateTypeWithID emailTemplateType = new EmailTemplateTypeWithID();
@@ -92,7 +93,7 @@ public class ServerEmailTemplatesService {
                 String templateTypeId = getEmailTemplateIdFromDisplayName(templateType);
                 emailTemplateType.setId(templateTypeId);
                 // Set location.
-                emailTemplateType.setSelf(getTemplateTypeLocation(templateTypeId));
+                emailTemplateType.setSelf(templateTypeLinkBuilder.build(templateTypeId));
                 templateList.add(emailTemplateType);
             }
             return templateList;
@@ -391,9 +392,11 @@ public class ServerEmailTemplatesService {
                                                                     String templateTypeId) {
 
         List<SimpleEmailTemplate> simpleEmailTemplates = new ArrayList<>();
+        String templateTypeLocation = getTemplateTypeLocation(templateTypeId);
         for (EmailTemplate internalTemplate : internalEmailTemplates) {
             SimpleEmailTemplate simpleEmailTemplate = new SimpleEmailTemplate();
-            String templateLocation = getTemplateLocation(templateTypeId, internalTemplate.getLocale());
+            String templateLocation = templateTypeLocation + ORG_EMAIL_TEMPLATES_PATH + PATH_SEPARATOR +
+                    internalTemplate.getLocale();
             simpleEmailTemplate.setLocale(internalTemplate.getLocale());
             simpleEmailTemplate.setSelf(templateLocation);
             simpleEmailTemplates.add(simpleEmailTemplate);
@@ -435,11 +438,15 @@ public class ServerEmailTemplatesService {
         return base64URLEncode(templateTypeDisplayName);
     }
 
+    private ResourceLinkBuilder createTemplateTypeLinkBuilder() {
+
+        return new ResourceLinkBuilder(V2_API_PATH_COMPONENT + EMAIL_TEMPLATES_API_BASE_PATH +
+                EMAIL_TEMPLATE_TYPES_PATH);
+    }
+
     private String getTemplateTypeLocation(String templateTypeId) {
 
-        String location = V2_API_PATH_COMPONENT + EMAIL_TEMPLATES_API_BASE_PATH + EMAIL_TEMPLATE_TYPES_PATH +
-                PATH_SEPARATOR + templateTypeId;
-        return ContextLoader.buildURIForBody(location).toString();
+        return createTemplateTypeLinkBuilder().build(templateTypeId);
     }
 
     private String getTemplateLocation(String templateTypeId, String templateId) {
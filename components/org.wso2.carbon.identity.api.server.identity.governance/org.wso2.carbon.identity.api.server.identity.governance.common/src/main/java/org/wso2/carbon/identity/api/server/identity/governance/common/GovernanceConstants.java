@@ -25,6 +25,8 @@ public class GovernanceConstants {
     public static final String REL_CATEGORY = "category";
     public static final String REL_CONNECTOR = "connector";
     public static final String IDENTITY_GOVERNANCE_PATH_COMPONENT = "/identity-governance";
+    public static final String PREFERENCE_CACHE_TIMEOUT = "IdentityGovernance.PreferenceCacheTimeout";
+    public static final long DEFAULT_PREFERENCE_CACHE_TIMEOUT = 15;
 
     /**
      * Enum for identity governance related errors in the format of
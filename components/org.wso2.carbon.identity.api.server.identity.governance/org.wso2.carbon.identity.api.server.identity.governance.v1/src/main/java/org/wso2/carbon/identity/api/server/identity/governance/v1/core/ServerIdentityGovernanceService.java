@@ -23,6 +23,10 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.ContextAwareExecutor;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
+import org.wso2.carbon.identity.api.server.common.TenantTtlCache;
+import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants;
@@ -45,18 +49,23 @@ import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
 import org.wso2.carbon.identity.governance.exceptions.general.IdentityGovernanceClientException;
 import org.wso2.carbon.identity.password.expiry.models.PasswordExpiryRule;
 
-import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Pattern;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForBody;
 import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.ErrorMessage.ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceConstants.ErrorMessage.ERROR_CODE_SORTING_NOT_IMPLEMENTED;
@@ -72,6 +81,22 @@ public class ServerIdentityGovernanceService {
     private final IdentityGovernanceService identityGovernanceService;
     private static final Log LOG = LogFactory.getLog(ServerIdentityGovernanceService.class);
 
+    // Preference lookup related constants.
+    private static final int PREFERENCE_LOOKUP_POOL_SIZE = 10;
+    private static final int PREFERENCE_LOOKUP_QUEUE_SIZE = 100;
+    private static final long PREFERENCE_LOOKUP_TIMEOUT_MILLIS = 10000L;
+    private static final ContextAwareExecutor PREFERENCE_LOOKUP_EXECUTOR = new ContextAwareExecutor(
+            "GovernancePreferenceLookup", PREFERENCE_LOOKUP_POOL_SIZE, PREFERENCE_LOOKUP_QUEUE_SIZE);
+    private static final int MAX_CACHED_PREFERENCE_TENANTS = 1000;
+
+    /*
+    Non-confidential properties of the connectors requested through the preferences endpoint, keyed by the tenant
+    domain and the connector name. The connectors of a tenant are dropped together when any of them is updated, or
+    when the cache timeout elapses.
+     */
+    private final TenantTtlCache<Map<String, PreferenceSnapshot>> preferenceCache =
+            new TenantTtlCache<>(getPreferenceCacheTimeoutMillis(), MAX_CACHED_PREFERENCE_TENANTS);
+
     public ServerIdentityGovernanceService(IdentityGovernanceService identityGovernanceService) {
 
         this.identityGovernanceService = identityGovernanceService;
@@ -193,33 +218,105 @@ public class ServerIdentityGovernanceService {
     public List<PreferenceResp> getConfigPreference(List<PreferenceSearchAttribute> preferenceSearchAttribute) {
 
         String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        Map<String, PreferenceSnapshot> preferenceSnapshots = getPreferenceSnapshots(tenantDomain,
+                preferenceSearchAttribute);
         List<PreferenceResp> preferenceRespList = new ArrayList<>();
         for (PreferenceSearchAttribute prefSearchAttr : preferenceSearchAttribute) {
             String connectorName = prefSearchAttr.getConnectorName();
-            List<String> expectedProperties = prefSearchAttr.getProperties();
-            Property[] properties;
-            try {
-                ConnectorConfig connectorConfig = identityGovernanceService.getConnectorWithConfigs(tenantDomain,
-                        connectorName);
+            PreferenceResp preferenceResp = buildPreferenceRespDTO(connectorName,
+                    preferenceSnapshots.get(connectorName).properties, prefSearchAttr.getProperties());
+            preferenceRespList.add(preferenceResp);
+        }
+        return preferenceRespList;
+    }
+
+    /**
+     * Get the non-confidential properties of the requested connectors. The connectors which are not cached are
+     * fetched concurrently.
+     *
+     * @param tenantDomain              Tenant domain.
+     * @param preferenceSearchAttribute Governance connector details.
+     * @return Non-confidential properties of the requested connectors, keyed by the connector name.
+     */
+    private Map<String, PreferenceSnapshot> getPreferenceSnapshots(String tenantDomain,
+                                                                   List<PreferenceSearchAttribute>
+                                                                           preferenceSearchAttribute) {
+
+        Map<String, PreferenceSnapshot> tenantPreferences = preferenceCache.get(tenantDomain, ConcurrentHashMap::new);
+        Map<String, PreferenceSnapshot> preferenceSnapshots = new HashMap<>();
+        Map<String, Future<ConnectorConfig>> lookups = new LinkedHashMap<>();
+        for (PreferenceSearchAttribute prefSearchAttr : preferenceSearchAttribute) {
+            String connectorName = prefSearchAttr.getConnectorName();
+            PreferenceSnapshot preferenceSnapshot = tenantPreferences.get(connectorName);
+            if (preferenceSnapshot != null) {
+                preferenceSnapshots.put(connectorName, preferenceSnapshot);
+            } else if (!lookups.containsKey(connectorName)) {
+                lookups.put(connectorName, null);
+            }
+        }
+        if (lookups.isEmpty()) {
+            return preferenceSnapshots;
+        }
+
+        boolean completed = false;
+        try {
+            // A single lookup is done on the request thread, as there is nothing to run concurrently with it.
+            if (lookups.size() > 1) {
+                lookups.replaceAll((connectorName, lookup) -> PREFERENCE_LOOKUP_EXECUTOR.submit(
+                        () -> identityGovernanceService.getConnectorWithConfigs(tenantDomain, connectorName)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(PREFERENCE_LOOKUP_TIMEOUT_MILLIS);
+            for (Map.Entry<String, Future<ConnectorConfig>> lookup : lookups.entrySet()) {
+                String connectorName = lookup.getKey();
+                ConnectorConfig connectorConfig = lookup.getValue() == null ?
+                        identityGovernanceService.getConnectorWithConfigs(tenantDomain, connectorName) :
+                        lookup.getValue().get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
                 if (connectorConfig == null) {
                     throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INCORRECT_CONNECTOR_NAME,
                             connectorName);
                 }
-                properties = connectorConfig.getProperties();
-                PreferenceResp preferenceResp =
-                        buildPreferenceRespDTO(connectorName, properties, expectedProperties);
-                preferenceRespList.add(preferenceResp);
-            } catch (IdentityGovernanceException e) {
-                GovernanceConstants.ErrorMessage errorEnum =
-                        GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
-                Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
-                throw handleException(e, errorEnum, status);
+                PreferenceSnapshot preferenceSnapshot = new PreferenceSnapshot(connectorConfig.getProperties());
+                tenantPreferences.put(connectorName, preferenceSnapshot);
+                preferenceSnapshots.put(connectorName, preferenceSnapshot);
+            }
+            completed = true;
+        } catch (IdentityGovernanceException e) {
+            throw handlePreferenceLookupError(e);
+        } catch (ExecutionException e) {
+            throw handlePreferenceLookupError(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+        } catch (TimeoutException e) {
+            throw handlePreferenceLookupError(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw handlePreferenceLookupError(e);
+        } finally {
+            if (!completed) {
+                lookups.values().stream().filter(Objects::nonNull).forEach(lookup -> lookup.cancel(true));
             }
         }
-        return preferenceRespList;
+        return preferenceSnapshots;
+    }
+
+    private APIError handlePreferenceLookupError(Exception e) {
+
+        GovernanceConstants.ErrorMessage errorEnum =
+                GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
+        Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+        return handleException(e, errorEnum, status);
     }
 
-    private PreferenceResp buildPreferenceRespDTO(String connectorName, Property[] properties,
+    private void invalidatePreferences(String tenantDomain) {
+
+        preferenceCache.invalidate(tenantDomain);
+    }
+
+    private static long getPreferenceCacheTimeoutMillis() {
+
+        return TimeUnit.SECONDS.toMillis(Util.getPositiveLongProperty(GovernanceConstants.PREFERENCE_CACHE_TIMEOUT,
+                GovernanceConstants.DEFAULT_PREFERENCE_CACHE_TIMEOUT));
+    }
+
+    private PreferenceResp buildPreferenceRespDTO(String connectorName, Map<String, String> properties,
                                                   List<String> expectedProperties) {
 
         PreferenceResp preferenceResp = new PreferenceResp();
@@ -230,7 +327,7 @@ public class ServerIdentityGovernanceService {
         return preferenceResp;
     }
 
-    private List<PropertyReq> buildPropertyReqDTO(Property[] properties, List<String> expectedProperties) {
+    private List<PropertyReq> buildPropertyReqDTO(Map<String, String> properties, List<String> expectedProperties) {
 
         if (expectedProperties != null) {
             return buildPropertyReqForExpectedAttributes(properties, expectedProperties);
@@ -239,44 +336,37 @@ public class ServerIdentityGovernanceService {
 
     }
 
-    private List<PropertyReq> buildPropertyReqForAllProperties(Property[] properties) {
+    private List<PropertyReq> buildPropertyReqForAllProperties(Map<String, String> properties) {
 
         List<PropertyReq> propertyReqList = new ArrayList<>();
-        for (Property property : properties) {
-            if (property.isConfidential()) {
-                continue;
-            }
-            createPropertyRequest(propertyReqList, property);
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            createPropertyRequest(propertyReqList, property.getKey(), property.getValue());
         }
         return propertyReqList;
     }
 
-    private List<PropertyReq> buildPropertyReqForExpectedAttributes(Property[] properties,
+    private List<PropertyReq> buildPropertyReqForExpectedAttributes(Map<String, String> properties,
                                                                     List<String> expectedProperties) {
 
         List<PropertyReq> propertyReqList = new ArrayList<>();
-        Map<String, Property> propertyMap = new HashMap<>();
-        for (Property property : properties) {
-            propertyMap.put(property.getName(), property);
-        }
         for (String expectedProperty : expectedProperties) {
-            Property property = propertyMap.get(expectedProperty);
-            if (property == null || property.isConfidential()) {
+            // Confidential properties are not kept in the snapshot, so they are reported as unsupported.
+            if (!properties.containsKey(expectedProperty)) {
                 throw handleException(new IdentityGovernanceException(GovernanceConstants.ErrorMessage
                                 .ERROR_CODE_UNSUPPORTED_PROPERTY_NAME.getMessage()), GovernanceConstants.
                                 ErrorMessage.ERROR_CODE_UNSUPPORTED_PROPERTY_NAME, Response.Status.BAD_REQUEST,
                         expectedProperty);
             }
-            createPropertyRequest(propertyReqList, property);
+            createPropertyRequest(propertyReqList, expectedProperty, properties.get(expectedProperty));
         }
         return propertyReqList;
     }
 
-    private void createPropertyRequest(List<PropertyReq> propertyReqList, Property property) {
+    private void createPropertyRequest(List<PropertyReq> propertyReqList, String name, String value) {
 
         PropertyReq propertyReq = new PropertyReq();
-        propertyReq.setName(property.getName());
-        propertyReq.setValue(property.getValue());
+        propertyReq.setName(name);
+        propertyReq.setValue(value);
         propertyReqList.add(propertyReq);
     }
 
@@ -316,6 +406,7 @@ public class ServerIdentityGovernanceService {
                 }
             }
             identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            invalidatePreferences(tenantDomain);
         } catch (IdentityGovernanceClientException e) {
             throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INVALID_CONNECTOR_CONFIGURATION,
                     e.getMessage());
@@ -329,7 +420,9 @@ public class ServerIdentityGovernanceService {
 
     /**
      *
-     * Update multiple governance connector properties.
+     * Update multiple governance connector properties. The whole request is validated against a single lookup of
+     * the connectors of the category, and the properties of all the connectors are written with a single
+     * configuration update.
      *
      * @param categoryId                 Governance connector category id.
      * @param multipleConnectorsPatchReq Governance connectors and properties to update.
@@ -341,10 +434,7 @@ public class ServerIdentityGovernanceService {
             String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
 
             // Check whether the category ID exists.
-            CategoryRes category = getGovernanceConnectorCategory(categoryId);
-            if (category == null) {
-                throw handleNotFoundError(categoryId, GovernanceConstants.ErrorMessage.ERROR_CODE_CATEGORY_NOT_FOUND);
-            }
+            Map<String, ConnectorConfig> categoryConnectors = getCategoryConnectors(tenantDomain, categoryId);
 
             Map<String, String> configurationDetails = new HashMap<>();
 
@@ -353,7 +443,8 @@ public class ServerIdentityGovernanceService {
                 String connectorId = connectorReq.getId();
 
                 // Check whether the connector ID exists.
-                ConnectorRes connector = getGovernanceConnector(categoryId, connectorId);
+                String connectorName = new String(Base64.getUrlDecoder().decode(connectorId), StandardCharsets.UTF_8);
+                ConnectorConfig connector = categoryConnectors.get(connectorName);
                 if (connector == null) {
                     throw handleNotFoundError(connectorId,
                             GovernanceConstants.ErrorMessage.ERROR_CODE_CONNECTOR_NOT_FOUND);
@@ -379,6 +470,7 @@ public class ServerIdentityGovernanceService {
             }
 
             identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            invalidatePreferences(tenantDomain);
 
         } catch (IdentityGovernanceException e) {
             GovernanceConstants.ErrorMessage errorEnum =
@@ -388,6 +480,36 @@ public class ServerIdentityGovernanceService {
         }
     }
 
+    /**
+     * Get the governance connectors of a category, keyed by the connector name.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param categoryId   Governance connector category id.
+     * @return Governance connectors of the category.
+     */
+    private Map<String, ConnectorConfig> getCategoryConnectors(String tenantDomain, String categoryId) {
+
+        try {
+            String category = new String(Base64.getUrlDecoder().decode(categoryId), StandardCharsets.UTF_8);
+            List<ConnectorConfig> connectorConfigs =
+                    identityGovernanceService.getConnectorListWithConfigsByCategory(tenantDomain, category);
+            if (connectorConfigs.isEmpty()) {
+                throw handleNotFoundError(categoryId, GovernanceConstants.ErrorMessage.ERROR_CODE_CATEGORY_NOT_FOUND);
+            }
+
+            Map<String, ConnectorConfig> categoryConnectors = new HashMap<>();
+            for (ConnectorConfig connectorConfig : connectorConfigs) {
+                categoryConnectors.put(connectorConfig.getName(), connectorConfig);
+            }
+            return categoryConnectors;
+        } catch (IdentityGovernanceException e) {
+            GovernanceConstants.ErrorMessage errorEnum =
+                    GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CATEGORY;
+            Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+            throw handleException(e, errorEnum, status);
+        }
+    }
+
     private APIError handleException(Exception e, GovernanceConstants.ErrorMessage errorEnum, Response.Status status,
                                      String... data) {
 
@@ -408,6 +530,8 @@ public class ServerIdentityGovernanceService {
             Map<String, List<ConnectorConfig>> connectorConfigs) {
 
         List<CategoriesRes> categories = new ArrayList<>();
+        ResourceLinkBuilder categoryLinkBuilder = new ResourceLinkBuilder(V1_API_PATH_COMPONENT +
+                IDENTITY_GOVERNANCE_PATH_COMPONENT);
 
         for (Map.Entry<String, List<ConnectorConfig>> category : connectorConfigs.entrySet()) {
 
@@ -417,12 +541,10 @@ public class ServerIdentityGovernanceService {
                     .withoutPadding()
                     .encodeToString(category.getKey().getBytes(StandardCharsets.UTF_8));
             categoriesRes.setId(categoryId);
-            URI categoryLocation =
-                    buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDENTITY_GOVERNANCE_PATH_COMPONENT + "/%s",
-                            categoryId));
-            categoriesRes.setSelf(categoryLocation.toString());
+            categoriesRes.setSelf(categoryLinkBuilder.build(categoryId));
 
-            List<CategoryConnectorsRes> connectors = buildCategoryConnectorsResDTOS(categoryId, category.getValue());
+            List<CategoryConnectorsRes> connectors = buildCategoryConnectorsResDTOS(categoryId, category.getValue(),
+                    categoryLinkBuilder);
             categoriesRes.setConnectors(connectors);
             categories.add(categoriesRes);
         }
@@ -441,7 +563,8 @@ public class ServerIdentityGovernanceService {
     }
 
     private List<CategoryConnectorsRes> buildCategoryConnectorsResDTOS(String categoryId,
-                                                                       List<ConnectorConfig> connectorConfigList) {
+                                                                       List<ConnectorConfig> connectorConfigList,
+                                                                       ResourceLinkBuilder categoryLinkBuilder) {
 
         List<CategoryConnectorsRes> connectors = new ArrayList<>();
         for (ConnectorConfig connectorConfig : connectorConfigList) {
@@ -450,11 +573,7 @@ public class ServerIdentityGovernanceService {
                     .withoutPadding()
                     .encodeToString(connectorConfig.getName().getBytes(StandardCharsets.UTF_8));
             connectorsResDTO.setId(connectorId);
-            URI connectorLocation =
-                    buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDENTITY_GOVERNANCE_PATH_COMPONENT + "/%s" +
-                                    "/connectors/%s",
-                            categoryId, connectorId));
-            connectorsResDTO.setSelf(connectorLocation.toString());
+            connectorsResDTO.setSelf(categoryLinkBuilder.build(categoryId, "connectors", connectorId));
             connectors.add(connectorsResDTO);
         }
         return connectors;
@@ -573,4 +692,23 @@ public class ServerIdentityGovernanceService {
             return false;
         }
     }
+
+    /**
+     * Non-confidential properties of a governance connector, taken when the connector was fetched.
+     */
+    private static class PreferenceSnapshot {
+
+        private final Map<String, String> properties = new LinkedHashMap<>();
+
+        PreferenceSnapshot(Property[] connectorProperties) {
+
+            if (connectorProperties != null) {
+                for (Property property : connectorProperties) {
+                    if (!property.isConfidential()) {
+                        properties.putIfAbsent(property.getName(), property.getValue());
+                    }
+                }
+            }
+        }
+    }
 }
@@ -18,10 +18,7 @@
 
 package org.wso2.carbon.identity.api.server.idp.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.Gson;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.io.IOUtils;
@@ -34,8 +31,13 @@ import org.apache.cxf.jaxrs.ext.search.ConditionType;
 import org.apache.cxf.jaxrs.ext.search.PrimitiveStatement;
 import org.apache.cxf.jaxrs.ext.search.SearchCondition;
 import org.apache.cxf.jaxrs.ext.search.SearchContext;
+import org.wso2.carbon.identity.api.server.common.BoundedImportInputStream;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.FileContent;
+import org.wso2.carbon.identity.api.server.common.IdentityProviderCopier;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
+import org.wso2.carbon.identity.api.server.common.SerializerPool;
+import org.wso2.carbon.identity.api.server.common.SerializerRegistry;
 import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
@@ -93,7 +95,6 @@ import org.wso2.carbon.identity.application.common.model.Property;
 import org.wso2.carbon.identity.application.common.model.ProvisioningConnectorConfig;
 import org.wso2.carbon.identity.application.common.model.RoleMapping;
 import org.wso2.carbon.identity.application.common.model.SubProperty;
-import org.wso2.carbon.identity.application.common.model.UserDefinedFederatedAuthenticatorConfig;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
 import org.wso2.carbon.identity.base.AuthenticatorPropertyConstants.DefinedByType;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
@@ -130,8 +131,6 @@ import org.yaml.snakeyaml.representer.Representer;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URLEncoder;
@@ -148,10 +147,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
 import static org.wso2.carbon.identity.api.server.common.Constants.JSON_FILE_EXTENSION;
@@ -187,6 +183,10 @@ public class ServerIdpManagementService {
     private final TemplateManager templateManager;
 
     private static final Log log = LogFactory.getLog(ServerIdpManagementService.class);
+    private static final SerializerPool<Yaml> IDP_YAML_DUMPERS =
+            new SerializerPool<>(ServerIdpManagementService::buildIdpYamlDumper);
+    private static final SerializerPool<Yaml> IDP_YAML_LOADERS =
+            new SerializerPool<>(ServerIdpManagementService::buildIdpYamlLoader);
 
     public ServerIdpManagementService(IdentityProviderManager identityProviderManager, TemplateManager templateManager,
                                       ClaimMetadataManagementService claimMetadataManagementService) {
@@ -309,7 +309,8 @@ public class ServerIdpManagementService {
                 throw handleException(Response.Status.NOT_FOUND, Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND,
                         identityProviderId);
             }
-            IdentityProvider idpToUpdate = createIdPClone(identityProvider);
+            IdentityProvider idpToUpdate =
+                    createIdPClone(identityProvider, IdentityProviderCopier.Branch.IDP_PROPERTIES);
             processPatchRequest(patchRequest, idpToUpdate);
             validateSystemReservedIDP(idpToUpdate.getIdentityProviderName());
             IdentityProvider updatedIdP = identityProviderManager.updateIdPByResourceId(identityProviderId, idpToUpdate,
@@ -377,7 +378,11 @@ public class ServerIdpManagementService {
             identityProvider = RESIDENT_IDP_RESERVED_NAME.equals(idpId) ? dao.getIdPByName(null,
                     RESIDENT_IDP_RESERVED_NAME, IdentityTenantUtil.getTenantId(tenantDomain), tenantDomain) :
                     identityProviderManager.getIdPByResourceId(idpId, tenantDomain, true);
-            idpToExport = createIdPClone(identityProvider);
+            // Secrets are masked in place in the authenticator, connector and IdP properties of the exported IdP.
+            idpToExport = IdentityProviderCopier.copy(identityProvider,
+                    IdentityProviderCopier.Branch.FEDERATED_AUTHENTICATORS,
+                    IdentityProviderCopier.Branch.PROVISIONING_CONNECTORS,
+                    IdentityProviderCopier.Branch.IDP_PROPERTIES);
             if (idpToExport == null) {
                 throw handleException(Response.Status.NOT_FOUND,
                         Constants.ErrorMessage.ERROR_CODE_IDP_NOT_FOUND, idpId);
@@ -739,8 +744,10 @@ public class ServerIdpManagementService {
             if (connectorConfigs != null) {
                 listResponse = new OutboundConnectorListResponse();
                 List<OutboundConnectorListItem> connectorList = new ArrayList<>();
+                ResourceLinkBuilder idpLinkBuilder = new ResourceLinkBuilder(V1_API_PATH_COMPONENT +
+                        IDP_PATH_COMPONENT);
                 for (ProvisioningConnectorConfig config : connectorConfigs) {
-                    connectorList.add(createOutboundConnectorListItem(idpId, config));
+                    connectorList.add(createOutboundConnectorListItem(idpId, config, idpLinkBuilder));
                     if (idp.getDefaultProvisioningConnectorConfig() != null) {
                         defaultConnectorId = base64URLEncode(idp.getDefaultProvisioningConnectorConfig()
                                 .getName());
@@ -1397,16 +1404,15 @@ public class ServerIdpManagementService {
         IdentityProviderTemplateListResponse idpTemplateListResponse = new IdentityProviderTemplateListResponse();
         if (!CollectionUtils.isEmpty(templateInfoList)) {
             List<IdentityProviderTemplateListItem> idpTemplates = new ArrayList<>();
+            ResourceLinkBuilder templateLinkBuilder = new ResourceLinkBuilder(V1_API_PATH_COMPONENT +
+                    IDP_PATH_COMPONENT + IDP_TEMPLATE_PATH_COMPONENT);
             for (Template idpTemplate: templateInfoList) {
                 IdentityProviderTemplateListItem idpTemplateListItem = new IdentityProviderTemplateListItem();
                 idpTemplateListItem.setId(idpTemplate.getTemplateId());
                 idpTemplateListItem.setDescription(idpTemplate.getDescription());
                 idpTemplateListItem.setName(idpTemplate.getTemplateName());
                 idpTemplateListItem.setImage(idpTemplate.getImageUrl());
-                idpTemplateListItem.setSelf(
-                        ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT
-                                        + IDP_TEMPLATE_PATH_COMPONENT + "/%s",
-                                idpTemplate.getTemplateId())).toString());
+                idpTemplateListItem.setSelf(templateLinkBuilder.build(idpTemplate.getTemplateId()));
                 if (idpTemplate.getPropertiesMap().containsKey(PROP_CATEGORY)) {
                     if (IdentityProviderTemplateListItem.CategoryEnum.CUSTOM.toString()
                             .equals(idpTemplate.getPropertiesMap().get(PROP_CATEGORY))) {
@@ -1467,9 +1473,8 @@ public class ServerIdpManagementService {
                     Integer.valueOf(idpTemplate.getPropertiesMap().get(PROP_DISPLAY_ORDER)));
         }
         if (idpTemplate.getTemplateScript() != null) {
-            ObjectMapper mapper = new ObjectMapper();
-            IdentityProviderPOSTRequest idp = mapper.readValue(idpTemplate.getTemplateScript(),
-                    IdentityProviderPOSTRequest.class);
+            IdentityProviderPOSTRequest idp = SerializerRegistry.getObjectReader(IdentityProviderPOSTRequest.class)
+                    .readValue(idpTemplate.getTemplateScript());
             idpTemplateResponse.setIdp(idp);
         }
         return idpTemplateResponse;
@@ -1602,8 +1607,7 @@ public class ServerIdpManagementService {
      */
     private String createIDPTemplateScript(IdentityProviderPOSTRequest idpTemplate) throws JsonProcessingException {
 
-        ObjectMapper mapper = new ObjectMapper();
-        return mapper.writeValueAsString(idpTemplate);
+        return SerializerRegistry.getObjectWriter().writeValueAsString(idpTemplate);
     }
 
     private ConnectedApps createConnectedAppsResponse(String resourceId, ConnectedAppsResult connectedAppsResult) {
@@ -1614,11 +1618,12 @@ public class ServerIdpManagementService {
         }
         List<ConnectedApp> connectedAppList = new ArrayList<>();
         if (CollectionUtils.isNotEmpty(connectedAppsResult.getApps())) {
+            ResourceLinkBuilder applicationLinkBuilder = new ResourceLinkBuilder(V1_API_PATH_COMPONENT +
+                    "/applications");
             for (String app : connectedAppsResult.getApps()) {
                 ConnectedApp listItem = new ConnectedApp();
                 listItem.setAppId(app);
-                listItem.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                                "/applications/%s", app)).toString());
+                listItem.setSelf(applicationLinkBuilder.build(app));
                 connectedAppList.add(listItem);
             }
             connectedAppsResponse.setConnectedApps(connectedAppList);
@@ -2068,8 +2073,10 @@ public class ServerIdpManagementService {
         IdentityProviderListResponse listResponse = new IdentityProviderListResponse();
         if (CollectionUtils.isNotEmpty(idps)) {
             List<IdentityProviderListItem> identityProviderList = new ArrayList<>();
+            ResourceLinkBuilder idpLinkBuilder = new ResourceLinkBuilder(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT);
             for (IdentityProvider idp : idps) {
-                IdentityProviderListItem listItem = populateIDPListResponse(idp, requestedAttributeList);
+                IdentityProviderListItem listItem = populateIDPListResponse(idp, requestedAttributeList,
+                        idpLinkBuilder);
                 identityProviderList.add(listItem);
             }
             listResponse.setIdentityProviders(identityProviderList);
@@ -2087,7 +2094,8 @@ public class ServerIdpManagementService {
     }
 
     private IdentityProviderListItem populateIDPListResponse(IdentityProvider idp,
-                                                             List<String> requestedAttributeList) {
+                                                             List<String> requestedAttributeList,
+                                                             ResourceLinkBuilder idpLinkBuilder) {
 
         IdentityProviderListItem identityProviderListItem = new IdentityProviderListItem();
         // Create IDP basic information.
@@ -2096,9 +2104,7 @@ public class ServerIdpManagementService {
         identityProviderListItem.setDescription(idp.getIdentityProviderDescription());
         identityProviderListItem.setIsEnabled(idp.isEnable());
         identityProviderListItem.setImage(idp.getImageUrl());
-        identityProviderListItem.setSelf(
-                ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT + "/%s",
-                        idp.getResourceId())).toString());
+        identityProviderListItem.setSelf(idpLinkBuilder.build(idp.getResourceId()));
 
         // Populate optional IDP information if exists.
         if (requestedAttributeList != null) {
@@ -2402,16 +2408,14 @@ public class ServerIdpManagementService {
         ProvisioningConnectorConfig[] connectorConfigs = idp.getProvisioningConnectorConfigs();
         List<OutboundConnectorListItem> connectors = new ArrayList<>();
         if (connectorConfigs != null) {
+            ResourceLinkBuilder idpLinkBuilder = new ResourceLinkBuilder(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT);
             for (ProvisioningConnectorConfig connectorConfig : connectorConfigs) {
                 OutboundConnectorListItem connectorListItem = new OutboundConnectorListItem();
                 connectorListItem.setConnectorId(base64URLEncode(connectorConfig.getName()));
                 connectorListItem.setName(connectorConfig.getName());
                 connectorListItem.setIsEnabled(connectorConfig.isEnabled());
-                connectorListItem.setSelf(
-                        ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT +
-                                        "/%s/provisioning/outbound-connectors/%s", idp.getResourceId(),
-                                base64URLEncode(connectorConfig.getName())))
-                                .toString());
+                connectorListItem.setSelf(idpLinkBuilder.build(idp.getResourceId(), "provisioning",
+                        "outbound-connectors", base64URLEncode(connectorConfig.getName())));
                 connectors.add(connectorListItem);
             }
         }
@@ -2578,22 +2582,16 @@ public class ServerIdpManagementService {
     }
 
     /**
-     * Create a duplicate of the input Identity Provider.
+     * Create a duplicate of the input Identity Provider to be updated. Branches which are not modified in place are
+     * shared with the input Identity Provider.
      *
-     * @param idP Identity Provider.
+     * @param idP              Identity Provider.
+     * @param modifiedBranches Branches of the Identity Provider which are modified in place.
      * @return Clone of IDP.
      */
-    private IdentityProvider createIdPClone(IdentityProvider idP) {
+    private IdentityProvider createIdPClone(IdentityProvider idP, IdentityProviderCopier.Branch... modifiedBranches) {
 
-        Gson gson = new Gson();
-        IdentityProvider clonedIdentityProvider = gson.fromJson(gson.toJson(idP), IdentityProvider.class);
-        if (idP.getFederatedAuthenticatorConfigs().length == 1 &&
-                idP.getFederatedAuthenticatorConfigs()[0].getDefinedByType() == DefinedByType.USER) {
-            UserDefinedFederatedAuthenticatorConfig clonedFedAuth = gson.fromJson(gson.toJson(
-                    idP.getFederatedAuthenticatorConfigs()[0]), UserDefinedFederatedAuthenticatorConfig.class);
-            clonedIdentityProvider.setFederatedAuthenticatorConfigs(new FederatedAuthenticatorConfig[]{clonedFedAuth});
-        }
-        return clonedIdentityProvider;
+        return IdentityProviderCopier.copyForUpdate(idP, modifiedBranches);
     }
 
     /**
@@ -2688,15 +2686,14 @@ public class ServerIdpManagementService {
     }
 
     private OutboundConnectorListItem createOutboundConnectorListItem(String idPId, ProvisioningConnectorConfig
-            config) {
+            config, ResourceLinkBuilder idpLinkBuilder) {
 
         String connectorId = base64URLEncode(config.getName());
         OutboundConnectorListItem listItem = new OutboundConnectorListItem();
         listItem.setConnectorId(connectorId);
         listItem.setName(config.getName());
         listItem.setIsEnabled(config.isEnabled());
-        listItem.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT +
-                "/%s/provisioning/outbound-connectors/%s", idPId, connectorId)).toString());
+        listItem.setSelf(idpLinkBuilder.build(idPId, "provisioning", "outbound-connectors", connectorId));
         return listItem;
     }
 
@@ -3505,14 +3502,9 @@ public class ServerIdpManagementService {
         StringBuilder fileNameSB = new StringBuilder(identityProvider.getIdentityProviderName());
         fileNameSB.append(XML_FILE_EXTENSION);
 
-        JAXBContext jaxbContext;
         try {
-            jaxbContext = JAXBContext.newInstance(IdentityProvider.class);
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            StringWriter stringWriter = new StringWriter();
-            marshaller.marshal(identityProvider, stringWriter);
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML, stringWriter.toString());
+            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML,
+                    SerializerRegistry.marshal(identityProvider, null, IdentityProvider.class));
         } catch (JAXBException e) {
             throw new IdentityProviderManagementException(
                     "Error when parsing identity provider to XML file.", e);
@@ -3524,10 +3516,9 @@ public class ServerIdpManagementService {
 
         StringBuilder fileNameSB = new StringBuilder(identityProvider.getIdentityProviderName());
         fileNameSB.append(JSON_FILE_EXTENSION);
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
         try {
             return new FileContent(fileNameSB.toString(), MEDIA_TYPE_JSON,
-                    objectMapper.writeValueAsString(identityProvider));
+                    SerializerRegistry.getObjectWriter().writeValueAsString(identityProvider));
         } catch (JsonProcessingException e) {
             throw new IdentityProviderManagementClientException(
                     "Error when parsing identity provider to JSON file.", e);
@@ -3540,103 +3531,120 @@ public class ServerIdpManagementService {
         StringBuilder fileNameSB = new StringBuilder(identityProvider.getIdentityProviderName());
         fileNameSB.append(YAML_FILE_EXTENSION);
 
+        Yaml yaml = IDP_YAML_DUMPERS.borrow();
+        try {
+            FileContent fileContent = new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML,
+                    yaml.dump(identityProvider));
+            return fileContent;
+        } catch (YAMLException e) {
+            throw new IdentityProviderManagementException(
+                    "Error when parsing identity provider to YAML file.", e);
+        } finally {
+            IDP_YAML_DUMPERS.release(yaml);
+        }
+    }
+
+    private static Yaml buildIdpYamlDumper() {
+
         Representer representer = new Representer(new DumperOptions());
         TypeDescription typeDescription = new TypeDescription(IdentityProvider.class);
         typeDescription.setExcludes("id", "resourceId");
         representer.addTypeDescription(typeDescription);
         representer.getPropertyUtils().setSkipMissingProperties(true);
+        return new Yaml(representer);
+    }
 
-        Yaml yaml = new Yaml(representer);
-        try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML, yaml.dump(identityProvider));
-        } catch (YAMLException e) {
-            throw new IdentityProviderManagementException(
-                    "Error when parsing identity provider to YAML file.", e);
-        }
+    private static Yaml buildIdpYamlLoader() {
+
+        // Add trusted tags included in the IDP YAML files.
+        List<String> trustedTagList = new ArrayList<>();
+        trustedTagList.add(IdentityProvider.class.getName());
+
+        LoaderOptions loaderOptions = new LoaderOptions();
+        TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
+        loaderOptions.setTagInspector(tagInspector);
+        return new Yaml(new Constructor(IdentityProvider.class, loaderOptions));
     }
 
     private IdentityProvider getIDPFromFile(InputStream fileInputStream, Attachment fileDetail)
             throws IdentityProviderManagementClientException {
 
         try {
-            FileContent idpFileContent = new FileContent(fileDetail.getDataHandler().getName(),
-                    fileDetail.getDataHandler().getContentType(),
-                    IOUtils.toString(fileInputStream, StandardCharsets.UTF_8.name()));
-
-            return generateModelFromFile(idpFileContent);
+            return generateModelFromFile(new BoundedImportInputStream(fileInputStream),
+                    fileDetail.getDataHandler().getName(), fileDetail.getDataHandler().getContentType());
         } catch (IOException | IdentityProviderManagementClientException e) {
+            BoundedImportInputStream.ImportLimitExceededException limitExceeded =
+                    BoundedImportInputStream.getImportLimitExceeded(e);
+            if (limitExceeded != null) {
+                throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT,
+                        " " + limitExceeded.getMessage());
+            }
             throw new IdentityProviderManagementClientException("Provided input file is not in the correct format", e);
         } finally {
             IOUtils.closeQuietly(fileInputStream);
         }
     }
 
-    private IdentityProvider generateModelFromFile(FileContent fileContent)
-            throws IdentityProviderManagementClientException {
+    private IdentityProvider generateModelFromFile(BoundedImportInputStream fileInputStream, String fileName,
+                                                   String fileType)
+            throws IdentityProviderManagementClientException, IOException {
 
         if (log.isDebugEnabled()) {
-            log.debug(String.format("Parsing identity provider from file: %s of type: %s.", fileContent.getFileName(),
-                    fileContent.getFileType()));
+            log.debug(String.format("Parsing identity provider from file: %s of type: %s.", fileName, fileType));
         }
-        if (StringUtils.isEmpty(fileContent.getContent())) {
+        if (fileInputStream.isEmpty()) {
             throw new IdentityProviderManagementClientException(String.format(
-                    "Empty Identity Provider configuration file %s uploaded.", fileContent.getFileName()));
+                    "Empty Identity Provider configuration file %s uploaded.", fileName));
         }
 
-        switch (Util.getMediaType(fileContent.getFileType())) {
+        switch (Util.getMediaType(fileType)) {
             case MEDIA_TYPE_XML:
-                return parseIdpFromXml(fileContent);
+                return parseIdpFromXml(fileInputStream, fileName);
             case MEDIA_TYPE_JSON:
-                return parseIdpFromJson(fileContent);
+                return parseIdpFromJson(fileInputStream, fileName);
             case MEDIA_TYPE_YAML:
-                return parseIdpFromYaml(fileContent);
+                return parseIdpFromYaml(fileInputStream, fileName);
             default:
                 log.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
-                        fileContent.getFileType(), fileContent.getFileName()));
-                return parseIdpFromYaml(fileContent);
+                        fileType, fileName));
+                return parseIdpFromYaml(fileInputStream, fileName);
         }
     }
 
-    private IdentityProvider parseIdpFromXml(FileContent fileContent)
+    private IdentityProvider parseIdpFromXml(InputStream fileInputStream, String fileName)
             throws IdentityProviderManagementClientException {
 
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(IdentityProvider.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (IdentityProvider) unmarshaller.unmarshal(new StringReader(fileContent.getContent()));
+            return (IdentityProvider) SerializerRegistry.unmarshal(fileInputStream, IdentityProvider.class);
         } catch (JAXBException e) {
             throw new IdentityProviderManagementClientException(String.format("Error in reading " +
-                    "XML file configuration for Identity Provider: %s.", fileContent.getFileName()), e);
+                    "XML file configuration for Identity Provider: %s.", fileName), e);
         }
     }
 
-    private IdentityProvider parseIdpFromYaml(FileContent fileContent)
+    private IdentityProvider parseIdpFromYaml(InputStream fileInputStream, String fileName)
             throws IdentityProviderManagementClientException {
 
+        Yaml yaml = IDP_YAML_LOADERS.borrow();
         try {
-            // Add trusted tags included in the IDP YAML files.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(IdentityProvider.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(IdentityProvider.class, loaderOptions));
-            return yaml.loadAs(fileContent.getContent(), IdentityProvider.class);
+            IdentityProvider identityProvider = yaml.loadAs(fileInputStream, IdentityProvider.class);
+            return identityProvider;
         } catch (YAMLException e) {
             throw new IdentityProviderManagementClientException(String.format("Error in reading YAML file " +
-                    "configuration for Identity Provider: %s.", fileContent.getFileName()), e);
+                    "configuration for Identity Provider: %s.", fileName), e);
+        } finally {
+            IDP_YAML_LOADERS.release(yaml);
         }
     }
 
-    private IdentityProvider parseIdpFromJson(FileContent fileContent)
-            throws IdentityProviderManagementClientException {
+    private IdentityProvider parseIdpFromJson(InputStream fileInputStream, String fileName)
+            throws IdentityProviderManagementClientException, IOException {
 
         try {
-            return new ObjectMapper().readValue(fileContent.getContent(), IdentityProvider.class);
+            return SerializerRegistry.getObjectReader(IdentityProvider.class).readValue(fileInputStream);
         } catch (JsonProcessingException e) {
             throw new IdentityProviderManagementClientException(String.format("Error in reading JSON " +
-                    "file configuration for Identity Provider: %s.", fileContent.getFileName()), e);
+                    "file configuration for Identity Provider: %s.", fileName), e);
         }
     }
 
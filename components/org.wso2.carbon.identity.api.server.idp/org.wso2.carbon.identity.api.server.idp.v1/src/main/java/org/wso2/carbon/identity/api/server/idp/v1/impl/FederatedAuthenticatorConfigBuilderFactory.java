@@ -20,7 +20,7 @@ package org.wso2.carbon.identity.api.server.idp.v1.impl;
 
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
-import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
 import org.wso2.carbon.identity.api.server.idp.common.Constants;
 import org.wso2.carbon.identity.api.server.idp.common.IdentityProviderServiceHolder;
 import org.wso2.carbon.identity.api.server.idp.v1.model.AuthenticationType;
@@ -165,6 +165,7 @@ public class FederatedAuthenticatorConfigBuilderFactory {
                                                              String idpResourceId) {
 
         List<FederatedAuthenticatorListItem> authenticators = new ArrayList<>();
+        ResourceLinkBuilder idpLinkBuilder = new ResourceLinkBuilder(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT);
         for (FederatedAuthenticatorConfig config : fedAuthConfigs) {
             FederatedAuthenticatorListItem authenticatorListItem = new FederatedAuthenticatorListItem();
             authenticatorListItem.setAuthenticatorId(base64URLEncode(config.getName()));
@@ -176,9 +177,8 @@ public class FederatedAuthenticatorConfigBuilderFactory {
             if (ArrayUtils.isNotEmpty(tags)) {
                 authenticatorListItem.setTags(Arrays.asList(tags));
             }
-            authenticatorListItem.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                     IDP_PATH_COMPONENT + "/%s/federated-authenticators/%s", idpResourceId,
-                                    base64URLEncode(config.getName()))).toString());
+            authenticatorListItem.setSelf(idpLinkBuilder.build(idpResourceId, "federated-authenticators",
+                    base64URLEncode(config.getName())));
             authenticators.add(authenticatorListItem);
         }
 
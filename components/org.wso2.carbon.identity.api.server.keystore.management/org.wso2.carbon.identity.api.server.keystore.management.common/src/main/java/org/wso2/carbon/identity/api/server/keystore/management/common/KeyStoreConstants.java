@@ -21,12 +21,24 @@ package org.wso2.carbon.identity.api.server.keystore.management.common;
 public class KeyStoreConstants {
 
     public static final String KEYSTORES_API_PATH_COMPONENT = "/keystores";
-    public static final String CERTIFICATE_PATH_COMPONENT = "/certs" + "/%s";
-    public static final String CLIENT_CERTIFICATE_PATH_COMPONENT = "/client-certs" + "/%s";
+    public static final String CERTIFICATES_PATH_COMPONENT = "/certs";
+    public static final String CLIENT_CERTIFICATES_PATH_COMPONENT = "/client-certs";
+    public static final String CERTIFICATE_PATH_COMPONENT = CERTIFICATES_PATH_COMPONENT + "/%s";
+    public static final String CLIENT_CERTIFICATE_PATH_COMPONENT = CLIENT_CERTIFICATES_PATH_COMPONENT + "/%s";
 
-    public static final String CERTIFICATE_FILE_EXTENSION = ".cer";
-    public static final String CERTIFICATE_TEMPORARY_DIRECTORY_PATH = "tmp/certs";
-    public static final String PATH_SEPERATOR = "/";
+    public static final String CERTIFICATE_METADATA_CACHE_TIMEOUT = "KeyStore.CertificateMetadataCacheTimeout";
+    public static final long DEFAULT_CERTIFICATE_METADATA_CACHE_TIMEOUT = 30;
+
+    /**
+     * Certificate attributes which can be requested along with the certificate aliases.
+     */
+    public static class CertificateAttributes {
+
+        public static final String SUBJECT = "subject";
+        public static final String ISSUER = "issuer";
+        public static final String NOT_AFTER = "notAfter";
+        public static final String FINGERPRINT = "fingerprint";
+    }
 
     /**
      * Enum for Keystore management service related errors.
@@ -34,7 +46,8 @@ public class KeyStoreConstants {
     public enum ErrorMessage {
 
         ERROR_CODE_INVALID_ALIAS("KSS-60010", "There exists no certificate with alias: %s."),
-        ERROR_CODE_FILE_WRITE("KSS-65010", "Unable to create file: %s"),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETER("KSS-60011", "Invalid pagination parameter: %s."),
+        ERROR_CODE_INVALID_ATTRIBUTE("KSS-60012", "Unsupported certificate attribute: %s."),
         ERROR_CODE_ENCODE_CERTIFICATE("KSS-65011", "Unable to encode the certificate with alias: %s.");
 
         private final String code;
@@ -110,9 +110,9 @@ public class KeystoresApi  {
         @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
     })
-    public Response getCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter) {
+    public Response getCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Comma separated list of the certificate attributes to be returned along with the alias. Supports 'subject', 'issuer', 'notAfter' and 'fingerprint'. E.g. keystores/certs?attributes=subject,notAfter")  @QueryParam("attributes") String attributes) {
 
-        return delegate.getCertificateAliases(filter );
+        return delegate.getCertificateAliases(filter,  limit,  offset,  attributes );
     }
 
     @Valid
@@ -158,9 +158,9 @@ public class KeystoresApi  {
         @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
         @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
     })
-    public Response getClientCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter) {
+    public Response getClientCertificateAliases(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Comma separated list of the certificate attributes to be returned along with the alias. Supports 'subject', 'issuer', 'notAfter' and 'fingerprint'. E.g. keystores/certs?attributes=subject,notAfter")  @QueryParam("attributes") String attributes) {
 
-        return delegate.getClientCertificateAliases(filter );
+        return delegate.getClientCertificateAliases(filter,  limit,  offset,  attributes );
     }
 
     @Valid
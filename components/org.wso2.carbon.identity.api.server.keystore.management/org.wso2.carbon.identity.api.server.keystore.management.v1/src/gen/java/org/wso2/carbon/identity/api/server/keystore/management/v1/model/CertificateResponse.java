@@ -33,6 +33,10 @@ public class CertificateResponse  {
   
     private String alias;
     private URI certificate;
+    private String subject;
+    private String issuer;
+    private String notAfter;
+    private String fingerprint;
 
     /**
     **/
@@ -74,6 +78,80 @@ public class CertificateResponse  {
         this.certificate = certificate;
     }
 
+    /**
+    **/
+    public CertificateResponse subject(String subject) {
+
+        this.subject = subject;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "CN=localhost,O=WSO2,L=Mountain View,ST=CA,C=US", value = "")
+    @JsonProperty("subject")
+    @Valid
+    public String getSubject() {
+        return subject;
+    }
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    /**
+    **/
+    public CertificateResponse issuer(String issuer) {
+
+        this.issuer = issuer;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "CN=localhost,O=WSO2,L=Mountain View,ST=CA,C=US", value = "")
+    @JsonProperty("issuer")
+    @Valid
+    public String getIssuer() {
+        return issuer;
+    }
+    public void setIssuer(String issuer) {
+        this.issuer = issuer;
+    }
+
+    /**
+    * Expiry time of the certificate in ISO-8601 format.
+    **/
+    public CertificateResponse notAfter(String notAfter) {
+
+        this.notAfter = notAfter;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2030-01-01T00:00:00Z", value = "Expiry time of the certificate in ISO-8601 format.")
+    @JsonProperty("notAfter")
+    @Valid
+    public String getNotAfter() {
+        return notAfter;
+    }
+    public void setNotAfter(String notAfter) {
+        this.notAfter = notAfter;
+    }
+
+    /**
+    * SHA-256 fingerprint of the certificate in colon separated hexadecimal.
+    **/
+    public CertificateResponse fingerprint(String fingerprint) {
+
+        this.fingerprint = fingerprint;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "SHA-256 fingerprint of the certificate in colon separated hexadecimal.")
+    @JsonProperty("fingerprint")
+    @Valid
+    public String getFingerprint() {
+        return fingerprint;
+    }
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
 
 
     @Override
@@ -87,12 +165,16 @@ public class CertificateResponse  {
         }
         CertificateResponse certificateResponse = (CertificateResponse) o;
         return Objects.equals(this.alias, certificateResponse.alias) &&
-            Objects.equals(this.certificate, certificateResponse.certificate);
+            Objects.equals(this.certificate, certificateResponse.certificate) &&
+            Objects.equals(this.subject, certificateResponse.subject) &&
+            Objects.equals(this.issuer, certificateResponse.issuer) &&
+            Objects.equals(this.notAfter, certificateResponse.notAfter) &&
+            Objects.equals(this.fingerprint, certificateResponse.fingerprint);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(alias, certificate);
+        return Objects.hash(alias, certificate, subject, issuer, notAfter, fingerprint);
     }
 
     @Override
@@ -103,6 +185,10 @@ public class CertificateResponse  {
         
         sb.append("    alias: ").append(toIndentedString(alias)).append("\n");
         sb.append("    certificate: ").append(toIndentedString(certificate)).append("\n");
+        sb.append("    subject: ").append(toIndentedString(subject)).append("\n");
+        sb.append("    issuer: ").append(toIndentedString(issuer)).append("\n");
+        sb.append("    notAfter: ").append(toIndentedString(notAfter)).append("\n");
+        sb.append("    fingerprint: ").append(toIndentedString(fingerprint)).append("\n");
         sb.append("}");
         return sb.toString();
     }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.keystore.management.v1.core;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.X509Certificate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.security.auth.x500.X500Principal;
+
+/**
+ * Index of the metadata of the certificates in the keystore and the client truststore of a tenant, keyed by the
+ * certificate alias.
+ * <p>
+ * The metadata of a certificate is added when it is first requested, so listing the certificate aliases along with
+ * their metadata does not load the certificates again.
+ */
+class CertificateMetadataIndex {
+
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    private final Map<String, CertificateMetadata> keyStoreCertificates = new ConcurrentHashMap<>();
+    private final Map<String, CertificateMetadata> clientCertificates = new ConcurrentHashMap<>();
+
+    /**
+     * Get the metadata of a certificate.
+     *
+     * @param alias        Alias of the certificate.
+     * @param isClientCert Whether the certificate is in the client truststore.
+     * @return Metadata of the certificate, or null if the certificate is not indexed yet.
+     */
+    CertificateMetadata getMetadata(String alias, boolean isClientCert) {
+
+        return getCertificates(isClientCert).get(alias);
+    }
+
+    /**
+     * Add the metadata of a certificate to the index.
+     *
+     * @param alias        Alias of the certificate.
+     * @param isClientCert Whether the certificate is in the client truststore.
+     * @param certificate  The certificate.
+     * @return Metadata of the certificate.
+     * @throws CertificateEncodingException If the certificate cannot be encoded to compute its fingerprint.
+     */
+    CertificateMetadata addMetadata(String alias, boolean isClientCert, X509Certificate certificate)
+            throws CertificateEncodingException {
+
+        CertificateMetadata metadata = new CertificateMetadata(certificate);
+        getCertificates(isClientCert).put(alias, metadata);
+        return metadata;
+    }
+
+    private Map<String, CertificateMetadata> getCertificates(boolean isClientCert) {
+
+        return isClientCert ? clientCertificates : keyStoreCertificates;
+    }
+
+    private static String getFingerprint(byte[] encodedCertificate) {
+
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM).digest(encodedCertificate);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Error while computing the fingerprint of the certificate.", e);
+        }
+        StringBuilder fingerprint = new StringBuilder(digest.length * 3);
+        for (byte value : digest) {
+            if (fingerprint.length() > 0) {
+                fingerprint.append(':');
+            }
+            fingerprint.append(HEX_DIGITS[(value >> 4) & 0xF]).append(HEX_DIGITS[value & 0xF]);
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Attributes of a certificate which are listed along with its alias.
+     */
+    static class CertificateMetadata {
+
+        private final String subject;
+        private final String issuer;
+        private final String notAfter;
+        private final String fingerprint;
+
+        private CertificateMetadata(X509Certificate certificate) throws CertificateEncodingException {
+
+            this.subject = certificate.getSubjectX500Principal().getName(X500Principal.RFC2253);
+            this.issuer = certificate.getIssuerX500Principal().getName(X500Principal.RFC2253);
+            this.notAfter = certificate.getNotAfter().toInstant().toString();
+            this.fingerprint = getFingerprint(certificate.getEncoded());
+        }
+
+        String getSubject() {
+
+            return subject;
+        }
+
+        String getIssuer() {
+
+            return issuer;
+        }
+
+        String getNotAfter() {
+
+            return notAfter;
+        }
+
+        String getFingerprint() {
+
+            return fingerprint;
+        }
+    }
+}
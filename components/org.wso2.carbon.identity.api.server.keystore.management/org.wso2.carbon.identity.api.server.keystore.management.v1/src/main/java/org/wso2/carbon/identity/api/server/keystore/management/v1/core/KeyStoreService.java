@@ -22,41 +22,45 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
+import org.wso2.carbon.identity.api.server.common.KeyStoreChangeNotifier;
+import org.wso2.carbon.identity.api.server.common.TenantTtlCache;
+import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants;
+import org.wso2.carbon.identity.api.server.keystore.management.v1.core.CertificateMetadataIndex.CertificateMetadata;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateResponse;
 import org.wso2.carbon.security.keystore.KeyStoreManagementException;
 import org.wso2.carbon.security.keystore.KeyStoreManagementServerException;
 import org.wso2.carbon.security.keystore.KeyStoreManagementService;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForHeader;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_FILE_EXTENSION;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATES_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_TEMPORARY_DIRECTORY_PATH;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CLIENT_CERTIFICATE_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CLIENT_CERTIFICATES_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_ENCODE_CERTIFICATE;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_FILE_WRITE;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_INVALID_ALIAS;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_INVALID_ATTRIBUTE;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETER;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.KEYSTORES_API_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PATH_SEPERATOR;
 
 /**
  * Keystore service APIs are processed in this class.
@@ -65,6 +69,14 @@ public class KeyStoreService {
 
     private final KeyStoreManagementService keyStoreManagementService;
     private static final Log LOG = LogFactory.getLog(KeyStoreService.class);
+    private static final int MAX_CACHED_METADATA_INDEXES = 1000;
+    private static final Set<String> SUPPORTED_CERTIFICATE_ATTRIBUTES = Collections.unmodifiableSet(
+            new LinkedHashSet<>(Arrays.asList(KeyStoreConstants.CertificateAttributes.SUBJECT,
+                    KeyStoreConstants.CertificateAttributes.ISSUER, KeyStoreConstants.CertificateAttributes.NOT_AFTER,
+                    KeyStoreConstants.CertificateAttributes.FINGERPRINT)));
+
+    private final TenantTtlCache<CertificateMetadataIndex> certificateMetadataIndexes =
+            new TenantTtlCache<>(getCertificateMetadataCacheTimeoutMillis(), MAX_CACHED_METADATA_INDEXES);
 
     public KeyStoreService(KeyStoreManagementService keyStoreManagementService) {
 
@@ -74,11 +86,16 @@ public class KeyStoreService {
     /**
      * Retrieves the list of certificates from the keystore.
      *
-     * @param filter used to filter the result.
+     * @param filter     used to filter the result.
+     * @param limit      maximum number of certificates to be returned.
+     * @param offset     number of certificates to be skipped.
+     * @param attributes comma separated list of the certificate attributes to be returned along with the alias.
      * @return {@link List} of {@link CertificateResponse}
      */
-    public List<CertificateResponse> listCertificateAliases(String filter) {
+    public List<CertificateResponse> listCertificateAliases(String filter, Integer limit, Integer offset,
+                                                            String attributes) {
 
+        Set<String> requiredAttributes = getRequiredAttributes(attributes);
         List<String> aliasList;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
@@ -86,7 +103,7 @@ public class KeyStoreService {
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to list certificates from keystore.");
         }
-        return generateCertificateResponseList(aliasList, false);
+        return generateCertificateResponseList(getPage(aliasList, limit, offset), false, requiredAttributes);
     }
 
     /**
@@ -94,9 +111,9 @@ public class KeyStoreService {
      *
      * @param alias      of the certificate.
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return content of the certificate.
      */
-    public File getCertificate(String alias, boolean encodeCert) {
+    public byte[] getCertificate(String alias, boolean encodeCert) {
 
         X509Certificate certificate;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
@@ -110,7 +127,7 @@ public class KeyStoreService {
             throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
                     " from the keystore.", Response.Status.BAD_REQUEST);
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return getCertificateContent(alias, certificate, encodeCert);
     }
 
     /**
@@ -127,6 +144,8 @@ public class KeyStoreService {
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to upload the certificate with alias: " + alias + " to the keystore.");
         }
+        certificateMetadataIndexes.invalidate(tenantDomain);
+        KeyStoreChangeNotifier.notifyKeyStoreChanged(tenantDomain);
         String certificateEndPoint = String.format(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT +
                 CERTIFICATE_PATH_COMPONENT, alias);
         return buildURIForHeader(certificateEndPoint);
@@ -145,16 +164,23 @@ public class KeyStoreService {
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to remove the certificate with alias: " + alias + " from the keystore.");
         }
+        certificateMetadataIndexes.invalidate(tenantDomain);
+        KeyStoreChangeNotifier.notifyKeyStoreChanged(tenantDomain);
     }
 
     /**
      * Retrieves the list of certificate aliases from the client truststore.
      *
-     * @param filter used to filter the result.
+     * @param filter     used to filter the result.
+     * @param limit      maximum number of certificates to be returned.
+     * @param offset     number of certificates to be skipped.
+     * @param attributes comma separated list of the certificate attributes to be returned along with the alias.
      * @return {@link List} of {@link CertificateResponse}
      */
-    public List<CertificateResponse> listClientCertificateAliases(String filter) {
+    public List<CertificateResponse> listClientCertificateAliases(String filter, Integer limit, Integer offset,
+                                                                  String attributes) {
 
+        Set<String> requiredAttributes = getRequiredAttributes(attributes);
         List<String> aliasList;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
@@ -162,7 +188,7 @@ public class KeyStoreService {
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to retrieve the list of certificates from client truststore.");
         }
-        return generateCertificateResponseList(aliasList, true);
+        return generateCertificateResponseList(getPage(aliasList, limit, offset), true, requiredAttributes);
     }
 
     /**
@@ -170,9 +196,9 @@ public class KeyStoreService {
      *
      * @param alias      of the certificate.
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return content of the certificate.
      */
-    public File getClientCertificate(String alias, boolean encodeCert) {
+    public byte[] getClientCertificate(String alias, boolean encodeCert) {
 
         X509Certificate certificate;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
@@ -187,16 +213,16 @@ public class KeyStoreService {
             throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
                     " from the keystore.", Response.Status.BAD_REQUEST);
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return getCertificateContent(alias, certificate, encodeCert);
     }
 
     /**
      * Retrieves the public certificate from the keystore.
      *
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return content of the certificate.
      */
-    public File getPublicCertificate(boolean encodeCert) {
+    public byte[] getPublicCertificate(boolean encodeCert) {
 
         Map<String, X509Certificate> certificateData;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
@@ -213,67 +239,154 @@ public class KeyStoreService {
             alias = key;
             certificate = certificateData.get(alias);
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        return getCertificateContent(alias, certificate, encodeCert);
     }
 
-    private List<CertificateResponse> generateCertificateResponseList(List<String> aliasList, boolean isClientCert) {
+    private List<CertificateResponse> generateCertificateResponseList(List<String> aliasList, boolean isClientCert,
+                                                                      Set<String> requiredAttributes) {
 
         List<CertificateResponse> certificatesResponses = new ArrayList<>();
         String componentPath;
         if (!isClientCert) {
-            componentPath = CERTIFICATE_PATH_COMPONENT;
+            componentPath = CERTIFICATES_PATH_COMPONENT;
         } else {
-            componentPath = CLIENT_CERTIFICATE_PATH_COMPONENT;
+            componentPath = CLIENT_CERTIFICATES_PATH_COMPONENT;
         }
 
+        ResourceLinkBuilder certificateLinkBuilder = ResourceLinkBuilder.forAbsoluteLinks(V1_API_PATH_COMPONENT +
+                KEYSTORES_API_PATH_COMPONENT + componentPath);
         for (String alias : aliasList) {
             CertificateResponse certificatesResponse = new CertificateResponse();
             certificatesResponse.setAlias(alias);
-            String certificateEndPoint =
-                    String.format(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT +
-                            componentPath, alias);
-            certificatesResponse.setCertificate(buildURIForHeader(certificateEndPoint));
+            certificatesResponse.setCertificate(certificateLinkBuilder.buildURI(alias));
+            if (!requiredAttributes.isEmpty()) {
+                addCertificateMetadata(certificatesResponse, isClientCert, requiredAttributes);
+            }
             certificatesResponses.add(certificatesResponse);
         }
         return certificatesResponses;
     }
 
-    private File generateCertificateFile(String alias, X509Certificate certificate, boolean encodeCert) {
+    private void addCertificateMetadata(CertificateResponse certificateResponse, boolean isClientCert,
+                                        Set<String> requiredAttributes) {
 
-        String certificateContent;
-        if (encodeCert) {
-            try {
-                certificateContent = Base64.getEncoder().encodeToString(certificate.getEncoded());
-            } catch (CertificateEncodingException e) {
-                throw handleException(ERROR_CODE_ENCODE_CERTIFICATE, alias, e, Response.Status.INTERNAL_SERVER_ERROR);
-            }
-        } else {
-            certificateContent = certificate.toString();
+        CertificateMetadata metadata = getCertificateMetadata(certificateResponse.getAlias(), isClientCert);
+        if (metadata == null) {
+            // The certificate has been removed after the aliases were listed.
+            return;
+        }
+        if (requiredAttributes.contains(KeyStoreConstants.CertificateAttributes.SUBJECT)) {
+            certificateResponse.setSubject(metadata.getSubject());
+        }
+        if (requiredAttributes.contains(KeyStoreConstants.CertificateAttributes.ISSUER)) {
+            certificateResponse.setIssuer(metadata.getIssuer());
         }
+        if (requiredAttributes.contains(KeyStoreConstants.CertificateAttributes.NOT_AFTER)) {
+            certificateResponse.setNotAfter(metadata.getNotAfter());
+        }
+        if (requiredAttributes.contains(KeyStoreConstants.CertificateAttributes.FINGERPRINT)) {
+            certificateResponse.setFingerprint(metadata.getFingerprint());
+        }
+    }
 
-        String fileName = alias + CERTIFICATE_FILE_EXTENSION;
-        File certsDirectory = new File(CERTIFICATE_TEMPORARY_DIRECTORY_PATH).getAbsoluteFile();
-        if (certsDirectory.mkdirs()) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug(certsDirectory.toString() + " has been created.");
-            }
+    private CertificateMetadata getCertificateMetadata(String alias, boolean isClientCert) {
+
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        CertificateMetadataIndex metadataIndex = certificateMetadataIndexes.get(tenantDomain,
+                CertificateMetadataIndex::new);
+        CertificateMetadata metadata = metadataIndex.getMetadata(alias, isClientCert);
+        if (metadata != null) {
+            return metadata;
+        }
+
+        X509Certificate certificate;
+        try {
+            certificate = isClientCert ? keyStoreManagementService.getClientCertificate(tenantDomain, alias) :
+                    keyStoreManagementService.getKeyStoreCertificate(tenantDomain, alias);
+        } catch (KeyStoreManagementException e) {
+            throw handleException(e, "Unable to retrieve the certificate with alias: " + alias);
+        }
+        if (certificate == null) {
+            return null;
         }
-        File certificateFile = new File(CERTIFICATE_TEMPORARY_DIRECTORY_PATH + PATH_SEPERATOR + fileName)
-                .getAbsoluteFile();
         try {
-            if (certificateFile.createNewFile()) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("A file has been created with name: " + fileName);
-                }
+            return metadataIndex.addMetadata(alias, isClientCert, certificate);
+        } catch (CertificateEncodingException e) {
+            throw handleException(ERROR_CODE_ENCODE_CERTIFICATE, alias, e, Response.Status.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private Set<String> getRequiredAttributes(String attributes) {
+
+        if (StringUtils.isBlank(attributes)) {
+            return Collections.emptySet();
+        }
+        Set<String> requiredAttributes = new HashSet<>();
+        for (String attribute : attributes.split(",")) {
+            attribute = attribute.trim();
+            if (StringUtils.isEmpty(attribute)) {
+                continue;
             }
-            try (Writer fileWriter = new OutputStreamWriter(new FileOutputStream(certificateFile),
-                    StandardCharsets.UTF_8)) {
-                fileWriter.write(certificateContent);
+            if (!SUPPORTED_CERTIFICATE_ATTRIBUTES.contains(attribute)) {
+                throw handleException(ERROR_CODE_INVALID_ATTRIBUTE, attribute, "Supported attributes are: " +
+                        StringUtils.join(SUPPORTED_CERTIFICATE_ATTRIBUTES, ", ") + ".", Response.Status.BAD_REQUEST);
             }
-        } catch (IOException e) {
-            throw handleException(ERROR_CODE_FILE_WRITE, fileName, e, Response.Status.INTERNAL_SERVER_ERROR);
+            requiredAttributes.add(attribute);
         }
-        return certificateFile;
+        return requiredAttributes;
+    }
+
+    /**
+     * Get a page of the certificate aliases. The aliases are sorted when paginated, so that the pages are stable
+     * across requests.
+     *
+     * @param aliasList all the certificate aliases.
+     * @param limit     maximum number of aliases to be returned, or null to return all the remaining aliases.
+     * @param offset    number of aliases to be skipped.
+     * @return {@link List} of aliases of the page.
+     */
+    private List<String> getPage(List<String> aliasList, Integer limit, Integer offset) {
+
+        if (limit != null && limit < 0) {
+            throw handleException(ERROR_CODE_INVALID_PAGINATION_PARAMETER, "limit",
+                    "Limit should be a non-negative value.", Response.Status.BAD_REQUEST);
+        }
+        if (offset != null && offset < 0) {
+            throw handleException(ERROR_CODE_INVALID_PAGINATION_PARAMETER, "offset",
+                    "Offset should be a non-negative value.", Response.Status.BAD_REQUEST);
+        }
+        if (aliasList == null || (limit == null && offset == null)) {
+            return aliasList == null ? Collections.emptyList() : aliasList;
+        }
+
+        List<String> sortedAliases = new ArrayList<>(aliasList);
+        Collections.sort(sortedAliases);
+        int fromIndex = Math.min(offset == null ? 0 : offset, sortedAliases.size());
+        int toIndex = limit == null ? sortedAliases.size() : (int) Math.min((long) fromIndex + limit,
+                sortedAliases.size());
+        return sortedAliases.subList(fromIndex, toIndex);
+    }
+
+    /**
+     * Get the content of the certificate to be served.
+     *
+     * @param alias       of the certificate.
+     * @param certificate the certificate.
+     * @param encodeCert  boolean value to decide whether the certificate needs to be encoded or not.
+     * @return content of the certificate.
+     */
+    private byte[] getCertificateContent(String alias, X509Certificate certificate, boolean encodeCert) {
+
+        byte[] encodedCertificate;
+        try {
+            encodedCertificate = certificate.getEncoded();
+        } catch (CertificateEncodingException e) {
+            throw handleException(ERROR_CODE_ENCODE_CERTIFICATE, alias, e, Response.Status.INTERNAL_SERVER_ERROR);
+        }
+
+        String content = encodeCert ? Base64.getEncoder().encodeToString(encodedCertificate) :
+                certificate.toString();
+        return content.getBytes(StandardCharsets.UTF_8);
     }
 
     private APIError handleException(KeyStoreManagementException e, String description) {
@@ -310,6 +423,13 @@ public class KeyStoreService {
         return new APIError(status, errorResponse);
     }
 
+    private static long getCertificateMetadataCacheTimeoutMillis() {
+
+        return TimeUnit.SECONDS.toMillis(Util.getPositiveLongProperty(
+                KeyStoreConstants.CERTIFICATE_METADATA_CACHE_TIMEOUT,
+                KeyStoreConstants.DEFAULT_CERTIFICATE_METADATA_CACHE_TIMEOUT));
+    }
+
     private static String generateErrorMessage(String message, String data) {
 
         if (StringUtils.isNotBlank(data)) {
@@ -67,9 +67,9 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
     }
 
     @Override
-    public Response getCertificateAliases(String filter) {
+    public Response getCertificateAliases(String filter, Integer limit, Integer offset, String attributes) {
 
-        return Response.ok().entity(keyStoreService.listCertificateAliases(filter)).build();
+        return Response.ok().entity(keyStoreService.listCertificateAliases(filter, limit, offset, attributes)).build();
     }
 
     @Override
@@ -86,12 +86,13 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
     }
 
     @Override
-    public Response getClientCertificateAliases(String filter) {
+    public Response getClientCertificateAliases(String filter, Integer limit, Integer offset, String attributes) {
 
         if (!StringUtils.equals(getTenantDomainFromContext(), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
             return Response.status(Response.Status.NOT_FOUND).build();
         }
-        return Response.ok().entity(keyStoreService.listClientCertificateAliases(filter)).build();
+        return Response.ok().entity(keyStoreService.listClientCertificateAliases(filter, limit, offset, attributes))
+                .build();
     }
 
     @Override
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.keystore.management.v1.core;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants;
+import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateResponse;
+import org.wso2.carbon.security.keystore.KeyStoreManagementService;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.security.auth.x500.X500Principal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+
+/**
+ * Test class for KeyStoreService, covering the certificates uploaded and exported concurrently.
+ */
+public class KeyStoreServiceTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final int THREADS = 8;
+    private static final int CERTIFICATES_PER_THREAD = 25;
+
+    // Certificates which can be uploaded, keyed by their uploaded content.
+    private final Map<String, X509Certificate> certificates = new ConcurrentHashMap<>();
+    // Certificates in the keystore, keyed by their alias.
+    private final Map<String, X509Certificate> keyStore = new ConcurrentHashMap<>();
+    private KeyStoreService keyStoreService;
+    private ExecutorService executorService;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+
+        certificates.clear();
+        keyStore.clear();
+        KeyStoreManagementService keyStoreManagementService = mock(KeyStoreManagementService.class);
+        doAnswer(invocation -> keyStore.put(invocation.getArgument(1),
+                certificates.get(invocation.<String>getArgument(2)))).when(keyStoreManagementService)
+                .addCertificate(eq(TENANT_DOMAIN), anyString(), anyString());
+        when(keyStoreManagementService.getKeyStoreCertificate(eq(TENANT_DOMAIN), anyString()))
+                .thenAnswer(invocation -> keyStore.get(invocation.<String>getArgument(1)));
+        when(keyStoreManagementService.getKeyStoreCertificateAliases(eq(TENANT_DOMAIN), any()))
+                .thenAnswer(invocation -> new ArrayList<>(keyStore.keySet()));
+
+        try (MockedStatic<Util> util = mockStatic(Util.class)) {
+            util.when(() -> Util.getPositiveLongProperty(anyString(), anyLong())).thenReturn(60L);
+            keyStoreService = new KeyStoreService(keyStoreManagementService);
+        }
+        executorService = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testParallelUploadsAndExports() throws Exception {
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            List<String> aliases = new ArrayList<>();
+            for (int index = 0; index < CERTIFICATES_PER_THREAD; index++) {
+                String alias = "cert-" + thread + "-" + index;
+                addCertificate(alias);
+                aliases.add(alias);
+            }
+            tasks.add(() -> {
+                for (String alias : aliases) {
+                    keyStoreService.uploadCertificate(alias, getContent(alias));
+                    assertExported(alias);
+                }
+                return null;
+            });
+        }
+        runInParallel(tasks);
+
+        assertEquals(keyStore.size(), THREADS * CERTIFICATES_PER_THREAD);
+        for (String alias : keyStore.keySet()) {
+            assertExported(alias);
+        }
+    }
+
+    @Test
+    public void testListingWithMetadataDuringUploads() throws Exception {
+
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            String alias = "cert-" + thread;
+            addCertificate(alias);
+            tasks.add(() -> {
+                keyStoreService.uploadCertificate(alias, getContent(alias));
+                for (int index = 0; index < CERTIFICATES_PER_THREAD; index++) {
+                    List<CertificateResponse> certificateResponses = keyStoreService.listCertificateAliases(null,
+                            null, null, KeyStoreConstants.CertificateAttributes.SUBJECT + "," +
+                                    KeyStoreConstants.CertificateAttributes.FINGERPRINT);
+                    for (CertificateResponse certificateResponse : certificateResponses) {
+                        // The metadata of an alias is always of the certificate of that alias.
+                        assertEquals(certificateResponse.getSubject(), "CN=" + certificateResponse.getAlias());
+                        assertNotNull(certificateResponse.getFingerprint());
+                    }
+                }
+                return null;
+            });
+        }
+        runInParallel(tasks);
+
+        assertEquals(keyStoreService.listCertificateAliases(null, null, null, null).size(), THREADS);
+    }
+
+    private void assertExported(String alias) {
+
+        assertEquals(new String(keyStoreService.getCertificate(alias, true), StandardCharsets.UTF_8),
+                Base64.getEncoder().encodeToString(getEncoded(alias)));
+        assertEquals(new String(keyStoreService.getCertificate(alias, false), StandardCharsets.UTF_8),
+                "Certificate of " + alias);
+    }
+
+    private void runInParallel(List<Callable<Void>> tasks) throws Exception {
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Callable<Void> task : tasks) {
+            futures.add(executorService.submit(() -> {
+                // Static mocks are scoped to the thread which creates them.
+                try (MockedStatic<ContextLoader> contextLoader = mockStatic(ContextLoader.class)) {
+                    contextLoader.when(ContextLoader::getTenantDomainFromContext).thenReturn(TENANT_DOMAIN);
+                    contextLoader.when(() -> ContextLoader.buildURIForHeader(anyString()))
+                            .thenAnswer(invocation -> URI.create("https://localhost:9443/t/" + TENANT_DOMAIN +
+                                    "/api/server" + invocation.getArgument(0)));
+                    start.await();
+                    return task.call();
+                }
+            }));
+        }
+        start.countDown();
+        for (Future<Void> future : futures) {
+            // Rethrows the failed assertions of the tasks.
+            future.get(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private void addCertificate(String alias) throws Exception {
+
+        X509Certificate certificate = mock(X509Certificate.class);
+        when(certificate.getEncoded()).thenReturn(getEncoded(alias));
+        when(certificate.toString()).thenReturn("Certificate of " + alias);
+        when(certificate.getSubjectX500Principal()).thenReturn(new X500Principal("CN=" + alias));
+        when(certificate.getIssuerX500Principal()).thenReturn(new X500Principal("CN=Issuer"));
+        when(certificate.getNotAfter()).thenReturn(new Date());
+        certificates.put(getContent(alias), certificate);
+    }
+
+    private static String getContent(String alias) {
+
+        return "content-of-" + alias;
+    }
+
+    private static byte[] getEncoded(String alias) {
+
+        return ("encoded-" + alias).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -23,6 +23,8 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.KeysetCursor;
+import org.wso2.carbon.identity.api.server.common.KeysetPage;
 import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.organization.management.v1.model.ApplicationSharePOSTRequest;
 import org.wso2.carbon.identity.api.server.organization.management.v1.model.Attribute;
@@ -74,11 +76,14 @@ import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
@@ -89,8 +94,6 @@ import static org.wso2.carbon.identity.api.server.organization.management.v1.con
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.FILTER_PARAM;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.LIMIT_PARAM;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.META_ATTRIBUTES_PATH;
-import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.NEXT;
-import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.PREVIOUS;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.constants.OrganizationManagementEndpointConstants.RECURSIVE_PARAM;
 import static org.wso2.carbon.identity.api.server.organization.management.v1.util.OrganizationManagementEndpointUtil.buildOrganizationURL;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_BUILDING_PAGINATED_RESPONSE_URL;
@@ -98,8 +101,6 @@ import static org.wso2.carbon.identity.organization.management.service.constant.
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_SHARE_APPLICATION_EMPTY_REQUEST_BODY;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_INVALID_SHARE_APPLICATION_REQUEST_BODY;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ORGANIZATION_PATH;
-import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.PAGINATION_AFTER;
-import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.PAGINATION_BEFORE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.PATH_SEPARATOR;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.generateUniqueID;
 import static org.wso2.carbon.identity.organization.management.service.util.Utils.getOrganizationId;
@@ -115,6 +116,11 @@ public class OrganizationManagementService {
     private final OrganizationDiscoveryManager organizationDiscoveryManager;
 
     private static final Log LOG = LogFactory.getLog(OrganizationManagementService.class);
+    private static final int MAX_ORGANIZATIONS_RETRIEVAL_LIMIT = 10000;
+    // Organizations are listed from the latest created organization, and the organizations created at the same time
+    // are listed in the descending order of their IDs.
+    private static final Comparator<Organization> ORGANIZATION_LISTING_ORDER =
+            Comparator.comparing(Organization::getCreated).thenComparing(Organization::getId).reversed();
 
     public OrganizationManagementService(OrgApplicationManager orgApplicationManager,
                                          OrganizationManager organizationManager,
@@ -139,9 +145,8 @@ public class OrganizationManagementService {
 
         try {
             limit = validateLimit(limit);
-            String sortOrder = StringUtils.isNotBlank(before) ? ASC_SORT_ORDER : DESC_SORT_ORDER;
-            List<Organization> organizations = organizationManager.getOrganizationsList(limit + 1, after,
-                    before, sortOrder, filter, Boolean.TRUE.equals(recursive));
+            List<Organization> organizations = getOrganizationsPage(limit, after, before, filter,
+                    Boolean.TRUE.equals(recursive));
             return Response.ok().entity(getOrganizationsResponse(limit, after, before, filter, organizations,
                     Boolean.TRUE.equals(recursive))).build();
         } catch (OrganizationManagementClientException e) {
@@ -598,8 +603,9 @@ public class OrganizationManagementService {
         try {
             limit = validateLimit(limit);
             String sortOrder = StringUtils.isNotBlank(before) ? DESC_SORT_ORDER : ASC_SORT_ORDER;
-            List<String> metaAttributes = organizationManager.getOrganizationsMetaAttributes(limit + 1, after,
-                    before, sortOrder, filter, Boolean.TRUE.equals(recursive));
+            List<String> metaAttributes = organizationManager.getOrganizationsMetaAttributes(limit + 1,
+                    KeysetCursor.toValueCursor(after), KeysetCursor.toValueCursor(before), sortOrder, filter,
+                    Boolean.TRUE.equals(recursive));
             return Response.ok().entity(getMetaAttributesResponse(limit, after, before, filter, metaAttributes,
                     Boolean.TRUE.equals(recursive))).build();
         } catch (OrganizationManagementClientException e) {
@@ -766,79 +772,143 @@ public class OrganizationManagementService {
         return limit;
     }
 
+    /**
+     * Get the organizations of a page along with the organization after the page, in the order they are retrieved.
+     * <p>
+     * The organization management service pages the organizations by their created time only, so the organizations
+     * created at the same time could be skipped or repeated across its pages. The cursors of this listing hold the
+     * created time and the ID of an organization, and the organizations created at the same time are ordered by
+     * their IDs. The organizations are retrieved from the created time of the cursor, including the organizations
+     * created at that time, and the organizations up to the cursor are dropped. When the organizations created at the
+     * time of the last retrieved organization may not be all retrieved, they are not selected, and more organizations
+     * are retrieved if the page is not filled.
+     *
+     * @param limit     The maximum number of organizations in the page.
+     * @param after     The cursor after which the page starts, or null.
+     * @param before    The cursor before which the page ends, or null.
+     * @param filter    The filter string.
+     * @param recursive Determines whether recursive search is required.
+     * @return The organizations of the page along with the organization after the page.
+     * @throws OrganizationManagementException If an error occurs while retrieving the organizations.
+     */
+    private List<Organization> getOrganizationsPage(int limit, String after, String before, String filter,
+                                                    boolean recursive) throws OrganizationManagementException {
+
+        boolean backward = StringUtils.isNotBlank(before);
+        String sortOrder = backward ? ASC_SORT_ORDER : DESC_SORT_ORDER;
+        String cursor = backward ? before : after;
+        KeysetCursor keysetCursor = StringUtils.isBlank(cursor) ? null : KeysetCursor.decodeIfValid(cursor);
+        Instant cursorCreated = keysetCursor == null ? null : parseCreatedTime(keysetCursor.getSortKey());
+        if (StringUtils.isNotBlank(cursor) && cursorCreated == null) {
+            // Cursors which hold only the created time, such as the cursors issued before the composite cursors, are
+            // decoded and validated by the service.
+            return organizationManager.getOrganizationsList(limit + 1, after, before, sortOrder, filter, recursive);
+        }
+
+        Comparator<Organization> retrievalOrder = backward ? ORGANIZATION_LISTING_ORDER.reversed() :
+                ORGANIZATION_LISTING_ORDER;
+        Predicate<Organization> afterCursor = organization -> cursorCreated == null ||
+                retrievalOrder.compare(organization, buildCursorOrganization(cursorCreated, keysetCursor.getId())) > 0;
+        // The service lists the organizations created strictly after or before the created time of its cursor.
+        String serviceCursor = cursorCreated == null ? null : KeysetCursor.encodeValue(Timestamp.from(
+                backward ? cursorCreated.minusMillis(1) : cursorCreated.plusMillis(1)));
+        int retrievalLimit = limit + 1;
+        while (true) {
+            List<Organization> organizations = organizationManager.getOrganizationsList(retrievalLimit,
+                    backward ? null : serviceCursor, backward ? serviceCursor : null, sortOrder, filter, recursive);
+            if (organizations == null) {
+                return Collections.emptyList();
+            }
+            boolean retrievedAll = organizations.size() < retrievalLimit ||
+                    retrievalLimit >= MAX_ORGANIZATIONS_RETRIEVAL_LIMIT;
+            Predicate<Organization> selectable = afterCursor;
+            if (!retrievedAll) {
+                Instant lastCreated = organizations.get(organizations.size() - 1).getCreated();
+                selectable = afterCursor.and(organization -> !lastCreated.equals(organization.getCreated()));
+            }
+            List<Organization> pageOrganizations = KeysetPage.selectFirst(organizations, selectable, retrievalOrder,
+                    limit + 1);
+            if (retrievedAll || pageOrganizations.size() > limit) {
+                return pageOrganizations;
+            }
+            retrievalLimit = (int) Math.min(2L * retrievalLimit, MAX_ORGANIZATIONS_RETRIEVAL_LIMIT);
+        }
+    }
+
+    private static Instant parseCreatedTime(String createdTime) {
+
+        try {
+            return Instant.parse(createdTime);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static Organization buildCursorOrganization(Instant created, String id) {
+
+        Organization organization = new Organization();
+        organization.setCreated(created);
+        organization.setId(id);
+        return organization;
+    }
+
     private OrganizationsResponse getOrganizationsResponse(Integer limit, String after, String before, String filter,
                                                            List<Organization> organizations, boolean recursive)
             throws OrganizationManagementServerException {
 
         OrganizationsResponse organizationsResponse = new OrganizationsResponse();
-
-        if (limit != 0 && CollectionUtils.isNotEmpty(organizations)) {
-            boolean hasMoreItems = organizations.size() > limit;
-            boolean needsReverse = StringUtils.isNotBlank(before);
-            boolean isFirstPage = (StringUtils.isBlank(before) && StringUtils.isBlank(after)) ||
-                    (StringUtils.isNotBlank(before) && !hasMoreItems);
-            boolean isLastPage = !hasMoreItems && (StringUtils.isNotBlank(after) || StringUtils.isBlank(before));
-
-            String url = "?" + LIMIT_PARAM + "=" + limit + "&" + RECURSIVE_PARAM + "=" + recursive;
-            if (StringUtils.isNotBlank(filter)) {
-                try {
-                    url += "&" + FILTER_PARAM + "=" + URLEncoder.encode(filter, StandardCharsets.UTF_8.name());
-                } catch (UnsupportedEncodingException e) {
-                    throw new OrganizationManagementServerException(
-                            ERROR_CODE_ERROR_BUILDING_PAGINATED_RESPONSE_URL.getMessage(),
-                            ERROR_CODE_ERROR_BUILDING_PAGINATED_RESPONSE_URL.getDescription(),
-                            ERROR_CODE_ERROR_BUILDING_PAGINATED_RESPONSE_URL.getCode(), e);
-                }
-            }
-
-            if (hasMoreItems) {
-                organizations.remove(organizations.size() - 1);
-            }
-            if (needsReverse) {
-                Collections.reverse(organizations);
-            }
-            if (!isFirstPage) {
-                Timestamp createdTimestamp = Timestamp.from(organizations.get(0).getCreated());
-                String encodedString = Base64.getEncoder().encodeToString(createdTimestamp.toString()
-                        .getBytes(StandardCharsets.UTF_8));
-                Link link = new Link();
-                link.setHref(URI.create(
-                        OrganizationManagementEndpointUtil.buildURIForPagination(url) + "&" + PAGINATION_BEFORE + "="
-                                + encodedString));
-                link.setRel(PREVIOUS);
+        KeysetPage<Organization> page = KeysetPage.of(organizations, limit, after, before);
+        if (!page.isEmpty()) {
+            String url = "?" + LIMIT_PARAM + "=" + limit + "&" + RECURSIVE_PARAM + "=" + recursive +
+                    buildFilterParam(filter);
+            for (Link link : page.buildLinks(OrganizationManagementEndpointUtil.buildURIForPagination(url),
+                    organization -> KeysetCursor.encode(organization.getCreated().toString(), organization.getId()),
+                    this::buildPaginationLink)) {
                 organizationsResponse.addLinksItem(link);
             }
-            if (!isLastPage) {
-                Timestamp createdTimestamp = Timestamp.from(organizations.get(organizations.size() - 1).getCreated());
-                String encodedString = Base64.getEncoder().encodeToString(createdTimestamp.toString()
-                        .getBytes(StandardCharsets.UTF_8));
-                Link link = new Link();
-                link.setHref(URI.create(
-                        OrganizationManagementEndpointUtil.buildURIForPagination(url) + "&" + PAGINATION_AFTER + "="
-                                + encodedString));
-                link.setRel(NEXT);
-                organizationsResponse.addLinksItem(link);
-            }
-
-            List<BasicOrganizationResponse> organizationDTOs = new ArrayList<>();
-            for (Organization organization : organizations) {
-                BasicOrganizationResponse organizationDTO = new BasicOrganizationResponse();
-                organizationDTO.setId(organization.getId());
-                organizationDTO.setName(organization.getName());
-                organizationDTO.setOrgHandle(organization.getOrganizationHandle());
-                organizationDTO.setStatus(BasicOrganizationResponse.StatusEnum.valueOf(organization.getStatus()));
-                organizationDTO.setRef(buildOrganizationURL(organization.getId()).toString());
-                List<Attribute> attributeList = getOrganizationAttributes(organization);
-                if (!attributeList.isEmpty()) {
-                    organizationDTO.setAttributes(attributeList);
-                }
-                organizationDTOs.add(organizationDTO);
-            }
-            organizationsResponse.setOrganizations(organizationDTOs);
+            organizationsResponse.setOrganizations(page.map(this::buildBasicOrganizationResponse));
         }
         return organizationsResponse;
     }
 
+    private BasicOrganizationResponse buildBasicOrganizationResponse(Organization organization) {
+
+        BasicOrganizationResponse organizationDTO = new BasicOrganizationResponse();
+        organizationDTO.setId(organization.getId());
+        organizationDTO.setName(organization.getName());
+        organizationDTO.setOrgHandle(organization.getOrganizationHandle());
+        organizationDTO.setStatus(BasicOrganizationResponse.StatusEnum.valueOf(organization.getStatus()));
+        organizationDTO.setRef(buildOrganizationURL(organization.getId()).toString());
+        List<Attribute> attributeList = getOrganizationAttributes(organization);
+        if (!attributeList.isEmpty()) {
+            organizationDTO.setAttributes(attributeList);
+        }
+        return organizationDTO;
+    }
+
+    private String buildFilterParam(String filter) throws OrganizationManagementServerException {
+
+        if (StringUtils.isBlank(filter)) {
+            return StringUtils.EMPTY;
+        }
+        try {
+            return "&" + FILTER_PARAM + "=" + URLEncoder.encode(filter, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new OrganizationManagementServerException(
+                    ERROR_CODE_ERROR_BUILDING_PAGINATED_RESPONSE_URL.getMessage(),
+                    ERROR_CODE_ERROR_BUILDING_PAGINATED_RESPONSE_URL.getDescription(),
+                    ERROR_CODE_ERROR_BUILDING_PAGINATED_RESPONSE_URL.getCode(), e);
+        }
+    }
+
+    private Link buildPaginationLink(String href, String rel) {
+
+        Link link = new Link();
+        link.setHref(URI.create(href));
+        link.setRel(rel);
+        return link;
+    }
+
     private Organization getUpdatedOrganization(String organizationId, OrganizationPUTRequest organizationPUTRequest)
             throws OrganizationManagementException {
 
@@ -997,51 +1067,16 @@ public class OrganizationManagementService {
             throws OrganizationManagementServerException {
 
         MetaAttributesResponse metaAttributesResponse = new MetaAttributesResponse();
-
-        if (limit != 0 && CollectionUtils.isNotEmpty(metaAttributes)) {
-            boolean hasMoreItems = metaAttributes.size() > limit;
-            boolean needsReverse = StringUtils.isNotBlank(before);
-            boolean isFirstPage = (StringUtils.isBlank(before) && StringUtils.isBlank(after)) ||
-                    (StringUtils.isNotBlank(before) && !hasMoreItems);
-            boolean isLastPage = !hasMoreItems && (StringUtils.isNotBlank(after) || StringUtils.isBlank(before));
-
+        KeysetPage<String> page = KeysetPage.of(metaAttributes, limit, after, before);
+        if (!page.isEmpty()) {
             String url = PATH_SEPARATOR + META_ATTRIBUTES_PATH + "?" + LIMIT_PARAM + "=" + limit + "&" + RECURSIVE_PARAM
-                    + "=" + recursive;
-            if (StringUtils.isNotBlank(filter)) {
-                try {
-                    url += "&" + FILTER_PARAM + "=" + URLEncoder.encode(filter, StandardCharsets.UTF_8.name());
-                } catch (UnsupportedEncodingException e) {
-                    throw new OrganizationManagementServerException(
-                            ERROR_CODE_ERROR_BUILDING_PAGINATED_RESPONSE_URL.getMessage(),
-                            ERROR_CODE_ERROR_BUILDING_PAGINATED_RESPONSE_URL.getDescription(),
-                            ERROR_CODE_ERROR_BUILDING_PAGINATED_RESPONSE_URL.getCode(), e);
-                }
-            }
-            if (hasMoreItems) {
-                metaAttributes.remove(metaAttributes.size() - 1);
-            }
-            if (needsReverse) {
-                Collections.reverse(metaAttributes);
-            }
-            if (!isFirstPage) {
-                String encodedString = Base64.getEncoder().encodeToString(metaAttributes.get(0)
-                        .getBytes(StandardCharsets.UTF_8));
-                Link link = new Link();
-                link.setHref(URI.create(OrganizationManagementEndpointUtil.buildURIForPagination(url) + "&"
-                        + PAGINATION_BEFORE + "=" + encodedString));
-                link.setRel(PREVIOUS);
-                metaAttributesResponse.addLinksItem(link);
-            }
-            if (!isLastPage) {
-                String encodedString = Base64.getEncoder().encodeToString(metaAttributes.get(metaAttributes.size() - 1)
-                        .getBytes(StandardCharsets.UTF_8));
-                Link link = new Link();
-                link.setHref(URI.create(OrganizationManagementEndpointUtil.buildURIForPagination(url) + "&"
-                        + PAGINATION_AFTER + "=" + encodedString));
-                link.setRel(NEXT);
+                    + "=" + recursive + buildFilterParam(filter);
+            // Meta attributes are distinct, so a meta attribute is its own tie-break.
+            for (Link link : page.buildLinks(OrganizationManagementEndpointUtil.buildURIForPagination(url),
+                    metaAttribute -> KeysetCursor.encode(metaAttribute, metaAttribute), this::buildPaginationLink)) {
                 metaAttributesResponse.addLinksItem(link);
             }
-            metaAttributesResponse.attributes(metaAttributes);
+            metaAttributesResponse.attributes(new ArrayList<>(page.getItems()));
         }
         return metaAttributesResponse;
     }
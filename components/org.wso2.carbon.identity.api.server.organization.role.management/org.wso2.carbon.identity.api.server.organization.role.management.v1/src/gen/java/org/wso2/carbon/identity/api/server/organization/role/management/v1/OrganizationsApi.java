@@ -26,6 +26,9 @@ import java.util.List;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.factories.OrganizationsApiServiceFactory;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.Error;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGroupsListResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleMembersPatchRequest;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleMembersPatchResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleObj;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchResponse;
@@ -33,6 +36,7 @@ import org.wso2.carbon.identity.api.server.organization.role.management.v1.model
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePostResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleUsersListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolesListResponse;
 
 import javax.validation.Valid;
@@ -143,9 +147,59 @@ public class OrganizationsApi  {
         @ApiResponse(code = 404, message = "Requested resource is not found.", response = Error.class),
         @ApiResponse(code = 500, message = "Internal server error.", response = Error.class)
     })
-    public Response organizationsOrganizationIdRolesRoleIdGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId) {
+    public Response organizationsOrganizationIdRolesRoleIdGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId,     @Valid@ApiParam(value = "Comma separated attributes of the role to be returned. The id of the role is always returned.")  @QueryParam("attributes") String attributes,     @Valid@ApiParam(value = "Comma separated attributes of the role to be excluded from the response.")  @QueryParam("excludedAttributes") String excludedAttributes) {
 
-        return delegate.organizationsOrganizationIdRolesRoleIdGet(roleId,  organizationId );
+        return delegate.organizationsOrganizationIdRolesRoleIdGet(roleId,  organizationId,  attributes,  excludedAttributes );
+    }
+
+    @Valid
+    @GET
+    @Path("/{organization-id}/roles/{role-id}/groups")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Get groups of a role.", notes = "This API returns the groups assigned to a role, a page at a time.", response = RoleGroupsListResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Organization Role Management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful response.", response = RoleGroupsListResponse.class),
+        @ApiResponse(code = 400, message = "Invalid input in the request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Authentication information is missing or invalid.", response = Void.class),
+        @ApiResponse(code = 403, message = "Access forbidden.", response = Void.class),
+        @ApiResponse(code = 404, message = "Requested resource is not found.", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal server error.", response = Error.class)
+    })
+    public Response organizationsOrganizationIdRolesRoleIdGroupsGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to be returned. (Should be greater than 0)")  @QueryParam("count") Integer count,     @Valid@ApiParam(value = "The cursor to retrieve the records.")  @QueryParam("cursor") String cursor) {
+
+        return delegate.organizationsOrganizationIdRolesRoleIdGroupsGet(roleId,  organizationId,  count,  cursor );
+    }
+
+    @Valid
+    @POST
+    @Path("/{organization-id}/roles/{role-id}/members")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Add or remove members of a role in bulk.", notes = "This API adds users and groups to a role and removes users and groups from a role in bulk, and returns a summary of the changes instead of the role.", response = RoleMembersPatchResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Organization Role Management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Members of the role are updated.", response = RoleMembersPatchResponse.class),
+        @ApiResponse(code = 202, message = "Members of the role are being updated asynchronously.", response = RoleMembersPatchResponse.class),
+        @ApiResponse(code = 400, message = "Invalid input in the request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Authentication information is missing or invalid.", response = Void.class),
+        @ApiResponse(code = 403, message = "Access forbidden.", response = Void.class),
+        @ApiResponse(code = 404, message = "Requested resource is not found.", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal server error.", response = Error.class),
+        @ApiResponse(code = 503, message = "Service unavailable.", response = Error.class)
+    })
+    public Response organizationsOrganizationIdRolesRoleIdMembersPost(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId, @ApiParam(value = "Users and groups to be added to or removed from the role." ,required=true) @Valid RoleMembersPatchRequest roleMembersPatchRequest,     @Valid@ApiParam(value = "Whether the changes are applied asynchronously. The changes which need more than one batch are always applied asynchronously. The progress of the changes can be tracked using the returned operation ID.", defaultValue="false") @DefaultValue("false")  @QueryParam("async") Boolean async) {
+
+        return delegate.organizationsOrganizationIdRolesRoleIdMembersPost(roleId,  organizationId,  roleMembersPatchRequest,  async );
     }
 
     @Valid
@@ -196,6 +250,30 @@ public class OrganizationsApi  {
         return delegate.organizationsOrganizationIdRolesRoleIdPut(roleId,  organizationId,  rolePutRequest );
     }
 
+    @Valid
+    @GET
+    @Path("/{organization-id}/roles/{role-id}/users")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Get users of a role.", notes = "This API returns the users assigned to a role, a page at a time.", response = RoleUsersListResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Organization Role Management", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful response.", response = RoleUsersListResponse.class),
+        @ApiResponse(code = 400, message = "Invalid input in the request.", response = Error.class),
+        @ApiResponse(code = 401, message = "Authentication information is missing or invalid.", response = Void.class),
+        @ApiResponse(code = 403, message = "Access forbidden.", response = Void.class),
+        @ApiResponse(code = 404, message = "Requested resource is not found.", response = Error.class),
+        @ApiResponse(code = 500, message = "Internal server error.", response = Error.class)
+    })
+    public Response organizationsOrganizationIdRolesRoleIdUsersGet(@ApiParam(value = "ID of the role.",required=true) @PathParam("role-id") String roleId, @ApiParam(value = "ID of the organization.",required=true) @PathParam("organization-id") String organizationId,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to be returned. (Should be greater than 0)")  @QueryParam("count") Integer count,     @Valid@ApiParam(value = "The cursor to retrieve the records.")  @QueryParam("cursor") String cursor) {
+
+        return delegate.organizationsOrganizationIdRolesRoleIdUsersGet(roleId,  organizationId,  count,  cursor );
+    }
+
     @Valid
     @GET
     @Path("/{organization-id}/users/{user-id}/roles")
@@ -26,6 +26,9 @@ import java.io.InputStream;
 import java.util.List;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.Error;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGroupsListResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleMembersPatchRequest;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleMembersPatchResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleObj;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchResponse;
@@ -33,6 +36,7 @@ import org.wso2.carbon.identity.api.server.organization.role.management.v1.model
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePostResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleUsersListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolesListResponse;
 import javax.ws.rs.core.Response;
 
@@ -45,11 +49,17 @@ public interface OrganizationsApiService {
 
       public Response organizationsOrganizationIdRolesRoleIdDelete(String roleId, String organizationId);
 
-      public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId);
+      public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId, String attributes, String excludedAttributes);
+
+      public Response organizationsOrganizationIdRolesRoleIdGroupsGet(String roleId, String organizationId, Integer count, String cursor);
+
+      public Response organizationsOrganizationIdRolesRoleIdMembersPost(String roleId, String organizationId, RoleMembersPatchRequest roleMembersPatchRequest, Boolean async);
 
       public Response organizationsOrganizationIdRolesRoleIdPatch(String roleId, String organizationId, RolePatchRequest rolePatchRequest);
 
       public Response organizationsOrganizationIdRolesRoleIdPut(String roleId, String organizationId, RolePutRequest rolePutRequest);
 
+      public Response organizationsOrganizationIdRolesRoleIdUsersGet(String roleId, String organizationId, Integer count, String cursor);
+
       public Response organizationsOrganizationIdUsersUserIdRolesGet(String userId, String organizationId);
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.organization.role.management.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class RoleMembersPatchOperation  {
+  
+
+@XmlType(name="OpEnum")
+@XmlEnum(String.class)
+public enum OpEnum {
+
+    @XmlEnumValue("add") ADD(String.valueOf("add")), @XmlEnumValue("remove") REMOVE(String.valueOf("remove"));
+
+
+    private String value;
+
+    OpEnum(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    public static OpEnum fromValue(String value) {
+        for (OpEnum b : OpEnum.values()) {
+            if (b.value.equals(value)) {
+                return b;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+}
+
+
+@XmlType(name="PathEnum")
+@XmlEnum(String.class)
+public enum PathEnum {
+
+    @XmlEnumValue("users") USERS(String.valueOf("users")), @XmlEnumValue("groups") GROUPS(String.valueOf("groups"));
+
+
+    private String value;
+
+    PathEnum(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    public static PathEnum fromValue(String value) {
+        for (PathEnum b : PathEnum.values()) {
+            if (b.value.equals(value)) {
+                return b;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+}
+
+    private OpEnum op;
+    private PathEnum path;
+    private List<String> value = new ArrayList<>();
+
+
+    /**
+    **/
+    public RoleMembersPatchOperation op(OpEnum op) {
+
+        this.op = op;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "add", required = true, value = "")
+    @JsonProperty("op")
+    @Valid
+    @NotNull(message = "Property op cannot be null.")
+
+    public OpEnum getOp() {
+        return op;
+    }
+    public void setOp(OpEnum op) {
+        this.op = op;
+    }
+
+    /**
+    **/
+    public RoleMembersPatchOperation path(PathEnum path) {
+
+        this.path = path;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "users", required = true, value = "")
+    @JsonProperty("path")
+    @Valid
+    @NotNull(message = "Property path cannot be null.")
+
+    public PathEnum getPath() {
+        return path;
+    }
+    public void setPath(PathEnum path) {
+        this.path = path;
+    }
+
+    /**
+    * IDs of the users or the groups.
+    **/
+    public RoleMembersPatchOperation value(List<String> value) {
+
+        this.value = value;
+        return this;
+    }
+    
+    @ApiModelProperty(required = true, value = "IDs of the users or the groups.")
+    @JsonProperty("value")
+    @Valid
+    @NotNull(message = "Property value cannot be null.")
+
+    public List<String> getValue() {
+        return value;
+    }
+    public void setValue(List<String> value) {
+        this.value = value;
+    }
+
+    public RoleMembersPatchOperation addValueItem(String valueItem) {
+        this.value.add(valueItem);
+        return this;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RoleMembersPatchOperation roleMembersPatchOperation = (RoleMembersPatchOperation) o;
+        return Objects.equals(this.op, roleMembersPatchOperation.op) &&
+            Objects.equals(this.path, roleMembersPatchOperation.path) &&
+            Objects.equals(this.value, roleMembersPatchOperation.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(op, path, value);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class RoleMembersPatchOperation {\n");
+        
+        sb.append("    op: ").append(toIndentedString(op)).append("\n");
+        sb.append("    path: ").append(toIndentedString(path)).append("\n");
+        sb.append("    value: ").append(toIndentedString(value)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
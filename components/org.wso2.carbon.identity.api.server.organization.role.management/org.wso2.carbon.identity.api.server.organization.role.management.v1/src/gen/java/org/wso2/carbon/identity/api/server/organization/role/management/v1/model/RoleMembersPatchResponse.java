@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.organization.role.management.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class RoleMembersPatchResponse  {
+  
+    private String id;
+    private String operationId;
+    private Integer addedUsers;
+    private Integer removedUsers;
+    private Integer addedGroups;
+    private Integer removedGroups;
+    private Integer unchangedMembers;
+    private Integer duplicateMembers;
+    private Integer batches;
+
+
+    /**
+    * ID of the role.
+    **/
+    public RoleMembersPatchResponse id(String id) {
+
+        this.id = id;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "4645709c-ea8c-4495-8590-e1fa0efe3de0", value = "ID of the role.")
+    @JsonProperty("id")
+    @Valid
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+    * ID of the asynchronous operation which applies the changes. Returned only when the changes are applied asynchronously.
+    **/
+    public RoleMembersPatchResponse operationId(String operationId) {
+
+        this.operationId = operationId;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "8f5fd6e4-94d5-4f1c-b2d8-5a6c6d0b1a3e", value = "ID of the asynchronous operation which applies the changes. Returned only when the changes are applied asynchronously.")
+    @JsonProperty("operationId")
+    @Valid
+    public String getOperationId() {
+        return operationId;
+    }
+    public void setOperationId(String operationId) {
+        this.operationId = operationId;
+    }
+
+    /**
+    * Number of users added to the role.
+    **/
+    public RoleMembersPatchResponse addedUsers(Integer addedUsers) {
+
+        this.addedUsers = addedUsers;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "950", value = "Number of users added to the role.")
+    @JsonProperty("addedUsers")
+    @Valid
+    public Integer getAddedUsers() {
+        return addedUsers;
+    }
+    public void setAddedUsers(Integer addedUsers) {
+        this.addedUsers = addedUsers;
+    }
+
+    /**
+    * Number of users removed from the role.
+    **/
+    public RoleMembersPatchResponse removedUsers(Integer removedUsers) {
+
+        this.removedUsers = removedUsers;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "40", value = "Number of users removed from the role.")
+    @JsonProperty("removedUsers")
+    @Valid
+    public Integer getRemovedUsers() {
+        return removedUsers;
+    }
+    public void setRemovedUsers(Integer removedUsers) {
+        this.removedUsers = removedUsers;
+    }
+
+    /**
+    * Number of groups added to the role.
+    **/
+    public RoleMembersPatchResponse addedGroups(Integer addedGroups) {
+
+        this.addedGroups = addedGroups;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "5", value = "Number of groups added to the role.")
+    @JsonProperty("addedGroups")
+    @Valid
+    public Integer getAddedGroups() {
+        return addedGroups;
+    }
+    public void setAddedGroups(Integer addedGroups) {
+        this.addedGroups = addedGroups;
+    }
+
+    /**
+    * Number of groups removed from the role.
+    **/
+    public RoleMembersPatchResponse removedGroups(Integer removedGroups) {
+
+        this.removedGroups = removedGroups;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "1", value = "Number of groups removed from the role.")
+    @JsonProperty("removedGroups")
+    @Valid
+    public Integer getRemovedGroups() {
+        return removedGroups;
+    }
+    public void setRemovedGroups(Integer removedGroups) {
+        this.removedGroups = removedGroups;
+    }
+
+    /**
+    * Number of requested members whose change does not change the role, such as additions of existing members and removals of members which are not assigned.
+    **/
+    public RoleMembersPatchResponse unchangedMembers(Integer unchangedMembers) {
+
+        this.unchangedMembers = unchangedMembers;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "12", value = "Number of requested members whose change does not change the role, such as additions of existing members and removals of members which are not assigned.")
+    @JsonProperty("unchangedMembers")
+    @Valid
+    public Integer getUnchangedMembers() {
+        return unchangedMembers;
+    }
+    public void setUnchangedMembers(Integer unchangedMembers) {
+        this.unchangedMembers = unchangedMembers;
+    }
+
+    /**
+    * Number of requested member changes which repeat a member of an earlier change of the request. Only the last change of a member is applied.
+    **/
+    public RoleMembersPatchResponse duplicateMembers(Integer duplicateMembers) {
+
+        this.duplicateMembers = duplicateMembers;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "3", value = "Number of requested member changes which repeat a member of an earlier change of the request. Only the last change of a member is applied.")
+    @JsonProperty("duplicateMembers")
+    @Valid
+    public Integer getDuplicateMembers() {
+        return duplicateMembers;
+    }
+    public void setDuplicateMembers(Integer duplicateMembers) {
+        this.duplicateMembers = duplicateMembers;
+    }
+
+    /**
+    * Number of batches in which the changes are applied.
+    **/
+    public RoleMembersPatchResponse batches(Integer batches) {
+
+        this.batches = batches;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2", value = "Number of batches in which the changes are applied.")
+    @JsonProperty("batches")
+    @Valid
+    public Integer getBatches() {
+        return batches;
+    }
+    public void setBatches(Integer batches) {
+        this.batches = batches;
+    }
+
+    
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RoleMembersPatchResponse roleMembersPatchResponse = (RoleMembersPatchResponse) o;
+        return Objects.equals(this.id, roleMembersPatchResponse.id) &&
+            Objects.equals(this.operationId, roleMembersPatchResponse.operationId) &&
+            Objects.equals(this.addedUsers, roleMembersPatchResponse.addedUsers) &&
+            Objects.equals(this.removedUsers, roleMembersPatchResponse.removedUsers) &&
+            Objects.equals(this.addedGroups, roleMembersPatchResponse.addedGroups) &&
+            Objects.equals(this.removedGroups, roleMembersPatchResponse.removedGroups) &&
+            Objects.equals(this.unchangedMembers, roleMembersPatchResponse.unchangedMembers) &&
+            Objects.equals(this.duplicateMembers, roleMembersPatchResponse.duplicateMembers) &&
+            Objects.equals(this.batches, roleMembersPatchResponse.batches);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, operationId, addedUsers, removedUsers, addedGroups, removedGroups, unchangedMembers, duplicateMembers, batches);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class RoleMembersPatchResponse {\n");
+        
+        sb.append("    id: ").append(toIndentedString(id)).append("\n");
+        sb.append("    operationId: ").append(toIndentedString(operationId)).append("\n");
+        sb.append("    addedUsers: ").append(toIndentedString(addedUsers)).append("\n");
+        sb.append("    removedUsers: ").append(toIndentedString(removedUsers)).append("\n");
+        sb.append("    addedGroups: ").append(toIndentedString(addedGroups)).append("\n");
+        sb.append("    removedGroups: ").append(toIndentedString(removedGroups)).append("\n");
+        sb.append("    unchangedMembers: ").append(toIndentedString(unchangedMembers)).append("\n");
+        sb.append("    duplicateMembers: ").append(toIndentedString(duplicateMembers)).append("\n");
+        sb.append("    batches: ").append(toIndentedString(batches)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
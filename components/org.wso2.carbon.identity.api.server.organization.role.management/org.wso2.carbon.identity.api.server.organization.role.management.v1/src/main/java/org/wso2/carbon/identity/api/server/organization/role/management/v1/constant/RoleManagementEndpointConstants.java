@@ -31,4 +31,64 @@ public class RoleManagementEndpointConstants {
     public static final String GROUP_PATH = "groups";
     public static final String USER_PATH = "users";
     public static final String SCIM_USER_PATH = "Users";
+
+    public static final String ROLE_ATTRIBUTE_ID = "id";
+    public static final String ROLE_ATTRIBUTE_DISPLAY_NAME = "displayName";
+    public static final String ROLE_ATTRIBUTE_META = "meta";
+    public static final String ROLE_ATTRIBUTE_USERS = "users";
+    public static final String ROLE_ATTRIBUTE_GROUPS = "groups";
+    public static final String ROLE_ATTRIBUTE_PERMISSIONS = "permissions";
+
+    public static final String ROLE_MEMBERS_PATCH_OPERATION_TYPE = "ORGANIZATION_ROLE_MEMBERS_PATCH";
+    public static final String ROLE_MEMBERS_PATCH_SUBJECT_TYPE = "ROLE";
+
+    private static final String ORGANIZATION_ROLE_MANAGEMENT_ERROR_PREFIX = "ORG-ROLE-";
+
+    /**
+     * Enums for the error messages of the role management endpoints.
+     */
+    public enum ErrorMessage {
+
+        // Client errors.
+        ERROR_CODE_INVALID_CURSOR("60001",
+                "Invalid cursor provided.",
+                "The value provided for cursor parameter is not a valid cursor."),
+        ERROR_CODE_TOO_MANY_MEMBER_CHANGES("60002",
+                "Too many member changes.",
+                "A request can add or remove at most %d members of a role."),
+
+        // Server errors.
+        ERROR_CODE_ERROR_SUBMITTING_ROLE_MEMBERS_PATCH("65001",
+                "Error while submitting the member changes.",
+                "Error while submitting the member changes of the role: %s."),
+        ERROR_CODE_TOO_MANY_ROLE_MEMBERS_PATCHES("65002",
+                "Too many member changes in progress.",
+                "Too many member changes of roles are waiting to be applied. Retry the request later.");
+
+        private final String code;
+        private final String message;
+        private final String description;
+
+        ErrorMessage(String code, String message, String description) {
+
+            this.code = code;
+            this.message = message;
+            this.description = description;
+        }
+
+        public String getCode() {
+
+            return ORGANIZATION_ROLE_MANAGEMENT_ERROR_PREFIX + code;
+        }
+
+        public String getMessage() {
+
+            return message;
+        }
+
+        public String getDescription() {
+
+            return description;
+        }
+    }
 }
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.api.server.organization.role.management.v1.impl
 
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.OrganizationsApiService;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.factories.RoleManagementServiceFactory;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleMembersPatchRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePostRequest;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutRequest;
@@ -63,9 +64,27 @@ public class OrganizationsApiServiceImpl implements OrganizationsApiService {
     }
 
     @Override
-    public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId) {
+    public Response organizationsOrganizationIdRolesRoleIdGet(String roleId, String organizationId, String attributes,
+                                                              String excludedAttributes) {
 
-        return roleManagementService.getRoleUsingOrganizationIdAndRoleId(organizationId, roleId);
+        return roleManagementService.getRoleUsingOrganizationIdAndRoleId(organizationId, roleId, attributes,
+                excludedAttributes);
+    }
+
+    @Override
+    public Response organizationsOrganizationIdRolesRoleIdGroupsGet(String roleId, String organizationId,
+                                                                    Integer count, String cursor) {
+
+        return roleManagementService.getGroupsOfRole(organizationId, roleId, count, cursor);
+    }
+
+    @Override
+    public Response organizationsOrganizationIdRolesRoleIdMembersPost(String roleId, String organizationId,
+                                                                      RoleMembersPatchRequest roleMembersPatchRequest,
+                                                                      Boolean async) {
+
+        return roleManagementService.patchRoleMembers(organizationId, roleId, roleMembersPatchRequest,
+                Boolean.TRUE.equals(async));
     }
 
     @Override
@@ -82,6 +101,13 @@ public class OrganizationsApiServiceImpl implements OrganizationsApiService {
         return roleManagementService.putRole(organizationId, roleId, rolePutRequest);
     }
 
+    @Override
+    public Response organizationsOrganizationIdRolesRoleIdUsersGet(String roleId, String organizationId,
+                                                                   Integer count, String cursor) {
+
+        return roleManagementService.getUsersOfRole(organizationId, roleId, count, cursor);
+    }
+
     @Override
     public Response organizationsOrganizationIdUsersUserIdRolesGet(String userId, String organizationId) {
 
@@ -22,10 +22,21 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.asynchronous.operation.status.management.common.AsyncOperationStatusMgtServiceHolder;
+import org.wso2.carbon.identity.api.server.common.ContextAwareExecutor;
+import org.wso2.carbon.identity.api.server.common.KeysetCursor;
+import org.wso2.carbon.identity.api.server.common.KeysetPage;
+import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.exception.RoleManagementEndpointException;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponseGroup;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGetResponseUser;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleGroupsListResponse;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleMembersPatchOperation;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleMembersPatchRequest;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleMembersPatchResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleObj;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleObjMeta;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePatchOperation;
@@ -40,9 +51,14 @@ import org.wso2.carbon.identity.api.server.organization.role.management.v1.model
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutRequestUser;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolePutResponseMeta;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleUsersListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RolesListResponse;
 import org.wso2.carbon.identity.api.server.organization.role.management.v1.util.RoleManagementEndpointUtils;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.constants.OperationStatus;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.exception.AsyncOperationStatusMgtException;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.OperationInitDTO;
+import org.wso2.carbon.identity.framework.async.operation.status.mgt.api.models.UnitOperationInitDTO;
 import org.wso2.carbon.identity.organization.management.role.management.service.RoleManager;
 import org.wso2.carbon.identity.organization.management.role.management.service.models.Group;
 import org.wso2.carbon.identity.organization.management.role.management.service.models.PatchOperation;
@@ -55,12 +71,30 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
 
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_ATTRIBUTE_DISPLAY_NAME;
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_ATTRIBUTE_GROUPS;
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_ATTRIBUTE_ID;
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_ATTRIBUTE_META;
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_ATTRIBUTE_PERMISSIONS;
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_ATTRIBUTE_USERS;
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_MEMBERS_PATCH_OPERATION_TYPE;
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_MEMBERS_PATCH_SUBJECT_TYPE;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_BUILDING_GROUP_URI;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_BUILDING_ROLE_URI;
 import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.ErrorMessages.ERROR_CODE_ERROR_BUILDING_USER_URI;
@@ -82,6 +116,15 @@ public class RoleManagementService {
     private final OrganizationUserResidentResolverService organizationUserResidentResolverService;
 
     private static final Log LOG = LogFactory.getLog(RoleManagementService.class);
+    private static final List<String> ROLE_ATTRIBUTES = Arrays.asList(ROLE_ATTRIBUTE_ID, ROLE_ATTRIBUTE_DISPLAY_NAME,
+            ROLE_ATTRIBUTE_META, ROLE_ATTRIBUTE_USERS, ROLE_ATTRIBUTE_GROUPS, ROLE_ATTRIBUTE_PERMISSIONS);
+    private static final String ATTRIBUTE_SEPARATOR = ",";
+    private static final int MAX_ROLE_MEMBER_CHANGES = 50000;
+    private static final int ROLE_MEMBERS_PATCH_BATCH_SIZE = 500;
+    private static final String MEMBER_PATH_FILTER = "%s[value eq %s]";
+    private static final String BATCH_APPLIED_MESSAGE = "Batch %d of %d is applied.";
+    private static final ContextAwareExecutor ROLE_MEMBERS_PATCH_EXECUTOR =
+            new ContextAwareExecutor("OrganizationRoleMembersPatch", 2, 8, false);
 
     public RoleManagementService(RoleManager roleManager,
                                  OrganizationUserResidentResolverService organizationUserResidentResolverService) {
@@ -141,12 +184,100 @@ public class RoleManagementService {
      */
     public Response getRoleUsingOrganizationIdAndRoleId(String organizationId, String roleId) {
 
+        return getRoleUsingOrganizationIdAndRoleId(organizationId, roleId, null, null);
+    }
+
+    /**
+     * Service for getting the requested attributes of a role using role ID and organization ID. The users and the
+     * groups of a role with many members can be excluded here and listed a page at a time with
+     * {@link #getUsersOfRole(String, String, Integer, String)} and {@link #getGroupsOfRole(String, String, Integer,
+     * String)}.
+     *
+     * @param organizationId     The ID of the organization.
+     * @param roleId             The ID of the role.
+     * @param attributes         Comma separated attributes to be returned, or null to return all the attributes.
+     * @param excludedAttributes Comma separated attributes to be excluded, or null.
+     * @return The role corresponding to roleId and organizationId.
+     */
+    public Response getRoleUsingOrganizationIdAndRoleId(String organizationId, String roleId, String attributes,
+                                                        String excludedAttributes) {
+
         try {
             Role role = roleManager.getRoleById(organizationId, roleId);
             URI roleURI = RoleManagementEndpointUtils.getUri(organizationId, roleId,
                     RoleManagementEndpointConstants.ROLE_PATH,
                     ERROR_CODE_ERROR_BUILDING_ROLE_URI);
-            return Response.ok().entity(getRoleGetResponse(organizationId, role, roleURI)).build();
+            return Response.ok().entity(getRoleGetResponse(organizationId, role, roleURI,
+                    getRequestedAttributes(attributes, excludedAttributes))).build();
+        } catch (OrganizationManagementClientException e) {
+            return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
+        } catch (OrganizationManagementException e) {
+            return RoleManagementEndpointUtils.handleServerErrorResponse(e, LOG);
+        }
+    }
+
+    /**
+     * Get the users assigned to a role, a page at a time. The users are listed in the order of their usernames.
+     *
+     * @param organizationId The ID of the organization.
+     * @param roleId         The ID of the role.
+     * @param count          Param for desired maximum number of users per page.
+     * @param cursor         Param for cursor to fetch the next page of users.
+     * @return A page of the users of the role.
+     */
+    public Response getUsersOfRole(String organizationId, String roleId, Integer count, String cursor) {
+
+        try {
+            int limitValue = validateCount(count);
+            Role role = roleManager.getRoleById(organizationId, roleId);
+            List<User> roleUsers = role.getUsers() == null ? Collections.emptyList() : role.getUsers();
+            KeysetPage<User> page = getMembersPage(roleUsers, User::getUserName, User::getId, limitValue, cursor);
+
+            List<User> pageUsers = page.getItems();
+            RoleUsersListResponse response = new RoleUsersListResponse();
+            response.setTotalResults(roleUsers.size());
+            response.setItemsPerPage(pageUsers.size());
+            response.setResources(getUsersForResponseObject(pageUsers, organizationId));
+            if (page.hasNext()) {
+                User lastUser = pageUsers.get(pageUsers.size() - 1);
+                response.setNextCursor(KeysetCursor.encode(lastUser.getUserName(), lastUser.getId()));
+            }
+            return Response.ok().entity(response).build();
+        } catch (OrganizationManagementClientException e) {
+            return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
+        } catch (OrganizationManagementException e) {
+            return RoleManagementEndpointUtils.handleServerErrorResponse(e, LOG);
+        }
+    }
+
+    /**
+     * Get the groups assigned to a role, a page at a time. The groups are listed in the order of their names.
+     *
+     * @param organizationId The ID of the organization.
+     * @param roleId         The ID of the role.
+     * @param count          Param for desired maximum number of groups per page.
+     * @param cursor         Param for cursor to fetch the next page of groups.
+     * @return A page of the groups of the role.
+     */
+    public Response getGroupsOfRole(String organizationId, String roleId, Integer count, String cursor) {
+
+        try {
+            int limitValue = validateCount(count);
+            Role role = roleManager.getRoleById(organizationId, roleId);
+            List<Group> roleGroups = role.getGroups() == null ? Collections.emptyList() : role.getGroups();
+            KeysetPage<Group> page = getMembersPage(roleGroups, Group::getGroupName, Group::getGroupId, limitValue,
+                    cursor);
+
+            List<Group> pageGroups = page.getItems();
+            RoleGroupsListResponse response = new RoleGroupsListResponse();
+            response.setTotalResults(roleGroups.size());
+            response.setItemsPerPage(pageGroups.size());
+            response.setResources(getGroupsForResponseObject(pageGroups, organizationId));
+            if (page.hasNext()) {
+                Group lastGroup = pageGroups.get(pageGroups.size() - 1);
+                response.setNextCursor(KeysetCursor.encode(lastGroup.getGroupName(), lastGroup.getGroupId()));
+            }
+            return Response.ok().entity(response).build();
         } catch (OrganizationManagementClientException e) {
             return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
         } catch (OrganizationManagementException e) {
@@ -247,6 +378,82 @@ public class RoleManagementService {
         }
     }
 
+    /**
+     * Add members to a role and remove members from a role in bulk. The requested changes of each member are
+     * coalesced, so only the last change of a member is applied, and the changes which do not change the role are
+     * dropped. The remaining changes are applied in bounded batches, and a summary of the changes is returned
+     * instead of the role. The changes which need more than one batch are always applied asynchronously, so that a
+     * failed batch is tracked in the asynchronous operation instead of leaving the role partially changed without a
+     * record of the applied batches.
+     *
+     * @param organizationId          The ID of the organization.
+     * @param roleId                  The ID of the role.
+     * @param roleMembersPatchRequest The request object created using request body.
+     * @param async                   Whether the changes of a single batch are applied asynchronously.
+     * @return The summary of the changes, along with the ID of the asynchronous operation if the changes are applied
+     * asynchronously.
+     */
+    public Response patchRoleMembers(String organizationId, String roleId,
+                                     RoleMembersPatchRequest roleMembersPatchRequest, boolean async) {
+
+        try {
+            RoleMemberChanges userChanges = new RoleMemberChanges(RoleManagementEndpointConstants.USER_PATH);
+            RoleMemberChanges groupChanges = new RoleMemberChanges(RoleManagementEndpointConstants.GROUP_PATH);
+            int requestedChanges = 0;
+            for (RoleMembersPatchOperation operation : roleMembersPatchRequest.getOperations()) {
+                if (CollectionUtils.isEmpty(operation.getValue())) {
+                    throw handleClientException(ERROR_CODE_PATCH_VALUE_EMPTY);
+                }
+                requestedChanges += operation.getValue().size();
+                if (requestedChanges > MAX_ROLE_MEMBER_CHANGES) {
+                    RoleManagementEndpointConstants.ErrorMessage error =
+                            RoleManagementEndpointConstants.ErrorMessage.ERROR_CODE_TOO_MANY_MEMBER_CHANGES;
+                    throw new RoleManagementEndpointException(Response.Status.BAD_REQUEST,
+                            RoleManagementEndpointUtils.getError(error.getCode(), error.getMessage(),
+                                    String.format(error.getDescription(), MAX_ROLE_MEMBER_CHANGES)));
+                }
+                RoleMemberChanges memberChanges = operation.getPath() == RoleMembersPatchOperation.PathEnum.GROUPS ?
+                        groupChanges : userChanges;
+                boolean add = operation.getOp() == RoleMembersPatchOperation.OpEnum.ADD;
+                for (String memberId : operation.getValue()) {
+                    if (StringUtils.isBlank(memberId)) {
+                        throw handleClientException(ERROR_CODE_PATCH_VALUE_EMPTY);
+                    }
+                    memberChanges.request(StringUtils.strip(memberId), add);
+                }
+            }
+
+            Role role = roleManager.getRoleById(organizationId, roleId);
+            userChanges.dropUnchanged(role.getUsers() == null ? Collections.emptySet() :
+                    role.getUsers().stream().map(User::getId).collect(Collectors.toSet()));
+            groupChanges.dropUnchanged(role.getGroups() == null ? Collections.emptySet() :
+                    role.getGroups().stream().map(Group::getGroupId).collect(Collectors.toSet()));
+            List<List<PatchOperation>> batches = getRoleMembersPatchBatches(userChanges, groupChanges);
+
+            RoleMembersPatchResponse response = new RoleMembersPatchResponse()
+                    .id(roleId)
+                    .addedUsers(userChanges.getMemberIds(true).size())
+                    .removedUsers(userChanges.getMemberIds(false).size())
+                    .addedGroups(groupChanges.getMemberIds(true).size())
+                    .removedGroups(groupChanges.getMemberIds(false).size())
+                    .unchangedMembers(userChanges.getUnchanged() + groupChanges.getUnchanged())
+                    .duplicateMembers(userChanges.getDuplicates() + groupChanges.getDuplicates())
+                    .batches(batches.size());
+            if (batches.isEmpty() || (!async && batches.size() == 1)) {
+                for (List<PatchOperation> batch : batches) {
+                    roleManager.patchRole(organizationId, roleId, batch);
+                }
+                return Response.ok().entity(response).build();
+            }
+            response.setOperationId(submitRoleMembersPatch(organizationId, roleId, batches));
+            return Response.accepted().entity(response).build();
+        } catch (OrganizationManagementClientException e) {
+            return RoleManagementEndpointUtils.handleClientErrorResponse(e, LOG);
+        } catch (OrganizationManagementException e) {
+            return RoleManagementEndpointUtils.handleServerErrorResponse(e, LOG);
+        }
+    }
+
     /**
      * Patching a role using PUT request.
      *
@@ -338,28 +545,117 @@ public class RoleManagementService {
      * @param roleURI        The URI of the role.
      * @return A RoleGetResponse.
      */
-    private RoleGetResponse getRoleGetResponse(String organizationId, Role role, URI roleURI) {
-
-        RoleObjMeta roleObjMeta = new RoleObjMeta();
-        roleObjMeta.location(roleURI.toString());
+    private RoleGetResponse getRoleGetResponse(String organizationId, Role role, URI roleURI,
+                                               Set<String> requestedAttributes) {
 
         RoleGetResponse response = new RoleGetResponse();
         response.setId(role.getId());
-        response.setDisplayName(role.getDisplayName());
-        response.setMeta(roleObjMeta);
-        response.setPermissions(role.getPermissions());
+        if (requestedAttributes.contains(ROLE_ATTRIBUTE_DISPLAY_NAME)) {
+            response.setDisplayName(role.getDisplayName());
+        }
+        if (requestedAttributes.contains(ROLE_ATTRIBUTE_META)) {
+            RoleObjMeta roleObjMeta = new RoleObjMeta();
+            roleObjMeta.location(roleURI.toString());
+            response.setMeta(roleObjMeta);
+        }
+        if (requestedAttributes.contains(ROLE_ATTRIBUTE_PERMISSIONS)) {
+            response.setPermissions(role.getPermissions());
+        }
 
-        if (CollectionUtils.isNotEmpty(role.getGroups())) {
+        if (requestedAttributes.contains(ROLE_ATTRIBUTE_GROUPS) && CollectionUtils.isNotEmpty(role.getGroups())) {
             response.setGroups(getGroupsForResponseObject(role.getGroups(), organizationId));
         }
 
-        if (CollectionUtils.isNotEmpty(role.getUsers())) {
+        if (requestedAttributes.contains(ROLE_ATTRIBUTE_USERS) && CollectionUtils.isNotEmpty(role.getUsers())) {
             response.setUsers(getUsersForResponseObject(role.getUsers(), organizationId));
         }
 
         return response;
     }
 
+    /**
+     * Resolve the attributes of a role to be returned. The attribute names are case insensitive, and the id of the
+     * role is always returned.
+     *
+     * @param attributes         Comma separated attributes to be returned, or null to return all the attributes.
+     * @param excludedAttributes Comma separated attributes to be excluded, or null.
+     * @return The attributes to be returned.
+     */
+    static Set<String> getRequestedAttributes(String attributes, String excludedAttributes) {
+
+        Set<String> includedAttributes = splitAttributes(attributes);
+        Set<String> excludedAttributeSet = splitAttributes(excludedAttributes);
+        Set<String> requestedAttributes = new HashSet<>();
+        for (String attribute : ROLE_ATTRIBUTES) {
+            String attributeKey = attribute.toLowerCase(Locale.ENGLISH);
+            if (ROLE_ATTRIBUTE_ID.equals(attribute) || ((includedAttributes.isEmpty() ||
+                    includedAttributes.contains(attributeKey)) && !excludedAttributeSet.contains(attributeKey))) {
+                requestedAttributes.add(attribute);
+            }
+        }
+        return requestedAttributes;
+    }
+
+    private static Set<String> splitAttributes(String attributes) {
+
+        Set<String> attributeKeys = new HashSet<>();
+        if (StringUtils.isBlank(attributes)) {
+            return attributeKeys;
+        }
+        for (String attribute : attributes.split(ATTRIBUTE_SEPARATOR)) {
+            if (StringUtils.isNotBlank(attribute)) {
+                attributeKeys.add(attribute.trim().toLowerCase(Locale.ENGLISH));
+            }
+        }
+        return attributeKeys;
+    }
+
+    /**
+     * Select a page of the members of a role, in the order of their display names. The members are selected from
+     * the members after the cursor, without sorting all the members of the role.
+     *
+     * @param members       The members of the role.
+     * @param displayGetter Function returning the display name of a member.
+     * @param idGetter      Function returning the id of a member.
+     * @param limit         The page size.
+     * @param cursor        The cursor of the member after which the page starts, or null.
+     * @param <T>           Type of the members.
+     * @return The page of the members.
+     */
+    static <T> KeysetPage<T> getMembersPage(List<T> members, Function<T, String> displayGetter,
+                                            Function<T, String> idGetter, int limit, String cursor) {
+
+        Function<T, String> sortKeyGetter = member -> StringUtils.defaultString(displayGetter.apply(member));
+        Function<T, String> tieBreakerGetter = member -> StringUtils.defaultString(idGetter.apply(member));
+        Comparator<T> order = Comparator.comparing(sortKeyGetter).thenComparing(tieBreakerGetter);
+        KeysetCursor keysetCursor = decodeCursor(cursor);
+        List<T> selectedMembers = KeysetPage.selectFirst(members, member -> keysetCursor == null ||
+                        compareToCursor(sortKeyGetter.apply(member), tieBreakerGetter.apply(member), keysetCursor) > 0,
+                order, limit + 1);
+        return KeysetPage.of(selectedMembers, limit, cursor, null);
+    }
+
+    private static int compareToCursor(String sortKey, String id, KeysetCursor cursor) {
+
+        int result = sortKey.compareTo(cursor.getSortKey());
+        return result != 0 ? result : id.compareTo(cursor.getId());
+    }
+
+    private static KeysetCursor decodeCursor(String cursor) {
+
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+        try {
+            return KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            RoleManagementEndpointConstants.ErrorMessage error =
+                    RoleManagementEndpointConstants.ErrorMessage.ERROR_CODE_INVALID_CURSOR;
+            throw new RoleManagementEndpointException(Response.Status.BAD_REQUEST,
+                    RoleManagementEndpointUtils.getError(error.getCode(), error.getMessage(), error.getDescription()));
+        }
+    }
+
     /**
      * Set the groups for the response if they exist.
      *
@@ -369,14 +665,17 @@ public class RoleManagementService {
      */
     private List<RoleGetResponseGroup> getGroupsForResponseObject(List<Group> roleGroups, String organizationId) {
 
-        List<RoleGetResponseGroup> groups = new ArrayList<>();
+        List<RoleGetResponseGroup> groups = new ArrayList<>(roleGroups.size());
+        if (roleGroups.isEmpty()) {
+            return groups;
+        }
+        String groupUriPrefix = RoleManagementEndpointUtils.getUriPrefix(organizationId,
+                RoleManagementEndpointConstants.GROUP_PATH, ERROR_CODE_ERROR_BUILDING_GROUP_URI);
         for (Group basicGroup : roleGroups) {
             RoleGetResponseGroup group = new RoleGetResponseGroup();
             group.value(basicGroup.getGroupId());
             group.display(basicGroup.getGroupName());
-            group.$ref(RoleManagementEndpointUtils.getUri(organizationId, basicGroup.getGroupId(),
-                    RoleManagementEndpointConstants.GROUP_PATH,
-                    ERROR_CODE_ERROR_BUILDING_GROUP_URI).toString());
+            group.$ref(groupUriPrefix + basicGroup.getGroupId());
             groups.add(group);
         }
         return groups;
@@ -391,24 +690,18 @@ public class RoleManagementService {
      */
     private List<RoleGetResponseUser> getUsersForResponseObject(List<User> roleUsers, String organizationId) {
 
-        List<RoleGetResponseUser> users = new ArrayList<>();
+        List<RoleGetResponseUser> users = new ArrayList<>(roleUsers.size());
+        // The URI prefixes are built once for each resident organization of the users, instead of once for each user.
+        Map<String, String> userUriPrefixes = new HashMap<>();
         for (User basicUser : roleUsers) {
-            String uri;
-            if (StringUtils.isNotBlank(basicUser.getUserResidentOrgId())) {
-                uri = RoleManagementEndpointUtils.buildSCIM2Uri(basicUser.getId(),
-                        RoleManagementEndpointConstants.SCIM_USER_PATH,
-                        ERROR_CODE_ERROR_BUILDING_USER_URI).toString();
-                uri = uri.replace(organizationId, basicUser.getUserResidentOrgId());
-            } else {
-                uri = RoleManagementEndpointUtils.getUri(organizationId, basicUser.getId(),
-                        RoleManagementEndpointConstants.USER_PATH,
-                        ERROR_CODE_ERROR_BUILDING_USER_URI).toString();
-            }
+            String userResidentOrgId = basicUser.getUserResidentOrgId();
+            String userUriPrefix = userUriPrefixes.computeIfAbsent(StringUtils.defaultString(userResidentOrgId),
+                    key -> getUserUriPrefix(organizationId, userResidentOrgId));
 
             RoleGetResponseUser user = new RoleGetResponseUser();
             user.value(basicUser.getId());
             user.display(basicUser.getUserName());
-            user.$ref(uri);
+            user.$ref(userUriPrefix + basicUser.getId());
             user.orgId(basicUser.getUserResidentOrgId());
             user.orgName(basicUser.getUserResidentOrgName());
             users.add(user);
@@ -416,6 +709,24 @@ public class RoleManagementService {
         return users;
     }
 
+    /**
+     * Get the URI prefix of the users. The users of a resident organization are referred by their SCIM2 URIs in the
+     * resident organization.
+     *
+     * @param organizationId    The organizationId.
+     * @param userResidentOrgId The ID of the resident organization of the users, or null.
+     * @return The URI prefix of the users.
+     */
+    private String getUserUriPrefix(String organizationId, String userResidentOrgId) {
+
+        if (StringUtils.isBlank(userResidentOrgId)) {
+            return RoleManagementEndpointUtils.getUriPrefix(organizationId,
+                    RoleManagementEndpointConstants.USER_PATH, ERROR_CODE_ERROR_BUILDING_USER_URI);
+        }
+        return RoleManagementEndpointUtils.getSCIM2UriPrefix(RoleManagementEndpointConstants.SCIM_USER_PATH,
+                ERROR_CODE_ERROR_BUILDING_USER_URI).replace(organizationId, userResidentOrgId);
+    }
+
     /**
      * Generate a response object for patch operation.
      *
@@ -513,6 +824,136 @@ public class RoleManagementService {
         return roleDTOs;
     }
 
+    /**
+     * Split the member changes of a role into batches of patch operations. Each batch changes at most
+     * ROLE_MEMBERS_PATCH_BATCH_SIZE members. The added members of a batch are sent in a single add operation, while
+     * each removed member is sent in a remove operation filtered by the member ID.
+     *
+     * @param memberChanges The member changes of the role.
+     * @return The batches of patch operations.
+     */
+    static List<List<PatchOperation>> getRoleMembersPatchBatches(RoleMemberChanges... memberChanges) {
+
+        List<List<PatchOperation>> batches = new ArrayList<>();
+        List<PatchOperation> batch = new ArrayList<>();
+        int batchSize = 0;
+        for (RoleMemberChanges changes : memberChanges) {
+            for (boolean add : new boolean[]{false, true}) {
+                List<String> memberIds = changes.getMemberIds(add);
+                int start = 0;
+                while (start < memberIds.size()) {
+                    int end = Math.min(memberIds.size(), start + ROLE_MEMBERS_PATCH_BATCH_SIZE - batchSize);
+                    List<String> batchMemberIds = memberIds.subList(start, end);
+                    if (add) {
+                        batch.add(new PatchOperation(PATCH_OP_ADD, changes.path, new ArrayList<>(batchMemberIds)));
+                    } else {
+                        for (String memberId : batchMemberIds) {
+                            batch.add(new PatchOperation(PATCH_OP_REMOVE,
+                                    String.format(MEMBER_PATH_FILTER, changes.path, memberId)));
+                        }
+                    }
+                    batchSize += batchMemberIds.size();
+                    start = end;
+                    if (batchSize == ROLE_MEMBERS_PATCH_BATCH_SIZE) {
+                        batches.add(batch);
+                        batch = new ArrayList<>();
+                        batchSize = 0;
+                    }
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * Register an asynchronous operation for the member changes of a role and apply the batches of the changes in
+     * the background.
+     *
+     * @param organizationId The ID of the organization.
+     * @param roleId         The ID of the role.
+     * @param batches        The batches of patch operations.
+     * @return The ID of the asynchronous operation.
+     */
+    private String submitRoleMembersPatch(String organizationId, String roleId, List<List<PatchOperation>> batches) {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String operationId;
+        try {
+            operationId = AsyncOperationStatusMgtServiceHolder.getAsyncOperationStatusMgtService()
+                    .registerOperationStatus(new OperationInitDTO(Util.getCorrelation(),
+                            ROLE_MEMBERS_PATCH_OPERATION_TYPE, ROLE_MEMBERS_PATCH_SUBJECT_TYPE, roleId,
+                            carbonContext.getOrganizationId(), carbonContext.getUserId(), null), false);
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error while registering the member changes of the role: " + roleId, e);
+            RoleManagementEndpointConstants.ErrorMessage error =
+                    RoleManagementEndpointConstants.ErrorMessage.ERROR_CODE_ERROR_SUBMITTING_ROLE_MEMBERS_PATCH;
+            throw new RoleManagementEndpointException(Response.Status.INTERNAL_SERVER_ERROR,
+                    RoleManagementEndpointUtils.getError(error.getCode(), error.getMessage(),
+                            String.format(error.getDescription(), roleId)));
+        }
+
+        try {
+            ROLE_MEMBERS_PATCH_EXECUTOR.submit(() -> {
+                applyRoleMembersPatch(operationId, organizationId, roleId, batches);
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            updateOperationStatus(operationId, OperationStatus.FAILED);
+            RoleManagementEndpointConstants.ErrorMessage error =
+                    RoleManagementEndpointConstants.ErrorMessage.ERROR_CODE_TOO_MANY_ROLE_MEMBERS_PATCHES;
+            throw new RoleManagementEndpointException(Response.Status.SERVICE_UNAVAILABLE,
+                    RoleManagementEndpointUtils.getError(error.getCode(), error.getMessage(),
+                            error.getDescription()));
+        }
+        return operationId;
+    }
+
+    private void applyRoleMembersPatch(String operationId, String organizationId, String roleId,
+                                       List<List<PatchOperation>> batches) {
+
+        int appliedBatches = 0;
+        try {
+            for (List<PatchOperation> batch : batches) {
+                roleManager.patchRole(organizationId, roleId, batch);
+                appliedBatches++;
+                registerUnitOperation(operationId, organizationId, roleId, OperationStatus.SUCCESS,
+                        String.format(BATCH_APPLIED_MESSAGE, appliedBatches, batches.size()));
+            }
+            updateOperationStatus(operationId, OperationStatus.SUCCESS);
+        } catch (OrganizationManagementException | RuntimeException e) {
+            LOG.error("Error while applying batch " + (appliedBatches + 1) + " of " + batches.size() +
+                    " of the member changes of the role: " + roleId + " in operation: " + operationId, e);
+            registerUnitOperation(operationId, organizationId, roleId, OperationStatus.FAILED, e.getMessage());
+            updateOperationStatus(operationId,
+                    appliedBatches > 0 ? OperationStatus.PARTIALLY_COMPLETED : OperationStatus.FAILED);
+        }
+    }
+
+    private static void registerUnitOperation(String operationId, String organizationId, String roleId,
+                                              OperationStatus status, String statusMessage) {
+
+        try {
+            AsyncOperationStatusMgtServiceHolder.getAsyncOperationStatusMgtService().registerBatchOfUnitOperations(
+                    Collections.singletonList(new UnitOperationInitDTO(operationId, roleId, organizationId, status,
+                            statusMessage)));
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error while reporting the progress of the member changes of operation: " + operationId, e);
+        }
+    }
+
+    private static void updateOperationStatus(String operationId, OperationStatus status) {
+
+        try {
+            AsyncOperationStatusMgtServiceHolder.getAsyncOperationStatusMgtService()
+                    .updateOperationStatus(operationId, status);
+        } catch (AsyncOperationStatusMgtException e) {
+            LOG.error("Error while updating the status of the member changes of operation: " + operationId, e);
+        }
+    }
+
     /**
      * @param count The param for desired maximum number of query results per page.
      * @return The count.
@@ -542,4 +983,58 @@ public class RoleManagementService {
         }
         return count;
     }
+
+    /**
+     * Member changes of a role for a member type, where only the last requested change of each member is kept.
+     */
+    static class RoleMemberChanges {
+
+        private final String path;
+        // Whether each member is to be added or removed, in the order in which the members are first requested.
+        private final Map<String, Boolean> changes = new LinkedHashMap<>();
+        // Number of requested changes of the members which are requested again later in the request.
+        private int duplicates;
+        // Number of members whose last requested change does not change the role.
+        private int unchanged;
+
+        RoleMemberChanges(String path) {
+
+            this.path = path;
+        }
+
+        void request(String memberId, boolean add) {
+
+            if (changes.put(memberId, add) != null) {
+                duplicates++;
+            }
+        }
+
+        /**
+         * Drop the additions of the existing members and the removals of the members which are not assigned.
+         *
+         * @param memberIds IDs of the current members of the role.
+         */
+        void dropUnchanged(Set<String> memberIds) {
+
+            int requestedMembers = changes.size();
+            changes.entrySet().removeIf(change -> change.getValue() == memberIds.contains(change.getKey()));
+            unchanged += requestedMembers - changes.size();
+        }
+
+        List<String> getMemberIds(boolean add) {
+
+            return changes.entrySet().stream().filter(change -> change.getValue() == add).map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+        }
+
+        int getDuplicates() {
+
+            return duplicates;
+        }
+
+        int getUnchanged() {
+
+            return unchanged;
+        }
+    }
 }
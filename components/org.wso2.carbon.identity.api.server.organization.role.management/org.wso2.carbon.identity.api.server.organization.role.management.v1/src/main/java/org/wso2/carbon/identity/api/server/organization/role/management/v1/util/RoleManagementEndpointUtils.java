@@ -144,6 +144,31 @@ public class RoleManagementEndpointUtils {
         }
     }
 
+    /**
+     * Get the URI prefix of the resources of a type inside an organization. The URI of a resource is the prefix
+     * followed by the id of the resource, so the URIs of many resources are built without building each URI.
+     * Ex: https://localhost:9443/o/{root-org-id}/api/server/v1/organizations/{organization-id}/users/
+     *
+     * @param organizationId The organization ID.
+     * @param resourcePath   The path for the resources.
+     * @param errorMessage   The error message specific to the resources.
+     * @return The URI prefix, ending with the path separator.
+     */
+    public static String getUriPrefix(String organizationId, String resourcePath, ErrorMessages errorMessage) {
+
+        String endpoint = SERVER_API_PATH_COMPONENT + V1_API_PATH_COMPONENT + PATH_SEPARATOR + ORGANIZATION_PATH +
+                PATH_SEPARATOR + organizationId + PATH_SEPARATOR + resourcePath;
+        try {
+            return ServiceURLBuilder.create().addPath(endpoint).build().getAbsolutePublicURL() + PATH_SEPARATOR;
+        } catch (URLBuilderException e) {
+            Error error = getError(errorMessage.getCode(), errorMessage.getMessage(),
+                    String.format(errorMessage.getDescription(), organizationId));
+            LOG.error("Server encountered an error while building URL for " + resourcePath + " of organization: " +
+                    organizationId);
+            throw new RoleManagementEndpointException(Response.Status.INTERNAL_SERVER_ERROR, error);
+        }
+    }
+
     /**
      * Get the SCIM2 URI from context.
      *
@@ -165,6 +190,27 @@ public class RoleManagementEndpointUtils {
         }
     }
 
+    /**
+     * Get the SCIM2 URI prefix of the resources of a type. The SCIM2 URI of a resource is the prefix followed by the
+     * id of the resource.
+     * Ex: https://localhost:9443/o/{organization-id}/scim2/Users/
+     *
+     * @param resourcePath The path for the resources.
+     * @param errorMessage The error message specific to the resources.
+     * @return The SCIM2 URI prefix, ending with the path separator.
+     */
+    public static String getSCIM2UriPrefix(String resourcePath, ErrorMessages errorMessage) {
+
+        String endpoint = SCIM2_API_PATH_COMPONENT + PATH_SEPARATOR + resourcePath;
+        try {
+            return ServiceURLBuilder.create().addPath(endpoint).build().getAbsolutePublicURL() + PATH_SEPARATOR;
+        } catch (URLBuilderException e) {
+            Error error = getError(errorMessage.getCode(), errorMessage.getMessage(),
+                    String.format(errorMessage.getDescription(), resourcePath));
+            throw new RoleManagementEndpointException(Response.Status.INTERNAL_SERVER_ERROR, error);
+        }
+    }
+
     /**
      * Checks the exception key code and returns true if it is a conflict error.
      *
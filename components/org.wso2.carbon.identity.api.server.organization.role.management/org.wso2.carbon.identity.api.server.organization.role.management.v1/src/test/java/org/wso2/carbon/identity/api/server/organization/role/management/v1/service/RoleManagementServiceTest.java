@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.organization.role.management.v1.service;
+
+import org.apache.commons.lang3.StringUtils;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.api.server.common.KeysetCursor;
+import org.wso2.carbon.identity.api.server.common.KeysetPage;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.exception.RoleManagementEndpointException;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleMembersPatchOperation;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleMembersPatchRequest;
+import org.wso2.carbon.identity.api.server.organization.role.management.v1.model.RoleMembersPatchResponse;
+import org.wso2.carbon.identity.organization.management.role.management.service.RoleManager;
+import org.wso2.carbon.identity.organization.management.role.management.service.models.Group;
+import org.wso2.carbon.identity.organization.management.role.management.service.models.PatchOperation;
+import org.wso2.carbon.identity.organization.management.role.management.service.models.Role;
+import org.wso2.carbon.identity.organization.management.role.management.service.models.User;
+import org.wso2.carbon.identity.organization.management.service.OrganizationUserResidentResolverService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+import javax.ws.rs.core.Response;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_ATTRIBUTE_DISPLAY_NAME;
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_ATTRIBUTE_GROUPS;
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_ATTRIBUTE_ID;
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_ATTRIBUTE_META;
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_ATTRIBUTE_PERMISSIONS;
+import static org.wso2.carbon.identity.api.server.organization.role.management.v1.constant.RoleManagementEndpointConstants.ROLE_ATTRIBUTE_USERS;
+import static org.wso2.carbon.identity.organization.management.service.constant.OrganizationManagementConstants.PATCH_OP_ADD;
+
+/**
+ * Test class for RoleManagementService.
+ */
+public class RoleManagementServiceTest {
+
+    private static final int MEMBER_COUNT = 60;
+    private static final int BATCH_SIZE = 500;
+    private static final String ORGANIZATION_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
+    private static final String ROLE_ID = "4b5c8a1e-6d2f-4e3a-9b7c-0f1e2d3c4b5a";
+
+    @DataProvider(name = "pageSizes")
+    public Object[][] pageSizes() {
+
+        return new Object[][]{{1}, {3}, {7}, {MEMBER_COUNT - 1}, {MEMBER_COUNT}, {MEMBER_COUNT + 1}};
+    }
+
+    @Test(dataProvider = "pageSizes")
+    public void testMembersPagesAreContinuousWithTiedDisplayNames(int pageSize) {
+
+        List<String[]> members = buildMembers();
+
+        List<String> pagedIds = new ArrayList<>();
+        String cursor = null;
+        KeysetPage<String[]> page;
+        do {
+            page = RoleManagementService.getMembersPage(members, member -> member[0], member -> member[1], pageSize,
+                    cursor);
+            List<String[]> pageMembers = page.getItems();
+            assertTrue(pageMembers.size() <= pageSize);
+            for (String[] member : pageMembers) {
+                pagedIds.add(member[1]);
+            }
+            if (page.hasNext()) {
+                // The cursor is built from the display name of the last member as it is, like the listing does.
+                String[] lastMember = pageMembers.get(pageMembers.size() - 1);
+                cursor = KeysetCursor.encode(lastMember[0], lastMember[1]);
+            }
+        } while (page.hasNext());
+
+        assertEquals(pagedIds, getSortedIds(members));
+    }
+
+    @Test
+    public void testMembersPageAfterLastMemberIsEmpty() {
+
+        List<String[]> members = buildMembers();
+        List<String> sortedIds = getSortedIds(members);
+        String[] lastMember = members.stream().filter(member -> member[1].equals(sortedIds.get(MEMBER_COUNT - 1)))
+                .findFirst().orElseThrow(IllegalStateException::new);
+
+        KeysetPage<String[]> page = RoleManagementService.getMembersPage(members, member -> member[0],
+                member -> member[1], 10, KeysetCursor.encode(lastMember[0], lastMember[1]));
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    public void testInvalidMembersCursorIsRejected() {
+
+        RoleManagementEndpointException exception = expectThrows(RoleManagementEndpointException.class,
+                () -> RoleManagementService.getMembersPage(buildMembers(), member -> member[0], member -> member[1],
+                        10, "not a cursor"));
+        assertEquals(exception.getResponse().getStatus(), 400);
+    }
+
+    @DataProvider(name = "requestedAttributes")
+    public Object[][] requestedAttributes() {
+
+        return new Object[][]{
+                {null, null, Arrays.asList(ROLE_ATTRIBUTE_ID, ROLE_ATTRIBUTE_DISPLAY_NAME, ROLE_ATTRIBUTE_META,
+                        ROLE_ATTRIBUTE_USERS, ROLE_ATTRIBUTE_GROUPS, ROLE_ATTRIBUTE_PERMISSIONS)},
+                {"users", null, Arrays.asList(ROLE_ATTRIBUTE_ID, ROLE_ATTRIBUTE_USERS)},
+                {"DisplayName, PERMISSIONS,", " ", Arrays.asList(ROLE_ATTRIBUTE_ID, ROLE_ATTRIBUTE_DISPLAY_NAME,
+                        ROLE_ATTRIBUTE_PERMISSIONS)},
+                {null, "Users, groups", Arrays.asList(ROLE_ATTRIBUTE_ID, ROLE_ATTRIBUTE_DISPLAY_NAME,
+                        ROLE_ATTRIBUTE_META, ROLE_ATTRIBUTE_PERMISSIONS)},
+                {"users,groups,meta", "groups", Arrays.asList(ROLE_ATTRIBUTE_ID, ROLE_ATTRIBUTE_META,
+                        ROLE_ATTRIBUTE_USERS)},
+                // The id of the role is always returned.
+                {"meta", "id", Arrays.asList(ROLE_ATTRIBUTE_ID, ROLE_ATTRIBUTE_META)},
+                {"unknown", null, Arrays.asList(ROLE_ATTRIBUTE_ID)}
+        };
+    }
+
+    @Test(dataProvider = "requestedAttributes")
+    public void testRequestedAttributes(String attributes, String excludedAttributes, List<String> expected) {
+
+        assertEquals(RoleManagementService.getRequestedAttributes(attributes, excludedAttributes),
+                new HashSet<>(expected));
+    }
+
+    @Test
+    public void testLastRequestedChangeOfMemberIsKept() {
+
+        RoleManagementService.RoleMemberChanges changes =
+                new RoleManagementService.RoleMemberChanges(RoleManagementEndpointConstants.USER_PATH);
+        changes.request("u1", true);
+        changes.request("u2", false);
+        changes.request("u1", false);
+        changes.request("u3", true);
+        changes.request("u1", true);
+        changes.request("u2", false);
+
+        assertEquals(changes.getMemberIds(true), Arrays.asList("u1", "u3"));
+        assertEquals(changes.getMemberIds(false), Arrays.asList("u2"));
+        assertEquals(changes.getDuplicates(), 3);
+        assertEquals(changes.getUnchanged(), 0);
+    }
+
+    @Test
+    public void testChangesWhichDoNotChangeRoleAreDropped() {
+
+        RoleManagementService.RoleMemberChanges changes =
+                new RoleManagementService.RoleMemberChanges(RoleManagementEndpointConstants.USER_PATH);
+        changes.request("member-added", true);
+        changes.request("member-removed", false);
+        changes.request("new-added", true);
+        changes.request("new-removed", false);
+        // The last change of a member decides whether it changes the role.
+        changes.request("member-readded", false);
+        changes.request("member-readded", true);
+
+        changes.dropUnchanged(new HashSet<>(Arrays.asList("member-added", "member-removed", "member-readded")));
+
+        assertEquals(changes.getMemberIds(true), Arrays.asList("new-added"));
+        assertEquals(changes.getMemberIds(false), Arrays.asList("member-removed"));
+        assertEquals(changes.getUnchanged(), 3);
+        assertEquals(changes.getDuplicates(), 1);
+    }
+
+    @DataProvider(name = "memberChangeCounts")
+    public Object[][] memberChangeCounts() {
+
+        // Removed users, added users, removed groups, added groups and the expected members of each batch.
+        return new Object[][]{
+                {0, 0, 0, 0, new int[]{}},
+                {BATCH_SIZE - 1, 0, 0, 0, new int[]{BATCH_SIZE - 1}},
+                {BATCH_SIZE, 0, 0, 0, new int[]{BATCH_SIZE}},
+                {BATCH_SIZE + 1, 0, 0, 0, new int[]{BATCH_SIZE, 1}},
+                {0, 2 * BATCH_SIZE, 0, 0, new int[]{BATCH_SIZE, BATCH_SIZE}},
+                {0, 2 * BATCH_SIZE + 1, 0, 0, new int[]{BATCH_SIZE, BATCH_SIZE, 1}},
+                {BATCH_SIZE - 1, 2, 0, 0, new int[]{BATCH_SIZE, 1}},
+                {300, 0, 0, 300, new int[]{BATCH_SIZE, 100}},
+                {0, BATCH_SIZE, 1, 0, new int[]{BATCH_SIZE, 1}},
+                {250, 250, 250, 250, new int[]{BATCH_SIZE, BATCH_SIZE}},
+                {1, 1, 1, 1200, new int[]{BATCH_SIZE, BATCH_SIZE, 203}}
+        };
+    }
+
+    @Test(dataProvider = "memberChangeCounts")
+    public void testMemberChangesAreSplitIntoBatches(int removedUsers, int addedUsers, int removedGroups,
+                                                     int addedGroups, int[] expectedBatchSizes) {
+
+        RoleManagementService.RoleMemberChanges userChanges =
+                new RoleManagementService.RoleMemberChanges(RoleManagementEndpointConstants.USER_PATH);
+        RoleManagementService.RoleMemberChanges groupChanges =
+                new RoleManagementService.RoleMemberChanges(RoleManagementEndpointConstants.GROUP_PATH);
+        List<String> expectedChanges = new ArrayList<>();
+        requestChanges(userChanges, RoleManagementEndpointConstants.USER_PATH, removedUsers, false,
+                expectedChanges);
+        requestChanges(userChanges, RoleManagementEndpointConstants.USER_PATH, addedUsers, true, expectedChanges);
+        requestChanges(groupChanges, RoleManagementEndpointConstants.GROUP_PATH, removedGroups, false,
+                expectedChanges);
+        requestChanges(groupChanges, RoleManagementEndpointConstants.GROUP_PATH, addedGroups, true,
+                expectedChanges);
+
+        List<List<PatchOperation>> batches = RoleManagementService.getRoleMembersPatchBatches(userChanges,
+                groupChanges);
+
+        int[] batchSizes = new int[batches.size()];
+        List<String> appliedChanges = new ArrayList<>();
+        for (int i = 0; i < batches.size(); i++) {
+            for (PatchOperation operation : batches.get(i)) {
+                List<String> changes = toChanges(operation);
+                batchSizes[i] += changes.size();
+                appliedChanges.addAll(changes);
+            }
+        }
+        assertEquals(batchSizes, expectedBatchSizes);
+        // Each change is applied once, in the order of the removed and added users and groups.
+        assertEquals(appliedChanges, expectedChanges);
+    }
+
+    @Test
+    public void testPatchRoleMembersSummarizesCoalescedChanges() throws Exception {
+
+        Role role = new Role();
+        role.setUsers(Arrays.asList(new User("u1"), new User("u2")));
+        role.setGroups(Arrays.asList(new Group("g1")));
+        RoleManager roleManager = mock(RoleManager.class);
+        when(roleManager.getRoleById(ORGANIZATION_ID, ROLE_ID)).thenReturn(role);
+        RoleManagementService roleManagementService = new RoleManagementService(roleManager,
+                mock(OrganizationUserResidentResolverService.class));
+
+        RoleMembersPatchRequest request = new RoleMembersPatchRequest()
+                .addOperationsItem(buildOperation(RoleMembersPatchOperation.OpEnum.ADD,
+                        RoleMembersPatchOperation.PathEnum.USERS, "u1", "u3", " u3 ", "u4"))
+                .addOperationsItem(buildOperation(RoleMembersPatchOperation.OpEnum.REMOVE,
+                        RoleMembersPatchOperation.PathEnum.USERS, "u4", "u2", "u5"))
+                .addOperationsItem(buildOperation(RoleMembersPatchOperation.OpEnum.ADD,
+                        RoleMembersPatchOperation.PathEnum.GROUPS, "g1", "g2"));
+        Response response = roleManagementService.patchRoleMembers(ORGANIZATION_ID, ROLE_ID, request, false);
+
+        assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        RoleMembersPatchResponse summary = (RoleMembersPatchResponse) response.getEntity();
+        assertEquals(summary.getAddedUsers().intValue(), 1);
+        assertEquals(summary.getRemovedUsers().intValue(), 1);
+        assertEquals(summary.getAddedGroups().intValue(), 1);
+        assertEquals(summary.getRemovedGroups().intValue(), 0);
+        // u3 and u4 are requested twice. u1 and g1 are already assigned, and u4 and u5 are not assigned.
+        assertEquals(summary.getDuplicateMembers().intValue(), 2);
+        assertEquals(summary.getUnchangedMembers().intValue(), 4);
+        assertEquals(summary.getBatches().intValue(), 1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PatchOperation>> batch = ArgumentCaptor.forClass(List.class);
+        verify(roleManager).patchRole(eq(ORGANIZATION_ID), eq(ROLE_ID), batch.capture());
+        List<String> appliedChanges = new ArrayList<>();
+        for (PatchOperation operation : batch.getValue()) {
+            appliedChanges.addAll(toChanges(operation));
+        }
+        assertEquals(appliedChanges, Arrays.asList("remove users u2", "add users u3", "add groups g2"));
+    }
+
+    @Test
+    public void testPatchRoleMembersWithoutChangesDoesNotPatchRole() throws Exception {
+
+        Role role = new Role();
+        role.setUsers(Arrays.asList(new User("u1")));
+        RoleManager roleManager = mock(RoleManager.class);
+        when(roleManager.getRoleById(ORGANIZATION_ID, ROLE_ID)).thenReturn(role);
+        RoleManagementService roleManagementService = new RoleManagementService(roleManager,
+                mock(OrganizationUserResidentResolverService.class));
+
+        RoleMembersPatchRequest request = new RoleMembersPatchRequest()
+                .addOperationsItem(buildOperation(RoleMembersPatchOperation.OpEnum.ADD,
+                        RoleMembersPatchOperation.PathEnum.USERS, "u1", "u1"))
+                .addOperationsItem(buildOperation(RoleMembersPatchOperation.OpEnum.REMOVE,
+                        RoleMembersPatchOperation.PathEnum.GROUPS, "g1"));
+        Response response = roleManagementService.patchRoleMembers(ORGANIZATION_ID, ROLE_ID, request, true);
+
+        assertEquals(response.getStatus(), Response.Status.OK.getStatusCode());
+        RoleMembersPatchResponse summary = (RoleMembersPatchResponse) response.getEntity();
+        assertEquals(summary.getDuplicateMembers().intValue(), 1);
+        assertEquals(summary.getUnchangedMembers().intValue(), 2);
+        assertEquals(summary.getBatches().intValue(), 0);
+        verify(roleManager, never()).patchRole(anyString(), anyString(), anyList());
+    }
+
+    /**
+     * Build the members of a role as pairs of a display name and an id. Most of the display names are shared by
+     * several members, some members have no display name, and the ids are not in the order of the members.
+     */
+    private static List<String[]> buildMembers() {
+
+        List<String[]> members = new ArrayList<>(MEMBER_COUNT);
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            String displayName = i % 5 == 0 ? null : "member-" + i % 3;
+            members.add(new String[]{displayName, String.format("%02d", i * 37 % MEMBER_COUNT)});
+        }
+        return members;
+    }
+
+    private static List<String> getSortedIds(List<String[]> members) {
+
+        List<String[]> sortedMembers = new ArrayList<>(members);
+        sortedMembers.sort(Comparator.<String[], String>comparing(member -> StringUtils.defaultString(member[0]))
+                .thenComparing(member -> member[1]));
+        List<String> sortedIds = new ArrayList<>(MEMBER_COUNT);
+        for (String[] member : sortedMembers) {
+            sortedIds.add(member[1]);
+        }
+        return sortedIds;
+    }
+
+    private static void requestChanges(RoleManagementService.RoleMemberChanges changes, String path, int count,
+                                       boolean add, List<String> expectedChanges) {
+
+        String memberIdPrefix = (add ? "added-" : "removed-") + path + "-";
+        for (int i = 0; i < count; i++) {
+            changes.request(memberIdPrefix + i, add);
+            expectedChanges.add((add ? "add " : "remove ") + path + " " + memberIdPrefix + i);
+        }
+    }
+
+    /**
+     * Describe the member changes of a patch operation. A remove operation removes the member of its path filter,
+     * while an add operation adds all its values.
+     */
+    private static List<String> toChanges(PatchOperation operation) {
+
+        List<String> changes = new ArrayList<>();
+        if (PATCH_OP_ADD.equalsIgnoreCase(operation.getOp())) {
+            for (String memberId : operation.getValues()) {
+                changes.add("add " + operation.getPath() + " " + memberId);
+            }
+            return changes;
+        }
+        String path = operation.getPath();
+        String memberPath = path.substring(0, path.indexOf('['));
+        String memberId = path.substring(path.indexOf(" eq ") + 4, path.length() - 1);
+        changes.add("remove " + memberPath + " " + memberId);
+        return changes;
+    }
+
+    private static RoleMembersPatchOperation buildOperation(RoleMembersPatchOperation.OpEnum op,
+                                                            RoleMembersPatchOperation.PathEnum path,
+                                                            String... memberIds) {
+
+        return new RoleMembersPatchOperation().op(op).path(path).value(Arrays.asList(memberIds));
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
 import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
@@ -350,14 +351,13 @@ public class ServerScriptLibrariesService {
         ScriptLibraryListResponse scriptLibraryListResponse = new ScriptLibraryListResponse();
         if (CollectionUtils.isNotEmpty(scriptLibraries)) {
             List<ScriptLibrary> scriptLibraryItem = new ArrayList<>();
+            ResourceLinkBuilder scriptLibraryLinkBuilder = new ResourceLinkBuilder(V1_API_PATH_COMPONENT +
+                    SCRIPT_LIBRARY_PATH_COMPONENT);
             for (FunctionLibrary functionLibrary : scriptLibraries) {
                 ScriptLibrary scriptLibrary = new ScriptLibrary();
                 scriptLibrary.setName(functionLibrary.getFunctionLibraryName());
                 scriptLibrary.setDescription(functionLibrary.getDescription());
-                scriptLibrary.setSelf(
-                        ContextLoader.buildURIForBody(
-                                String.format(V1_API_PATH_COMPONENT + SCRIPT_LIBRARY_PATH_COMPONENT + "/%s",
-                                        functionLibrary.getFunctionLibraryName())).toString());
+                scriptLibrary.setSelf(scriptLibraryLinkBuilder.build(functionLibrary.getFunctionLibraryName()));
                 scriptLibraryItem.add(scriptLibrary);
             }
             scriptLibraryListResponse.setScriptLibraries(scriptLibraryItem.subList(
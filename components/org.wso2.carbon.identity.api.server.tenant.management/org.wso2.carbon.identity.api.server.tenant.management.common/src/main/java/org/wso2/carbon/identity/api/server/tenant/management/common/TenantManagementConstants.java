@@ -35,6 +35,20 @@ public class TenantManagementConstants {
     public static final String PAGE_LINK_REL_PREVIOUS = "previous";
     public static final String NON_EXISTING_USER_CODE = "30007 - ";
 
+    // Tenant cursor pagination constants.
+    public static final String SORT_BY_CREATED_DATE = "createdDate";
+    public static final String SORT_ORDER_DESC = "desc";
+    public static final String OWNERS_ATTRIBUTE = "owners";
+    public static final int DEFAULT_CURSOR_PAGINATION_LIMIT = 10;
+    public static final String CURSOR_PAGINATION_LINK_FORMAT = "?limit=%d&sortBy=" + SORT_BY_CREATED_DATE +
+            "&sortOrder=%s";
+    public static final String PAGINATION_FILTER_PARAM_FORMAT = "&filter=%s";
+    public static final String PAGINATION_ATTRIBUTES_PARAM_FORMAT = "&attributes=%s";
+    public static final String PAGINATION_AFTER_PARAM_FORMAT = "&after=%s";
+    public static final String PAGINATION_BEFORE_PARAM_FORMAT = "&before=%s";
+    public static final String TENANT_LIST_SNAPSHOT_TIMEOUT = "TenantManagement.ListSnapshotTimeout";
+    public static final long DEFAULT_TENANT_LIST_SNAPSHOT_TIMEOUT = 30;
+
     /**
      * Enum for error messages.
      */
@@ -52,6 +66,12 @@ public class TenantManagementConstants {
         ERROR_CODE_PARTIALLY_CREATED_OR_UPDATED("TM-60021",
                 "Tenant creation / update was completed with errors.",
                 "Tenant creation / update was completed with error: %s"),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETER("TM-60022",
+                "Invalid pagination parameters.",
+                "%s"),
+        ERROR_CODE_UNSUPPORTED_ATTRIBUTE("TM-60023",
+                "Unsupported attribute.",
+                "Attribute: %s is not supported. Only the owners attribute is supported."),
         ERROR_CODE_ERROR_LISTING_TENANTS("TM-65001",
                 "Unable to list existing tenants.",
                 "Server encountered an error while listing the tenants."),
@@ -253,9 +253,9 @@ public class TenantsApi  {
         @ApiResponse(code = 404, message = "The specified resource is not found", response = Error.class),
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response retrieveTenants(    @Valid @Min(0)@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved tenants should be sorted.", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. Currently sorting through <b>domainName</b> only supported.")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew' and 'eq' operations. Currently, filtering is supported only by the <b>domainName</b>. E.g. /tenants?filter=domainName+sw+wso2. ")  @QueryParam("filter") String filter) {
+    public Response retrieveTenants(    @Valid @Min(0)@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved tenants should be sorted.", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. Supports <b>domainName</b> and <b>createdDate</b>. Sorting through <b>createdDate</b> uses the cursor based pagination.")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew' and 'eq' operations. Currently, filtering is supported only by the <b>domainName</b>. E.g. /tenants?filter=domainName+sw+wso2. ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Cursor of the tenant after which the tenants should be listed, for the cursor based pagination.")  @QueryParam("after") String after,     @Valid@ApiParam(value = "Cursor of the tenant before which the tenants should be listed, for the cursor based pagination.")  @QueryParam("before") String before,     @Valid@ApiParam(value = "Comma separated list of the optional attributes to be returned. Only <b>owners</b> is supported. The cursor based pagination returns owners only when they are requested, while the offset based pagination returns owners by default.")  @QueryParam("attributes") String attributes) {
 
-        return delegate.retrieveTenants(limit,  offset,  sortOrder,  sortBy,  filter );
+        return delegate.retrieveTenants(limit,  offset,  sortOrder,  sortBy,  filter,  after,  before,  attributes );
     }
 
     @Valid
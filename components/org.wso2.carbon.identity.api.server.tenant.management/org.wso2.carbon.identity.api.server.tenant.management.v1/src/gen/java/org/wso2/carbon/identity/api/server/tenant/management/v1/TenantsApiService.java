@@ -41,7 +41,7 @@ public interface TenantsApiService {
 
       public Response isDomainExist(String tenantDomain);
 
-      public Response retrieveTenants(Integer limit, Integer offset, String sortOrder, String sortBy, String filter);
+      public Response retrieveTenants(Integer limit, Integer offset, String sortOrder, String sortBy, String filter, String after, String before, String attributes);
 
       public Response updateOwner(String tenantId, String ownerId, OwnerPutModel ownerPutModel);
 
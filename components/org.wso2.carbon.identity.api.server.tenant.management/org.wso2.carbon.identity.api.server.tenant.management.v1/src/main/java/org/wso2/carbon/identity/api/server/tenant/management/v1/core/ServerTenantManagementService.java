@@ -23,6 +23,8 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.TenantTtlCache;
+import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.tenant.management.common.TenantManagementConstants;
@@ -38,6 +40,7 @@ import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantMode
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantPutModel;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantResponseModel;
 import org.wso2.carbon.identity.api.server.tenant.management.v1.model.TenantsListResponse;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.recovery.IdentityRecoveryException;
 import org.wso2.carbon.identity.recovery.model.UserRecoveryData;
 import org.wso2.carbon.identity.recovery.store.JDBCRecoveryDataStore;
@@ -62,8 +65,10 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import javax.ws.rs.core.Response;
 
@@ -89,6 +94,15 @@ public class ServerTenantManagementService {
     private static final String INLINE_PASSWORD = "inline-password";
     private static final String CODE = "code";
     private static final String PURPOSE = "purpose";
+    private static final int TENANT_LIST_SNAPSHOT_LOAD_BATCH_SIZE = 1000;
+    private static final int TENANT_LIST_SNAPSHOT_LOAD_BATCH_OVERLAP = 100;
+    private static final String SORT_BY_DOMAIN_NAME = "domainName";
+    private static final String SORT_ORDER_ASC = "asc";
+    private static final int MAX_TENANT_LIST_SNAPSHOTS = 16;
+
+    // Snapshots of the tenants sorted for the cursor based pagination, keyed by the filter of the listing.
+    private final TenantTtlCache<TenantListSnapshot> tenantListSnapshots =
+            new TenantTtlCache<>(getTenantListSnapshotTimeoutMillis(), MAX_TENANT_LIST_SNAPSHOTS);
 
     public ServerTenantManagementService(TenantMgtService tenantMgtService, RealmService realmService) {
 
@@ -112,26 +126,39 @@ public class ServerTenantManagementService {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
                     .ERROR_CODE_ERROR_ADDING_TENANT, null);
         }
+        addToTenantListSnapshots(resourceId);
         return resourceId;
     }
 
     /**
      * Get tenant list.
+     * <p>
+     * Tenants are paginated with cursors when a cursor is given or when they are sorted by the created date. The
+     * cursor based pagination sorts the tenants by the created date and the unique id, and does not return the owners
+     * unless they are requested through the attributes. The offset based pagination returns the owners by default.
      *
-     * @param limit     Items per page.
-     * @param offset    Offset.
-     * @param filter    Filter string. E.g. filter="domainName" sw "wso2.com"
-     * @param sortBy    Attribute to sort the tenants by. E.g. domainName
-     * @param sortOrder Order in which tenants should be sorted. Can be either ASC or DESC.
+     * @param limit      Items per page.
+     * @param offset     Offset.
+     * @param filter     Filter string. E.g. filter="domainName" sw "wso2.com"
+     * @param sortBy     Attribute to sort the tenants by. E.g. domainName
+     * @param sortOrder  Order in which tenants should be sorted. Can be either ASC or DESC.
+     * @param after      Cursor of the tenant after which the tenants should be listed.
+     * @param before     Cursor of the tenant before which the tenants should be listed.
+     * @param attributes Optional attributes to be returned. E.g. owners
      * @return TenantsListResponse.
      */
     public TenantsListResponse listTenants(Integer limit, Integer offset, String sortOrder, String sortBy,
-                                           String filter) {
+                                           String filter, String after, String before, String attributes) {
 
+        if (StringUtils.isNotBlank(after) || StringUtils.isNotBlank(before) ||
+                TenantManagementConstants.SORT_BY_CREATED_DATE.equalsIgnoreCase(sortBy)) {
+            return listTenantsWithCursor(limit, offset, sortOrder, filter, after, before, attributes);
+        }
+        boolean includeOwners = isOwnersRequired(attributes, true);
         try {
             TenantSearchResult tenantSearchResult = tenantMgtService.listTenants(limit, offset, sortOrder, sortBy,
                     filter);
-            return createTenantListResponse(tenantSearchResult);
+            return createTenantListResponse(tenantSearchResult, includeOwners);
         } catch (TenantMgtException e) {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
                     .ERROR_CODE_ERROR_LISTING_TENANTS, null);
@@ -232,6 +259,7 @@ public class ServerTenantManagementService {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage.
                     ERROR_CODE_ERROR_UPDATING_OWNER, tenantUniqueID);
         }
+        updateInTenantListSnapshots(tenantUniqueID);
     }
 
     /**
@@ -247,6 +275,7 @@ public class ServerTenantManagementService {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage.
                     ERROR_CODE_DELETE_TENANT_METADATA, tenantUniqueID);
         }
+        tenantListSnapshots.updateAll((filter, snapshot) -> snapshot.withoutTenant(tenantUniqueID));
     }
 
     /**
@@ -269,6 +298,7 @@ public class ServerTenantManagementService {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage.
                     ERROR_CODE_UPDATE_LIFECYCLE_STATUS, String.valueOf(activated));
         }
+        updateInTenantListSnapshots(tenantUniqueID);
         return tenantUniqueID;
     }
 
@@ -404,12 +434,211 @@ public class ServerTenantManagementService {
         return claimsMapping;
     }
 
-    private TenantsListResponse createTenantListResponse(TenantSearchResult tenantSearchResult) {
+    private TenantsListResponse listTenantsWithCursor(Integer limit, Integer offset, String sortOrder, String filter,
+                                                      String after, String before, String attributes) {
+
+        if (offset != null && offset > 0) {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage
+                    .ERROR_CODE_INVALID_PAGINATION_PARAMETER,
+                    "Offset cannot be used with the cursor based pagination.");
+        }
+        if (StringUtils.isNotBlank(after) && StringUtils.isNotBlank(before)) {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage
+                    .ERROR_CODE_INVALID_PAGINATION_PARAMETER, "Both after and before cursors cannot be used together.");
+        }
+        if (limit != null && limit <= 0) {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage
+                    .ERROR_CODE_INVALID_PAGINATION_PARAMETER, "Limit should be a positive value.");
+        }
+        boolean includeOwners = isOwnersRequired(attributes, false);
+        int pageLimit = limit == null ? TenantManagementConstants.DEFAULT_CURSOR_PAGINATION_LIMIT :
+                Math.min(limit, IdentityUtil.getMaximumItemPerPage());
+        boolean descending = TenantManagementConstants.SORT_ORDER_DESC.equalsIgnoreCase(sortOrder);
+
+        TenantListSnapshot.Page page;
+        try {
+            page = getTenantListSnapshot(filter).getPage(after, before, pageLimit, descending);
+        } catch (IllegalArgumentException e) {
+            throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage
+                    .ERROR_CODE_INVALID_PAGINATION_PARAMETER, "Invalid pagination cursor.");
+        }
+
+        TenantsListResponse listResponse = new TenantsListResponse();
+        List<Tenant> tenants = page.getTenants();
+        if (!tenants.isEmpty()) {
+            List<TenantListItem> tenantListItems = getTenantListItems(tenants, includeOwners);
+            listResponse.setTenants(tenantListItems);
+            listResponse.setCount(tenantListItems.size());
+        } else {
+            listResponse.setCount(0);
+        }
+        listResponse.setTotalResults(page.getTotalResults());
+        listResponse.setStartIndex(page.getOffset() + 1);
+        listResponse.setLinks(createCursorLinks(page, pageLimit, descending, filter, attributes));
+        return listResponse;
+    }
+
+    /**
+     * Get the snapshot of the tenants which match the filter.
+     * <p>
+     * This is a stop-gap until the tenant manager supports a keyset query on the created date and the unique id. The
+     * tenant manager only lists the tenants by offset, so all the matching tenants are loaded into memory once per
+     * snapshot timeout, by a single request, and the pages are cut from the snapshot. Changes done through this
+     * service update the cached snapshots instead of dropping them, while the changes done elsewhere are seen after
+     * the snapshot timeout.
+     *
+     * @param filter Filter string.
+     * @return Snapshot of the tenants.
+     */
+    private TenantListSnapshot getTenantListSnapshot(String filter) {
+
+        return tenantListSnapshots.get(StringUtils.defaultString(filter),
+                () -> new TenantListSnapshot(loadTenants(filter)));
+    }
+
+    private void addToTenantListSnapshots(String tenantUniqueID) {
+
+        Tenant tenant = getTenantOfListSnapshots(tenantUniqueID);
+        // Filters are evaluated by the tenant store, so only the unfiltered snapshot is updated and the filtered
+        // snapshots are loaded again.
+        tenantListSnapshots.updateAll((filter, snapshot) -> tenant != null && filter.isEmpty() ?
+                snapshot.withAddedTenant(tenant) : null);
+    }
+
+    private void updateInTenantListSnapshots(String tenantUniqueID) {
+
+        Tenant tenant = getTenantOfListSnapshots(tenantUniqueID);
+        if (tenant == null) {
+            tenantListSnapshots.invalidateAll();
+            return;
+        }
+        // Tenants are filtered only by their domain, which is not changed by an update.
+        tenantListSnapshots.updateAll((filter, snapshot) -> snapshot.withUpdatedTenant(tenant));
+    }
+
+    private Tenant getTenantOfListSnapshots(String tenantUniqueID) {
+
+        try {
+            return tenantMgtService.getTenant(tenantUniqueID);
+        } catch (TenantMgtException e) {
+            log.warn("Error while retrieving the tenant: " + tenantUniqueID + " to update the tenant list snapshots. " +
+                    "The snapshots will be loaded again.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Load all the tenants which match the filter, in offset batches sorted by the domain name.
+     * <p>
+     * Each batch starts before the end of the previous batch, so a tenant is not skipped when up to the overlap of
+     * tenants before it are deleted while the tenants are being loaded. Tenants added while the tenants are being
+     * loaded only shift the batches forward, and the repeated tenants are dropped.
+     *
+     * @param filter Filter string.
+     * @return Tenants which match the filter.
+     */
+    private List<Tenant> loadTenants(String filter) {
+
+        // Keyed by the domain, so that a tenant is not repeated if the tenants are changed while being loaded.
+        Map<String, Tenant> tenants = new LinkedHashMap<>();
+        int offset = 0;
+        try {
+            while (true) {
+                TenantSearchResult tenantSearchResult = tenantMgtService.listTenants(
+                        TENANT_LIST_SNAPSHOT_LOAD_BATCH_SIZE, offset, SORT_ORDER_ASC, SORT_BY_DOMAIN_NAME, filter);
+                List<Tenant> tenantBatch = tenantSearchResult.getTenantList();
+                if (CollectionUtils.isEmpty(tenantBatch)) {
+                    break;
+                }
+                for (Tenant tenant : tenantBatch) {
+                    tenants.putIfAbsent(tenant.getDomain(), tenant);
+                }
+                if (tenantBatch.size() < TENANT_LIST_SNAPSHOT_LOAD_BATCH_SIZE ||
+                        offset + tenantBatch.size() >= tenantSearchResult.getTotalTenantCount()) {
+                    break;
+                }
+                offset += tenantBatch.size() - TENANT_LIST_SNAPSHOT_LOAD_BATCH_OVERLAP;
+            }
+        } catch (TenantMgtException e) {
+            throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
+                    .ERROR_CODE_ERROR_LISTING_TENANTS, null);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded a snapshot of " + tenants.size() + " tenants for the cursor based pagination.");
+        }
+        return new ArrayList<>(tenants.values());
+    }
+
+    private boolean isOwnersRequired(String attributes, boolean defaultValue) {
+
+        if (StringUtils.isBlank(attributes)) {
+            return defaultValue;
+        }
+        boolean ownersRequired = false;
+        for (String attribute : attributes.split(",")) {
+            attribute = attribute.trim();
+            if (TenantManagementConstants.OWNERS_ATTRIBUTE.equals(attribute)) {
+                ownersRequired = true;
+            } else if (StringUtils.isNotEmpty(attribute)) {
+                throw handleException(Response.Status.BAD_REQUEST, TenantManagementConstants.ErrorMessage
+                        .ERROR_CODE_UNSUPPORTED_ATTRIBUTE, attribute);
+            }
+        }
+        return ownersRequired;
+    }
+
+    private List<Link> createCursorLinks(TenantListSnapshot.Page page, int limit, boolean descending, String filter,
+                                         String attributes) {
+
+        List<Link> links = new ArrayList<>();
+        List<Tenant> tenants = page.getTenants();
+        if (tenants.isEmpty()) {
+            return links;
+        }
+
+        StringBuilder url = new StringBuilder(V1_API_PATH_COMPONENT + TENANT_MANAGEMENT_PATH_COMPONENT)
+                .append(String.format(TenantManagementConstants.CURSOR_PAGINATION_LINK_FORMAT, limit,
+                        descending ? TenantManagementConstants.SORT_ORDER_DESC : "asc"));
+        if (StringUtils.isNotBlank(filter)) {
+            url.append(String.format(TenantManagementConstants.PAGINATION_FILTER_PARAM_FORMAT, urlEncode(filter)));
+        }
+        if (StringUtils.isNotBlank(attributes)) {
+            url.append(String.format(TenantManagementConstants.PAGINATION_ATTRIBUTES_PARAM_FORMAT,
+                    urlEncode(attributes)));
+        }
+
+        if (page.hasNext()) {
+            String nextUrl = url + String.format(TenantManagementConstants.PAGINATION_AFTER_PARAM_FORMAT,
+                    TenantListSnapshot.encodeCursor(tenants.get(tenants.size() - 1)));
+            links.add(new Link().rel(TenantManagementConstants.PAGE_LINK_REL_NEXT)
+                    .href(ContextLoader.buildURIForBody(nextUrl).toString()));
+        }
+        if (page.hasPrevious()) {
+            String previousUrl = url + String.format(TenantManagementConstants.PAGINATION_BEFORE_PARAM_FORMAT,
+                    TenantListSnapshot.encodeCursor(tenants.get(0)));
+            links.add(new Link().rel(TenantManagementConstants.PAGE_LINK_REL_PREVIOUS)
+                    .href(ContextLoader.buildURIForBody(previousUrl).toString()));
+        }
+        return links;
+    }
+
+    private String urlEncode(String value) {
+
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, TenantManagementConstants.
+                    ErrorMessage.ERROR_CODE_BUILDING_LINKS, "Unable to url-encode: " + value);
+        }
+    }
+
+    private TenantsListResponse createTenantListResponse(TenantSearchResult tenantSearchResult,
+                                                         boolean includeOwners) {
 
         List<Tenant> tenants = tenantSearchResult.getTenantList();
         TenantsListResponse listResponse = new TenantsListResponse();
         if (CollectionUtils.isNotEmpty(tenants)) {
-            List<TenantListItem> tenantListItems = getTenantListItems(tenants);
+            List<TenantListItem> tenantListItems = getTenantListItems(tenants, includeOwners);
             listResponse.setTenants(tenantListItems);
             listResponse.setCount(tenantListItems.size());
         } else {
@@ -424,9 +653,9 @@ public class ServerTenantManagementService {
         return listResponse;
     }
 
-    private List<TenantListItem> getTenantListItems(List<Tenant> tenants) {
+    private List<TenantListItem> getTenantListItems(List<Tenant> tenants, boolean includeOwners) {
 
-        List<TenantListItem> tenantListItems = new ArrayList<>();
+        List<TenantListItem> tenantListItems = new ArrayList<>(tenants.size());
         for (Tenant tenant : tenants) {
             TenantListItem listItem = new TenantListItem();
             listItem.setLifecycleStatus(getLifeCycleStatus(tenant.isActive()));
@@ -434,7 +663,9 @@ public class ServerTenantManagementService {
             listItem.setDomain(tenant.getDomain());
             listItem.setName(tenant.getName());
             listItem.setId(tenant.getTenantUniqueID());
-            listItem.setOwners(getOwnerResponses(tenant));
+            if (includeOwners) {
+                listItem.setOwners(getOwnerResponses(tenant));
+            }
 
             tenantListItems.add(listItem);
         }
@@ -623,6 +854,7 @@ public class ServerTenantManagementService {
             throw handleTenantManagementException(e, TenantManagementConstants.ErrorMessage
                     .ERROR_CODE_ERROR_ADDING_TENANT, null);
         }
+        addToTenantListSnapshots(resourceId);
         return resourceId;
     }
 
@@ -712,6 +944,14 @@ public class ServerTenantManagementService {
 
         return tenant;
     }
+
+    private static long getTenantListSnapshotTimeoutMillis() {
+
+        return TimeUnit.SECONDS.toMillis(Util.getPositiveLongProperty(
+                TenantManagementConstants.TENANT_LIST_SNAPSHOT_TIMEOUT,
+                TenantManagementConstants.DEFAULT_TENANT_LIST_SNAPSHOT_TIMEOUT));
+    }
+
     /**
      * Convert {@link Date} instance to ISO-8601 format string.
      *
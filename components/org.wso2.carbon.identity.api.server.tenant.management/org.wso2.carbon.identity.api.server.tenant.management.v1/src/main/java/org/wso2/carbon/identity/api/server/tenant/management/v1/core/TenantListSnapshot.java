@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.tenant.management.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.api.server.common.KeysetCursor;
+import org.wso2.carbon.user.core.tenant.Tenant;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * In-memory snapshot of the tenants sorted by their created date and unique id, which are paginated with cursors.
+ * This is a stop-gap for the cursor based pagination until the tenant manager supports a keyset query, and it holds
+ * all the tenants of a listing.
+ * <p>
+ * A cursor holds the created date and the unique id of a tenant, so the tenants which share the same created date
+ * are neither skipped nor repeated across pages. A page is located with a binary search on the cursor of the
+ * snapshot. The snapshot must not be modified after it is built. A change to a tenant builds a new snapshot from the
+ * current one, so the tenants are not loaded again.
+ */
+class TenantListSnapshot {
+
+    private static final Comparator<Tenant> KEY_ORDER = Comparator.comparingLong(TenantListSnapshot::getCreatedTime)
+            .thenComparing(TenantListSnapshot::getUniqueId);
+
+    private final List<Tenant> tenants;
+
+    TenantListSnapshot(Collection<Tenant> tenants) {
+
+        List<Tenant> sortedTenants = new ArrayList<>(tenants);
+        sortedTenants.sort(KEY_ORDER);
+        this.tenants = Collections.unmodifiableList(sortedTenants);
+    }
+
+    private TenantListSnapshot(List<Tenant> sortedTenants) {
+
+        this.tenants = Collections.unmodifiableList(sortedTenants);
+    }
+
+    /**
+     * Build a snapshot with the given tenant added to the tenants of this snapshot. A tenant of the snapshot with the
+     * same unique id is replaced.
+     *
+     * @param tenant Tenant to be added.
+     * @return Snapshot with the tenant.
+     */
+    TenantListSnapshot withAddedTenant(Tenant tenant) {
+
+        List<Tenant> updatedTenants = new ArrayList<>(tenants.size() + 1);
+        for (Tenant snapshotTenant : tenants) {
+            if (!getUniqueId(snapshotTenant).equals(getUniqueId(tenant))) {
+                updatedTenants.add(snapshotTenant);
+            }
+        }
+        int index = Collections.binarySearch(updatedTenants, tenant, KEY_ORDER);
+        updatedTenants.add(index < 0 ? -index - 1 : index, tenant);
+        return new TenantListSnapshot(updatedTenants);
+    }
+
+    /**
+     * Build a snapshot with the given tenant replacing the tenant of the same unique id. The snapshot is returned as
+     * it is if the tenant is not in the snapshot, as the tenant may not match the filter of the snapshot.
+     *
+     * @param tenant Updated tenant.
+     * @return Snapshot with the updated tenant.
+     */
+    TenantListSnapshot withUpdatedTenant(Tenant tenant) {
+
+        for (Tenant snapshotTenant : tenants) {
+            if (getUniqueId(snapshotTenant).equals(getUniqueId(tenant))) {
+                return withAddedTenant(tenant);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Build a snapshot without the tenant of the given unique id.
+     *
+     * @param tenantUniqueId Unique id of the tenant to be removed.
+     * @return Snapshot without the tenant.
+     */
+    TenantListSnapshot withoutTenant(String tenantUniqueId) {
+
+        List<Tenant> updatedTenants = new ArrayList<>(tenants.size());
+        for (Tenant snapshotTenant : tenants) {
+            if (!getUniqueId(snapshotTenant).equals(tenantUniqueId)) {
+                updatedTenants.add(snapshotTenant);
+            }
+        }
+        return updatedTenants.size() == tenants.size() ? this : new TenantListSnapshot(updatedTenants);
+    }
+
+    /**
+     * Get a page of the tenants.
+     *
+     * @param after      Cursor of the tenant after which the page starts, or null.
+     * @param before     Cursor of the tenant before which the page ends, or null.
+     * @param limit      Maximum number of tenants in the page.
+     * @param descending Whether the tenants are listed from the latest created tenant.
+     * @return Page of the tenants.
+     * @throws IllegalArgumentException If a cursor is invalid.
+     */
+    Page getPage(String after, String before, int limit, boolean descending) {
+
+        int size = tenants.size();
+        int fromIndex;
+        int toIndex;
+        if (StringUtils.isNotBlank(before)) {
+            Key key = decodeCursor(before);
+            toIndex = descending ? size - upperBound(key) : lowerBound(key);
+            fromIndex = Math.max(toIndex - limit, 0);
+        } else {
+            if (StringUtils.isNotBlank(after)) {
+                Key key = decodeCursor(after);
+                fromIndex = descending ? size - lowerBound(key) : upperBound(key);
+            } else {
+                fromIndex = 0;
+            }
+            toIndex = (int) Math.min((long) fromIndex + limit, size);
+        }
+
+        List<Tenant> pageTenants = new ArrayList<>(toIndex - fromIndex);
+        for (int index = fromIndex; index < toIndex; index++) {
+            pageTenants.add(tenants.get(descending ? size - 1 - index : index));
+        }
+        return new Page(pageTenants, fromIndex, toIndex < size, size);
+    }
+
+    /**
+     * Build the cursor of a tenant.
+     *
+     * @param tenant Tenant.
+     * @return Cursor pointing to the tenant.
+     */
+    static String encodeCursor(Tenant tenant) {
+
+        return KeysetCursor.encode(String.valueOf(getCreatedTime(tenant)), getUniqueId(tenant));
+    }
+
+    private static Key decodeCursor(String cursor) {
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        try {
+            return new Key(Long.parseLong(keysetCursor.getSortKey()), keysetCursor.getId());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Get the index of the first tenant whose key is not less than the given key.
+     */
+    private int lowerBound(Key key) {
+
+        int low = 0;
+        int high = tenants.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (key.compareTo(tenants.get(mid)) > 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get the index of the first tenant whose key is greater than the given key.
+     */
+    private int upperBound(Key key) {
+
+        int low = 0;
+        int high = tenants.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (key.compareTo(tenants.get(mid)) >= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long getCreatedTime(Tenant tenant) {
+
+        return tenant.getCreatedDate() == null ? 0L : tenant.getCreatedDate().getTime();
+    }
+
+    private static String getUniqueId(Tenant tenant) {
+
+        return StringUtils.defaultString(tenant.getTenantUniqueID());
+    }
+
+    /**
+     * Created date and unique id decoded from a cursor.
+     */
+    private static class Key {
+
+        private final long createdTime;
+        private final String uniqueId;
+
+        Key(long createdTime, String uniqueId) {
+
+            this.createdTime = createdTime;
+            this.uniqueId = uniqueId;
+        }
+
+        int compareTo(Tenant tenant) {
+
+            int result = Long.compare(createdTime, getCreatedTime(tenant));
+            return result != 0 ? result : uniqueId.compareTo(getUniqueId(tenant));
+        }
+    }
+
+    /**
+     * Page of the tenants along with its position in the snapshot.
+     */
+    static class Page {
+
+        private final List<Tenant> tenants;
+        private final int offset;
+        private final boolean hasNext;
+        private final int totalResults;
+
+        Page(List<Tenant> tenants, int offset, boolean hasNext, int totalResults) {
+
+            this.tenants = tenants;
+            this.offset = offset;
+            this.hasNext = hasNext;
+            this.totalResults = totalResults;
+        }
+
+        List<Tenant> getTenants() {
+
+            return tenants;
+        }
+
+        int getOffset() {
+
+            return offset;
+        }
+
+        boolean hasPrevious() {
+
+            return offset > 0;
+        }
+
+        boolean hasNext() {
+
+            return hasNext;
+        }
+
+        int getTotalResults() {
+
+            return totalResults;
+        }
+    }
+}
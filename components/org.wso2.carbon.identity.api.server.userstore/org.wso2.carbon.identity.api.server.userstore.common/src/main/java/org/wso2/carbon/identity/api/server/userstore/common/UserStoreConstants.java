@@ -30,6 +30,34 @@ public class UserStoreConstants {
     public static final String USER_STORE_PROPERTIES = "/properties/";
     public static final String USER_STORE_PROPERTY_MASK = "************";
     public static final String CLAIM_MANAGEMENT_PREFIX = "CMT-";
+    public static final String CONNECTION_TEST_TIMEOUT = "UserStore.ConnectionTestTimeout";
+    public static final long DEFAULT_CONNECTION_TEST_TIMEOUT = 10;
+    public static final String CONNECTION_TEST_RESULT_CACHE_TIMEOUT = "UserStore.ConnectionTestResultCacheTimeout";
+    public static final long DEFAULT_CONNECTION_TEST_RESULT_CACHE_TIMEOUT = 30;
+    public static final String CLAIM_ATTRIBUTE_MAPPING_CACHE_TIMEOUT = "UserStore.ClaimAttributeMappingCacheTimeout";
+    public static final long DEFAULT_CLAIM_ATTRIBUTE_MAPPING_CACHE_TIMEOUT = 30;
+
+    /**
+     * Attributes which can be used to filter the user store list.
+     */
+    public static class FilterAttributes {
+
+        public static final String NAME = "name";
+        public static final String TYPE_NAME = "typeName";
+    }
+
+    /**
+     * Operations which can be used to filter the user store list.
+     */
+    public static class FilterOperations {
+
+        public static final String EQ = "eq";
+        public static final String SW = "sw";
+        public static final String EW = "ew";
+        public static final String CO = "co";
+        public static final String AND = "and";
+        public static final String OR = "or";
+    }
 
     /**
      * Enum for user store related errors in the format of
@@ -126,7 +154,12 @@ public class UserStoreConstants {
         ERROR_CODE_EMPTY_ATTRIBUTE_MAPPINGS("60014", "Attribute mapping not specified.",
                 "Attribute mapping cannot be empty."),
         ERROR_CODE_INVALID_USERSTORE_TYPE("60015", "UserStore type is not allowed",
-                "Requested UserStore type is not allowed", Response.Status.BAD_REQUEST);
+                "Requested UserStore type is not allowed", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETER("60016", "Invalid pagination parameters.",
+                "Limit and offset should not be negative.", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_FILTER("60017", "Invalid filter.",
+                "The filter '%s' is invalid. Filtering is supported on name and typeName with the eq, sw, ew and " +
+                        "co operations, combined with and or or.", Response.Status.BAD_REQUEST);
 
         private final String code;
         private final String message;
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Index of the attributes mapped to the local claims of a tenant, keyed by the user store domain and the claim URI.
+ * <p>
+ * The index is built with a single pass over the local claims, so the mappings of any user store can be listed
+ * without going through all the local claims again. User store domains are matched case insensitively.
+ */
+class ClaimAttributeMappingIndex {
+
+    private final Map<String, Map<String, String>> mappedAttributes = new HashMap<>();
+
+    ClaimAttributeMappingIndex(List<LocalClaim> localClaims) {
+
+        for (LocalClaim localClaim : localClaims) {
+            if (localClaim.getMappedAttributes() == null) {
+                continue;
+            }
+            for (AttributeMapping attributeMapping : localClaim.getMappedAttributes()) {
+                if (attributeMapping.getUserStoreDomain() == null) {
+                    continue;
+                }
+                mappedAttributes.computeIfAbsent(toKey(attributeMapping.getUserStoreDomain()),
+                        userStoreDomain -> new LinkedHashMap<>())
+                        .putIfAbsent(localClaim.getClaimURI(), attributeMapping.getAttributeName());
+            }
+        }
+    }
+
+    /**
+     * Get the attributes mapped to the local claims in a user store.
+     *
+     * @param userStoreDomain User store domain name.
+     * @return Mapped attributes keyed by the claim URI, in the order of the local claims.
+     */
+    Map<String, String> getMappedAttributes(String userStoreDomain) {
+
+        Map<String, String> userStoreAttributes = mappedAttributes.get(toKey(userStoreDomain));
+        return userStoreAttributes == null ? Collections.emptyMap() :
+                Collections.unmodifiableMap(userStoreAttributes);
+    }
+
+    /**
+     * Get the local claims whose attribute mapping in a user store differs from the indexed mapping.
+     *
+     * @param userStoreDomain User store domain name.
+     * @param localClaims     Local claims with the attribute mapping of the user store.
+     * @return Local claims whose mapping is changed.
+     */
+    List<LocalClaim> getChangedClaims(String userStoreDomain, List<LocalClaim> localClaims) {
+
+        Map<String, String> userStoreAttributes = getMappedAttributes(userStoreDomain);
+        List<LocalClaim> changedClaims = new ArrayList<>();
+        for (LocalClaim localClaim : localClaims) {
+            if (!userStoreAttributes.containsKey(localClaim.getClaimURI()) || !Objects.equals(
+                    userStoreAttributes.get(localClaim.getClaimURI()),
+                    localClaim.getMappedAttribute(userStoreDomain))) {
+                changedClaims.add(localClaim);
+            }
+        }
+        return changedClaims;
+    }
+
+    private static String toKey(String userStoreDomain) {
+
+        return userStoreDomain == null ? null : userStoreDomain.toUpperCase(Locale.ENGLISH);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.ContextAwareExecutor;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.RDBMSConnectionReq;
+import org.wso2.carbon.identity.user.store.configuration.UserStoreConfigService;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Tests the connections to the datasources of JDBC user stores without blocking the request thread for longer
+ * than the configured timeout.
+ * <p>
+ * Each connection test runs on a bounded pool of probe threads. A test which does not complete within the timeout
+ * is reported as a failed connection, while its probe keeps running until the driver gives up. At most a fixed
+ * number of probes run or wait at a time, and further tests fail immediately instead of waiting for a probe thread.
+ * A running probe is shared by the tests of the same connection, so repeated tests of an unreachable datasource do
+ * not start a new probe each time. A successful result is shared for a short while, while a failed connection is
+ * probed again by the next test.
+ */
+class RDBMSConnectionProbe {
+
+    private static final Log LOG = LogFactory.getLog(RDBMSConnectionProbe.class);
+
+    private static final String DUMMY_MESSAGE_ID = "DUMMY-MESSAGE-ID";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final char KEY_SEPARATOR = '\n';
+    private static final int PROBE_POOL_SIZE = 5;
+    private static final int PROBE_QUEUE_SIZE = 20;
+
+    private final UserStoreConfigService userStoreConfigService;
+    private final ContextAwareExecutor probeExecutor;
+    // Keeps the probes within the pool and its queue, so that a probe never runs on the request thread.
+    private final Semaphore probePermits;
+    private final Map<String, Probe> probes = new ConcurrentHashMap<>();
+    private final long timeoutMillis = getTimeoutMillis(UserStoreConstants.CONNECTION_TEST_TIMEOUT,
+            UserStoreConstants.DEFAULT_CONNECTION_TEST_TIMEOUT);
+    private final long resultCacheTimeoutMillis = getTimeoutMillis(
+            UserStoreConstants.CONNECTION_TEST_RESULT_CACHE_TIMEOUT,
+            UserStoreConstants.DEFAULT_CONNECTION_TEST_RESULT_CACHE_TIMEOUT);
+
+    RDBMSConnectionProbe(UserStoreConfigService userStoreConfigService) {
+
+        this(userStoreConfigService, PROBE_POOL_SIZE, PROBE_QUEUE_SIZE);
+    }
+
+    RDBMSConnectionProbe(UserStoreConfigService userStoreConfigService, int poolSize, int queueSize) {
+
+        this.userStoreConfigService = userStoreConfigService;
+        this.probeExecutor = new ContextAwareExecutor("UserStoreConnectionProbe", poolSize, queueSize);
+        this.probePermits = new Semaphore(poolSize + queueSize);
+    }
+
+    /**
+     * Test the connection to the datasource of a JDBC user store.
+     *
+     * @param rdBMSConnectionReq {@link RDBMSConnectionReq}.
+     * @return True if the connection was established within the timeout, false otherwise.
+     */
+    boolean testConnection(RDBMSConnectionReq rdBMSConnectionReq) {
+
+        long now = System.currentTimeMillis();
+        probes.values().removeIf(probe -> probe.isExpired(now));
+        Probe probe = probes.compute(buildProbeKey(rdBMSConnectionReq),
+                (key, existingProbe) -> existingProbe != null ? existingProbe : startProbe(rdBMSConnectionReq, now));
+        if (probe == null) {
+            LOG.warn("Too many user store connection tests are in progress. Failing the connection test of " +
+                    "the user store: " + rdBMSConnectionReq.getDomain());
+            return false;
+        }
+
+        try {
+            return probe.result.get(Math.max(probe.deadline - System.currentTimeMillis(), 0),
+                    TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Connection test of the user store: " + rdBMSConnectionReq.getDomain() + " did not " +
+                        "complete within " + timeoutMillis + " milliseconds.");
+            }
+        } catch (ExecutionException e) {
+            // Only the failures reported by the user store configuration service mean the connection failed.
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Error while testing the connection of the user store: " +
+                        rdBMSConnectionReq.getDomain(), e.getCause());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private Probe startProbe(RDBMSConnectionReq rdBMSConnectionReq, long startTime) {
+
+        if (!probePermits.tryAcquire()) {
+            return null;
+        }
+        Future<Boolean> result;
+        try {
+            result = probeExecutor.submit(() -> {
+                try {
+                    return userStoreConfigService.testRDBMSConnection(rdBMSConnectionReq.getDomain(),
+                            rdBMSConnectionReq.getDriverName(), rdBMSConnectionReq.getConnectionURL(),
+                            rdBMSConnectionReq.getUsername(), rdBMSConnectionReq.getConnectionPassword(),
+                            DUMMY_MESSAGE_ID);
+                } finally {
+                    probePermits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            probePermits.release();
+            throw e;
+        }
+        return new Probe(result, startTime + timeoutMillis, startTime + timeoutMillis + resultCacheTimeoutMillis);
+    }
+
+    /**
+     * Build the key of the probes which test the same connection. The password is only kept as a digest.
+     *
+     * @param rdBMSConnectionReq {@link RDBMSConnectionReq}.
+     * @return Probe key.
+     */
+    private static String buildProbeKey(RDBMSConnectionReq rdBMSConnectionReq) {
+
+        // The domain is part of the key, as the stored password of the domain is used when the password is masked.
+        return ContextLoader.getTenantDomainFromContext() + KEY_SEPARATOR + rdBMSConnectionReq.getDomain() +
+                KEY_SEPARATOR + rdBMSConnectionReq.getDriverName() + KEY_SEPARATOR +
+                rdBMSConnectionReq.getConnectionURL() + KEY_SEPARATOR + rdBMSConnectionReq.getUsername() +
+                KEY_SEPARATOR + digest(rdBMSConnectionReq.getConnectionPassword());
+    }
+
+    private static String digest(String value) {
+
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(StringUtils.defaultString(value).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Error while computing the digest of the connection password.", e);
+        }
+    }
+
+    private static long getTimeoutMillis(String property, long defaultTimeout) {
+
+        return TimeUnit.SECONDS.toMillis(Util.getPositiveLongProperty(property, defaultTimeout));
+    }
+
+    /**
+     * Connection test running or completed on a probe thread.
+     */
+    private static class Probe {
+
+        private final Future<Boolean> result;
+        private final long deadline;
+        private final long expiryTime;
+
+        Probe(Future<Boolean> result, long deadline, long expiryTime) {
+
+            this.result = result;
+            this.deadline = deadline;
+            this.expiryTime = expiryTime;
+        }
+
+        /**
+         * Check whether the probe can no longer be shared. A running probe is shared until it expires, while a
+         * completed probe is shared only if the connection was established.
+         *
+         * @param now Current time in milliseconds.
+         * @return True if the probe is expired.
+         */
+        boolean isExpired(long now) {
+
+            if (expiryTime < now) {
+                return true;
+            }
+            if (!result.isDone()) {
+                return false;
+            }
+            try {
+                return !Boolean.TRUE.equals(result.get());
+            } catch (ExecutionException | CancellationException e) {
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return true;
+            }
+        }
+    }
+}
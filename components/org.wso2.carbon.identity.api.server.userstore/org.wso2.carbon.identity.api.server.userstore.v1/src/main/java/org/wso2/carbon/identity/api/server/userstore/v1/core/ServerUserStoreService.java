@@ -18,9 +18,7 @@
 
 package org.wso2.carbon.identity.api.server.userstore.v1.core;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.io.IOUtils;
@@ -31,8 +29,13 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.BoundedImportInputStream;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.FileContent;
+import org.wso2.carbon.identity.api.server.common.ResourceLinkBuilder;
+import org.wso2.carbon.identity.api.server.common.SerializerPool;
+import org.wso2.carbon.identity.api.server.common.SerializerRegistry;
+import org.wso2.carbon.identity.api.server.common.TenantTtlCache;
 import org.wso2.carbon.identity.api.server.common.Util;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
@@ -54,11 +57,16 @@ import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreListRespo
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStorePropertiesRes;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreReq;
 import org.wso2.carbon.identity.api.server.userstore.v1.model.UserStoreResponse;
+import org.wso2.carbon.identity.base.IdentityException;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataClientException;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
+import org.wso2.carbon.identity.core.model.Node;
+import org.wso2.carbon.identity.core.model.OperationNode;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.user.store.configuration.UserStoreConfigService;
 import org.wso2.carbon.identity.user.store.configuration.dto.PropertyDTO;
@@ -86,24 +94,24 @@ import org.yaml.snakeyaml.inspector.TrustedPrefixesTagInspector;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import javax.ws.rs.core.Response;
-import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Marshaller;
-import javax.xml.bind.Unmarshaller;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
 import static org.wso2.carbon.identity.api.server.common.Constants.JSON_FILE_EXTENSION;
@@ -128,9 +136,16 @@ public class ServerUserStoreService {
 
     private final ClaimMetadataManagementService claimMetadataManagementService;
 
-    private static final Log LOG = LogFactory.getLog(ServerUserStoreService.class);
+    private final RDBMSConnectionProbe rdbmsConnectionProbe;
+
+    private final TenantTtlCache<ClaimAttributeMappingIndex> claimAttributeMappingIndexes =
+            new TenantTtlCache<>(getClaimAttributeMappingCacheTimeoutMillis(), MAX_CACHED_CLAIM_ATTRIBUTE_MAPPINGS);
 
-    private static final String DUMMY_MESSAGE_ID = "DUMMY-MESSAGE-ID";
+    private static final Log LOG = LogFactory.getLog(ServerUserStoreService.class);
+    private static final int MAX_CACHED_CLAIM_ATTRIBUTE_MAPPINGS = 1000;
+    private static final SerializerPool<Yaml> USER_STORE_YAML_DUMPERS = new SerializerPool<>(Yaml::new);
+    private static final SerializerPool<Yaml> USER_STORE_YAML_LOADERS =
+            new SerializerPool<>(ServerUserStoreService::buildUserStoreYamlLoader);
 
     private static final String EXPRESSION_LANGUAGE_REGEX = "^.*(\\$\\{|#\\{).*}.*$";
 
@@ -152,6 +167,7 @@ public class ServerUserStoreService {
         this.userStoreConfigService = userStoreConfigService;
         this.realmService = realmService;
         this.claimMetadataManagementService = claimMetadataManagementService;
+        this.rdbmsConnectionProbe = new RDBMSConnectionProbe(userStoreConfigService);
     }
 
     /**
@@ -202,6 +218,7 @@ public class ServerUserStoreService {
 
         try {
             userStoreConfigService.deleteUserStore(base64URLDecodeId(userstoreDomainId));
+            invalidateClaimAttributeMappings(ContextLoader.getTenantDomainFromContext());
         } catch (IdentityUserStoreClientException e) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug(e);
@@ -368,6 +385,8 @@ public class ServerUserStoreService {
             classNames = userStoreConfigService.getAvailableUserStoreClasses();
             List<AvailableUserStoreClassesRes> propertiesToAdd = new ArrayList<>();
             Map<String, Boolean> userStoreManagersType = UserStoreManagerRegistry.getUserStoreManagersType();
+            ResourceLinkBuilder userStoreLinkBuilder = new ResourceLinkBuilder(V1_API_PATH_COMPONENT +
+                    UserStoreConstants.USER_STORE_PATH_COMPONENT);
             for (String className : classNames) {
                 AvailableUserStoreClassesRes availableUserStoreClassesResDTO = new AvailableUserStoreClassesRes();
                 String typeId = base64URLEncodeId(Objects.
@@ -375,9 +394,7 @@ public class ServerUserStoreService {
                 availableUserStoreClassesResDTO.setClassName(className);
                 availableUserStoreClassesResDTO.setTypeName(getUserStoreTypeName(className));
                 availableUserStoreClassesResDTO.setTypeId(typeId);
-                availableUserStoreClassesResDTO.setSelf(
-                        ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                                UserStoreConstants.USER_STORE_PATH_COMPONENT + "/meta/types/%s", typeId)).toString());
+                availableUserStoreClassesResDTO.setSelf(userStoreLinkBuilder.build("meta", "types", typeId));
 
                 if (userStoreManagersType.containsKey(className)) {
                     availableUserStoreClassesResDTO
@@ -399,18 +416,24 @@ public class ServerUserStoreService {
      *
      * @param limit  items per page.
      * @param offset 0 based index to get the results starting from this index + 1.
-     * @param filter to specify the filtering capabilities.
+     * @param filter to filter the user stores by name or typeName. Ex: typeName eq UniqueIDJDBCUserStoreManager
      * @param sort   to specify the sorting order.
      * @return List<UserStoreListResponse>.
      */
     public List<UserStoreListResponse> getUserStoreList(Integer limit, Integer offset, String filter, String sort,
                                                         String requiredAttributes) {
 
-        handleNotImplementedBehaviour(limit, offset, filter, sort);
+        handleNotImplementedBehaviour(sort);
+        if ((limit != null && limit < 0) || (offset != null && offset < 0)) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETER);
+        }
+        Predicate<UserStoreListResponse> userStoreFilter = buildUserStoreFilter(filter);
 
         try {
             UserStoreDTO[] userStoreDTOS = userStoreConfigService.getUserStores();
-            return buildUserStoreListResponse(userStoreDTOS, requiredAttributes);
+            return buildUserStoreListResponse(userStoreDTOS, requiredAttributes, userStoreFilter,
+                    offset == null ? 0 : offset, limit == null ? Integer.MAX_VALUE : limit);
 
         } catch (IdentityUserStoreMgtException e) {
             UserStoreConstants.ErrorMessage errorEnum =
@@ -554,7 +577,8 @@ public class ServerUserStoreService {
     }
 
     /**
-     * Check the connection heath for JDBC userstores.
+     * Check the connection heath for JDBC userstores. The connection is reported as not established if it could not
+     * be established within the configured connection test timeout.
      *
      * @param rdBMSConnectionReq {@link RDBMSConnectionReq}.
      * @return ConnectionEstablishedResponse.
@@ -562,18 +586,7 @@ public class ServerUserStoreService {
     public ConnectionEstablishedResponse testRDBMSConnection(RDBMSConnectionReq rdBMSConnectionReq) {
 
         ConnectionEstablishedResponse connectionEstablishedResponse = new ConnectionEstablishedResponse();
-        boolean isConnectionEstablished;
-        connectionEstablishedResponse.setConnection(false);
-        try {
-            isConnectionEstablished = userStoreConfigService.testRDBMSConnection(rdBMSConnectionReq.getDomain(),
-                    rdBMSConnectionReq.getDriverName(), rdBMSConnectionReq.getConnectionURL(),
-                    rdBMSConnectionReq.getUsername(), rdBMSConnectionReq.getConnectionPassword(), DUMMY_MESSAGE_ID);
-            if (isConnectionEstablished) {
-                connectionEstablishedResponse.setConnection(true);
-            }
-        } catch (IdentityUserStoreMgtException e) {
-            connectionEstablishedResponse.setConnection(false);
-        }
+        connectionEstablishedResponse.setConnection(rdbmsConnectionProbe.testConnection(rdBMSConnectionReq));
         return connectionEstablishedResponse;
     }
 
@@ -627,7 +640,6 @@ public class ServerUserStoreService {
 
             validateUserstore(userstoreDomainId);
             List<LocalClaim> localClaimList =  createLocalClaimList(userstoreDomain, claimAttributeMapping);
-            validateClaimMappings(tenantDomain, localClaimList);
             updateClaimMappings(userstoreDomain, tenantDomain, localClaimList);
         }  catch (UserStoreException e) {
             throw handleException(Response.Status.BAD_REQUEST,
@@ -685,12 +697,13 @@ public class ServerUserStoreService {
 
         List<ClaimAttributeMapping> claimAttributeMappingList = new ArrayList<>();
         try {
-            List<LocalClaim> localClaimList = claimMetadataManagementService.getLocalClaims(tenantDomain);
-            for (LocalClaim localClaim : localClaimList) {
-                if (localClaim.getMappedAttribute(userstoreDomainName) != null) {
+            Map<String, String> mappedAttributes =
+                    getClaimAttributeMappingIndex(tenantDomain).getMappedAttributes(userstoreDomainName);
+            for (Map.Entry<String, String> mappedAttribute : mappedAttributes.entrySet()) {
+                if (mappedAttribute.getValue() != null) {
                     ClaimAttributeMapping mapping = new ClaimAttributeMapping();
-                    mapping.setClaimURI(localClaim.getClaimURI());
-                    mapping.setMappedAttribute(localClaim.getMappedAttribute(userstoreDomainName));
+                    mapping.setClaimURI(mappedAttribute.getKey());
+                    mapping.setMappedAttribute(mappedAttribute.getValue());
                     claimAttributeMappingList.add(mapping);
                 }
             }
@@ -701,6 +714,33 @@ public class ServerUserStoreService {
         }
     }
 
+    /**
+     * Get the claim attribute mapping index of a tenant. The index is cached per tenant until the configured cache
+     * timeout elapses, or until the claim mappings or the user stores of the tenant are changed through this service.
+     *
+     * @param tenantDomain the tenant domain.
+     * @return ClaimAttributeMappingIndex.
+     * @throws ClaimMetadataException If the local claims could not be retrieved.
+     */
+    private ClaimAttributeMappingIndex getClaimAttributeMappingIndex(String tenantDomain)
+            throws ClaimMetadataException {
+
+        return claimAttributeMappingIndexes.get(tenantDomain, () -> new ClaimAttributeMappingIndex(
+                claimMetadataManagementService.getLocalClaims(tenantDomain)));
+    }
+
+    private void invalidateClaimAttributeMappings(String tenantDomain) {
+
+        claimAttributeMappingIndexes.invalidate(tenantDomain);
+    }
+
+    private static long getClaimAttributeMappingCacheTimeoutMillis() {
+
+        return TimeUnit.SECONDS.toMillis(Util.getPositiveLongProperty(
+                UserStoreConstants.CLAIM_ATTRIBUTE_MAPPING_CACHE_TIMEOUT,
+                UserStoreConstants.DEFAULT_CLAIM_ATTRIBUTE_MAPPING_CACHE_TIMEOUT));
+    }
+
     private UserStoreDTO buildUserStoreForPatch(String domainId, List<PatchDocument> patchDocuments) {
 
         UserStoreDTO userStoreDTO;
@@ -785,7 +825,8 @@ public class ServerUserStoreService {
     }
 
     /**
-     * To update claim attribute mappings in bulk for specific user store.
+     * To update claim attribute mappings in bulk for specific user store. Only the claims whose mapping differs
+     * from the current mapping of the user store are validated and updated.
      *
      * @param userstoreDomain user store domain name.
      * @param tenantDomain tenant domain name.
@@ -794,8 +835,21 @@ public class ServerUserStoreService {
     private void updateClaimMappings(String userstoreDomain, String tenantDomain, List<LocalClaim> localClaimList) {
 
         try {
-            claimMetadataManagementService.validateClaimAttributeMapping(localClaimList, tenantDomain);
-            claimMetadataManagementService.updateLocalClaimMappings(localClaimList, tenantDomain, userstoreDomain);
+            // The current mappings are loaded again, as a stale cached mapping would skip a required update.
+            List<LocalClaim> changedClaimList = new ClaimAttributeMappingIndex(
+                    claimMetadataManagementService.getLocalClaims(tenantDomain))
+                    .getChangedClaims(userstoreDomain, localClaimList);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Updating %d of %d claim attribute mappings of the user store: %s",
+                        changedClaimList.size(), localClaimList.size(), userstoreDomain));
+            }
+            if (changedClaimList.isEmpty()) {
+                return;
+            }
+            claimMetadataManagementService.validateClaimAttributeMapping(changedClaimList, tenantDomain);
+            claimMetadataManagementService.updateLocalClaimMappings(changedClaimList, tenantDomain,
+                    userstoreDomain);
+            invalidateClaimAttributeMappings(tenantDomain);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e,
                     UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_CLAIM_MAPPING);
@@ -875,31 +929,49 @@ public class ServerUserStoreService {
     }
 
     /**
-     * Construct response list with configured user stores details.
+     * Construct response list with configured user stores details. The user stores are filtered and paginated
+     * before the requested properties are resolved, so properties are only resolved for the returned user stores.
      *
-     * @param userStoreDTOS array of UserStoreDTO object.
+     * @param userStoreDTOS      array of UserStoreDTO object.
+     * @param requiredAttributes comma separated names of the user store properties to be returned.
+     * @param userStoreFilter    filter of the user stores to be returned.
+     * @param offset             number of matching user stores to be skipped.
+     * @param limit              maximum number of user stores to be returned.
      * @return List<UserStoreListResponse>.
      */
     private List<UserStoreListResponse> buildUserStoreListResponse(UserStoreDTO[] userStoreDTOS,
-                                                                   String requiredAttributes) {
+                                                                   String requiredAttributes,
+                                                                   Predicate<UserStoreListResponse> userStoreFilter,
+                                                                   int offset, int limit) {
 
         List<UserStoreListResponse> userStoreListResponseToAdd = new ArrayList<>();
         Map<String, Boolean> userStoreManagersType = UserStoreManagerRegistry.getUserStoreManagersType();
-        if (ArrayUtils.isNotEmpty(userStoreDTOS)) {
+        if (ArrayUtils.isNotEmpty(userStoreDTOS) && limit > 0) {
+            ResourceLinkBuilder userStoreLinkBuilder = new ResourceLinkBuilder(V1_API_PATH_COMPONENT +
+                    UserStoreConstants.USER_STORE_PATH_COMPONENT);
+            Map<String, String> userStoreTypeNames = getHashMap();
+            Set<String> requiredAttributeSet = StringUtils.isNotBlank(requiredAttributes) ?
+                    new HashSet<>(Arrays.asList(requiredAttributes.split(REGEX_COMMA))) : Collections.emptySet();
+            int skippedUserStores = 0;
             for (UserStoreDTO jsonObject : userStoreDTOS) {
                 UserStoreListResponse userStoreList = new UserStoreListResponse();
-                userStoreList.setDescription(jsonObject.getDescription());
                 userStoreList.setName(jsonObject.getDomainId());
+                userStoreList.setTypeName(userStoreTypeNames.get(jsonObject.getClassName()));
+                if (!userStoreFilter.test(userStoreList)) {
+                    continue;
+                }
+                if (skippedUserStores < offset) {
+                    skippedUserStores++;
+                    continue;
+                }
+
+                userStoreList.setDescription(jsonObject.getDescription());
                 userStoreList.setId(base64URLEncodeId(jsonObject.getDomainId()));
-                userStoreList.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                                UserStoreConstants.USER_STORE_PATH_COMPONENT + "/%s",
-                        base64URLEncodeId(jsonObject.getDomainId()))).toString());
+                userStoreList.setSelf(userStoreLinkBuilder.build(base64URLEncodeId(jsonObject.getDomainId())));
                 userStoreList.setEnabled(jsonObject.getDisabled() != null && !jsonObject.getDisabled());
-                userStoreList.setTypeName(getUserStoreTypeName(jsonObject.getClassName()));
 
-                if (StringUtils.isNotBlank(requiredAttributes)) {
-                    String[] requiredAttributesArray = requiredAttributes.split(REGEX_COMMA);
-                    addUserstoreProperties(jsonObject, userStoreList, Arrays.asList(requiredAttributesArray));
+                if (!requiredAttributeSet.isEmpty()) {
+                    addUserstoreProperties(jsonObject, userStoreList, requiredAttributeSet);
                 }
 
                 if (userStoreManagersType.containsKey(jsonObject.getClassName())) {
@@ -907,11 +979,77 @@ public class ServerUserStoreService {
                 }
 
                 userStoreListResponseToAdd.add(userStoreList);
+                if (userStoreListResponseToAdd.size() >= limit) {
+                    break;
+                }
             }
         }
         return userStoreListResponseToAdd;
     }
 
+    /**
+     * Build the filter of the user store list from the filter query.
+     * Ex: name sw JDBC and typeName eq UniqueIDJDBCUserStoreManager
+     *
+     * @param filter filter query. All the user stores match a blank filter.
+     * @return filter of the user store list.
+     */
+    private Predicate<UserStoreListResponse> buildUserStoreFilter(String filter) {
+
+        if (StringUtils.isBlank(filter)) {
+            return userStore -> true;
+        }
+        try {
+            return buildUserStoreFilter(new FilterTreeBuilder(filter).buildTree(), filter);
+        } catch (IOException | IdentityException e) {
+            throw handleException(Response.Status.BAD_REQUEST,
+                    UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER, filter);
+        }
+    }
+
+    private Predicate<UserStoreListResponse> buildUserStoreFilter(Node node, String filter) {
+
+        if (node instanceof OperationNode) {
+            Predicate<UserStoreListResponse> leftFilter = buildUserStoreFilter(node.getLeftNode(), filter);
+            Predicate<UserStoreListResponse> rightFilter = buildUserStoreFilter(node.getRightNode(), filter);
+            String operation = ((OperationNode) node).getOperation();
+            if (UserStoreConstants.FilterOperations.AND.equalsIgnoreCase(operation)) {
+                return leftFilter.and(rightFilter);
+            }
+            if (UserStoreConstants.FilterOperations.OR.equalsIgnoreCase(operation)) {
+                return leftFilter.or(rightFilter);
+            }
+        } else if (node instanceof ExpressionNode) {
+            ExpressionNode expressionNode = (ExpressionNode) node;
+            Function<UserStoreListResponse, String> attribute;
+            if (UserStoreConstants.FilterAttributes.NAME.equals(expressionNode.getAttributeValue())) {
+                attribute = UserStoreListResponse::getName;
+            } else if (UserStoreConstants.FilterAttributes.TYPE_NAME.equals(expressionNode.getAttributeValue())) {
+                attribute = UserStoreListResponse::getTypeName;
+            } else {
+                throw handleException(Response.Status.BAD_REQUEST,
+                        UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER, filter);
+            }
+            // User store domain names are case insensitive.
+            String value = expressionNode.getValue();
+            String operation = expressionNode.getOperation();
+            if (UserStoreConstants.FilterOperations.EQ.equalsIgnoreCase(operation)) {
+                return userStore -> StringUtils.equalsIgnoreCase(attribute.apply(userStore), value);
+            }
+            if (UserStoreConstants.FilterOperations.SW.equalsIgnoreCase(operation)) {
+                return userStore -> StringUtils.startsWithIgnoreCase(attribute.apply(userStore), value);
+            }
+            if (UserStoreConstants.FilterOperations.EW.equalsIgnoreCase(operation)) {
+                return userStore -> StringUtils.endsWithIgnoreCase(attribute.apply(userStore), value);
+            }
+            if (UserStoreConstants.FilterOperations.CO.equalsIgnoreCase(operation)) {
+                return userStore -> StringUtils.containsIgnoreCase(attribute.apply(userStore), value);
+            }
+        }
+        throw handleException(Response.Status.BAD_REQUEST, UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER,
+                filter);
+    }
+
     /**
      * Add requested user store properties to the response.
      *
@@ -920,7 +1058,7 @@ public class ServerUserStoreService {
      * @param requestedAttributesList Requested user store properties name list.
      */
     private void addUserstoreProperties(UserStoreDTO userStoreDTO, UserStoreListResponse userStoreListResponse,
-                                        List<String> requestedAttributesList) {
+                                        Set<String> requestedAttributesList) {
 
         for (PropertyDTO propertyDTO : userStoreDTO.getProperties()) {
             if (requestedAttributesList.contains(propertyDTO.getName()) &&
@@ -1199,22 +1337,13 @@ public class ServerUserStoreService {
     /**
      * To return error responses for the input params for the get request which are not yet supported by the server.
      *
-     * @param limit  items per page.
-     * @param offset to specify the offset param.
-     * @param filter to specify the filtering capabilities.
      * @param sort   to specify the sorting order.
      */
-    private void handleNotImplementedBehaviour(Integer limit, Integer offset, String filter, String sort) {
+    private void handleNotImplementedBehaviour(String sort) {
 
         UserStoreConstants.ErrorMessage errorEnum = null;
 
-        if (limit != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (offset != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (filter != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
-        } else if (sort != null) {
+        if (sort != null) {
             errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_SORTING_NOT_IMPLEMENTED;
         }
 
@@ -1547,11 +1676,15 @@ public class ServerUserStoreService {
 
         StringBuilder fileNameSB = new StringBuilder(userStoreConfigs.getName());
         fileNameSB.append(YAML_FILE_EXTENSION);
-        Yaml yaml = new Yaml();
+        Yaml yaml = USER_STORE_YAML_DUMPERS.borrow();
         try {
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML, yaml.dump(userStoreConfigs));
+            FileContent fileContent = new FileContent(fileNameSB.toString(), MEDIA_TYPE_YAML,
+                    yaml.dump(userStoreConfigs));
+            return fileContent;
         } catch (YAMLException e) {
             throw new UserStoreException("Error when parsing userstore to YAML file.", e);
+        } finally {
+            USER_STORE_YAML_DUMPERS.release(yaml);
         }
     }
 
@@ -1561,14 +1694,9 @@ public class ServerUserStoreService {
         StringBuilder fileNameSB = new StringBuilder(userStoreConfigs.getName());
         fileNameSB.append(XML_FILE_EXTENSION);
 
-        JAXBContext jaxbContext;
         try {
-            jaxbContext = JAXBContext.newInstance(UserStoreConfigurations.class);
-            Marshaller marshaller = jaxbContext.createMarshaller();
-            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            StringWriter stringWriter = new StringWriter();
-            marshaller.marshal(userStoreConfigs, stringWriter);
-            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML, stringWriter.toString());
+            return new FileContent(fileNameSB.toString(), MEDIA_TYPE_XML,
+                    SerializerRegistry.marshal(userStoreConfigs, null, UserStoreConfigurations.class));
         } catch (JAXBException e) {
             throw new UserStoreException("Error when parsing userstore to XML file.", e);
         }
@@ -1579,10 +1707,9 @@ public class ServerUserStoreService {
 
         StringBuilder fileNameSB = new StringBuilder(userStoreConfigs.getName());
         fileNameSB.append(JSON_FILE_EXTENSION);
-        ObjectMapper objectMapper = new ObjectMapper(new JsonFactory());
         try {
             return new FileContent(fileNameSB.toString(), MEDIA_TYPE_JSON,
-                    objectMapper.writeValueAsString(userStoreConfigs));
+                    SerializerRegistry.getObjectWriter().writeValueAsString(userStoreConfigs));
         } catch (JsonProcessingException e) {
             throw new UserStoreException("Error when parsing userstore to JSON file.", e);
         }
@@ -1593,15 +1720,15 @@ public class ServerUserStoreService {
 
         UserStoreConfigurations userStoreConfigs;
         try {
-            FileContent userStoreFileContent = new FileContent(fileDetail.getDataHandler().getName(),
-                    fileDetail.getDataHandler().getContentType(),
-                    IOUtils.toString(fileInputStream, StandardCharsets.UTF_8.name()));
-            userStoreConfigs = generateModelFromFile(userStoreFileContent);
+            userStoreConfigs = generateModelFromFile(new BoundedImportInputStream(fileInputStream),
+                    fileDetail.getDataHandler().getName(), fileDetail.getDataHandler().getContentType());
         } catch (IOException e) {
+            throwIfImportLimitExceeded(e);
             throw new IdentityUserStoreClientException(
                     UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_INPUT.getCode(),
                     UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_INPUT.getMessage());
         } catch (UserStoreException e) {
+            throwIfImportLimitExceeded(e);
             throw new UserStoreException("Error when generating the userstore model from file for the userstore: " +
                     fileDetail.getDataHandler().getName(), e);
         } finally {
@@ -1618,70 +1745,92 @@ public class ServerUserStoreService {
         return userStoreConfigsToImport;
     }
 
-    private UserStoreConfigurations generateModelFromFile(FileContent fileContent)
-            throws UserStoreException, IdentityUserStoreClientException {
+    private void throwIfImportLimitExceeded(Exception e) {
+
+        BoundedImportInputStream.ImportLimitExceededException limitExceeded =
+                BoundedImportInputStream.getImportLimitExceeded(e);
+        if (limitExceeded != null) {
+            ErrorResponse errorResponse = getErrorBuilder(UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_INPUT)
+                    .build(LOG, limitExceeded.getMessage());
+            errorResponse.setDescription(limitExceeded.getMessage());
+            throw new APIError(Response.Status.BAD_REQUEST, errorResponse);
+        }
+    }
+
+    private UserStoreConfigurations generateModelFromFile(BoundedImportInputStream fileInputStream, String fileName,
+                                                         String fileType)
+            throws UserStoreException, IdentityUserStoreClientException, IOException {
 
         if (LOG.isDebugEnabled()) {
-            LOG.debug(String.format("Parsing user store from file: %s of type: %s.", fileContent.getFileName(),
-                    fileContent.getFileType()));
+            LOG.debug(String.format("Parsing user store from file: %s of type: %s.", fileName, fileType));
         }
-        if (StringUtils.isEmpty(fileContent.getContent())) {
+        if (fileInputStream.isEmpty()) {
             throw new IdentityUserStoreClientException(
                     UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_INPUT.getCode(),
                     UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_INPUT.getMessage());
         }
 
-        switch (Util.getMediaType(fileContent.getFileType())) {
+        switch (Util.getMediaType(fileType)) {
             case MEDIA_TYPE_XML:
-                return parseUserStoreFromXml(fileContent);
+                return parseUserStoreFromXml(fileInputStream, fileName);
             case MEDIA_TYPE_JSON:
-                return parseUserStoreFromJson(fileContent);
+                return parseUserStoreFromJson(fileInputStream, fileName);
             case MEDIA_TYPE_YAML:
-                return parseUserStoreFromYaml(fileContent);
+                return parseUserStoreFromYaml(fileInputStream, fileName);
             default:
                 LOG.warn(String.format("Unsupported media type %s for file %s. Defaulting to YAML parsing.",
-                        fileContent.getFileType(), fileContent.getFileName()));
-                return parseUserStoreFromYaml(fileContent);
+                        fileType, fileName));
+                return parseUserStoreFromYaml(fileInputStream, fileName);
         }
     }
 
-    private UserStoreConfigurations parseUserStoreFromXml(FileContent fileContent) throws UserStoreException {
+    private UserStoreConfigurations parseUserStoreFromXml(InputStream fileInputStream, String fileName)
+            throws UserStoreException {
 
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(UserStoreConfigurations.class);
-            Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-            return (UserStoreConfigurations) unmarshaller.unmarshal(new StringReader(fileContent.getContent()));
+            return (UserStoreConfigurations) SerializerRegistry.unmarshal(fileInputStream,
+                    UserStoreConfigurations.class);
         } catch (JAXBException e) {
             throw new UserStoreException(String.format("Error in reading " +
-                    "XML file configuration for the userstore: %s.", fileContent.getFileName()), e);
+                    "XML file configuration for the userstore: %s.", fileName), e);
         }
     }
 
-    private UserStoreConfigurations parseUserStoreFromYaml(FileContent fileContent) throws UserStoreException {
+    private UserStoreConfigurations parseUserStoreFromYaml(InputStream fileInputStream, String fileName)
+            throws UserStoreException {
 
+        Yaml yaml = USER_STORE_YAML_LOADERS.borrow();
         try {
-            // Add trusted tags included in the Userstore YAML files.
-            List<String> trustedTagList = new ArrayList<>();
-            trustedTagList.add(UserStoreConfigurations.class.getName());
-
-            LoaderOptions loaderOptions = new LoaderOptions();
-            TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
-            loaderOptions.setTagInspector(tagInspector);
-            Yaml yaml = new Yaml(new Constructor(UserStoreConfigurations.class, loaderOptions));
-            return yaml.loadAs(fileContent.getContent(), UserStoreConfigurations.class);
+            UserStoreConfigurations userStoreConfigs = yaml.loadAs(fileInputStream, UserStoreConfigurations.class);
+            return userStoreConfigs;
         } catch (YAMLException e) {
             throw new UserStoreException(String.format("Error in reading YAML file " +
-                    "configuration for the userstore: %s.", fileContent.getFileName()), e);
+                    "configuration for the userstore: %s.", fileName), e);
+        } finally {
+            USER_STORE_YAML_LOADERS.release(yaml);
         }
     }
 
-    private UserStoreConfigurations parseUserStoreFromJson(FileContent fileContent) throws UserStoreException {
+    private static Yaml buildUserStoreYamlLoader() {
+
+        // Add trusted tags included in the Userstore YAML files.
+        List<String> trustedTagList = new ArrayList<>();
+        trustedTagList.add(UserStoreConfigurations.class.getName());
+
+        LoaderOptions loaderOptions = new LoaderOptions();
+        TagInspector tagInspector = new TrustedPrefixesTagInspector(trustedTagList);
+        loaderOptions.setTagInspector(tagInspector);
+        return new Yaml(new Constructor(UserStoreConfigurations.class, loaderOptions));
+    }
+
+    private UserStoreConfigurations parseUserStoreFromJson(InputStream fileInputStream, String fileName)
+            throws UserStoreException, IOException {
 
         try {
-            return new ObjectMapper().readValue(fileContent.getContent(), UserStoreConfigurations.class);
+            return SerializerRegistry.getObjectReader(UserStoreConfigurations.class).readValue(fileInputStream);
         } catch (JsonProcessingException e) {
             throw new UserStoreException(String.format("Error in reading JSON " +
-                    "file configuration for the userstore: %s.", fileContent.getFileName()), e);
+                    "file configuration for the userstore: %s.", fileName), e);
         }
     }
 
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.userstore.v1.model.RDBMSConnectionReq;
+import org.wso2.carbon.identity.user.store.configuration.UserStoreConfigService;
+import org.wso2.carbon.identity.user.store.configuration.utils.IdentityUserStoreMgtException;
+
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test class for RDBMSConnectionProbe.
+ */
+public class RDBMSConnectionProbeTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final long CONNECTION_TEST_TIMEOUT_SECONDS = 1L;
+
+    private UserStoreConfigService userStoreConfigService;
+    private RDBMSConnectionProbe rdbmsConnectionProbe;
+    private MockedStatic<Util> util;
+    private MockedStatic<ContextLoader> contextLoader;
+    private CountDownLatch connectionRelease;
+
+    @BeforeMethod
+    public void setUp() {
+
+        mockCarbonContext();
+        connectionRelease = new CountDownLatch(1);
+        util = mockStatic(Util.class);
+        util.when(() -> Util.getPositiveLongProperty(anyString(), anyLong()))
+                .thenReturn(CONNECTION_TEST_TIMEOUT_SECONDS);
+        contextLoader = mockStatic(ContextLoader.class);
+        contextLoader.when(ContextLoader::getTenantDomainFromContext).thenReturn(TENANT_DOMAIN);
+
+        userStoreConfigService = mock(UserStoreConfigService.class);
+        // A single probe thread and a single waiting probe.
+        rdbmsConnectionProbe = new RDBMSConnectionProbe(userStoreConfigService, 1, 1);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        connectionRelease.countDown();
+        util.close();
+        contextLoader.close();
+    }
+
+    @Test
+    public void testSuccessfulResultIsShared() throws Exception {
+
+        when(rdbmsConnectionTest("PRIMARY")).thenReturn(true);
+
+        assertTrue(rdbmsConnectionProbe.testConnection(buildConnectionReq("PRIMARY")));
+        assertTrue(rdbmsConnectionProbe.testConnection(buildConnectionReq("PRIMARY")));
+        verify(userStoreConfigService, times(1)).testRDBMSConnection(eq("PRIMARY"), anyString(), anyString(),
+                anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void testFailedResultIsNotShared() throws Exception {
+
+        when(rdbmsConnectionTest("PRIMARY")).thenReturn(false)
+                .thenThrow(new IdentityUserStoreMgtException("Connection refused."));
+
+        assertFalse(rdbmsConnectionProbe.testConnection(buildConnectionReq("PRIMARY")));
+        assertFalse(rdbmsConnectionProbe.testConnection(buildConnectionReq("PRIMARY")));
+        verify(userStoreConfigService, times(2)).testRDBMSConnection(eq("PRIMARY"), anyString(), anyString(),
+                anyString(), anyString(), anyString());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testUnexpectedErrorIsThrown() throws Exception {
+
+        when(rdbmsConnectionTest("PRIMARY")).thenThrow(new IllegalStateException("Driver is not initialized."));
+
+        rdbmsConnectionProbe.testConnection(buildConnectionReq("PRIMARY"));
+    }
+
+    @Test
+    public void testRunningProbeIsSharedAfterTimeout() throws Exception {
+
+        when(rdbmsConnectionTest("PRIMARY")).thenAnswer(invocation -> connectionRelease.await(1, TimeUnit.MINUTES));
+
+        assertFalse(rdbmsConnectionProbe.testConnection(buildConnectionReq("PRIMARY")));
+
+        // The probe is still running, so the next test fails without waiting or starting another probe.
+        long startTime = System.nanoTime();
+        assertFalse(rdbmsConnectionProbe.testConnection(buildConnectionReq("PRIMARY")));
+        assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(CONNECTION_TEST_TIMEOUT_SECONDS));
+        verify(userStoreConfigService, times(1)).testRDBMSConnection(eq("PRIMARY"), anyString(), anyString(),
+                anyString(), anyString(), anyString());
+    }
+
+    @Test
+    public void testConnectionTestFailsWhenProbesAreSaturated() throws Exception {
+
+        when(rdbmsConnectionTest(anyString())).thenAnswer(invocation -> connectionRelease.await(1, TimeUnit.MINUTES));
+
+        // The first probe occupies the probe thread and the second one waits in the queue.
+        assertFalse(rdbmsConnectionProbe.testConnection(buildConnectionReq("PRIMARY")));
+        assertFalse(rdbmsConnectionProbe.testConnection(buildConnectionReq("SECONDARY")));
+
+        long startTime = System.nanoTime();
+        assertFalse(rdbmsConnectionProbe.testConnection(buildConnectionReq("TERTIARY")));
+        assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(CONNECTION_TEST_TIMEOUT_SECONDS));
+        verify(userStoreConfigService, never()).testRDBMSConnection(eq("TERTIARY"), anyString(), anyString(),
+                anyString(), anyString(), anyString());
+    }
+
+    private boolean rdbmsConnectionTest(String domain) throws IdentityUserStoreMgtException {
+
+        return userStoreConfigService.testRDBMSConnection(eq(domain), anyString(), anyString(), anyString(),
+                anyString(), anyString());
+    }
+
+    private static RDBMSConnectionReq buildConnectionReq(String domain) {
+
+        return new RDBMSConnectionReq()
+                .domain(domain)
+                .driverName("org.h2.Driver")
+                .connectionURL("jdbc:h2:mem:" + domain)
+                .username("admin")
+                .connectionPassword("admin");
+    }
+
+    private void mockCarbonContext() {
+
+        String carbonHome = Paths.get(System.getProperty("user.dir"), "target", "test-classes").toString();
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, carbonHome);
+        System.setProperty(CarbonBaseConstants.CARBON_CONFIG_DIR_PATH, Paths.get(carbonHome,
+                "repository/conf").toString());
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(TENANT_DOMAIN);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(-1234);
+    }
+}